@@ -0,0 +1,471 @@
+/*
+ * @(#)CsvParser.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser.csv;
+
+import ch.randelshofer.fastdoubleparser.ConfigurableDoubleParser;
+import ch.randelshofer.fastdoubleparser.JavaBigDecimalParser;
+import ch.randelshofer.fastdoubleparser.JavaDoubleParser;
+import ch.randelshofer.fastdoubleparser.JavaFloatParser;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Parses numeric CSV data into a {@link CsvTable} with one primitive array
+ * per column.
+ * <p>
+ * The parser works directly on the bytes of the CSV data. It does not
+ * create a {@link String} for each field.
+ * <p>
+ * The type of each column is given by a schema:
+ * <dl>
+ *     <dt>{@link #DOUBLE}</dt><dd>parsed with {@link JavaDoubleParser},
+ *     or with a {@link ConfigurableDoubleParser} if one is given</dd>
+ *     <dt>{@link #FLOAT}</dt><dd>parsed with {@link JavaFloatParser}</dd>
+ *     <dt>{@link #LONG}</dt><dd>a decimal integer with an optional sign</dd>
+ *     <dt>{@link #BIG_DECIMAL}</dt><dd>parsed with {@link JavaBigDecimalParser}</dd>
+ *     <dt>{@link #SKIP}</dt><dd>the column is not parsed</dd>
+ * </dl>
+ * Fields after the last column of the schema are skipped.
+ * <p>
+ * <b>Syntax</b>
+ * <p>
+ * The parser accepts the format of RFC 4180 with a configurable delimiter.
+ * <ul>
+ *     <li>Records are separated by {@code LF} or {@code CR LF}. The last
+ *     record may end without a line separator.</li>
+ *     <li>A field may be enclosed in double quotes. A quoted field may
+ *     contain delimiters, line separators and escaped double quotes
+ *     {@code ""}.</li>
+ *     <li>Characters with a code point of {@code 0x20} or less around
+ *     the value of a field are ignored.</li>
+ * </ul>
+ * A field that can not be parsed, for example an empty field, a field
+ * with an escaped double quote or a missing field at the end of a record,
+ * is marked in the error bitmap of the {@link CsvTable}. Parsing
+ * continues with the next field.
+ * <p>
+ * The CSV data must be encoded in a character set that is a superset
+ * of ASCII, for example UTF-8 or ISO-8859-1.
+ * <p>
+ * References:
+ * <dl>
+ *     <dt>RFC 4180, Common Format and MIME Type for Comma-Separated Values (CSV) Files</dt>
+ *     <dd><a href="https://www.rfc-editor.org/rfc/rfc4180">rfc-editor.org</a></dd>
+ * </dl>
+ */
+public final class CsvParser {
+    /**
+     * The column is not parsed.
+     */
+    public static final int SKIP = 0;
+    /**
+     * The column is parsed into a {@code double[]} array.
+     */
+    public static final int DOUBLE = 1;
+    /**
+     * The column is parsed into a {@code float[]} array.
+     */
+    public static final int FLOAT = 2;
+    /**
+     * The column is parsed into a {@code long[]} array.
+     */
+    public static final int LONG = 3;
+    /**
+     * The column is parsed into a {@code BigDecimal[]} array.
+     */
+    public static final int BIG_DECIMAL = 4;
+
+    private static final int INITIAL_ROW_CAPACITY = 1024;
+    /**
+     * The number of bytes that {@link #parse(ByteBuffer)} copies at once
+     * from a buffer without an accessible array.
+     */
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    private final byte delimiter;
+    private final boolean header;
+    private final ConfigurableDoubleParser doubleParser;
+    private final int[] columnTypes;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param delimiter   the delimiter, for example {@code ','}
+     * @param header      whether the first record is a header that is skipped
+     * @param columnTypes the type of each column
+     * @throws IllegalArgumentException if the delimiter is not an ASCII character,
+     *                                  or is a double quote or a line separator,
+     *                                  or if a column type is illegal
+     */
+    public CsvParser(char delimiter, boolean header, int... columnTypes) {
+        this(delimiter, header, null, columnTypes);
+    }
+
+    /**
+     * Creates a new instance that parses {@link #DOUBLE} columns with the
+     * specified {@link ConfigurableDoubleParser}.
+     *
+     * @param delimiter    the delimiter, for example {@code ';'}
+     * @param header       whether the first record is a header that is skipped
+     * @param doubleParser the parser for {@link #DOUBLE} columns, or null
+     *                     to use {@link JavaDoubleParser}
+     * @param columnTypes  the type of each column
+     * @throws IllegalArgumentException if the delimiter is not an ASCII character,
+     *                                  or is a double quote or a line separator,
+     *                                  or if a column type is illegal
+     */
+    public CsvParser(char delimiter, boolean header, ConfigurableDoubleParser doubleParser, int... columnTypes) {
+        if (delimiter >= 0x80 || delimiter == '"' || delimiter == '\r' || delimiter == '\n') {
+            throw new IllegalArgumentException("illegal delimiter: " + (int) delimiter);
+        }
+        for (int type : columnTypes) {
+            if (type < SKIP || type > BIG_DECIMAL) {
+                throw new IllegalArgumentException("illegal column type: " + type);
+            }
+        }
+        this.delimiter = (byte) delimiter;
+        this.header = header;
+        this.doubleParser = doubleParser;
+        this.columnTypes = columnTypes.clone();
+    }
+
+    /**
+     * Parses CSV data from a {@code byte} array.
+     *
+     * @param data the CSV data
+     * @return the parsed table
+     * @throws NullPointerException if the data is null
+     */
+    public CsvTable parse(byte[] data) {
+        return parse(data, 0, data.length);
+    }
+
+    /**
+     * Parses the remaining bytes of a {@link ByteBuffer}.
+     * <p>
+     * The position of the buffer is not changed. A buffer without an
+     * accessible array, for example a {@link java.nio.MappedByteBuffer},
+     * is copied in chunks of {@value #CHUNK_SIZE} bytes. A chunk only
+     * grows if a single record does not fit into it.
+     *
+     * @param data the CSV data
+     * @return the parsed table
+     * @throws NullPointerException if the data is null
+     */
+    public CsvTable parse(ByteBuffer data) {
+        if (data.hasArray()) {
+            return parse(data.array(), data.arrayOffset() + data.position(), data.remaining());
+        }
+        ByteBuffer src = data.duplicate();
+        Table table = new Table(columnTypes, header);
+        byte[] chunk = new byte[Math.min(CHUNK_SIZE, src.remaining())];
+        int length = 0;
+        while (src.hasRemaining()) {
+            if (length == chunk.length) {
+                chunk = Arrays.copyOf(chunk, chunk.length << 1);
+            }
+            int count = Math.min(chunk.length - length, src.remaining());
+            src.get(chunk, length, count);
+            length += count;
+            int index = parseRecords(table, chunk, 0, length, !src.hasRemaining());
+            System.arraycopy(chunk, index, chunk, 0, length - index);
+            length -= index;
+        }
+        return table.build();
+    }
+
+    /**
+     * Parses CSV data from a {@code byte} array.
+     *
+     * @param data   the CSV data
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return the parsed table
+     * @throws NullPointerException     if the data is null
+     * @throws IllegalArgumentException if offset or length are illegal
+     */
+    public CsvTable parse(byte[] data, int offset, int length) {
+        if ((offset | length | data.length - length - offset) < 0) {
+            throw new IllegalArgumentException("offset < 0 or length > data.length");
+        }
+        Table table = new Table(columnTypes, header);
+        parseRecords(table, data, offset, offset + length, true);
+        return table.build();
+    }
+
+    /**
+     * Parses records and adds them to the table.
+     * <p>
+     * If {@code isLast} is false, more data follows after
+     * {@code endIndex}. A record that reaches {@code endIndex} without a
+     * line separator is then incomplete; it is not added to the table.
+     *
+     * @param table    the table
+     * @param data     the CSV data
+     * @param index    the index of the first record
+     * @param endIndex the end index of the data
+     * @param isLast   whether the data ends at {@code endIndex}
+     * @return the index after the last record that has been added
+     */
+    private int parseRecords(Table table, byte[] data, int index, int endIndex, boolean isLast) {
+        final int columnCount = columnTypes.length;
+        final Object[] columns = table.columns;
+        while (index < endIndex) {
+            table.ensureCapacity();
+            final int recordStart = index;
+            final int row = table.row;
+            final int errorCount = table.errorCount;
+            final long[][] errors = table.errors;
+
+            int column = 0;
+            boolean endOfRecord = false;
+            while (!endOfRecord) {
+                // Find the value of the field
+                int start, end, next;
+                boolean valid = true;
+                if (index < endIndex && data[index] == '"') {
+                    start = ++index;
+                    while (true) {
+                        if (index >= endIndex) {
+                            valid = false;
+                            break;
+                        }
+                        if (data[index] == '"') {
+                            if (index + 1 < endIndex && data[index + 1] == '"') {
+                                valid = false;
+                                index += 2;
+                                continue;
+                            }
+                            break;
+                        }
+                        index++;
+                    }
+                    end = index;
+                    next = indexOfDelimiterOrNewline(data, Math.min(index + 1, endIndex), endIndex);
+                    for (int i = index + 1; i < next; i++) {
+                        valid &= (data[i] & 0xff) <= ' ';
+                    }
+                } else {
+                    start = index;
+                    end = next = indexOfDelimiterOrNewline(data, index, endIndex);
+                }
+
+                // Parse the value of the field
+                if (column < columnCount && !table.skipRecord) {
+                    int type = columnTypes[column];
+                    if (type != SKIP && !(valid && parseField(data, start, end, type, columns[column], row))) {
+                        setError(columns[column], errors[column], type, row);
+                        table.errorCount++;
+                    }
+                }
+                column++;
+
+                endOfRecord = next >= endIndex || data[next] != delimiter;
+                index = next + 1;
+            }
+
+            if (index > endIndex && !isLast) {
+                // The record is incomplete, parse it again with more data
+                for (int c = 0; c < columnCount; c++) {
+                    errors[c][row >>> 6] &= ~(1L << row);
+                }
+                table.errorCount = errorCount;
+                return recordStart;
+            }
+
+            if (table.skipRecord) {
+                table.skipRecord = false;
+            } else {
+                for (int c = column; c < columnCount; c++) {
+                    if (columnTypes[c] != SKIP) {
+                        setError(columns[c], errors[c], columnTypes[c], row);
+                        table.errorCount++;
+                    }
+                }
+                table.row++;
+            }
+        }
+        return Math.min(index, endIndex);
+    }
+
+    /**
+     * Parses the value of a field and stores it in the column.
+     *
+     * @return true on success
+     */
+    private boolean parseField(byte[] data, int start, int end, int type, Object column, int row) {
+        while (start < end && (data[start] & 0xff) <= ' ') {
+            start++;
+        }
+        while (end > start && (data[end - 1] & 0xff) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return false;
+        }
+        try {
+            switch (type) {
+                case DOUBLE:
+                    ((double[]) column)[row] = doubleParser == null
+                            ? JavaDoubleParser.parseDouble(data, start, end - start)
+                            : doubleParser.parseDouble(data, start, end - start);
+                    return true;
+                case FLOAT:
+                    ((float[]) column)[row] = JavaFloatParser.parseFloat(data, start, end - start);
+                    return true;
+                case LONG:
+                    return parseLong(data, start, end, (long[]) column, row);
+                case BIG_DECIMAL:
+                    ((BigDecimal[]) column)[row] = JavaBigDecimalParser.parseBigDecimal(data, start, end - start);
+                    return true;
+                default:
+                    return true;
+            }
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Parses a decimal integer with an optional sign.
+     *
+     * @return true on success
+     */
+    private static boolean parseLong(byte[] data, int start, int end, long[] column, int row) {
+        boolean isNegative = data[start] == '-';
+        if (isNegative || data[start] == '+') {
+            start++;
+        }
+        if (start == end) {
+            return false;
+        }
+        // Accumulate negatively, so that Long.MIN_VALUE can be represented
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = data[i] - '0';
+            if (digit < 0 || digit > 9 || value < Long.MIN_VALUE / 10) {
+                return false;
+            }
+            value *= 10;
+            if (value < Long.MIN_VALUE + digit) {
+                return false;
+            }
+            value -= digit;
+        }
+        if (!isNegative) {
+            if (value == Long.MIN_VALUE) {
+                return false;
+            }
+            value = -value;
+        }
+        column[row] = value;
+        return true;
+    }
+
+    private int indexOfDelimiterOrNewline(byte[] data, int index, int endIndex) {
+        for (; index < endIndex; index++) {
+            byte b = data[index];
+            if (b == delimiter || b == '\n') {
+                return index;
+            }
+        }
+        return endIndex;
+    }
+
+    private static void setError(Object column, long[] errors, int type, int row) {
+        errors[row >>> 6] |= 1L << row;
+        switch (type) {
+            case DOUBLE:
+                ((double[]) column)[row] = Double.NaN;
+                break;
+            case FLOAT:
+                ((float[]) column)[row] = Float.NaN;
+                break;
+            case LONG:
+                ((long[]) column)[row] = 0;
+                break;
+            case BIG_DECIMAL:
+                ((BigDecimal[]) column)[row] = null;
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static Object newColumn(int type, int capacity) {
+        switch (type) {
+            case DOUBLE:
+                return new double[capacity];
+            case FLOAT:
+                return new float[capacity];
+            case LONG:
+                return new long[capacity];
+            case BIG_DECIMAL:
+                return new BigDecimal[capacity];
+            default:
+                return null;
+        }
+    }
+
+    private static Object copyOf(Object column, int length) {
+        if (column instanceof double[]) {
+            return Arrays.copyOf((double[]) column, length);
+        } else if (column instanceof float[]) {
+            return Arrays.copyOf((float[]) column, length);
+        } else if (column instanceof long[]) {
+            return Arrays.copyOf((long[]) column, length);
+        } else if (column instanceof BigDecimal[]) {
+            return Arrays.copyOf((BigDecimal[]) column, length);
+        }
+        return null;
+    }
+
+    /**
+     * Holds the columns of a table while it is parsed.
+     */
+    private static final class Table {
+        private final int[] columnTypes;
+        private final Object[] columns;
+        private final long[][] errors;
+        private int capacity = INITIAL_ROW_CAPACITY;
+        private int row;
+        private int errorCount;
+        private boolean skipRecord;
+
+        Table(int[] columnTypes, boolean header) {
+            this.columnTypes = columnTypes;
+            this.skipRecord = header;
+            columns = new Object[columnTypes.length];
+            errors = new long[columnTypes.length][];
+            for (int c = 0; c < columnTypes.length; c++) {
+                columns[c] = newColumn(columnTypes[c], capacity);
+                errors[c] = new long[capacity >>> 6];
+            }
+        }
+
+        /**
+         * Makes room for one more row.
+         */
+        void ensureCapacity() {
+            if (row == capacity) {
+                capacity <<= 1;
+                for (int c = 0; c < columns.length; c++) {
+                    columns[c] = copyOf(columns[c], capacity);
+                    errors[c] = Arrays.copyOf(errors[c], capacity >>> 6);
+                }
+            }
+        }
+
+        CsvTable build() {
+            for (int c = 0; c < columns.length; c++) {
+                columns[c] = copyOf(columns[c], row);
+                errors[c] = Arrays.copyOf(errors[c], (row + 63) >>> 6);
+            }
+            return new CsvTable(columnTypes.clone(), columns, errors, row, errorCount);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * @(#)CsvTable.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser.csv;
+
+import java.math.BigDecimal;
+
+/**
+ * Holds the columns that a {@link CsvParser} has parsed.
+ * <p>
+ * Each column is stored in a primitive array with one element per row.
+ * The arrays are returned without being copied.
+ * <p>
+ * A field that could not be parsed, or that is missing, is marked in the
+ * error bitmap of its column. Its value is {@code NaN} in a
+ * {@code double} or {@code float} column, {@code 0} in a {@code long}
+ * column, and {@code null} in a {@code BigDecimal} column.
+ */
+public final class CsvTable {
+    private final int[] columnTypes;
+    private final Object[] columns;
+    private final long[][] errors;
+    private final int rowCount;
+    private final int errorCount;
+
+    CsvTable(int[] columnTypes, Object[] columns, long[][] errors, int rowCount, int errorCount) {
+        this.columnTypes = columnTypes;
+        this.columns = columns;
+        this.errors = errors;
+        this.rowCount = rowCount;
+        this.errorCount = errorCount;
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return the number of rows
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Returns the number of columns in the schema.
+     *
+     * @return the number of columns
+     */
+    public int getColumnCount() {
+        return columnTypes.length;
+    }
+
+    /**
+     * Returns the type of a column.
+     *
+     * @param column the index of the column
+     * @return one of {@link CsvParser#DOUBLE}, {@link CsvParser#FLOAT},
+     * {@link CsvParser#LONG}, {@link CsvParser#BIG_DECIMAL}, {@link CsvParser#SKIP}
+     */
+    public int getColumnType(int column) {
+        return columnTypes[column];
+    }
+
+    /**
+     * Returns a {@link CsvParser#DOUBLE} column.
+     *
+     * @param column the index of the column
+     * @return the values of the column
+     * @throws IllegalArgumentException if the column has a different type
+     */
+    public double[] getDoubleColumn(int column) {
+        return (double[]) getColumn(column, CsvParser.DOUBLE);
+    }
+
+    /**
+     * Returns a {@link CsvParser#FLOAT} column.
+     *
+     * @param column the index of the column
+     * @return the values of the column
+     * @throws IllegalArgumentException if the column has a different type
+     */
+    public float[] getFloatColumn(int column) {
+        return (float[]) getColumn(column, CsvParser.FLOAT);
+    }
+
+    /**
+     * Returns a {@link CsvParser#LONG} column.
+     *
+     * @param column the index of the column
+     * @return the values of the column
+     * @throws IllegalArgumentException if the column has a different type
+     */
+    public long[] getLongColumn(int column) {
+        return (long[]) getColumn(column, CsvParser.LONG);
+    }
+
+    /**
+     * Returns a {@link CsvParser#BIG_DECIMAL} column.
+     *
+     * @param column the index of the column
+     * @return the values of the column
+     * @throws IllegalArgumentException if the column has a different type
+     */
+    public BigDecimal[] getBigDecimalColumn(int column) {
+        return (BigDecimal[]) getColumn(column, CsvParser.BIG_DECIMAL);
+    }
+
+    /**
+     * Returns the error bitmap of a column.
+     * <p>
+     * Bit {@code row & 63} of element {@code row >>> 6} is set, if the
+     * field in the specified row could not be parsed.
+     *
+     * @param column the index of the column
+     * @return the error bitmap
+     */
+    public long[] getErrorBitmap(int column) {
+        return errors[column];
+    }
+
+    /**
+     * Returns true if the field in the specified row and column could
+     * not be parsed.
+     *
+     * @param row    the index of the row
+     * @param column the index of the column
+     * @return true if the field has an error
+     */
+    public boolean isError(int row, int column) {
+        if (row < 0 || row >= rowCount) {
+            throw new IndexOutOfBoundsException("row=" + row + ", rowCount=" + rowCount);
+        }
+        return (errors[column][row >>> 6] & (1L << row)) != 0;
+    }
+
+    /**
+     * Returns the number of fields that could not be parsed.
+     *
+     * @return the number of errors
+     */
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    private Object getColumn(int column, int type) {
+        if (columnTypes[column] != type) {
+            throw new IllegalArgumentException("column " + column + " has type " + columnTypes[column] + " instead of " + type);
+        }
+        return columns[column];
+    }
+}
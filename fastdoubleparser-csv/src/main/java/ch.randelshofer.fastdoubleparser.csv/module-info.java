@@ -0,0 +1,12 @@
+/*
+ * @(#)module-info.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+
+/**
+ * Parses numeric CSV files into primitive column arrays.
+ */
+module ch.randelshofer.fastdoubleparser.csv {
+    requires ch.randelshofer.fastdoubleparser;
+    exports ch.randelshofer.fastdoubleparser.csv;
+}
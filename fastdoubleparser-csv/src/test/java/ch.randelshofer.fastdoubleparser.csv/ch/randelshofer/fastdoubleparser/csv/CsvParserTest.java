@@ -0,0 +1,198 @@
+/*
+ * @(#)CsvParserTest.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser.csv;
+
+import ch.randelshofer.fastdoubleparser.ConfigurableDoubleParser;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.DecimalFormatSymbols;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+
+import static ch.randelshofer.fastdoubleparser.csv.CsvParser.BIG_DECIMAL;
+import static ch.randelshofer.fastdoubleparser.csv.CsvParser.DOUBLE;
+import static ch.randelshofer.fastdoubleparser.csv.CsvParser.FLOAT;
+import static ch.randelshofer.fastdoubleparser.csv.CsvParser.LONG;
+import static ch.randelshofer.fastdoubleparser.csv.CsvParser.SKIP;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class CsvParserTest {
+    @Test
+    public void shouldParseColumns() {
+        CsvTable table = parse(new CsvParser(',', true, DOUBLE, FLOAT, LONG, BIG_DECIMAL, SKIP),
+                "d,f,l,b,s\n"
+                        + "1.5,2.5,3,4.25,x\n"
+                        + "-1e3,0.1,-9223372036854775808,1E+400,y\n");
+        assertEquals(2, table.getRowCount());
+        assertEquals(5, table.getColumnCount());
+        assertEquals(0, table.getErrorCount());
+        assertArrayEquals(new double[]{1.5, -1e3}, table.getDoubleColumn(0));
+        assertArrayEquals(new float[]{2.5f, 0.1f}, table.getFloatColumn(1));
+        assertArrayEquals(new long[]{3, Long.MIN_VALUE}, table.getLongColumn(2));
+        assertArrayEquals(new BigDecimal[]{new BigDecimal("4.25"), new BigDecimal("1E+400")}, table.getBigDecimalColumn(3));
+        assertEquals(SKIP, table.getColumnType(4));
+        assertThrows(IllegalArgumentException.class, () -> table.getLongColumn(0));
+    }
+
+    @Test
+    public void shouldParseQuotesAndLineSeparators() {
+        CsvTable table = parse(new CsvParser(',', false, SKIP, DOUBLE),
+                "\"a,\"\"b\"\"\nc\",\" 1 \"\r\n"
+                        + "x,\"2\" \r\n"
+                        + "y, 3");
+        assertEquals(3, table.getRowCount());
+        assertEquals(0, table.getErrorCount());
+        assertArrayEquals(new double[]{1, 2, 3}, table.getDoubleColumn(1));
+    }
+
+    @Test
+    public void shouldIgnoreExtraFields() {
+        CsvTable table = parse(new CsvParser(';', false, LONG), "1;a;b\n2;\"c;d\"\n");
+        assertArrayEquals(new long[]{1, 2}, table.getLongColumn(0));
+        assertEquals(0, table.getErrorCount());
+    }
+
+    @Test
+    public void shouldMarkErrors() {
+        CsvTable table = parse(new CsvParser(',', false, DOUBLE, LONG, BIG_DECIMAL),
+                "1,2,3\n"
+                        + ",x,\n"
+                        + "\"1\"\"\",9223372036854775808,1e\n"
+                        + "2\n"
+                        + "\"3\"x,-,4\n"
+                        + "4,+5,\"5");
+        assertEquals(6, table.getRowCount());
+        assertEquals(11, table.getErrorCount());
+        double[] doubles = table.getDoubleColumn(0);
+        assertEquals(1, doubles[0]);
+        assertTrue(Double.isNaN(doubles[1]));
+        assertEquals(2, doubles[3]);
+        assertEquals(4, doubles[5]);
+        assertArrayEquals(new long[]{0b010110, 0b011110, 0b101110}, new long[]{
+                table.getErrorBitmap(0)[0], table.getErrorBitmap(1)[0], table.getErrorBitmap(2)[0]});
+        assertArrayEquals(new long[]{2, 0, 0, 0, 0, 5}, table.getLongColumn(1));
+        assertEquals(null, table.getBigDecimalColumn(2)[3]);
+        assertTrue(table.isError(5, 2));
+        assertFalse(table.isError(0, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> table.isError(6, 0));
+    }
+
+    @Test
+    public void shouldParseLongs() {
+        CsvTable table = parse(new CsvParser(',', false, LONG),
+                "9223372036854775807\n-9223372036854775808\n-9223372036854775809\n0\n-0\n007\n1.0\n");
+        assertArrayEquals(new long[]{Long.MAX_VALUE, Long.MIN_VALUE, 0, 0, 0, 7, 0}, table.getLongColumn(0));
+        assertEquals(0b1000100, table.getErrorBitmap(0)[0]);
+    }
+
+    @Test
+    public void shouldParseWithConfigurableDoubleParser() {
+        ConfigurableDoubleParser doubleParser = new ConfigurableDoubleParser(DecimalFormatSymbols.getInstance(Locale.GERMAN));
+        CsvTable table = parse(new CsvParser(';', false, doubleParser, DOUBLE, DOUBLE), "1.234,5;-0,25\n");
+        assertArrayEquals(new double[]{1234.5}, table.getDoubleColumn(0));
+        assertArrayEquals(new double[]{-0.25}, table.getDoubleColumn(1));
+    }
+
+    @Test
+    public void shouldParseManyRows() {
+        Random rng = new Random(0);
+        int rows = 5000;
+        double[] expectedDoubles = new double[rows];
+        long[] expectedLongs = new long[rows];
+        StringBuilder buf = new StringBuilder("value,count\n");
+        for (int i = 0; i < rows; i++) {
+            expectedDoubles[i] = rng.nextGaussian() * 1e6;
+            expectedLongs[i] = rng.nextLong();
+            buf.append(expectedDoubles[i]).append(',').append(expectedLongs[i]).append('\n');
+        }
+        byte[] data = buf.toString().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+        direct.put(data);
+        direct.flip();
+
+        for (CsvTable table : new CsvTable[]{
+                new CsvParser(',', true, DOUBLE, LONG).parse(data),
+                new CsvParser(',', true, DOUBLE, LONG).parse(direct)}) {
+            assertEquals(rows, table.getRowCount());
+            assertEquals(0, table.getErrorCount());
+            assertArrayEquals(expectedDoubles, table.getDoubleColumn(0));
+            assertArrayEquals(expectedLongs, table.getLongColumn(1));
+            assertEquals((rows + 63) / 64, table.getErrorBitmap(0).length);
+        }
+    }
+
+    @Test
+    public void shouldParseDirectBufferInChunks() {
+        Random rng = new Random(0);
+        char[] blanks = new char[100_000];
+        Arrays.fill(blanks, ' ');
+        StringBuilder buf = new StringBuilder("value,\"count\nof rows\",name\r\n");
+        for (int i = 0; i < 20_000; i++) {
+            switch (i % 5_000 == 0 ? 3 : rng.nextInt(5)) {
+                case 0:
+                    buf.append('"').append(rng.nextDouble()).append("\",").append(rng.nextInt()).append(",\"a\nb\"\r\n");
+                    break;
+                case 1:
+                    buf.append("x,").append(rng.nextInt()).append('\n');
+                    break;
+                case 2:
+                    buf.append(rng.nextDouble()).append('\n');
+                    break;
+                case 3:
+                    buf.append(rng.nextDouble()).append(",\"").append(blanks).append("\",\n");
+                    break;
+                default:
+                    buf.append(rng.nextDouble()).append(',').append(rng.nextLong()).append(",\"\"\"\"\n");
+                    break;
+            }
+        }
+        buf.append("1.5,\"2");
+        byte[] data = buf.toString().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+        direct.put(data);
+        direct.flip();
+
+        CsvParser parser = new CsvParser(',', true, DOUBLE, LONG, SKIP);
+        CsvTable expected = parser.parse(data);
+        CsvTable actual = parser.parse(direct);
+        assertEquals(0, direct.position());
+        assertEquals(expected.getRowCount(), actual.getRowCount());
+        assertEquals(expected.getErrorCount(), actual.getErrorCount());
+        assertArrayEquals(expected.getDoubleColumn(0), actual.getDoubleColumn(0));
+        assertArrayEquals(expected.getLongColumn(1), actual.getLongColumn(1));
+        assertArrayEquals(expected.getErrorBitmap(0), actual.getErrorBitmap(0));
+        assertArrayEquals(expected.getErrorBitmap(1), actual.getErrorBitmap(1));
+    }
+
+    @Test
+    public void shouldParseSubrange() {
+        byte[] data = "x1\n2y".getBytes(StandardCharsets.UTF_8);
+        CsvParser parser = new CsvParser(',', false, LONG);
+        assertArrayEquals(new long[]{1, 2}, parser.parse(data, 1, 3).getLongColumn(0));
+        assertArrayEquals(new long[]{2}, parser.parse(ByteBuffer.wrap(data, 3, 1)).getLongColumn(0));
+        assertEquals(0, parser.parse(data, 0, 0).getRowCount());
+        assertThrows(IllegalArgumentException.class, () -> parser.parse(data, 3, 3));
+    }
+
+    @Test
+    public void shouldRejectIllegalArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new CsvParser('"', false, DOUBLE));
+        assertThrows(IllegalArgumentException.class, () -> new CsvParser('\n', false, DOUBLE));
+        assertThrows(IllegalArgumentException.class, () -> new CsvParser('ä', false, DOUBLE));
+        assertThrows(IllegalArgumentException.class, () -> new CsvParser(',', false, 5));
+    }
+
+    private static CsvTable parse(CsvParser parser, String str) {
+        return parser.parse(str.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -29,8 +29,13 @@ abstract class AbstractBigDecimalParser extends ch.randelshofer.fastdoubleparser
      * optional exponent sign = 1
      * 10 exponent digits = 10
      * </pre>
+     * <p>
+     * The default value can be changed with the key
+     * {@value Thresholds#BIG_DECIMAL_MANY_DIGITS_THRESHOLD} in {@link Thresholds}.
+     * The value is read when this class is initialized, it is not a
+     * compile-time constant.
      */
-    public static final int MANY_DIGITS_THRESHOLD = 1 + 18 + 1 + 1 + 1 + 10;
+    static final int MANY_DIGITS_THRESHOLD = Thresholds.get(Thresholds.BIG_DECIMAL_MANY_DIGITS_THRESHOLD, 1 + 18 + 1 + 1 + 1 + 10, 0);
     /**
      * Threshold on the number of digits for selecting the
      * recursive algorithm instead of the iterative algorithm.
@@ -44,8 +49,11 @@ abstract class AbstractBigDecimalParser extends ch.randelshofer.fastdoubleparser
      * The iterative algorithm has a smaller constant overhead than the
      * recursive algorithm. We speculate that we break even somewhere at twice
      * the threshold value.
+     * <p>
+     * The default value can be changed with the key
+     * {@value Thresholds#BIG_DECIMAL_RECURSION_THRESHOLD} in {@link Thresholds}.
      */
-    static final int RECURSION_THRESHOLD = 400;
+    static final int RECURSION_THRESHOLD = Thresholds.get(Thresholds.BIG_DECIMAL_RECURSION_THRESHOLD, 400, 18);
 
 
     protected final static long MAX_EXPONENT_NUMBER = Integer.MAX_VALUE;
@@ -60,7 +68,7 @@ abstract class AbstractBigDecimalParser extends ch.randelshofer.fastdoubleparser
 
     protected static void checkParsedBigDecimalBounds(boolean illegal, int index, int endIndex, int digitCount, long exponent) {
         if (illegal || index < endIndex) {
-            throw new NumberFormatException(SYNTAX_ERROR);
+            throw ParseMetrics.syntaxError(ParseMetrics.BIG_DECIMAL);
         }
         if (exponent <= Integer.MIN_VALUE || exponent > Integer.MAX_VALUE || digitCount > MAX_DIGITS_WITHOUT_LEADING_ZEROS) {
             throw new NumberFormatException(VALUE_EXCEEDS_LIMITS);
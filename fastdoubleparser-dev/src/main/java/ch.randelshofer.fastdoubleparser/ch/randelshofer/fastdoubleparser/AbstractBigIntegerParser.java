@@ -30,8 +30,11 @@ abstract class AbstractBigIntegerParser extends AbstractNumberParser {
      * The iterative algorithm has a smaller constant overhead than the
      * recursive algorithm. We speculate that we break even somewhere at twice
      * the threshold value.
+     * <p>
+     * The default value can be changed with the key
+     * {@value Thresholds#BIG_INTEGER_RECURSION_THRESHOLD} in {@link Thresholds}.
      */
-    static final int RECURSION_THRESHOLD = 400;
+    static final int RECURSION_THRESHOLD = Thresholds.get(Thresholds.BIG_INTEGER_RECURSION_THRESHOLD, 400, 18);
 
     protected static boolean hasManyDigits(int length) {
         return length > 18;
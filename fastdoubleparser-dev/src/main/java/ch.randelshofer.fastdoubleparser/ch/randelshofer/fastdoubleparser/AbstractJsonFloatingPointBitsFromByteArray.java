@@ -29,6 +29,31 @@ abstract class AbstractJsonFloatingPointBitsFromByteArray extends AbstractFloatV
      */
     public final long parseNumber(byte[] str, int offset, int length) {
         final int endIndex = checkBounds(str.length, offset, length);
+        return parseNumber(str, offset, endIndex, false, null, 0);
+    }
+
+    /**
+     * Scans a {@code number} production that starts at {@code offset}, and
+     * stops at the first character that does not belong to it.
+     * <p>
+     * Unlike {@link #parseNumber(byte[], int, int)}, this method follows
+     * the grammar of RFC 8259 strictly: the integer part must not have a
+     * leading zero, and a decimal point must have digits on both sides.
+     *
+     * @param str         a string
+     * @param offset      start offset of the {@code number} in {@code str}
+     * @param endIndex    end index (exclusive) of the characters that may be scanned
+     * @param target      the destination of the value, passed on to
+     *                    {@link #valueOfNumber} and {@link #syntaxError}
+     * @param targetIndex an index in the destination
+     * @return the value returned by {@link #valueOfNumber}, if the input is
+     * legal; otherwise, the value returned by {@link #syntaxError}.
+     */
+    final long scanNumber(byte[] str, int offset, int endIndex, Object target, int targetIndex) {
+        return parseNumber(str, offset, endIndex, true, target, targetIndex);
+    }
+
+    private long parseNumber(byte[] str, int offset, int endIndex, boolean isPrefix, Object target, int targetIndex) {
         int index = offset;
         byte ch = charAt(str, index, endIndex);
 
@@ -38,7 +63,7 @@ abstract class AbstractJsonFloatingPointBitsFromByteArray extends AbstractFloatV
         if (isNegative) {
             ch = charAt(str, ++index, endIndex);
             if (ch == 0) {
-                return SYNTAX_ERROR_BITS;
+                return isPrefix ? syntaxError(target, offset, index) : SYNTAX_ERROR_BITS;
             }
         }
 
@@ -47,8 +72,8 @@ abstract class AbstractJsonFloatingPointBitsFromByteArray extends AbstractFloatV
         final boolean hasLeadingZero = ch == '0';
         if (hasLeadingZero) {
             ch = charAt(str, ++index, endIndex);
-            if (ch == '0') {
-                return SYNTAX_ERROR_BITS;
+            if (isPrefix ? (char) (ch - '0') < 10 : ch == '0') {
+                return isPrefix ? syntaxError(target, offset, index) : SYNTAX_ERROR_BITS;
             }
         }
 
@@ -68,8 +93,16 @@ abstract class AbstractJsonFloatingPointBitsFromByteArray extends AbstractFloatV
                 // This might overflow, we deal with it later.
                 significand = 10 * significand + digit;
             } else if (ch == '.') {
-                illegal |= integerDigitCount >= 0;
+                if (integerDigitCount >= 0) {
+                    if (isPrefix) {
+                        break;
+                    }
+                    illegal = true;
+                }
                 integerDigitCount = index - significandStartIndex;
+                if (isPrefix && integerDigitCount == 0 && !hasLeadingZero) {
+                    return syntaxError(target, offset, index);
+                }
                 for (; index < swarLimit; index += 4) {
                     int digits = FastDoubleSwar.tryToParseFourDigits(str, index + 1);
                     if (digits < 0) {
@@ -85,7 +118,8 @@ abstract class AbstractJsonFloatingPointBitsFromByteArray extends AbstractFloatV
         final int digitCount;
         final int significandEndIndex = index;
         int exponent;
-        if (integerDigitCount < 0) {
+        final boolean hasFraction = integerDigitCount >= 0;
+        if (!hasFraction) {
             digitCount = index - significandStartIndex;
             integerDigitCount = digitCount;
             exponent = 0;
@@ -93,17 +127,24 @@ abstract class AbstractJsonFloatingPointBitsFromByteArray extends AbstractFloatV
             digitCount = index - significandStartIndex - 1;
             exponent = integerDigitCount - digitCount;
         }
+        if (isPrefix && (hasFraction ? digitCount == integerDigitCount : !hasLeadingZero && digitCount == 0)) {
+            return syntaxError(target, offset, index);
+        }
 
         // Parse exponent number
         // ---------------------
         int expNumber = 0;
-        if ((ch | 0x20) == 'e') {// equals ignore case
+        final boolean hasExponent = (ch | 0x20) == 'e';// equals ignore case
+        if (hasExponent) {
             ch = charAt(str, ++index, endIndex);
             boolean isExponentNegative = ch == '-';
             if (isExponentNegative || ch == '+') {
                 ch = charAt(str, ++index, endIndex);
             }
             int digit = (char) (ch - '0');
+            if (isPrefix && digit >= 10) {
+                return syntaxError(target, offset, index);
+            }
             illegal |= digit >= 10;
             do {
                 // Guard against overflow
@@ -121,8 +162,8 @@ abstract class AbstractJsonFloatingPointBitsFromByteArray extends AbstractFloatV
 
         // Check if number is complete
         // ------------------------
-        if (illegal || index < endIndex
-                || !hasLeadingZero && digitCount == 0) {
+        if (!isPrefix && (illegal || index < endIndex
+                || !hasLeadingZero && digitCount == 0)) {
             return SYNTAX_ERROR_BITS;
         }
 
@@ -133,9 +174,9 @@ abstract class AbstractJsonFloatingPointBitsFromByteArray extends AbstractFloatV
         if (digitCount > 19) {
             int truncatedDigitCount = 0;
             significand = 0;
-            for (index = significandStartIndex; index < significandEndIndex; index++) {
-                ch = str[index];
-                int digit = (char) (ch - '0');
+            int i;
+            for (i = significandStartIndex; i < significandEndIndex; i++) {
+                int digit = (char) (str[i] - '0');
                 if (digit < 10) {
                     if (Long.compareUnsigned(significand, AbstractFloatValueParser.MINIMAL_NINETEEN_DIGIT_INTEGER) < 0) {
                         significand = 10 * significand + digit;
@@ -145,16 +186,62 @@ abstract class AbstractJsonFloatingPointBitsFromByteArray extends AbstractFloatV
                     }
                 }
             }
-            isSignificandTruncated = (index < significandEndIndex);
+            isSignificandTruncated = (i < significandEndIndex);
             exponentOfTruncatedSignificand = integerDigitCount - truncatedDigitCount + expNumber;
         } else {
             isSignificandTruncated = false;
             exponentOfTruncatedSignificand = 0;
         }
+        if (isPrefix) {
+            return valueOfNumber(str, offset, index, isNegative, !hasFraction && !hasExponent, significand, exponent,
+                    isSignificandTruncated, exponentOfTruncatedSignificand, target, targetIndex);
+        }
         return valueOfFloatLiteral(str, offset, endIndex, isNegative, significand, exponent, isSignificandTruncated,
                 exponentOfTruncatedSignificand);
     }
 
+    /**
+     * Computes the value of a {@code number} that
+     * {@link #scanNumber(byte[], int, int, Object, int)} has found.
+     * <p>
+     * The default implementation returns the value of
+     * {@link #valueOfFloatLiteral}.
+     *
+     * @param str                            the string that contains the number (and maybe more)
+     * @param startIndex                     the start index (inclusive) of the number inside the string
+     * @param endIndex                       the end index (exclusive) of the number inside the string
+     * @param isNegative                     whether the number is negative
+     * @param isInteger                      whether the number has neither a fraction nor an exponent
+     * @param significand                    the significand of the number (can be truncated)
+     * @param exponent                       the exponent of the number
+     * @param isSignificandTruncated         whether the significand is truncated
+     * @param exponentOfTruncatedSignificand the exponent value of the truncated
+     *                                       significand
+     * @param target                         the destination of the value
+     * @param targetIndex                    an index in the destination
+     * @return the value
+     */
+    long valueOfNumber(byte[] str, int startIndex, int endIndex, boolean isNegative, boolean isInteger,
+                       long significand, int exponent, boolean isSignificandTruncated,
+                       int exponentOfTruncatedSignificand, Object target, int targetIndex) {
+        return valueOfFloatLiteral(str, startIndex, endIndex, isNegative, significand, exponent, isSignificandTruncated,
+                exponentOfTruncatedSignificand);
+    }
+
+    /**
+     * Reports a {@code number} that
+     * {@link #scanNumber(byte[], int, int, Object, int)} could not scan.
+     * <p>
+     * The default implementation returns {@link #SYNTAX_ERROR_BITS}.
+     *
+     * @param target     the destination of the value
+     * @param startIndex the start index (inclusive) of the number inside the string
+     * @param errorIndex the index of the offending character
+     * @return the value
+     */
+    long syntaxError(Object target, int startIndex, int errorIndex) {
+        return SYNTAX_ERROR_BITS;
+    }
 
     /**
      * Computes a float value from the given components of a decimal float
@@ -0,0 +1,84 @@
+/*
+ * @(#)BigNumberParseEvent.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * A JDK Flight Recorder event for parsing a {@link java.math.BigInteger}
+ * or a {@link java.math.BigDecimal} with many digits.
+ * <p>
+ * Only parses that take longer than the threshold are recorded. The
+ * default threshold of 10 ms can be changed in the recording settings
+ * with the event name {@code ch.randelshofer.fastdoubleparser.BigNumberParse}.
+ * <p>
+ * When the event is disabled, {@link #start()} returns {@code null},
+ * so that parsing only pays for checking whether the event is enabled.
+ * <p>
+ * This class can only be loaded if {@link ParseEvents#AVAILABLE} is true.
+ */
+@Name("ch.randelshofer.fastdoubleparser.BigNumberParse")
+@Label("Big Number Parse")
+@Category("FastDoubleParser")
+@Description("Parsing of a BigInteger or a BigDecimal with many digits")
+@Threshold("10 ms")
+final class BigNumberParseEvent extends Event {
+    @Label("Number Type")
+    @Description("BigInteger or BigDecimal")
+    String numberType;
+
+    @Label("Digit Count")
+    @Description("The number of characters of the number")
+    int digitCount;
+
+    @Label("Radix")
+    int radix;
+
+    @Label("Recursion Depth")
+    @Description("The depth of the recursive digit parser for this number of digits")
+    int recursionDepth;
+
+    /**
+     * Begins an event, if the event is enabled.
+     *
+     * @return the event or null
+     */
+    static BigNumberParseEvent start() {
+        BigNumberParseEvent event = new BigNumberParseEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it, if it took longer than the threshold.
+     *
+     * @param numberType         the type of the number
+     * @param digitCount         the number of characters of the number
+     * @param radix              the radix
+     * @param recursionThreshold the recursion threshold of the digit parser
+     */
+    void finish(String numberType, int digitCount, int radix, int recursionThreshold) {
+        end();
+        if (shouldCommit()) {
+            this.numberType = numberType;
+            this.digitCount = digitCount;
+            this.radix = radix;
+            int depth = 0;
+            for (int n = digitCount; n > recursionThreshold; n = (n + 1) >>> 1) {
+                depth++;
+            }
+            this.recursionDepth = depth;
+            commit();
+        }
+    }
+}
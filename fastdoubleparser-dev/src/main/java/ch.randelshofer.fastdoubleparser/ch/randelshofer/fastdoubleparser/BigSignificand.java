@@ -17,6 +17,7 @@ final class BigSignificand {
     private final static VarHandle readIntBE =
             MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
     private final int numInts;
+    private final int numBytes;
     private final byte[] x;
     private int firstNonZeroInt;
 
@@ -31,8 +32,8 @@ final class BigSignificand {
         }
         int numLongs = (int) ((numBits + 63) >>> 6) + 1;
         numInts = numLongs << 1;
-        int numBytes = numLongs << 3;
-        x = new byte[numBytes];
+        numBytes = numLongs << 3;
+        x = ScratchBuffers.bytes(numBytes);
         firstNonZeroInt = numInts;
     }
 
@@ -84,7 +85,7 @@ final class BigSignificand {
      * @return a new BigInteger instance
      */
     public BigInteger toBigInteger() {
-        return new BigInteger(x);
+        return new BigInteger(x, 0, numBytes);
     }
 
     private void x(int i, int value) {
@@ -0,0 +1,268 @@
+/*
+ * @(#)CachingDoubleParser.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import java.util.Arrays;
+
+/**
+ * Parses a {@code double} value with the syntax of {@link JavaDoubleParser},
+ * and memoizes the values of short literals.
+ * <p>
+ * This is useful for inputs with few distinct values, such as columns
+ * in a table that mostly contain {@code "0"}, {@code "1"} or {@code "NaN"}.
+ * <p>
+ * Literals with up to {@value #MAX_KEY_LENGTH} characters are read as two
+ * {@code long} values. The two {@code long} values and the length of the
+ * literal are the key into a direct-mapped table that holds the bit patterns
+ * of the parsed values. A lookup does not allocate objects. On a miss, the
+ * literal is parsed with {@link JavaDoubleParser}, and the value replaces the
+ * entry in the table. Literals that can not be parsed are not memoized.
+ * Longer literals and literals with characters outside of ISO-8859-1 are
+ * always parsed.
+ * <p>
+ * Instances of this class are not thread-safe. Use one instance per thread.
+ */
+public final class CachingDoubleParser {
+    /**
+     * Maximal length of a literal that is memoized.
+     */
+    public static final int MAX_KEY_LENGTH = 16;
+    /**
+     * Default number of entries in the table.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * Number of bits of an index into the table.
+     */
+    private final int indexBits;
+    /**
+     * Holds the two keys of each entry.
+     */
+    private final long[] keys;
+    /**
+     * Holds the length of the literal of each entry. 0 means that the entry
+     * is empty.
+     */
+    private final byte[] lengths;
+    /**
+     * Holds the bit pattern of the value of each entry.
+     */
+    private final long[] values;
+
+    /**
+     * Creates a new instance with {@link #DEFAULT_CAPACITY} entries.
+     */
+    public CachingDoubleParser() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new instance with the specified number of entries.
+     *
+     * @param capacity the number of entries, is rounded up to a power of two
+     * @throws IllegalArgumentException if capacity is not in the range
+     *                                  from 1 to 2<sup>24</sup>
+     */
+    public CachingDoubleParser(int capacity) {
+        if (capacity < 1 || capacity > 1 << 24) {
+            throw new IllegalArgumentException("capacity is out of range: " + capacity);
+        }
+        int n = Integer.highestOneBit(capacity);
+        if (n < capacity) {
+            n <<= 1;
+        }
+        indexBits = Integer.numberOfTrailingZeros(n);
+        keys = new long[2 * n];
+        lengths = new byte[n];
+        values = new long[n];
+    }
+
+    /**
+     * Returns the number of entries in the table.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return lengths.length;
+    }
+
+    /**
+     * Removes all entries from the table.
+     */
+    public void clear() {
+        Arrays.fill(lengths, (byte) 0);
+    }
+
+    /**
+     * Convenience method for calling {@link #parseDouble(CharSequence, int, int)}.
+     *
+     * @param str the string to be parsed
+     * @return the parsed value
+     * @throws NullPointerException  if the string is null
+     * @throws NumberFormatException if the string can not be parsed successfully
+     */
+    public double parseDouble(CharSequence str) throws NumberFormatException {
+        return parseDouble(str, 0, str.length());
+    }
+
+    /**
+     * Parses a {@code FloatingPointLiteral} from a {@link CharSequence} and converts it
+     * into a {@code double} value.
+     *
+     * @param str    the string to be parsed
+     * @param offset the start offset of the {@code FloatingPointLiteral} in {@code str}
+     * @param length the length of {@code FloatingPointLiteral} in {@code str}
+     * @return the parsed value
+     * @throws NullPointerException     if the string is null
+     * @throws IllegalArgumentException if offset or length are illegal
+     * @throws NumberFormatException    if the string can not be parsed successfully
+     */
+    public double parseDouble(CharSequence str, int offset, int length) throws NumberFormatException {
+        int endIndex = AbstractNumberParser.checkBounds(str.length(), offset, length);
+        if (length == 0 || length > MAX_KEY_LENGTH) {
+            return JavaDoubleParser.parseDouble(str, offset, length);
+        }
+        long key0 = 0, key1 = 0;
+        int chars = 0;
+        for (int i = endIndex - 1; i >= offset; i--) {
+            char ch = str.charAt(i);
+            chars |= ch;
+            key1 = key1 << 8 | key0 >>> 56;
+            key0 = key0 << 8 | ch;
+        }
+        if (chars >= 0x100) {
+            return JavaDoubleParser.parseDouble(str, offset, length);
+        }
+        int index = indexOf(key0, key1, length);
+        if (isHit(index, key0, key1, length)) {
+            return Double.longBitsToDouble(values[index]);
+        }
+        return put(index, key0, key1, length, JavaDoubleParser.parseDouble(str, offset, length));
+    }
+
+    /**
+     * Convenience method for calling {@link #parseDouble(byte[], int, int)}.
+     *
+     * @param str the string to be parsed, a byte array with characters
+     *            in ISO-8859-1, ASCII or UTF-8 encoding
+     * @return the parsed value
+     * @throws NullPointerException  if the string is null
+     * @throws NumberFormatException if the string can not be parsed successfully
+     */
+    public double parseDouble(byte[] str) throws NumberFormatException {
+        return parseDouble(str, 0, str.length);
+    }
+
+    /**
+     * Parses a {@code FloatingPointLiteral} from a {@code byte}-Array and converts it
+     * into a {@code double} value.
+     *
+     * @param str    the string to be parsed, a byte array with characters
+     *               in ISO-8859-1, ASCII or UTF-8 encoding
+     * @param offset The index of the first byte to parse
+     * @param length The number of bytes to parse
+     * @return the parsed value
+     * @throws NullPointerException     if the string is null
+     * @throws IllegalArgumentException if offset or length are illegal
+     * @throws NumberFormatException    if the string can not be parsed successfully
+     */
+    public double parseDouble(byte[] str, int offset, int length) throws NumberFormatException {
+        AbstractNumberParser.checkBounds(str.length, offset, length);
+        if (length == 0 || length > MAX_KEY_LENGTH) {
+            return JavaDoubleParser.parseDouble(str, offset, length);
+        }
+        long key0, key1;
+        if (offset + 16 <= str.length) {
+            key0 = FastDoubleSwar.readLongLE(str, offset);
+            key1 = FastDoubleSwar.readLongLE(str, offset + 8);
+            if (length < 8) {
+                key0 &= (1L << (length << 3)) - 1;
+                key1 = 0;
+            } else if (length < 16) {
+                key1 &= (1L << ((length - 8) << 3)) - 1;
+            }
+        } else {
+            key0 = 0;
+            key1 = 0;
+            for (int i = offset + length - 1; i >= offset; i--) {
+                key1 = key1 << 8 | key0 >>> 56;
+                key0 = key0 << 8 | (str[i] & 0xffL);
+            }
+        }
+        int index = indexOf(key0, key1, length);
+        if (isHit(index, key0, key1, length)) {
+            return Double.longBitsToDouble(values[index]);
+        }
+        return put(index, key0, key1, length, JavaDoubleParser.parseDouble(str, offset, length));
+    }
+
+    /**
+     * Convenience method for calling {@link #parseDouble(char[], int, int)}.
+     *
+     * @param str the string to be parsed
+     * @return the parsed value
+     * @throws NullPointerException  if the string is null
+     * @throws NumberFormatException if the string can not be parsed successfully
+     */
+    public double parseDouble(char[] str) throws NumberFormatException {
+        return parseDouble(str, 0, str.length);
+    }
+
+    /**
+     * Parses a {@code FloatingPointLiteral} from a {@code char}-Array and converts it
+     * into a {@code double} value.
+     *
+     * @param str    the string to be parsed
+     * @param offset The index of the first character to parse
+     * @param length The number of characters to parse
+     * @return the parsed value
+     * @throws NullPointerException     if the string is null
+     * @throws IllegalArgumentException if offset or length are illegal
+     * @throws NumberFormatException    if the string can not be parsed successfully
+     */
+    public double parseDouble(char[] str, int offset, int length) throws NumberFormatException {
+        int endIndex = AbstractNumberParser.checkBounds(str.length, offset, length);
+        if (length == 0 || length > MAX_KEY_LENGTH) {
+            return JavaDoubleParser.parseDouble(str, offset, length);
+        }
+        long key0 = 0, key1 = 0;
+        int chars = 0;
+        for (int i = endIndex - 1; i >= offset; i--) {
+            char ch = str[i];
+            chars |= ch;
+            key1 = key1 << 8 | key0 >>> 56;
+            key0 = key0 << 8 | ch;
+        }
+        if (chars >= 0x100) {
+            return JavaDoubleParser.parseDouble(str, offset, length);
+        }
+        int index = indexOf(key0, key1, length);
+        if (isHit(index, key0, key1, length)) {
+            return Double.longBitsToDouble(values[index]);
+        }
+        return put(index, key0, key1, length, JavaDoubleParser.parseDouble(str, offset, length));
+    }
+
+    /**
+     * Computes the index of the entry with a multiplicative hash function.
+     */
+    private int indexOf(long key0, long key1, int length) {
+        long h = (key0 * 0x9E3779B97F4A7C15L + key1) * 0xC2B2AE3D27D4EB4FL + length;
+        return (int) (h >>> (64 - indexBits)) & (lengths.length - 1);
+    }
+
+    private boolean isHit(int index, long key0, long key1, int length) {
+        return lengths[index] == length && keys[2 * index] == key0 && keys[2 * index + 1] == key1;
+    }
+
+    private double put(int index, long key0, long key1, int length, double value) {
+        keys[2 * index] = key0;
+        keys[2 * index + 1] = key1;
+        values[index] = Double.doubleToRawLongBits(value);
+        lengths[index] = (byte) length;
+        return value;
+    }
+}
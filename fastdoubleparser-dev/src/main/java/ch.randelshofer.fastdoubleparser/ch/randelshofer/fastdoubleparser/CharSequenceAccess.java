@@ -0,0 +1,145 @@
+/*
+ * @(#)CharSequenceAccess.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import java.nio.CharBuffer;
+
+/**
+ * Provides the characters of a {@link CharSequence} in a {@code char} array,
+ * so that it can be parsed with the {@code char} array parsers.
+ * <p>
+ * The {@link CharSequence} parsers call {@link CharSequence#charAt(int)}
+ * for every character. If the parsers see several implementations of
+ * {@link CharSequence}, the call site becomes megamorphic, and the JIT
+ * compiler can not inline the call anymore.
+ * <p>
+ * This class handles the following implementations:
+ * <dl>
+ *     <dt>{@link String}</dt>
+ *     <dd>Is not handled. {@code String.charAt} is the common case
+ *     and is inlined by the JIT compiler.</dd>
+ *     <dt>{@link CharBuffer} with an accessible array</dt>
+ *     <dd>The backing array is used directly.</dd>
+ *     <dt>{@link StringBuilder}, {@link StringBuffer}</dt>
+ *     <dd>The characters are bulk-copied with {@code getChars} into
+ *     a thread-local {@code char} array. Inputs that are longer than
+ *     {@value #MAX_BUFFER_LENGTH} characters are copied into a new array.
+ *     The thread-local array is taken out of the thread-local variable
+ *     while it is in use, and is put back by
+ *     {@link #release(CharSequence, char[])}. A parse that runs another
+ *     parse on the same thread before it releases the array, for example
+ *     while it waits for a fork-join task, gets a new array.</dd>
+ * </dl>
+ * Inputs with more than {@value #MAX_COPY_LENGTH} characters and all other
+ * implementations are not handled, to avoid doubling the memory footprint
+ * of huge inputs.
+ */
+final class CharSequenceAccess {
+    /**
+     * Maximal length of the thread-local buffer.
+     */
+    static final int MAX_BUFFER_LENGTH = 1024;
+    /**
+     * Maximal number of characters that are copied.
+     */
+    static final int MAX_COPY_LENGTH = 1 << 24;
+
+    private static final ThreadLocal<char[]> BUFFER = new ThreadLocal<>();
+
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private CharSequenceAccess() {
+    }
+
+    /**
+     * Returns a {@code char} array that contains the specified characters
+     * of the {@link CharSequence}.
+     * <p>
+     * The characters start in the array at the index returned by
+     * {@link #arrayOffset(CharSequence, int)}.
+     * <p>
+     * The caller must pass the array to {@link #release(CharSequence, char[])}
+     * when it no longer needs it.
+     *
+     * @param str    a string
+     * @param offset the index of the first character
+     * @param length the number of characters
+     * @return a char array or null if the characters should be accessed
+     * through the {@link CharSequence} interface
+     * @throws IllegalArgumentException if offset or length are illegal
+     */
+    static char[] toCharArray(CharSequence str, int offset, int length) {
+        if (str instanceof String) {
+            return null;
+        }
+        if (str instanceof CharBuffer) {
+            CharBuffer buf = (CharBuffer) str;
+            if (buf.hasArray()) {
+                AbstractNumberParser.checkBounds(buf.length(), offset, length);
+                return buf.array();
+            }
+            return null;
+        }
+        if (length > MAX_COPY_LENGTH) {
+            return null;
+        }
+        if (str instanceof StringBuilder) {
+            int endIndex = AbstractNumberParser.checkBounds(str.length(), offset, length);
+            char[] chars = buffer(length);
+            ((StringBuilder) str).getChars(offset, endIndex, chars, 0);
+            return chars;
+        }
+        if (str instanceof StringBuffer) {
+            int endIndex = AbstractNumberParser.checkBounds(str.length(), offset, length);
+            char[] chars = buffer(length);
+            ((StringBuffer) str).getChars(offset, endIndex, chars, 0);
+            return chars;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the index of the character at the specified offset of the
+     * {@link CharSequence} in the array returned by
+     * {@link #toCharArray(CharSequence, int, int)}.
+     *
+     * @param str    a string
+     * @param offset the index of the first character
+     * @return the index in the array
+     */
+    static int arrayOffset(CharSequence str, int offset) {
+        if (str instanceof CharBuffer) {
+            CharBuffer buf = (CharBuffer) str;
+            return buf.arrayOffset() + buf.position() + offset;
+        }
+        return 0;
+    }
+
+    /**
+     * Puts the thread-local array back into the thread-local variable, if
+     * the specified array is one.
+     *
+     * @param str   the string that was passed to {@link #toCharArray(CharSequence, int, int)}
+     * @param chars the array that was returned by {@link #toCharArray(CharSequence, int, int)}
+     */
+    static void release(CharSequence str, char[] chars) {
+        if (chars.length == MAX_BUFFER_LENGTH && !(str instanceof CharBuffer)) {
+            BUFFER.set(chars);
+        }
+    }
+
+    private static char[] buffer(int length) {
+        if (length > MAX_BUFFER_LENGTH) {
+            return new char[length];
+        }
+        char[] chars = BUFFER.get();
+        if (chars == null) {
+            return new char[MAX_BUFFER_LENGTH];
+        }
+        BUFFER.set(null);
+        return chars;
+    }
+}
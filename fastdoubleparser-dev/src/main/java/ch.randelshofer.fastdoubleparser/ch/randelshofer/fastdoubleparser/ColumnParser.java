@@ -0,0 +1,489 @@
+/*
+ * @(#)ColumnParser.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static ch.randelshofer.fastdoubleparser.AbstractNumberParser.SYNTAX_ERROR_BITS;
+
+/**
+ * Parses a column of strings that are stored in a single {@code byte}
+ * array or {@link ByteBuffer} with an {@code int} array of offsets, like
+ * the variable-size binary layout of Apache Arrow.
+ * <p>
+ * The value of row {@code r} is stored in the bytes from
+ * {@code offsets[r]} (inclusive) to {@code offsets[r + 1]} (exclusive).
+ * In a {@link ByteBuffer}, the offsets are absolute indices, and the
+ * position of the buffer is ignored.
+ * <p>
+ * The values are written into a primitive array. A validity bitmap
+ * records which values could be parsed: bit {@code i & 63} of element
+ * {@code i >>> 6} is set if the value at index {@code i} of the
+ * destination array is valid. Viewed as little-endian bytes, this is
+ * the bit order of an Arrow validity buffer. An invalid value is stored
+ * as {@code NaN} in a {@code double} or {@code float} array and as
+ * {@code 0} in a {@code long} array.
+ * <p>
+ * All rows are parsed in a single loop. No exceptions are thrown for
+ * values that can not be parsed.
+ * <p>
+ * <b>Performance</b>
+ * <p>
+ * A {@code double} or {@code float} column is parsed about as fast as
+ * calling {@link JavaDoubleParser} or {@link JavaFloatParser} once per
+ * row: the loop only saves the argument checks, the exceptions and the
+ * boxing of a call per row; the parsing itself can not be shared
+ * across rows. A {@code long} column is parsed in about half the time
+ * of {@link Long#parseLong(String)} on a new {@code String} per row.
+ * <p>
+ * The rows of a direct {@link ByteBuffer} are copied into a {@code byte}
+ * array before they are parsed as {@code double} or {@code float};
+ * {@code long} values are read from the buffer directly.
+ * <p>
+ * <b>Syntax</b>
+ * <p>
+ * {@code double} and {@code float} values have the syntax of
+ * {@link JavaDoubleParser} and {@link JavaFloatParser}.
+ * {@code long} values are decimal integers with an optional sign, like in
+ * {@link Long#parseLong(String)}. Leading and trailing characters with a
+ * code point of {@code 0x20} or less are ignored, like in
+ * {@link JavaDoubleParser}.
+ * <p>
+ * References:
+ * <dl>
+ *     <dt>Apache Arrow. Arrow Columnar Format, Variable-size Binary Layout</dt>
+ *     <dd><a href="https://arrow.apache.org/docs/format/Columnar.html">arrow.apache.org</a></dd>
+ * </dl>
+ */
+public final class ColumnParser {
+    private static final JavaDoubleBitsFromByteArray DOUBLE_PARSER = new JavaDoubleBitsFromByteArray();
+    private static final JavaFloatBitsFromByteArray FLOAT_PARSER = new JavaFloatBitsFromByteArray();
+    private static final int MIN_ROW_BUFFER_LENGTH = 64;
+
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private ColumnParser() {
+
+    }
+
+    /**
+     * Parses rows of a column into a {@code double} array.
+     *
+     * @param data       the bytes of the column, with characters in ISO-8859-1,
+     *                   ASCII or UTF-8 encoding
+     * @param offsets    the offsets of the rows in {@code data}, must contain
+     *                   {@code rowCount + 1} elements starting at {@code startRow}
+     * @param startRow   the index of the first row
+     * @param rowCount   the number of rows
+     * @param dest       the destination array
+     * @param destOffset the index of the first value in the destination array,
+     *                   and of the first bit in the validity bitmap
+     * @param validity   the validity bitmap
+     * @return the number of valid values
+     * @throws NullPointerException     if an array is null
+     * @throws IllegalArgumentException if startRow, rowCount or destOffset are
+     *                                  illegal, if an offset is out of bounds, or if the
+     *                                  destination array or the validity bitmap is too small
+     */
+    public static int parseDoubleColumn(byte[] data, int[] offsets, int startRow, int rowCount,
+                                        double[] dest, int destOffset, long[] validity) {
+        return parseDoubleColumn(data, 0, data.length, offsets, startRow, rowCount, dest, destOffset, validity);
+    }
+
+    /**
+     * Parses rows of a column in a {@link ByteBuffer} into a {@code double} array.
+     * <p>
+     * See {@link #parseDoubleColumn(byte[], int[], int, int, double[], int, long[])}.
+     *
+     * @param data       the bytes of the column, with characters in ISO-8859-1,
+     *                   ASCII or UTF-8 encoding, up to the limit of the buffer
+     * @param offsets    the offsets of the rows in {@code data}, must contain
+     *                   {@code rowCount + 1} elements starting at {@code startRow}
+     * @param startRow   the index of the first row
+     * @param rowCount   the number of rows
+     * @param dest       the destination array
+     * @param destOffset the index of the first value in the destination array,
+     *                   and of the first bit in the validity bitmap
+     * @param validity   the validity bitmap
+     * @return the number of valid values
+     * @throws NullPointerException     if the buffer or an array is null
+     * @throws IllegalArgumentException if startRow, rowCount or destOffset are
+     *                                  illegal, if an offset is out of bounds, or if the
+     *                                  destination array or the validity bitmap is too small
+     */
+    public static int parseDoubleColumn(ByteBuffer data, int[] offsets, int startRow, int rowCount,
+                                        double[] dest, int destOffset, long[] validity) {
+        if (data.hasArray()) {
+            return parseDoubleColumn(data.array(), data.arrayOffset(), data.limit(), offsets, startRow, rowCount, dest, destOffset, validity);
+        }
+        checkBounds(offsets, startRow, rowCount, dest.length, destOffset, validity);
+        byte[] row = new byte[MIN_ROW_BUFFER_LENGTH];
+        int validCount = 0;
+        for (int i = 0; i < rowCount; i++) {
+            int from = offsets[startRow + i];
+            int length = checkOffsets(data.limit(), from, offsets[startRow + i + 1], startRow + i) - from;
+            row = copyRow(data, from, length, row);
+            validCount += setDouble(DOUBLE_PARSER.parseFloatingPointLiteral(row, 0, length), dest, destOffset + i, validity);
+        }
+        return validCount;
+    }
+
+    private static int parseDoubleColumn(byte[] data, int base, int size, int[] offsets, int startRow, int rowCount,
+                                         double[] dest, int destOffset, long[] validity) {
+        checkBounds(offsets, startRow, rowCount, dest.length, destOffset, validity);
+        int validCount = 0;
+        for (int i = 0; i < rowCount; i++) {
+            int from = offsets[startRow + i];
+            int to = checkOffsets(size, from, offsets[startRow + i + 1], startRow + i);
+            validCount += setDouble(DOUBLE_PARSER.parseFloatingPointLiteral(data, base + from, to - from), dest, destOffset + i, validity);
+        }
+        return validCount;
+    }
+
+    /**
+     * Parses rows of a column into a {@code float} array.
+     * <p>
+     * See {@link #parseDoubleColumn(byte[], int[], int, int, double[], int, long[])}.
+     *
+     * @param data       the bytes of the column, with characters in ISO-8859-1,
+     *                   ASCII or UTF-8 encoding
+     * @param offsets    the offsets of the rows in {@code data}, must contain
+     *                   {@code rowCount + 1} elements starting at {@code startRow}
+     * @param startRow   the index of the first row
+     * @param rowCount   the number of rows
+     * @param dest       the destination array
+     * @param destOffset the index of the first value in the destination array,
+     *                   and of the first bit in the validity bitmap
+     * @param validity   the validity bitmap
+     * @return the number of valid values
+     * @throws NullPointerException     if an array is null
+     * @throws IllegalArgumentException if startRow, rowCount or destOffset are
+     *                                  illegal, if an offset is out of bounds, or if the
+     *                                  destination array or the validity bitmap is too small
+     */
+    public static int parseFloatColumn(byte[] data, int[] offsets, int startRow, int rowCount,
+                                       float[] dest, int destOffset, long[] validity) {
+        return parseFloatColumn(data, 0, data.length, offsets, startRow, rowCount, dest, destOffset, validity);
+    }
+
+    /**
+     * Parses rows of a column in a {@link ByteBuffer} into a {@code float} array.
+     * <p>
+     * See {@link #parseDoubleColumn(ByteBuffer, int[], int, int, double[], int, long[])}.
+     *
+     * @param data       the bytes of the column, with characters in ISO-8859-1,
+     *                   ASCII or UTF-8 encoding, up to the limit of the buffer
+     * @param offsets    the offsets of the rows in {@code data}, must contain
+     *                   {@code rowCount + 1} elements starting at {@code startRow}
+     * @param startRow   the index of the first row
+     * @param rowCount   the number of rows
+     * @param dest       the destination array
+     * @param destOffset the index of the first value in the destination array,
+     *                   and of the first bit in the validity bitmap
+     * @param validity   the validity bitmap
+     * @return the number of valid values
+     * @throws NullPointerException     if the buffer or an array is null
+     * @throws IllegalArgumentException if startRow, rowCount or destOffset are
+     *                                  illegal, if an offset is out of bounds, or if the
+     *                                  destination array or the validity bitmap is too small
+     */
+    public static int parseFloatColumn(ByteBuffer data, int[] offsets, int startRow, int rowCount,
+                                       float[] dest, int destOffset, long[] validity) {
+        if (data.hasArray()) {
+            return parseFloatColumn(data.array(), data.arrayOffset(), data.limit(), offsets, startRow, rowCount, dest, destOffset, validity);
+        }
+        checkBounds(offsets, startRow, rowCount, dest.length, destOffset, validity);
+        byte[] row = new byte[MIN_ROW_BUFFER_LENGTH];
+        int validCount = 0;
+        for (int i = 0; i < rowCount; i++) {
+            int from = offsets[startRow + i];
+            int length = checkOffsets(data.limit(), from, offsets[startRow + i + 1], startRow + i) - from;
+            row = copyRow(data, from, length, row);
+            validCount += setFloat(FLOAT_PARSER.parseFloatingPointLiteral(row, 0, length), dest, destOffset + i, validity);
+        }
+        return validCount;
+    }
+
+    private static int parseFloatColumn(byte[] data, int base, int size, int[] offsets, int startRow, int rowCount,
+                                        float[] dest, int destOffset, long[] validity) {
+        checkBounds(offsets, startRow, rowCount, dest.length, destOffset, validity);
+        int validCount = 0;
+        for (int i = 0; i < rowCount; i++) {
+            int from = offsets[startRow + i];
+            int to = checkOffsets(size, from, offsets[startRow + i + 1], startRow + i);
+            validCount += setFloat(FLOAT_PARSER.parseFloatingPointLiteral(data, base + from, to - from), dest, destOffset + i, validity);
+        }
+        return validCount;
+    }
+
+    /**
+     * Parses rows of a column into a {@code long} array.
+     * <p>
+     * See {@link #parseDoubleColumn(byte[], int[], int, int, double[], int, long[])}.
+     *
+     * @param data       the bytes of the column, with characters in ISO-8859-1,
+     *                   ASCII or UTF-8 encoding
+     * @param offsets    the offsets of the rows in {@code data}, must contain
+     *                   {@code rowCount + 1} elements starting at {@code startRow}
+     * @param startRow   the index of the first row
+     * @param rowCount   the number of rows
+     * @param dest       the destination array
+     * @param destOffset the index of the first value in the destination array,
+     *                   and of the first bit in the validity bitmap
+     * @param validity   the validity bitmap
+     * @return the number of valid values
+     * @throws NullPointerException     if an array is null
+     * @throws IllegalArgumentException if startRow, rowCount or destOffset are
+     *                                  illegal, if an offset is out of bounds, or if the
+     *                                  destination array or the validity bitmap is too small
+     */
+    public static int parseLongColumn(byte[] data, int[] offsets, int startRow, int rowCount,
+                                      long[] dest, int destOffset, long[] validity) {
+        return parseLongColumn(data, 0, data.length, offsets, startRow, rowCount, dest, destOffset, validity);
+    }
+
+    /**
+     * Parses rows of a column in a {@link ByteBuffer} into a {@code long} array.
+     * <p>
+     * See {@link #parseDoubleColumn(ByteBuffer, int[], int, int, double[], int, long[])}.
+     *
+     * @param data       the bytes of the column, with characters in ISO-8859-1,
+     *                   ASCII or UTF-8 encoding, up to the limit of the buffer
+     * @param offsets    the offsets of the rows in {@code data}, must contain
+     *                   {@code rowCount + 1} elements starting at {@code startRow}
+     * @param startRow   the index of the first row
+     * @param rowCount   the number of rows
+     * @param dest       the destination array
+     * @param destOffset the index of the first value in the destination array,
+     *                   and of the first bit in the validity bitmap
+     * @param validity   the validity bitmap
+     * @return the number of valid values
+     * @throws NullPointerException     if the buffer or an array is null
+     * @throws IllegalArgumentException if startRow, rowCount or destOffset are
+     *                                  illegal, if an offset is out of bounds, or if the
+     *                                  destination array or the validity bitmap is too small
+     */
+    public static int parseLongColumn(ByteBuffer data, int[] offsets, int startRow, int rowCount,
+                                      long[] dest, int destOffset, long[] validity) {
+        if (data.hasArray()) {
+            return parseLongColumn(data.array(), data.arrayOffset(), data.limit(), offsets, startRow, rowCount, dest, destOffset, validity);
+        }
+        checkBounds(offsets, startRow, rowCount, dest.length, destOffset, validity);
+        ByteBuffer littleEndian = data.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        int validCount = 0;
+        for (int i = 0; i < rowCount; i++) {
+            int from = offsets[startRow + i];
+            int to = checkOffsets(data.limit(), from, offsets[startRow + i + 1], startRow + i);
+            validCount += setLong(tryToParseLong(littleEndian, from, to, dest, destOffset + i), dest, destOffset + i, validity);
+        }
+        return validCount;
+    }
+
+    private static int parseLongColumn(byte[] data, int base, int size, int[] offsets, int startRow, int rowCount,
+                                       long[] dest, int destOffset, long[] validity) {
+        checkBounds(offsets, startRow, rowCount, dest.length, destOffset, validity);
+        int validCount = 0;
+        for (int i = 0; i < rowCount; i++) {
+            int from = offsets[startRow + i];
+            int to = checkOffsets(size, from, offsets[startRow + i + 1], startRow + i);
+            validCount += setLong(tryToParseLong(data, base + from, base + to, dest, destOffset + i), dest, destOffset + i, validity);
+        }
+        return validCount;
+    }
+
+    /**
+     * Stores a parsed {@code double} and sets its validity bit.
+     *
+     * @return 1 if the value is valid, 0 otherwise
+     */
+    private static int setDouble(long bitPattern, double[] dest, int index, long[] validity) {
+        if (bitPattern == SYNTAX_ERROR_BITS) {
+            dest[index] = Double.NaN;
+            validity[index >>> 6] &= ~(1L << index);
+            return 0;
+        }
+        dest[index] = Double.longBitsToDouble(bitPattern);
+        validity[index >>> 6] |= 1L << index;
+        return 1;
+    }
+
+    /**
+     * Stores a parsed {@code float} and sets its validity bit.
+     *
+     * @return 1 if the value is valid, 0 otherwise
+     */
+    private static int setFloat(long bitPattern, float[] dest, int index, long[] validity) {
+        if (bitPattern == SYNTAX_ERROR_BITS) {
+            dest[index] = Float.NaN;
+            validity[index >>> 6] &= ~(1L << index);
+            return 0;
+        }
+        dest[index] = Float.intBitsToFloat((int) bitPattern);
+        validity[index >>> 6] |= 1L << index;
+        return 1;
+    }
+
+    /**
+     * Sets the validity bit of a parsed {@code long}, and stores 0 if it is invalid.
+     *
+     * @return 1 if the value is valid, 0 otherwise
+     */
+    private static int setLong(boolean isValid, long[] dest, int index, long[] validity) {
+        if (!isValid) {
+            dest[index] = 0;
+            validity[index >>> 6] &= ~(1L << index);
+            return 0;
+        }
+        validity[index >>> 6] |= 1L << index;
+        return 1;
+    }
+
+    /**
+     * Copies a row of a buffer into the row array, and grows the array if needed.
+     *
+     * @return the row array
+     */
+    private static byte[] copyRow(ByteBuffer data, int from, int length, byte[] row) {
+        if (row.length < length) {
+            row = new byte[Math.max(length, row.length * 2)];
+        }
+        for (int i = 0; i < length; i++) {
+            row[i] = data.get(from + i);
+        }
+        return row;
+    }
+
+    /**
+     * Tries to parse a decimal integer with an optional sign.
+     *
+     * @return true on success
+     */
+    private static boolean tryToParseLong(byte[] str, int index, int endIndex, long[] dest, int destIndex) {
+        // Skip leading and trailing whitespace
+        while (index < endIndex && (str[index] & 0xff) <= ' ') {
+            index++;
+        }
+        while (endIndex > index && (str[endIndex - 1] & 0xff) <= ' ') {
+            endIndex--;
+        }
+
+        // Parse optional sign
+        boolean isNegative = index < endIndex && str[index] == '-';
+        if (isNegative || index < endIndex && str[index] == '+') {
+            index++;
+        }
+        if (index == endIndex) {
+            return false;
+        }
+
+        // Skip leading zeros; at most 19 significant digits fit into an unsigned long
+        while (index < endIndex - 1 && str[index] == '0') {
+            index++;
+        }
+        if (endIndex - index > 19) {
+            return false;
+        }
+
+        // Parse the digits, eight at a time if possible
+        long value = 0;
+        for (; index < endIndex - 7; index += 8) {
+            int eightDigits = FastDoubleSwar.tryToParseEightDigits(str, index);
+            if (eightDigits < 0) {
+                return false;
+            }
+            value = value * 100_000_000L + eightDigits;
+        }
+        for (; index < endIndex; index++) {
+            byte ch = str[index];
+            if (!FastDoubleSwar.isDigit(ch)) {
+                return false;
+            }
+            value = value * 10 + ch - '0';
+        }
+
+        // Check the range, the value is an unsigned long
+        if (isNegative ? Long.compareUnsigned(value, Long.MIN_VALUE) > 0 : value < 0) {
+            return false;
+        }
+        dest[destIndex] = isNegative ? -value : value;
+        return true;
+    }
+
+    /**
+     * Tries to parse a decimal integer with an optional sign from a
+     * buffer in little-endian byte order.
+     *
+     * @return true on success
+     */
+    private static boolean tryToParseLong(ByteBuffer str, int index, int endIndex, long[] dest, int destIndex) {
+        // Skip leading and trailing whitespace
+        while (index < endIndex && (str.get(index) & 0xff) <= ' ') {
+            index++;
+        }
+        while (endIndex > index && (str.get(endIndex - 1) & 0xff) <= ' ') {
+            endIndex--;
+        }
+
+        // Parse optional sign
+        boolean isNegative = index < endIndex && str.get(index) == '-';
+        if (isNegative || index < endIndex && str.get(index) == '+') {
+            index++;
+        }
+        if (index == endIndex) {
+            return false;
+        }
+
+        // Skip leading zeros; at most 19 significant digits fit into an unsigned long
+        while (index < endIndex - 1 && str.get(index) == '0') {
+            index++;
+        }
+        if (endIndex - index > 19) {
+            return false;
+        }
+
+        // Parse the digits, eight at a time if possible
+        long value = 0;
+        for (; index < endIndex - 7; index += 8) {
+            int eightDigits = FastDoubleSwar.tryToParseEightDigitsUtf8(str.getLong(index));
+            if (eightDigits < 0) {
+                return false;
+            }
+            value = value * 100_000_000L + eightDigits;
+        }
+        for (; index < endIndex; index++) {
+            byte ch = str.get(index);
+            if (!FastDoubleSwar.isDigit(ch)) {
+                return false;
+            }
+            value = value * 10 + ch - '0';
+        }
+
+        // Check the range, the value is an unsigned long
+        if (isNegative ? Long.compareUnsigned(value, Long.MIN_VALUE) > 0 : value < 0) {
+            return false;
+        }
+        dest[destIndex] = isNegative ? -value : value;
+        return true;
+    }
+
+    static void checkBounds(int[] offsets, int startRow, int rowCount, int destLength, int destOffset, long[] validity) {
+        AbstractNumberParser.checkBounds(offsets.length - 1, startRow, rowCount);
+        if ((destOffset | rowCount | destLength - rowCount - destOffset) < 0) {
+            throw new IllegalArgumentException("destination is too small");
+        }
+        if (rowCount > 0 && (destOffset + rowCount - 1) >>> 6 >= validity.length) {
+            throw new IllegalArgumentException("validity bitmap is too small");
+        }
+    }
+
+    static int checkOffsets(int size, int from, int to, int row) {
+        if ((from | to - from | size - to) < 0) {
+            throw new IllegalArgumentException("illegal offsets in row " + row + ": from=" + from + ", to=" + to);
+        }
+        return to;
+    }
+}
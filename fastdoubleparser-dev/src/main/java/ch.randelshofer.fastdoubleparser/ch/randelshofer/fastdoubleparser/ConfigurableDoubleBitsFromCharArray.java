@@ -35,6 +35,7 @@ final class ConfigurableDoubleBitsFromCharArray extends AbstractConfigurableFloa
                              int exponentOfTruncatedSignificand, int exponentValue, int startIndex, int endIndex) {
         double d = FastDoubleMath.tryDecFloatToDoubleTruncated(isSignificandNegative, significand, exponent, isSignificandTruncated,
                 exponentOfTruncatedSignificand);
+        ParseMetrics.countConversion(ParseMetrics.CONFIGURABLE_DOUBLE, isSignificandTruncated, Double.isNaN(d));
         return Double.doubleToRawLongBits(Double.isNaN(d) ?
                 slowPathToDouble(str, integerStartIndex, integerEndIndex, fractionStartIndex, fractionEndIndex, isSignificandNegative, exponentValue) :
                 d);
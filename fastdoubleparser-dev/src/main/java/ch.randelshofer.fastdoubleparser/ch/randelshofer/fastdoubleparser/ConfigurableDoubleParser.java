@@ -7,7 +7,6 @@ package ch.randelshofer.fastdoubleparser;
 import java.text.DecimalFormatSymbols;
 import java.util.Objects;
 
-import static ch.randelshofer.fastdoubleparser.AbstractNumberParser.SYNTAX_ERROR;
 import static ch.randelshofer.fastdoubleparser.AbstractNumberParser.SYNTAX_ERROR_BITS;
 import static ch.randelshofer.fastdoubleparser.NumberFormatSymbolsInfo.isAscii;
 import static ch.randelshofer.fastdoubleparser.NumberFormatSymbolsInfo.isDigitsTokensAscii;
@@ -259,8 +258,16 @@ public final class ConfigurableDoubleParser {
      * @throws NumberFormatException if the provided char sequence could not be parsed
      */
     public double parseDouble(CharSequence str, int offset, int length) {
+        char[] chars = CharSequenceAccess.toCharArray(str, offset, length);
+        if (chars != null) {
+            try {
+                return parseDouble(chars, CharSequenceAccess.arrayOffset(str, offset), length);
+            } finally {
+                CharSequenceAccess.release(str, chars);
+            }
+        }
         long bitPattern = getCharSequenceParser().parseFloatingPointLiteral(str, offset, length);
-        if (bitPattern == SYNTAX_ERROR_BITS) throw new NumberFormatException(SYNTAX_ERROR);
+        if (bitPattern == SYNTAX_ERROR_BITS) throw ParseMetrics.syntaxError(ParseMetrics.CONFIGURABLE_DOUBLE);
         return Double.longBitsToDouble(bitPattern);
     }
 
@@ -285,7 +292,7 @@ public final class ConfigurableDoubleParser {
      */
     public double parseDouble(char[] str, int offset, int length) {
         long bitPattern = getCharArrayParser().parseFloatingPointLiteral(str, offset, length);
-        if (bitPattern == SYNTAX_ERROR_BITS) throw new NumberFormatException(SYNTAX_ERROR);
+        if (bitPattern == SYNTAX_ERROR_BITS) throw ParseMetrics.syntaxError(ParseMetrics.CONFIGURABLE_DOUBLE);
         return Double.longBitsToDouble(bitPattern);
     }
 
@@ -318,7 +325,7 @@ public final class ConfigurableDoubleParser {
             Utf8Decoder.Result result = Utf8Decoder.decode(str, offset, length);
             bitPattern = getCharArrayParser().parseFloatingPointLiteral(result.chars(), 0, result.length());
         }
-        if (bitPattern == SYNTAX_ERROR_BITS) throw new NumberFormatException(SYNTAX_ERROR);
+        if (bitPattern == SYNTAX_ERROR_BITS) throw ParseMetrics.syntaxError(ParseMetrics.CONFIGURABLE_DOUBLE);
         return Double.longBitsToDouble(bitPattern);
     }
 }
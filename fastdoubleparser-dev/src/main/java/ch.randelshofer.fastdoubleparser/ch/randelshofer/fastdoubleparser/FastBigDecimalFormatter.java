@@ -0,0 +1,292 @@
+/*
+ * @(#)FastBigDecimalFormatter.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+
+/**
+ * Formats {@link BigInteger} and {@link BigDecimal} values as decimal
+ * strings.
+ * <p>
+ * The output is the same as the output of {@link BigInteger#toString()}
+ * and {@link BigDecimal#toPlainString()}.
+ * <p>
+ * Large values are converted with a divide-and-conquer algorithm:
+ * the value is split into a high and a low part by dividing it by a power
+ * of ten, and both parts are converted recursively. The powers of ten are
+ * the same as the ones used by the parsers. The divisions are performed
+ * with Barrett reduction, which replaces each division by two
+ * multiplications with {@link FftMultiplier}.
+ * <p>
+ * References:
+ * <dl>
+ *     <dt>Modern Computer Arithmetic, Richard P. Brent and Paul Zimmermann,
+ *     Chapter 1.7 Base Conversion, Chapter 2.4.1 Barrett's Algorithm</dt>
+ *     <dd><a href="https://members.loria.fr/PZimmermann/mca/mca-cup-0.5.9.pdf">mca-cup-0.5.9.pdf</a></dd>
+ * </dl>
+ */
+public final class FastBigDecimalFormatter {
+    /**
+     * Threshold on the number of digits for converting a value
+     * with {@link BigInteger#toString()}.
+     */
+    static final int RECURSION_THRESHOLD = 2000;
+    /**
+     * Threshold on the number of bits of the divisor for using Barrett
+     * reduction instead of {@link BigInteger#divideAndRemainder}.
+     */
+    static final int BARRETT_THRESHOLD = 33220;
+
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private FastBigDecimalFormatter() {
+    }
+
+    /**
+     * Formats the specified value as a decimal string in a byte array.
+     *
+     * @param value a value
+     * @return the ASCII characters of {@code value.toString()}
+     */
+    public static byte[] toByteArray(BigInteger value) {
+        return toDigits(value, 0);
+    }
+
+    /**
+     * Formats the specified value as a decimal string in a char array.
+     *
+     * @param value a value
+     * @return the characters of {@code value.toString()}
+     */
+    public static char[] toCharArray(BigInteger value) {
+        return toChars(toByteArray(value));
+    }
+
+    /**
+     * Formats the specified value as a plain decimal string without
+     * an exponent field in a byte array.
+     *
+     * @param value a value
+     * @return the ASCII characters of {@code value.toPlainString()}
+     */
+    public static byte[] toPlainByteArray(BigDecimal value) {
+        int scale = value.scale();
+        BigInteger unscaledValue = value.unscaledValue();
+        if (scale == 0 || (scale < 0 && unscaledValue.signum() == 0)) {
+            return toDigits(unscaledValue, 0);
+        }
+        if (scale < 0) {
+            // append -scale zeroes
+            byte[] str = toDigits(unscaledValue, -(long) scale);
+            for (int i = str.length + scale; i < str.length; i++) {
+                str[i] = '0';
+            }
+            return str;
+        }
+
+        // insert a decimal point; if necessary, prepend '0.' and zeroes
+        int signLength = unscaledValue.signum() < 0 ? 1 : 0;
+        byte[] digits = toDigits(unscaledValue, 0);
+        int numDigits = digits.length - signLength;
+        int numIntegerDigits = Math.max(numDigits - scale, 1);
+        long length = (long) signLength + numIntegerDigits + 1 + scale;
+        checkLength(length);
+        byte[] str = new byte[(int) length];
+        if (signLength != 0) {
+            str[0] = '-';
+        }
+        if (numDigits > scale) {
+            System.arraycopy(digits, signLength, str, signLength, numIntegerDigits);
+            str[signLength + numIntegerDigits] = '.';
+            System.arraycopy(digits, signLength + numIntegerDigits, str, signLength + numIntegerDigits + 1, scale);
+        } else {
+            int numLeadingZeroes = scale - numDigits;
+            str[signLength] = '0';
+            str[signLength + 1] = '.';
+            for (int i = signLength + 2, end = i + numLeadingZeroes; i < end; i++) {
+                str[i] = '0';
+            }
+            System.arraycopy(digits, signLength, str, signLength + 2 + numLeadingZeroes, numDigits);
+        }
+        return str;
+    }
+
+    /**
+     * Formats the specified value as a plain decimal string without
+     * an exponent field in a char array.
+     *
+     * @param value a value
+     * @return the characters of {@code value.toPlainString()}
+     */
+    public static char[] toPlainCharArray(BigDecimal value) {
+        return toChars(toPlainByteArray(value));
+    }
+
+    /**
+     * Converts the value into ASCII characters.
+     *
+     * @param value    a value
+     * @param padRight number of bytes that are reserved after the digits
+     * @return the ASCII characters
+     */
+    private static byte[] toDigits(BigInteger value, long padRight) {
+        int signLength = value.signum() < 0 ? 1 : 0;
+        BigInteger abs = value.abs();
+
+        // Numbers with b bits have at most floor(b * log10(2)) + 1 digits.
+        // 1234 / 4096 = 0.30127 overestimates log10(2) = 0.30103.
+        int maxNumDigits = (int) (((long) abs.bitLength() * 1234) >>> 12) + 1;
+        byte[] buf = new byte[maxNumDigits];
+        if (maxNumDigits <= RECURSION_THRESHOLD) {
+            formatIterative(abs, buf, 0, maxNumDigits);
+        } else {
+            NavigableMap<Integer, BigInteger> powersOfTen = FastIntegerMath.fillPowersOf10Floor16(0, maxNumDigits);
+            formatRecursive(abs, buf, 0, maxNumDigits, powersOfTen, new HashMap<>());
+        }
+
+        int numLeadingZeroes = 0;
+        while (numLeadingZeroes < maxNumDigits - 1 && buf[numLeadingZeroes] == '0') {
+            numLeadingZeroes++;
+        }
+        int numDigits = maxNumDigits - numLeadingZeroes;
+        long length = signLength + numDigits + padRight;
+        checkLength(length);
+        byte[] str = new byte[(int) length];
+        if (signLength != 0) {
+            str[0] = '-';
+        }
+        System.arraycopy(buf, numLeadingZeroes, str, signLength, numDigits);
+        return str;
+    }
+
+    /**
+     * Writes the digits of a non-negative value into {@code buf[from..to)},
+     * padded with leading zeroes.
+     * <p>
+     * The value must be less than 10<sup>to - from</sup>.
+     */
+    private static void formatRecursive(BigInteger value, byte[] buf, int from, int to,
+                                        NavigableMap<Integer, BigInteger> powersOfTen,
+                                        Map<Integer, BigInteger> reciprocals) {
+        int numDigits = to - from;
+
+        // Base case: Short sequences can be formatted iteratively.
+        if (numDigits <= RECURSION_THRESHOLD) {
+            formatIterative(value, buf, from, to);
+            return;
+        }
+
+        // Recursion case: Split large sequences up into two parts. The lower part is a multiple of 16 digits.
+        int mid = FastIntegerMath.splitFloor16(from, to);
+        BigInteger[] qr = divideAndRemainder(value, to - mid, powersOfTen, reciprocals);
+        formatRecursive(qr[0], buf, from, mid, powersOfTen, reciprocals);
+        formatRecursive(qr[1], buf, mid, to, powersOfTen, reciprocals);
+    }
+
+    /**
+     * Writes the digits of a non-negative value into {@code buf[from..to)},
+     * padded with leading zeroes.
+     */
+    private static void formatIterative(BigInteger value, byte[] buf, int from, int to) {
+        int i = to;
+        if (value.bitLength() < Long.SIZE) {
+            for (long v = value.longValue(); v != 0; v /= 10) {
+                buf[--i] = (byte) ('0' + v % 10);
+            }
+        } else {
+            String str = value.toString();
+            for (int j = str.length() - 1; j >= 0; j--) {
+                buf[--i] = (byte) str.charAt(j);
+            }
+        }
+        while (i > from) {
+            buf[--i] = '0';
+        }
+    }
+
+    /**
+     * Divides a non-negative value by 10<sup>n</sup>.
+     * <p>
+     * The value must be less than 10<sup>2n</sup>.
+     *
+     * @return the quotient and the remainder
+     */
+    private static BigInteger[] divideAndRemainder(BigInteger value, int n,
+                                                   NavigableMap<Integer, BigInteger> powersOfTen,
+                                                   Map<Integer, BigInteger> reciprocals) {
+        BigInteger divisor = powersOfTen.get(n);
+        int m = divisor.bitLength();
+        if (m < BARRETT_THRESHOLD) {
+            return value.divideAndRemainder(divisor);
+        }
+
+        // Barrett reduction with mu = floor(2^(2m) / divisor).
+        // Since value < 2^(2m), the estimated quotient is at most 2 less than the quotient.
+        BigInteger mu = reciprocals.get(n);
+        if (mu == null) {
+            mu = reciprocal(divisor);
+            reciprocals.put(n, mu);
+        }
+        BigInteger q = FftMultiplier.multiply(value.shiftRight(m - 1), mu).shiftRight(m + 1);
+        BigInteger r = value.subtract(FftMultiplier.multiply(q, divisor));
+        while (r.compareTo(divisor) >= 0) {
+            r = r.subtract(divisor);
+            q = q.add(BigInteger.ONE);
+        }
+        return new BigInteger[]{q, r};
+    }
+
+    /**
+     * Computes {@code floor(2^(2m) / d)} with Newton's iteration,
+     * where {@code m} is the bit length of {@code d}.
+     */
+    static BigInteger reciprocal(BigInteger d) {
+        int m = d.bitLength();
+        if (m < BARRETT_THRESHOLD) {
+            return BigInteger.ONE.shiftLeft(2 * m).divide(d);
+        }
+
+        // Compute the reciprocal of the upper half of d, scale it up,
+        // and then perform one Newton step x = x + x * (2^(2m) - d * x) / 2^(2m).
+        // The guard bits ensure that the result is only off by a few units.
+        int h = (m >>> 1) + 32;
+        int k = m - h;
+        BigInteger x = reciprocal(d.shiftRight(k)).shiftLeft(k);
+        BigInteger twoPow2m = BigInteger.ONE.shiftLeft(2 * m);
+        BigInteger e = twoPow2m.subtract(FftMultiplier.multiply(d, x));
+        x = x.add(FftMultiplier.multiply(x, e).shiftRight(2 * m));
+
+        // Correct the result
+        BigInteger r = twoPow2m.subtract(FftMultiplier.multiply(d, x));
+        while (r.signum() < 0) {
+            r = r.add(d);
+            x = x.subtract(BigInteger.ONE);
+        }
+        while (r.compareTo(d) >= 0) {
+            r = r.subtract(d);
+            x = x.add(BigInteger.ONE);
+        }
+        return x;
+    }
+
+    private static char[] toChars(byte[] bytes) {
+        char[] chars = new char[bytes.length];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i] = (char) bytes[i];
+        }
+        return chars;
+    }
+
+    private static void checkLength(long length) {
+        if (length > Integer.MAX_VALUE - 8) {
+            throw new ArithmeticException("String would overflow supported range");
+        }
+    }
+}
@@ -4,8 +4,6 @@
  */
 package ch.randelshofer.fastdoubleparser;
 
-import java.lang.foreign.MemorySegment;
-import java.lang.foreign.ValueLayout;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
 import java.nio.ByteOrder;
@@ -40,8 +38,6 @@ final class FastDoubleSwar {
             MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
     private final static VarHandle readLongBE =
             MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
-    private final static ValueLayout.OfLong CHAR_ALIGNED_LONG = ValueLayout.OfLong.JAVA_LONG
-            .withByteAlignment(2);
 
     public static int countUpToEightDigitsUtf8(long chunk) {
         long val = chunk - 0x3030303030303030L;
@@ -88,9 +84,15 @@ final class FastDoubleSwar {
      * @throws IndexOutOfBoundsException if offset is larger than 2^29.
      */
     public static boolean isEightDigits(char[] a, int offset) {
-        MemorySegment seg = MemorySegment.ofArray(a);
-        long first = seg.get(CHAR_ALIGNED_LONG, ((long) offset << 1));
-        long second = seg.get(CHAR_ALIGNED_LONG, ((long) offset << 1) + 8);
+        // Don't use a MemorySegment here: see tryToParseFourDigits(char[], int).
+        long first = a[offset]
+                | (long) a[offset + 1] << 16
+                | (long) a[offset + 2] << 32
+                | (long) a[offset + 3] << 48;
+        long second = a[offset + 4]
+                | (long) a[offset + 5] << 16
+                | (long) a[offset + 6] << 32
+                | (long) a[offset + 7] << 48;
         return isEightDigitsUtf16(first, second);
     }
 
@@ -144,9 +146,15 @@ final class FastDoubleSwar {
      * @throws IndexOutOfBoundsException if offset is larger than 2^29.
      */
     public static boolean isEightZeroes(char[] a, int offset) {
-        MemorySegment seg = MemorySegment.ofArray(a);
-        long first = seg.get(CHAR_ALIGNED_LONG, ((long) offset << 1));
-        long second = seg.get(CHAR_ALIGNED_LONG, ((long) offset << 1) + 8);
+        // Don't use a MemorySegment here: see tryToParseFourDigits(char[], int).
+        long first = a[offset]
+                | (long) a[offset + 1] << 16
+                | (long) a[offset + 2] << 32
+                | (long) a[offset + 3] << 48;
+        long second = a[offset + 4]
+                | (long) a[offset + 5] << 16
+                | (long) a[offset + 6] << 32
+                | (long) a[offset + 7] << 48;
         return isEightZeroesUtf16(first, second);
     }
 
@@ -182,9 +190,15 @@ final class FastDoubleSwar {
      * @throws IndexOutOfBoundsException if offset is larger than 2^29
      */
     public static int tryToParseEightDigits(char[] a, int offset) {
-        MemorySegment seg = MemorySegment.ofArray(a);
-        long first = seg.get(CHAR_ALIGNED_LONG, ((long) offset << 1));
-        long second = seg.get(CHAR_ALIGNED_LONG, ((long) offset << 1) + 8);
+        // Don't use a MemorySegment here: see tryToParseFourDigits(char[], int).
+        long first = a[offset]
+                | (long) a[offset + 1] << 16
+                | (long) a[offset + 2] << 32
+                | (long) a[offset + 3] << 48;
+        long second = a[offset + 4]
+                | (long) a[offset + 5] << 16
+                | (long) a[offset + 6] << 32
+                | (long) a[offset + 7] << 48;
         return FastDoubleSwar.tryToParseEightDigitsUtf16(first, second);
     }
 
@@ -456,8 +470,13 @@ final class FastDoubleSwar {
 
     @SuppressWarnings("IntegerMultiplicationImplicitCastToLong")
     public static int tryToParseFourDigits(char[] a, int offset) {
-        MemorySegment seg = MemorySegment.ofArray(a);
-        long first = seg.get(CHAR_ALIGNED_LONG, (offset << 1));
+        // Don't use a MemorySegment here: this method is called from a loop
+        // that is too big for escape analysis, and the segment would be
+        // allocated on the heap.
+        long first = a[offset]
+                | (long) a[offset + 1] << 16
+                | (long) a[offset + 2] << 32
+                | (long) a[offset + 3] << 48;
         return FastDoubleSwar.tryToParseFourDigitsUtf16(first);
     }
 
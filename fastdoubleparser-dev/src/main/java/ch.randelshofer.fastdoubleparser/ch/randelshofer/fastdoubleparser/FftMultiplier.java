@@ -28,14 +28,6 @@ final class FftMultiplier {
 
     public static final double COS_0_25 = Math.cos(0.25 * Math.PI);
     public static final double SIN_0_25 = Math.sin(0.25 * Math.PI);
-    /**
-     * The threshold value for using floating point FFT multiplication.
-     * If the number of bits in each mag array is greater than the
-     * Toom-Cook threshold, and the number of bits in at least one of
-     * the mag arrays is greater than this threshold, then FFT
-     * multiplication will be used.
-     */
-    private static final int FFT_THRESHOLD = 33220;
     /**
      * This constant limits {@code mag.length} of BigIntegers to the supported
      * range.
@@ -51,8 +43,34 @@ final class FftMultiplier {
     private static final int ROOTS2_CACHE_SIZE = 20;
     /**
      * The threshold value for using 3-way Toom-Cook multiplication.
+     * <p>
+     * The default value can be changed with the key
+     * {@value Thresholds#TOOM_COOK_THRESHOLD} in {@link Thresholds}.
+     */
+    private static final int TOOM_COOK_THRESHOLD = Thresholds.get(Thresholds.TOOM_COOK_THRESHOLD, 240 * 8, 0);
+    /**
+     * The smallest number of bits for which the FFT computes correct
+     * products.
+     * <p>
+     * Below 184 bits, the FFT is too short for
+     * {@link #getRootsOfUnity3(int)}, or its rounding errors are too large.
+     * This value leaves some slack above that limit.
      */
-    private static final int TOOM_COOK_THRESHOLD = 240 * 8;
+    static final int MIN_FFT_THRESHOLD = 256;
+    /**
+     * The threshold value for using floating point FFT multiplication.
+     * If the number of bits in each mag array is greater than the
+     * Toom-Cook threshold, and the number of bits in at least one of
+     * the mag arrays is greater than this threshold, then FFT
+     * multiplication will be used.
+     * <p>
+     * The default value can be changed with the key
+     * {@value Thresholds#FFT_THRESHOLD} in {@link Thresholds}.
+     * Smaller values are raised to {@link #MIN_FFT_THRESHOLD} and to
+     * {@link #TOOM_COOK_THRESHOLD}.
+     */
+    static final int FFT_THRESHOLD = Math.max(Math.max(MIN_FFT_THRESHOLD, TOOM_COOK_THRESHOLD),
+            Thresholds.get(Thresholds.FFT_THRESHOLD, 33220, 0));
     /**
      * Sets of complex roots of unity. The set at index k contains 2^k
      * elements representing all (2^(k+2))-th roots between 0 and pi/2.
@@ -403,6 +421,7 @@ final class FftMultiplier {
     }
 
     private static int floorEntry(int i, ComplexVector[] roots) {
+        i = Math.min(i, roots.length - 1);
         while (i >= 2 && roots[i] == null) { i--; }
         return i;
     }
@@ -598,10 +617,11 @@ final class FftMultiplier {
             throw new ArithmeticException("BigInteger would overflow supported range");
         }
 
-        if (xlen > TOOM_COOK_THRESHOLD
-                && ylen > TOOM_COOK_THRESHOLD
-                && (xlen > FFT_THRESHOLD || ylen > FFT_THRESHOLD)) {
-            return multiplyFft(a, b);
+        if (xlen > TOOM_COOK_THRESHOLD && ylen > TOOM_COOK_THRESHOLD) {
+            if (xlen > FFT_THRESHOLD || ylen > FFT_THRESHOLD) {
+                return multiplyFft(a, b);
+            }
+            return ParallelMultiply.multiply(a, b);
         }
         return a.multiply(b);
     }
@@ -649,6 +669,16 @@ final class FftMultiplier {
      * @return a*b
      */
     static BigInteger multiplyFft(BigInteger a, BigInteger b) {
+        ParseMetrics.count(ParseMetrics.MULTIPLIER, ParseMetrics.FFT_MULTIPLIES);
+        FftMultiplyEvent event = ParseEvents.AVAILABLE ? FftMultiplyEvent.start() : null;
+        BigInteger result = multiplyFftUnrecorded(a, b);
+        if (event != null) {
+            event.finish(a, b);
+        }
+        return result;
+    }
+
+    private static BigInteger multiplyFftUnrecorded(BigInteger a, BigInteger b) {
         int signum = a.signum() * b.signum();
         byte[] aMag = (a.signum() < 0 ? a.negate() : a).toByteArray();
         byte[] bMag = (b.signum() < 0 ? b.negate() : b).toByteArray();
@@ -664,10 +694,10 @@ final class FftMultiplier {
             ComplexVector[] roots2 = getRootsOfUnity2(logFFTLen - 2);   // roots for length fftLen/3 which is a power of two
             ComplexVector weights = getRootsOfUnity3(logFFTLen - 2);
             ComplexVector twiddles = getRootsOfUnity3(logFFTLen - 4);
-            ComplexVector aVec = toFftVector(aMag, fftLen3, bitsPerPoint);
+            ComplexVector aVec = toFftVector(aMag, fftLen3, bitsPerPoint, 0);
             aVec.applyWeights(weights);
             fftMixedRadix(aVec, roots2, twiddles);
-            ComplexVector bVec = toFftVector(bMag, fftLen3, bitsPerPoint);
+            ComplexVector bVec = toFftVector(bMag, fftLen3, bitsPerPoint, 1);
             bVec.applyWeights(weights);
             fftMixedRadix(bVec, roots2, twiddles);
             aVec.multiplyPointwise(bVec);
@@ -676,10 +706,10 @@ final class FftMultiplier {
             return fromFftVector(aVec, signum, bitsPerPoint);
         } else {
             ComplexVector[] roots = getRootsOfUnity2(logFFTLen);
-            ComplexVector aVec = toFftVector(aMag, fftLen2, bitsPerPoint);
+            ComplexVector aVec = toFftVector(aMag, fftLen2, bitsPerPoint, 0);
             aVec.applyWeights(roots[logFFTLen]);
             fft(aVec, roots);
-            ComplexVector bVec = toFftVector(bMag, fftLen2, bitsPerPoint);
+            ComplexVector bVec = toFftVector(bMag, fftLen2, bitsPerPoint, 1);
             bVec.applyWeights(roots[logFFTLen]);
             fft(bVec, roots);
             aVec.multiplyPointwise(bVec);
@@ -698,10 +728,27 @@ final class FftMultiplier {
         if (a.signum() == 0) {
             return BigInteger.ZERO;
         }
-        return a.bitLength() < FFT_THRESHOLD ? a.multiply(a) : squareFft(a);
+        int bitLength = a.bitLength();
+        if (bitLength > TOOM_COOK_THRESHOLD) {
+            if (bitLength > FFT_THRESHOLD) {
+                return squareFft(a);
+            }
+            return ParallelMultiply.multiply(a, a);
+        }
+        return a.multiply(a);
     }
 
     static BigInteger squareFft(BigInteger a) {
+        ParseMetrics.count(ParseMetrics.MULTIPLIER, ParseMetrics.FFT_MULTIPLIES);
+        FftMultiplyEvent event = ParseEvents.AVAILABLE ? FftMultiplyEvent.start() : null;
+        BigInteger result = squareFftUnrecorded(a);
+        if (event != null) {
+            event.finish(a, a);
+        }
+        return result;
+    }
+
+    private static BigInteger squareFftUnrecorded(BigInteger a) {
         byte[] mag = a.toByteArray();
         int bitLen = mag.length * 8;
         int bitsPerPoint = bitsPerFftPoint(bitLen);
@@ -713,7 +760,7 @@ final class FftMultiplier {
         int fftLen3 = fftLen2 * 3 / 4;   // rounded to 3*2^n
         if (fftLen < fftLen3) {
             fftLen = fftLen3;
-            ComplexVector vec = toFftVector(mag, fftLen, bitsPerPoint);
+            ComplexVector vec = toFftVector(mag, fftLen, bitsPerPoint, 0);
             ComplexVector[] roots2 = getRootsOfUnity2(logFFTLen - 2);   // roots for length fftLen/3 which is a power of two
             ComplexVector weights = getRootsOfUnity3(logFFTLen - 2);
             ComplexVector twiddles = getRootsOfUnity3(logFFTLen - 4);
@@ -725,7 +772,7 @@ final class FftMultiplier {
             return fromFftVector(vec, 1, bitsPerPoint);
         } else {
             fftLen = fftLen2;
-            ComplexVector vec = toFftVector(mag, fftLen, bitsPerPoint);
+            ComplexVector vec = toFftVector(mag, fftLen, bitsPerPoint, 0);
             ComplexVector[] roots = getRootsOfUnity2(logFFTLen);
             vec.applyWeights(roots[logFFTLen]);
             fft(vec, roots);
@@ -741,9 +788,20 @@ final class FftMultiplier {
      * Populates the real parts and sets the imaginary parts to zero.
      */
     static ComplexVector toFftVector(byte[] mag, int fftLen, int bitsPerFftPoint) {
+        return toFftVector(mag, new ComplexVector(fftLen), bitsPerFftPoint);
+    }
+
+    /**
+     * Converts the magnitude into an FFT vector that uses the specified
+     * scratch buffer slot of {@link ScratchBuffers}.
+     */
+    static ComplexVector toFftVector(byte[] mag, int fftLen, int bitsPerFftPoint, int scratchSlot) {
+        return toFftVector(mag, new ComplexVector(ScratchBuffers.doubles(scratchSlot, fftLen << 1), fftLen), bitsPerFftPoint);
+    }
+
+    private static ComplexVector toFftVector(byte[] mag, ComplexVector fftVec, int bitsPerFftPoint) {
         assert bitsPerFftPoint <= 25 : bitsPerFftPoint + " does not fit into an int with slack";
 
-        ComplexVector fftVec = new ComplexVector(fftLen);
         if (mag.length < 4) {
             byte[] paddedMag = new byte[4];
             System.arraycopy(mag, 0, paddedMag, 4 - mag.length, mag.length);
@@ -809,6 +867,19 @@ final class FftMultiplier {
             this.offset = 0;
         }
 
+        /**
+         * Creates a vector that uses the specified array.
+         *
+         * @param a      an array with at least {@code 2 * length} elements,
+         *               the elements must be zero
+         * @param length the number of complex numbers
+         */
+        ComplexVector(double[] a, int length) {
+            this.a = a;
+            this.length = length;
+            this.offset = 0;
+        }
+
         /**
          * Creates a view on another vector.
          *
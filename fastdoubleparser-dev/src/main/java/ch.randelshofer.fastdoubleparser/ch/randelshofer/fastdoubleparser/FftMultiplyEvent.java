@@ -0,0 +1,66 @@
+/*
+ * @(#)FftMultiplyEvent.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+import java.math.BigInteger;
+
+/**
+ * A JDK Flight Recorder event for a multiplication or a squaring with
+ * {@link FftMultiplier}.
+ * <p>
+ * Only multiplications that take longer than the threshold are recorded.
+ * The default threshold of 1 ms can be changed in the recording settings
+ * with the event name {@code ch.randelshofer.fastdoubleparser.FftMultiply}.
+ * <p>
+ * This class can only be loaded if {@link ParseEvents#AVAILABLE} is true.
+ */
+@Name("ch.randelshofer.fastdoubleparser.FftMultiply")
+@Label("FFT Multiply")
+@Category("FastDoubleParser")
+@Description("Multiplication of two big integers with the FFT algorithm")
+@Threshold("1 ms")
+final class FftMultiplyEvent extends Event {
+    @Label("Bit Length of A")
+    int aBitLength;
+
+    @Label("Bit Length of B")
+    int bBitLength;
+
+    /**
+     * Begins an event, if the event is enabled.
+     *
+     * @return the event or null
+     */
+    static FftMultiplyEvent start() {
+        FftMultiplyEvent event = new FftMultiplyEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it, if it took longer than the threshold.
+     *
+     * @param a factor a
+     * @param b factor b, the same as a for a squaring
+     */
+    void finish(BigInteger a, BigInteger b) {
+        end();
+        if (shouldCommit()) {
+            this.aBitLength = a.bitLength();
+            this.bBitLength = b.bitLength();
+            commit();
+        }
+    }
+}
@@ -42,7 +42,12 @@ final class JavaBigDecimalFromByteArray extends AbstractBigDecimalParser {
         try {
             final int endIndex = checkBounds(str.length, offset, length);
             if (hasManyDigits(length)) {
-                return parseBigDecimalStringWithManyDigits(str, offset, length);
+                BigNumberParseEvent event = ParseEvents.AVAILABLE ? BigNumberParseEvent.start() : null;
+                BigDecimal result = parseBigDecimalStringWithManyDigits(str, offset, length);
+                if (event != null) {
+                    event.finish("BigDecimal", length, 10, RECURSION_THRESHOLD);
+                }
+                return result;
             }
             long significand = 0L;
             final int integerPartIndex;
@@ -60,7 +65,7 @@ final class JavaBigDecimalFromByteArray extends AbstractBigDecimalParser {
             if (isNegative || ch == '+') {
                 ch = charAt(str, ++index, endIndex);
                 if (ch == 0) {
-                    throw new NumberFormatException(SYNTAX_ERROR);
+                    throw ParseMetrics.syntaxError(ParseMetrics.BIG_DECIMAL);
                 }
             }
 
@@ -161,7 +166,7 @@ final class JavaBigDecimalFromByteArray extends AbstractBigDecimalParser {
         if (isNegative || ch == '+') {
             ch = charAt(str, ++index, endIndex);
             if (ch == 0) {
-                throw new NumberFormatException(SYNTAX_ERROR);
+                throw ParseMetrics.syntaxError(ParseMetrics.BIG_DECIMAL);
             }
         }
 
@@ -293,6 +298,7 @@ final class JavaBigDecimalFromByteArray extends AbstractBigDecimalParser {
             if (integerDigitsCount > RECURSION_THRESHOLD) {
                 powersOfTen = createPowersOfTenFloor16Map();
                 fillPowersOfNFloor16Recursive(powersOfTen, integerPartIndex, decimalPointIndex);
+                ParseMetrics.count(ParseMetrics.BIG_DECIMAL, ParseMetrics.RECURSIVE_PARSES);
                 integerPart = ParseDigitsTaskByteArray.parseDigitsRecursive(str, integerPartIndex, decimalPointIndex, powersOfTen, RECURSION_THRESHOLD);
             } else {
                 integerPart = ParseDigitsTaskByteArray.parseDigitsIterative(str, integerPartIndex, decimalPointIndex);
@@ -310,6 +316,7 @@ final class JavaBigDecimalFromByteArray extends AbstractBigDecimalParser {
                     powersOfTen = createPowersOfTenFloor16Map();
                 }
                 fillPowersOfNFloor16Recursive(powersOfTen, nonZeroFractionalPartIndex, exponentIndicatorIndex);
+                ParseMetrics.count(ParseMetrics.BIG_DECIMAL, ParseMetrics.RECURSIVE_PARSES);
                 fractionalPart = ParseDigitsTaskByteArray.parseDigitsRecursive(str, nonZeroFractionalPartIndex, exponentIndicatorIndex, powersOfTen, RECURSION_THRESHOLD);
             } else {
                 fractionalPart = ParseDigitsTaskByteArray.parseDigitsIterative(str, nonZeroFractionalPartIndex, exponentIndicatorIndex);
@@ -39,7 +39,12 @@ final class JavaBigDecimalFromCharArray extends AbstractBigDecimalParser {
         try {
             final int endIndex = checkBounds(str.length, offset, length);
             if (hasManyDigits(length)) {
-                return parseBigDecimalStringWithManyDigits(str, offset, length);
+                BigNumberParseEvent event = ParseEvents.AVAILABLE ? BigNumberParseEvent.start() : null;
+                BigDecimal result = parseBigDecimalStringWithManyDigits(str, offset, length);
+                if (event != null) {
+                    event.finish("BigDecimal", length, 10, RECURSION_THRESHOLD);
+                }
+                return result;
             }
             long significand = 0L;
             final int integerPartIndex;
@@ -57,7 +62,7 @@ final class JavaBigDecimalFromCharArray extends AbstractBigDecimalParser {
             if (isNegative || ch == '+') {
                 ch = charAt(str, ++index, endIndex);
                 if (ch == 0) {
-                    throw new NumberFormatException(SYNTAX_ERROR);
+                    throw ParseMetrics.syntaxError(ParseMetrics.BIG_DECIMAL);
                 }
             }
 
@@ -158,7 +163,7 @@ final class JavaBigDecimalFromCharArray extends AbstractBigDecimalParser {
         if (isNegative || ch == '+') {
             ch = charAt(str, ++index, endIndex);
             if (ch == 0) {
-                throw new NumberFormatException(SYNTAX_ERROR);
+                throw ParseMetrics.syntaxError(ParseMetrics.BIG_DECIMAL);
             }
         }
 
@@ -291,6 +296,7 @@ final class JavaBigDecimalFromCharArray extends AbstractBigDecimalParser {
             if (integerDigitsCount > RECURSION_THRESHOLD) {
                 powersOfTen = createPowersOfTenFloor16Map();
                 fillPowersOfNFloor16Recursive(powersOfTen, integerPartIndex, decimalPointIndex);
+                ParseMetrics.count(ParseMetrics.BIG_DECIMAL, ParseMetrics.RECURSIVE_PARSES);
                 integerPart = ParseDigitsTaskCharArray.parseDigitsRecursive(str, integerPartIndex, decimalPointIndex, powersOfTen, RECURSION_THRESHOLD);
             } else {
                 integerPart = ParseDigitsTaskCharArray.parseDigitsIterative(str, integerPartIndex, decimalPointIndex);
@@ -308,6 +314,7 @@ final class JavaBigDecimalFromCharArray extends AbstractBigDecimalParser {
                     powersOfTen = createPowersOfTenFloor16Map();
                 }
                 fillPowersOfNFloor16Recursive(powersOfTen, nonZeroFractionalPartIndex, exponentIndicatorIndex);
+                ParseMetrics.count(ParseMetrics.BIG_DECIMAL, ParseMetrics.RECURSIVE_PARSES);
                 fractionalPart = ParseDigitsTaskCharArray.parseDigitsRecursive(str, nonZeroFractionalPartIndex, exponentIndicatorIndex, powersOfTen, RECURSION_THRESHOLD);
             } else {
                 fractionalPart = ParseDigitsTaskCharArray.parseDigitsIterative(str, nonZeroFractionalPartIndex, exponentIndicatorIndex);
@@ -40,7 +40,12 @@ final class JavaBigDecimalFromCharSequence extends AbstractBigDecimalParser {
         try {
             final int endIndex = checkBounds(str.length(), offset, length);
             if (hasManyDigits(length)) {
-                return parseBigDecimalStringWithManyDigits(str, offset, length);
+                BigNumberParseEvent event = ParseEvents.AVAILABLE ? BigNumberParseEvent.start() : null;
+                BigDecimal result = parseBigDecimalStringWithManyDigits(str, offset, length);
+                if (event != null) {
+                    event.finish("BigDecimal", length, 10, RECURSION_THRESHOLD);
+                }
+                return result;
             }
             long significand = 0L;
             final int integerPartIndex;
@@ -58,7 +63,7 @@ final class JavaBigDecimalFromCharSequence extends AbstractBigDecimalParser {
             if (isNegative || ch == '+') {
                 ch = charAt(str, ++index, endIndex);
                 if (ch == 0) {
-                    throw new NumberFormatException(SYNTAX_ERROR);
+                    throw ParseMetrics.syntaxError(ParseMetrics.BIG_DECIMAL);
                 }
             }
 
@@ -159,7 +164,7 @@ final class JavaBigDecimalFromCharSequence extends AbstractBigDecimalParser {
         if (isNegative || ch == '+') {
             ch = charAt(str, ++index, endIndex);
             if (ch == 0) {
-                throw new NumberFormatException(SYNTAX_ERROR);
+                throw ParseMetrics.syntaxError(ParseMetrics.BIG_DECIMAL);
             }
         }
 
@@ -291,6 +296,7 @@ final class JavaBigDecimalFromCharSequence extends AbstractBigDecimalParser {
             if (integerDigitsCount > RECURSION_THRESHOLD) {
                 powersOfTen = createPowersOfTenFloor16Map();
                 fillPowersOfNFloor16Recursive(powersOfTen, integerPartIndex, decimalPointIndex);
+                ParseMetrics.count(ParseMetrics.BIG_DECIMAL, ParseMetrics.RECURSIVE_PARSES);
                 integerPart = ParseDigitsTaskCharSequence.parseDigitsRecursive(str, integerPartIndex, decimalPointIndex, powersOfTen, RECURSION_THRESHOLD);
             } else {
                 integerPart = ParseDigitsTaskCharSequence.parseDigitsIterative(str, integerPartIndex, decimalPointIndex);
@@ -308,6 +314,7 @@ final class JavaBigDecimalFromCharSequence extends AbstractBigDecimalParser {
                     powersOfTen = createPowersOfTenFloor16Map();
                 }
                 fillPowersOfNFloor16Recursive(powersOfTen, nonZeroFractionalPartIndex, exponentIndicatorIndex);
+                ParseMetrics.count(ParseMetrics.BIG_DECIMAL, ParseMetrics.RECURSIVE_PARSES);
                 fractionalPart = ParseDigitsTaskCharSequence.parseDigitsRecursive(str, nonZeroFractionalPartIndex, exponentIndicatorIndex, powersOfTen, RECURSION_THRESHOLD);
             } else {
                 fractionalPart = ParseDigitsTaskCharSequence.parseDigitsIterative(str, nonZeroFractionalPartIndex, exponentIndicatorIndex);
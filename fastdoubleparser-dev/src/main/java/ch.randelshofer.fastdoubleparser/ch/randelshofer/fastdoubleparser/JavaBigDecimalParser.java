@@ -133,6 +133,14 @@ public final class JavaBigDecimalParser {
      * @throws NumberFormatException    if the string can not be parsed successfully
      */
     public static BigDecimal parseBigDecimal(CharSequence str, int offset, int length) throws NumberFormatException {
+        char[] chars = CharSequenceAccess.toCharArray(str, offset, length);
+        if (chars != null) {
+            try {
+                return parseBigDecimal(chars, CharSequenceAccess.arrayOffset(str, offset), length);
+            } finally {
+                CharSequenceAccess.release(str, chars);
+            }
+        }
         return CHAR_SEQUENCE_PARSER.parseBigDecimalString(str, offset, length);
     }
 
@@ -30,18 +30,16 @@ final class JavaBigIntegerFromCharArray extends AbstractBigIntegerParser {
             if (isNegative || ch == '+') {
                 ch = charAt(str, ++index, endIndex);
                 if (ch == 0) {
-                    throw new NumberFormatException(SYNTAX_ERROR);
+                    throw ParseMetrics.syntaxError(ParseMetrics.BIG_INTEGER);
                 }
             }
 
-            switch (radix) {
-                case 10:
-                    return parseDecDigits(str, index, endIndex, isNegative);
-                case 16:
-                    return parseHexDigits(str, index, endIndex, isNegative);
-                default:
-                    return new BigInteger(new String(str, offset, length), radix);
+            BigNumberParseEvent event = ParseEvents.AVAILABLE && hasManyDigits(length) ? BigNumberParseEvent.start() : null;
+            BigInteger result = parseDigits(str, offset, length, index, endIndex, isNegative, radix);
+            if (event != null) {
+                event.finish("BigInteger", length, radix, RECURSION_THRESHOLD);
             }
+            return result;
         } catch (ArithmeticException e) {
             NumberFormatException nfe = new NumberFormatException(VALUE_EXCEEDS_LIMITS);
             nfe.initCause(e);
@@ -49,6 +47,17 @@ final class JavaBigIntegerFromCharArray extends AbstractBigIntegerParser {
         }
     }
 
+    private BigInteger parseDigits(char[] str, int offset, int length, int index, int endIndex, boolean isNegative, int radix) {
+        switch (radix) {
+            case 10:
+                return parseDecDigits(str, index, endIndex, isNegative);
+            case 16:
+                return parseHexDigits(str, index, endIndex, isNegative);
+            default:
+                return new BigInteger(new String(str, offset, length), radix);
+        }
+    }
+
     private BigInteger parseDecDigits(char[] str, int from, int to, boolean isNegative) {
         int numDigits = to - from;
         if (hasManyDigits(numDigits)) {
@@ -63,7 +72,7 @@ final class JavaBigIntegerFromCharArray extends AbstractBigIntegerParser {
             significand = significand * 100_000_000L + addend;
         }
         if (!success) {
-            throw new NumberFormatException(SYNTAX_ERROR);
+            throw ParseMetrics.syntaxError(ParseMetrics.BIG_INTEGER);
         }
         return BigInteger.valueOf(isNegative ? -significand : significand);
     }
@@ -100,7 +109,7 @@ final class JavaBigIntegerFromCharArray extends AbstractBigIntegerParser {
             illegalDigits |= value < 0;
         }
         if (illegalDigits) {
-            throw new NumberFormatException(SYNTAX_ERROR);
+            throw ParseMetrics.syntaxError(ParseMetrics.BIG_INTEGER);
         }
         BigInteger result = new BigInteger(bytes);
         return isNegative ? result.negate() : result;
@@ -111,6 +120,7 @@ final class JavaBigIntegerFromCharArray extends AbstractBigIntegerParser {
         int numDigits = to - from;
         checkDecBigIntegerBounds(numDigits);
         Map<Integer, BigInteger> powersOfTen = fillPowersOf10Floor16(from, to);
+        ParseMetrics.count(ParseMetrics.BIG_INTEGER, ParseMetrics.RECURSIVE_PARSES);
         BigInteger result = ParseDigitsTaskCharArray.parseDigitsRecursive(str, from, to, powersOfTen, RECURSION_THRESHOLD);
         return isNegative ? result.negate() : result;
     }
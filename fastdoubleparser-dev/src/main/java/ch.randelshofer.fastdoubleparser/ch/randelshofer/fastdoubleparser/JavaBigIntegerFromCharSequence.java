@@ -32,18 +32,16 @@ final class JavaBigIntegerFromCharSequence extends AbstractBigIntegerParser {
             if (isNegative || ch == '+') {
                 ch = charAt(str, ++index, endIndex);
                 if (ch == 0) {
-                    throw new NumberFormatException(SYNTAX_ERROR);
+                    throw ParseMetrics.syntaxError(ParseMetrics.BIG_INTEGER);
                 }
             }
 
-            switch (radix) {
-                case 10:
-                    return parseDecDigits(str, index, endIndex, isNegative);
-                case 16:
-                    return parseHexDigits(str, index, endIndex, isNegative);
-                default:
-                    return new BigInteger(str.subSequence(offset, length).toString(), radix);
+            BigNumberParseEvent event = ParseEvents.AVAILABLE && hasManyDigits(length) ? BigNumberParseEvent.start() : null;
+            BigInteger result = parseDigits(str, offset, length, index, endIndex, isNegative, radix);
+            if (event != null) {
+                event.finish("BigInteger", length, radix, RECURSION_THRESHOLD);
             }
+            return result;
         } catch (ArithmeticException e) {
             NumberFormatException nfe = new NumberFormatException(VALUE_EXCEEDS_LIMITS);
             nfe.initCause(e);
@@ -51,6 +49,17 @@ final class JavaBigIntegerFromCharSequence extends AbstractBigIntegerParser {
         }
     }
 
+    private BigInteger parseDigits(CharSequence str, int offset, int length, int index, int endIndex, boolean isNegative, int radix) {
+        switch (radix) {
+            case 10:
+                return parseDecDigits(str, index, endIndex, isNegative);
+            case 16:
+                return parseHexDigits(str, index, endIndex, isNegative);
+            default:
+                return new BigInteger(str.subSequence(offset, length).toString(), radix);
+        }
+    }
+
     private BigInteger parseDecDigits(CharSequence str, int from, int to, boolean isNegative) {
         int numDigits = to - from;
         if (hasManyDigits(numDigits)) {
@@ -65,7 +74,7 @@ final class JavaBigIntegerFromCharSequence extends AbstractBigIntegerParser {
             significand = significand * 100_000_000L + addend;
         }
         if (!success) {
-            throw new NumberFormatException(SYNTAX_ERROR);
+            throw ParseMetrics.syntaxError(ParseMetrics.BIG_INTEGER);
         }
         return BigInteger.valueOf(isNegative ? -significand : significand);
     }
@@ -101,7 +110,7 @@ final class JavaBigIntegerFromCharSequence extends AbstractBigIntegerParser {
             illegalDigits |= value < 0;
         }
         if (illegalDigits) {
-            throw new NumberFormatException(SYNTAX_ERROR);
+            throw ParseMetrics.syntaxError(ParseMetrics.BIG_INTEGER);
         }
         BigInteger result = new BigInteger(bytes);
         return isNegative ? result.negate() : result;
@@ -112,6 +121,7 @@ final class JavaBigIntegerFromCharSequence extends AbstractBigIntegerParser {
         int numDigits = to - from;
         checkDecBigIntegerBounds(numDigits);
         Map<Integer, BigInteger> powersOfTen = fillPowersOf10Floor16(from, to);
+        ParseMetrics.count(ParseMetrics.BIG_INTEGER, ParseMetrics.RECURSIVE_PARSES);
         BigInteger result = ParseDigitsTaskCharSequence.parseDigitsRecursive(str, from, to, powersOfTen, RECURSION_THRESHOLD);
         return isNegative ? result.negate() : result;
     }
@@ -93,7 +93,7 @@ public final class JavaBigIntegerParser {
      * @throws NumberFormatException if the string can not be parsed successfully
      */
     public static BigInteger parseBigInteger(CharSequence str) {
-        return CHAR_SEQUENCE_PARSER.parseBigIntegerString(str, 0, str.length(), 10);
+        return parseBigInteger(str, 0, str.length(), 10);
     }
 
     /**
@@ -106,7 +106,7 @@ public final class JavaBigIntegerParser {
      * @throws NumberFormatException if the string can not be parsed successfully
      */
     public static BigInteger parseBigInteger(CharSequence str, int radix) {
-        return CHAR_SEQUENCE_PARSER.parseBigIntegerString(str, 0, str.length(), radix);
+        return parseBigInteger(str, 0, str.length(), radix);
     }
 
     /**
@@ -121,7 +121,7 @@ public final class JavaBigIntegerParser {
      * @throws NumberFormatException    if the string can not be parsed successfully
      */
     public static BigInteger parseBigInteger(CharSequence str, int offset, int length) {
-        return CHAR_SEQUENCE_PARSER.parseBigIntegerString(str, offset, length, 10);
+        return parseBigInteger(str, offset, length, 10);
     }
 
     /**
@@ -138,6 +138,14 @@ public final class JavaBigIntegerParser {
      * @throws NumberFormatException    if the string can not be parsed successfully
      */
     public static BigInteger parseBigInteger(CharSequence str, int offset, int length, int radix) {
+        char[] chars = CharSequenceAccess.toCharArray(str, offset, length);
+        if (chars != null) {
+            try {
+                return parseBigInteger(chars, CharSequenceAccess.arrayOffset(str, offset), length, radix);
+            } finally {
+                CharSequenceAccess.release(str, chars);
+            }
+        }
         return CHAR_SEQUENCE_PARSER.parseBigIntegerString(str, offset, length, radix);
     }
 
@@ -39,6 +39,7 @@ final class JavaDoubleBitsFromByteArray extends AbstractJavaFloatingPointBitsFro
                              int exponentOfTruncatedSignificand) {
         double d = FastDoubleMath.tryDecFloatToDoubleTruncated(isNegative, significand, exponent, isSignificandTruncated,
                 exponentOfTruncatedSignificand);
+        ParseMetrics.countConversion(ParseMetrics.JAVA_DOUBLE, isSignificandTruncated, Double.isNaN(d));
         return Double.doubleToRawLongBits(Double.isNaN(d)
                 // via Double.parseDouble
                 ? Double.parseDouble(new String(str, startIndex, endIndex - startIndex, StandardCharsets.ISO_8859_1))
@@ -59,6 +60,7 @@ final class JavaDoubleBitsFromByteArray extends AbstractJavaFloatingPointBitsFro
             boolean isSignificandTruncated, int exponentOfTruncatedSignificand) {
         double d = FastDoubleMath.tryHexFloatToDoubleTruncated(isNegative, significand, exponent, isSignificandTruncated,
                 exponentOfTruncatedSignificand);
+        ParseMetrics.countConversion(ParseMetrics.JAVA_DOUBLE, isSignificandTruncated, Double.isNaN(d));
         return Double.doubleToRawLongBits(Double.isNaN(d) ? Double.parseDouble(new String(str, startIndex, endIndex - startIndex, StandardCharsets.ISO_8859_1)) : d);
     }
 }
\ No newline at end of file
@@ -37,6 +37,7 @@ final class JavaDoubleBitsFromCharSequence extends AbstractJavaFloatingPointBits
                              int exponentOfTruncatedSignificand) {
         double d = FastDoubleMath.tryDecFloatToDoubleTruncated(isNegative, significand, exponent, isSignificandTruncated,
                 exponentOfTruncatedSignificand);
+        ParseMetrics.countConversion(ParseMetrics.JAVA_DOUBLE, isSignificandTruncated, Double.isNaN(d));
         return Double.doubleToRawLongBits(Double.isNaN(d)
                 ? Double.parseDouble(str.subSequence(startIndex, endIndex).toString())
                 : d);
@@ -48,6 +49,7 @@ final class JavaDoubleBitsFromCharSequence extends AbstractJavaFloatingPointBits
             boolean isSignificandTruncated, int exponentOfTruncatedSignificand) {
         double d = FastDoubleMath.tryHexFloatToDoubleTruncated(isNegative, significand, exponent, isSignificandTruncated,
                 exponentOfTruncatedSignificand);
+        ParseMetrics.countConversion(ParseMetrics.JAVA_DOUBLE, isSignificandTruncated, Double.isNaN(d));
         return Double.doubleToRawLongBits(Double.isNaN(d)
                 ? Double.parseDouble(str.subSequence(startIndex, endIndex).toString())
                 : d);
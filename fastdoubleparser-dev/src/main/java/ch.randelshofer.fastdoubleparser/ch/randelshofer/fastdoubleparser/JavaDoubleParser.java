@@ -4,7 +4,9 @@
  */
 package ch.randelshofer.fastdoubleparser;
 
-import static ch.randelshofer.fastdoubleparser.AbstractNumberParser.SYNTAX_ERROR;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
 import static ch.randelshofer.fastdoubleparser.AbstractNumberParser.SYNTAX_ERROR_BITS;
 
 /**
@@ -149,11 +151,33 @@ import static ch.randelshofer.fastdoubleparser.AbstractNumberParser.SYNTAX_ERROR
  */
 public final class JavaDoubleParser {
 
-    private static final JavaDoubleBitsFromByteArray BYTE_ARRAY_PARSER = new JavaDoubleBitsFromByteArray();
+    /*
+     * The parsers are held in holder classes, so that only the parser
+     * for the type of input that is actually used is loaded.
+     */
+    private static final class ByteArrayParser {
+        static final JavaDoubleBitsFromByteArray INSTANCE = new JavaDoubleBitsFromByteArray();
+    }
 
-    private static final JavaDoubleBitsFromCharArray CHAR_ARRAY_PARSER = new JavaDoubleBitsFromCharArray();
+    private static final class CharArrayParser {
+        static final JavaDoubleBitsFromCharArray INSTANCE = new JavaDoubleBitsFromCharArray();
+    }
 
-    private static final JavaDoubleBitsFromCharSequence CHAR_SEQUENCE_PARSER = new JavaDoubleBitsFromCharSequence();
+    private static final class CharSequenceParser {
+        static final JavaDoubleBitsFromCharSequence INSTANCE = new JavaDoubleBitsFromCharSequence();
+    }
+
+    private static final class ByteArrayClassifier {
+        static final JavaNumberClassFromByteArray INSTANCE = new JavaNumberClassFromByteArray();
+    }
+
+    private static final class CharArrayClassifier {
+        static final JavaNumberClassFromCharArray INSTANCE = new JavaNumberClassFromCharArray();
+    }
+
+    private static final class CharSequenceClassifier {
+        static final JavaNumberClassFromCharSequence INSTANCE = new JavaNumberClassFromCharSequence();
+    }
 
     /**
      * Don't let anyone instantiate this class.
@@ -187,8 +211,16 @@ public final class JavaDoubleParser {
      * @throws NumberFormatException    if the string can not be parsed successfully
      */
     public static double parseDouble(CharSequence str, int offset, int length) throws NumberFormatException {
-        long bitPattern = CHAR_SEQUENCE_PARSER.parseFloatingPointLiteral(str, offset, length);
-        if (bitPattern == SYNTAX_ERROR_BITS) throw new NumberFormatException(SYNTAX_ERROR);
+        char[] chars = CharSequenceAccess.toCharArray(str, offset, length);
+        if (chars != null) {
+            try {
+                return parseDouble(chars, CharSequenceAccess.arrayOffset(str, offset), length);
+            } finally {
+                CharSequenceAccess.release(str, chars);
+            }
+        }
+        long bitPattern = CharSequenceParser.INSTANCE.parseFloatingPointLiteral(str, offset, length);
+        if (bitPattern == SYNTAX_ERROR_BITS) throw ParseMetrics.syntaxError(ParseMetrics.JAVA_DOUBLE);
         return Double.longBitsToDouble(bitPattern);
     }
 
@@ -222,8 +254,8 @@ public final class JavaDoubleParser {
      * @throws NumberFormatException    if the string can not be parsed successfully
      */
     public static double parseDouble(byte[] str, int offset, int length) throws NumberFormatException {
-        long bitPattern = BYTE_ARRAY_PARSER.parseFloatingPointLiteral(str, offset, length);
-        if (bitPattern == SYNTAX_ERROR_BITS) throw new NumberFormatException(SYNTAX_ERROR);
+        long bitPattern = ByteArrayParser.INSTANCE.parseFloatingPointLiteral(str, offset, length);
+        if (bitPattern == SYNTAX_ERROR_BITS) throw ParseMetrics.syntaxError(ParseMetrics.JAVA_DOUBLE);
         return Double.longBitsToDouble(bitPattern);
     }
 
@@ -255,8 +287,216 @@ public final class JavaDoubleParser {
      * @throws NumberFormatException    if the string can not be parsed successfully
      */
     public static double parseDouble(char[] str, int offset, int length) throws NumberFormatException {
-        long bitPattern = CHAR_ARRAY_PARSER.parseFloatingPointLiteral(str, offset, length);
-        if (bitPattern == SYNTAX_ERROR_BITS) throw new NumberFormatException(SYNTAX_ERROR);
+        long bitPattern = CharArrayParser.INSTANCE.parseFloatingPointLiteral(str, offset, length);
+        if (bitPattern == SYNTAX_ERROR_BITS) throw ParseMetrics.syntaxError(ParseMetrics.JAVA_DOUBLE);
         return Double.longBitsToDouble(bitPattern);
     }
+
+    /**
+     * Convenience method for calling {@link #classify(CharSequence, int, int)}.
+     *
+     * @param str the string to be classified
+     * @return a classification code of {@link NumberClassification}
+     * @throws NullPointerException if the string is null
+     */
+    public static int classify(CharSequence str) {
+        return classify(str, 0, str.length());
+    }
+
+    /**
+     * Classifies a {@code FloatingPointLiteral} in a {@link CharSequence} without
+     * computing its value.
+     * <p>
+     * Only the syntax is checked. This is faster than parsing, because the
+     * conversion of the significand and the exponent into a {@code double}
+     * is skipped.
+     *
+     * @param str    the string to be classified
+     * @param offset the start offset of the {@code FloatingPointLiteral} in {@code str}
+     * @param length the length of {@code FloatingPointLiteral} in {@code str}
+     * @return a classification code of {@link NumberClassification},
+     * {@link NumberClassification#INVALID} if the string can not be parsed successfully
+     * @throws NullPointerException     if the string is null
+     * @throws IllegalArgumentException if offset or length are illegal
+     */
+    public static int classify(CharSequence str, int offset, int length) {
+        char[] chars = CharSequenceAccess.toCharArray(str, offset, length);
+        if (chars != null) {
+            try {
+                return classify(chars, CharSequenceAccess.arrayOffset(str, offset), length);
+            } finally {
+                CharSequenceAccess.release(str, chars);
+            }
+        }
+        long classification = CharSequenceClassifier.INSTANCE.parseFloatingPointLiteral(str, offset, length);
+        return classification == SYNTAX_ERROR_BITS ? NumberClassification.INVALID : (int) classification;
+    }
+
+    /**
+     * Classifies a {@code FloatingPointLiteral} in a {@code byte}-Array without
+     * computing its value.
+     * <p>
+     * See {@link #classify(CharSequence, int, int)}.
+     *
+     * @param str    the string to be classified, a byte array with characters
+     *               in ISO-8859-1, ASCII or UTF-8 encoding
+     * @param offset The index of the first byte to classify
+     * @param length The number of bytes to classify
+     * @return a classification code of {@link NumberClassification},
+     * {@link NumberClassification#INVALID} if the string can not be parsed successfully
+     * @throws NullPointerException     if the string is null
+     * @throws IllegalArgumentException if offset or length are illegal
+     */
+    public static int classify(byte[] str, int offset, int length) {
+        long classification = ByteArrayClassifier.INSTANCE.parseFloatingPointLiteral(str, offset, length);
+        return classification == SYNTAX_ERROR_BITS ? NumberClassification.INVALID : (int) classification;
+    }
+
+    /**
+     * Classifies a {@code FloatingPointLiteral} in a {@code char}-Array without
+     * computing its value.
+     * <p>
+     * See {@link #classify(CharSequence, int, int)}.
+     *
+     * @param str    the string to be classified
+     * @param offset The index of the first character to classify
+     * @param length The number of characters to classify
+     * @return a classification code of {@link NumberClassification},
+     * {@link NumberClassification#INVALID} if the string can not be parsed successfully
+     * @throws NullPointerException     if the string is null
+     * @throws IllegalArgumentException if offset or length are illegal
+     */
+    public static int classify(char[] str, int offset, int length) {
+        long classification = CharArrayClassifier.INSTANCE.parseFloatingPointLiteral(str, offset, length);
+        return classification == SYNTAX_ERROR_BITS ? NumberClassification.INVALID : (int) classification;
+    }
+
+    /**
+     * Convenience method for calling {@link #isValid(CharSequence, int, int)}.
+     *
+     * @param str the string to be checked
+     * @return true if the string can be parsed successfully
+     * @throws NullPointerException if the string is null
+     */
+    public static boolean isValid(CharSequence str) {
+        return isValid(str, 0, str.length());
+    }
+
+    /**
+     * Checks if a {@link CharSequence} contains a legal {@code FloatingPointLiteral},
+     * without computing its value.
+     *
+     * @param str    the string to be checked
+     * @param offset the start offset of the {@code FloatingPointLiteral} in {@code str}
+     * @param length the length of {@code FloatingPointLiteral} in {@code str}
+     * @return true if the string can be parsed successfully
+     * @throws NullPointerException     if the string is null
+     * @throws IllegalArgumentException if offset or length are illegal
+     */
+    public static boolean isValid(CharSequence str, int offset, int length) {
+        return classify(str, offset, length) != NumberClassification.INVALID;
+    }
+
+    /**
+     * Checks if a {@code byte}-Array contains a legal {@code FloatingPointLiteral},
+     * without computing its value.
+     *
+     * @param str    the string to be checked, a byte array with characters
+     *               in ISO-8859-1, ASCII or UTF-8 encoding
+     * @param offset The index of the first byte to check
+     * @param length The number of bytes to check
+     * @return true if the string can be parsed successfully
+     * @throws NullPointerException     if the string is null
+     * @throws IllegalArgumentException if offset or length are illegal
+     */
+    public static boolean isValid(byte[] str, int offset, int length) {
+        return classify(str, offset, length) != NumberClassification.INVALID;
+    }
+
+    /**
+     * Checks if a {@code char}-Array contains a legal {@code FloatingPointLiteral},
+     * without computing its value.
+     *
+     * @param str    the string to be checked
+     * @param offset The index of the first character to check
+     * @param length The number of characters to check
+     * @return true if the string can be parsed successfully
+     * @throws NullPointerException     if the string is null
+     * @throws IllegalArgumentException if offset or length are illegal
+     */
+    public static boolean isValid(char[] str, int offset, int length) {
+        return classify(str, offset, length) != NumberClassification.INVALID;
+    }
+
+    /**
+     * Returns a stream of the {@code FloatingPointLiteral}s in a {@link CharSequence},
+     * which are separated by the specified delimiter.
+     * <p>
+     * The literals are parsed lazily, when the stream is consumed.
+     * A parallel stream splits the string at delimiters.
+     * The last literal is omitted if it is empty, so that a string may end
+     * with a delimiter, for example with a line separator.
+     * A literal that can not be parsed causes a {@link NumberFormatException}
+     * when the stream reaches it.
+     * <p>
+     * The string must not be modified while the stream is consumed.
+     * <p>
+     * On Java 23 and later, {@code JavaDoubleSegmentParser} returns the same
+     * stream for a {@code MemorySegment}.
+     *
+     * @param str       the string to be parsed
+     * @param offset    The index of the first character to parse
+     * @param length    The number of characters to parse
+     * @param delimiter the delimiter, for example {@code ','} or {@code '\n'}
+     * @return a sequential stream of the parsed values
+     * @throws NullPointerException     if the string is null
+     * @throws IllegalArgumentException if offset or length are illegal
+     */
+    public static DoubleStream parseDoubleStream(CharSequence str, int offset, int length, char delimiter) {
+        int endIndex = AbstractNumberParser.checkBounds(str.length(), offset, length);
+        return StreamSupport.doubleStream(new JavaDoubleSpliteratorFromCharSequence(str, offset, endIndex, delimiter), false);
+    }
+
+    /**
+     * Returns a stream of the {@code FloatingPointLiteral}s in a {@code byte}-Array,
+     * which are separated by the specified delimiter.
+     * <p>
+     * See {@link #parseDoubleStream(CharSequence, int, int, char)}.
+     *
+     * @param str       the string to be parsed, a byte array with characters
+     *                  in ISO-8859-1, ASCII or UTF-8 encoding
+     * @param offset    The index of the first byte to parse
+     * @param length    The number of bytes to parse
+     * @param delimiter the delimiter, must be an ASCII character
+     * @return a sequential stream of the parsed values
+     * @throws NullPointerException     if the string is null
+     * @throws IllegalArgumentException if offset or length are illegal,
+     *                                  or if the delimiter is not an ASCII character
+     */
+    public static DoubleStream parseDoubleStream(byte[] str, int offset, int length, char delimiter) {
+        int endIndex = AbstractNumberParser.checkBounds(str.length, offset, length);
+        if (delimiter >= 0x80) {
+            throw new IllegalArgumentException("delimiter is not an ASCII character: " + (int) delimiter);
+        }
+        return StreamSupport.doubleStream(new JavaDoubleSpliteratorFromByteArray(str, offset, endIndex, (byte) delimiter), false);
+    }
+
+    /**
+     * Returns a stream of the {@code FloatingPointLiteral}s in a {@code char}-Array,
+     * which are separated by the specified delimiter.
+     * <p>
+     * See {@link #parseDoubleStream(CharSequence, int, int, char)}.
+     *
+     * @param str       the string to be parsed
+     * @param offset    The index of the first character to parse
+     * @param length    The number of characters to parse
+     * @param delimiter the delimiter, for example {@code ','} or {@code '\n'}
+     * @return a sequential stream of the parsed values
+     * @throws NullPointerException     if the string is null
+     * @throws IllegalArgumentException if offset or length are illegal
+     */
+    public static DoubleStream parseDoubleStream(char[] str, int offset, int length, char delimiter) {
+        int endIndex = AbstractNumberParser.checkBounds(str.length, offset, length);
+        return StreamSupport.doubleStream(new JavaDoubleSpliteratorFromCharArray(str, offset, endIndex, delimiter), false);
+    }
 }
\ No newline at end of file
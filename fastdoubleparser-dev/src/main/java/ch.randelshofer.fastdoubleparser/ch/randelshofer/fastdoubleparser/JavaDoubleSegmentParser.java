@@ -0,0 +1,54 @@
+/*
+ * @(#)JavaDoubleSegmentParser.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import java.lang.foreign.MemorySegment;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Parses {@code double} values from a {@link MemorySegment}; the supported
+ * syntax is the same as in {@link JavaDoubleParser}.
+ * <p>
+ * This class is only available in Java 23 and later.
+ */
+public final class JavaDoubleSegmentParser {
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private JavaDoubleSegmentParser() {
+
+    }
+
+    /**
+     * Returns a stream of the {@code FloatingPointLiteral}s in a
+     * {@link MemorySegment}, which are separated by the specified delimiter.
+     * <p>
+     * See {@link JavaDoubleParser#parseDoubleStream(CharSequence, int, int, char)}.
+     * <p>
+     * The segment must stay alive and must not be modified while the stream
+     * is consumed.
+     *
+     * @param str       the segment to be parsed, with characters
+     *                  in ISO-8859-1, ASCII or UTF-8 encoding
+     * @param offset    The index of the first byte to parse
+     * @param length    The number of bytes to parse
+     * @param delimiter the delimiter, must be an ASCII character
+     * @return a sequential stream of the parsed values
+     * @throws NullPointerException     if the segment is null
+     * @throws IllegalArgumentException if offset or length are illegal,
+     *                                  or if the delimiter is not an ASCII character
+     */
+    public static DoubleStream parseDoubleStream(MemorySegment str, long offset, long length, char delimiter) {
+        long size = str.byteSize();
+        if ((offset | length | size - length - offset) < 0) {
+            throw new IllegalArgumentException(AbstractNumberParser.ILLEGAL_OFFSET_OR_ILLEGAL_LENGTH);
+        }
+        if (delimiter >= 0x80) {
+            throw new IllegalArgumentException("delimiter is not an ASCII character: " + (int) delimiter);
+        }
+        return StreamSupport.doubleStream(new JavaDoubleSpliteratorFromMemorySegment(str, offset, offset + length, (byte) delimiter), false);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * @(#)JavaDoubleSpliteratorFromByteArray.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+
+import static ch.randelshofer.fastdoubleparser.AbstractNumberParser.SYNTAX_ERROR;
+import static ch.randelshofer.fastdoubleparser.AbstractNumberParser.SYNTAX_ERROR_BITS;
+
+/**
+ * Parses delimiter-separated {@code FloatingPointLiteral}s from a {@code byte}
+ * array on demand.
+ * <p>
+ * The spliterator splits at delimiters. The last literal is omitted if it
+ * is empty, that is if the range is empty or ends with a delimiter.
+ * <p>
+ * See {@link JavaDoubleParser#parseDoubleStream(byte[], int, int, char)}.
+ */
+final class JavaDoubleSpliteratorFromByteArray implements Spliterator.OfDouble {
+    private static final JavaDoubleBitsFromByteArray PARSER = new JavaDoubleBitsFromByteArray();
+    /**
+     * Ranges that are shorter than this are not split.
+     */
+    private static final int MIN_SPLIT_LENGTH = 1024;
+
+    private final byte[] str;
+    private final byte delimiter;
+    private int index;
+    private final int endIndex;
+
+    JavaDoubleSpliteratorFromByteArray(byte[] str, int index, int endIndex, byte delimiter) {
+        this.str = str;
+        this.index = index;
+        this.endIndex = endIndex;
+        this.delimiter = delimiter;
+    }
+
+    @Override
+    public boolean tryAdvance(DoubleConsumer action) {
+        if (index >= endIndex) {
+            return false;
+        }
+        int end = indexOfDelimiter(index);
+        action.accept(parse(index, end));
+        index = end + 1;
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+        int i = index;
+        while (i < endIndex) {
+            int end = indexOfDelimiter(i);
+            action.accept(parse(i, end));
+            i = end + 1;
+        }
+        index = i;
+    }
+
+    @Override
+    public OfDouble trySplit() {
+        int mid = (index + endIndex) >>> 1;
+        if (endIndex - index < MIN_SPLIT_LENGTH) {
+            return null;
+        }
+        int splitIndex = indexOfDelimiter(mid) + 1;
+        if (splitIndex >= endIndex) {
+            return null;
+        }
+        JavaDoubleSpliteratorFromByteArray prefix = new JavaDoubleSpliteratorFromByteArray(str, index, splitIndex, delimiter);
+        index = splitIndex;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return endIndex - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+
+    private int indexOfDelimiter(int i) {
+        for (; i < endIndex; i++) {
+            if (str[i] == delimiter) {
+                return i;
+            }
+        }
+        return endIndex;
+    }
+
+    private double parse(int from, int to) {
+        long bitPattern = PARSER.parseFloatingPointLiteral(str, from, to - from);
+        if (bitPattern == SYNTAX_ERROR_BITS) throw new NumberFormatException(SYNTAX_ERROR);
+        return Double.longBitsToDouble(bitPattern);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * @(#)JavaDoubleSpliteratorFromMemorySegment.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+
+import static ch.randelshofer.fastdoubleparser.AbstractNumberParser.SYNTAX_ERROR;
+import static ch.randelshofer.fastdoubleparser.AbstractNumberParser.SYNTAX_ERROR_BITS;
+
+/**
+ * Parses delimiter-separated {@code FloatingPointLiteral}s from a
+ * {@link MemorySegment} on demand.
+ * <p>
+ * The spliterator splits at delimiters. The last literal is omitted if it
+ * is empty, that is if the range is empty or ends with a delimiter.
+ * <p>
+ * Each literal is copied into a {@code byte} array that the spliterator
+ * reuses, and parsed with {@link JavaDoubleBitsFromByteArray}.
+ * <p>
+ * See {@link JavaDoubleSegmentParser#parseDoubleStream(MemorySegment, long, long, char)}.
+ */
+final class JavaDoubleSpliteratorFromMemorySegment implements Spliterator.OfDouble {
+    private static final JavaDoubleBitsFromByteArray PARSER = new JavaDoubleBitsFromByteArray();
+    /**
+     * Ranges that are shorter than this are not split.
+     */
+    private static final long MIN_SPLIT_LENGTH = 1024;
+
+    private final MemorySegment str;
+    private final byte delimiter;
+    private long index;
+    private final long endIndex;
+    private byte[] literal = new byte[64];
+
+    JavaDoubleSpliteratorFromMemorySegment(MemorySegment str, long index, long endIndex, byte delimiter) {
+        this.str = str;
+        this.index = index;
+        this.endIndex = endIndex;
+        this.delimiter = delimiter;
+    }
+
+    @Override
+    public boolean tryAdvance(DoubleConsumer action) {
+        if (index >= endIndex) {
+            return false;
+        }
+        long end = indexOfDelimiter(index);
+        action.accept(parse(index, end));
+        index = end + 1;
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+        long i = index;
+        while (i < endIndex) {
+            long end = indexOfDelimiter(i);
+            action.accept(parse(i, end));
+            i = end + 1;
+        }
+        index = i;
+    }
+
+    @Override
+    public OfDouble trySplit() {
+        long mid = (index + endIndex) >>> 1;
+        if (endIndex - index < MIN_SPLIT_LENGTH) {
+            return null;
+        }
+        long splitIndex = indexOfDelimiter(mid) + 1;
+        if (splitIndex >= endIndex) {
+            return null;
+        }
+        JavaDoubleSpliteratorFromMemorySegment prefix = new JavaDoubleSpliteratorFromMemorySegment(str, index, splitIndex, delimiter);
+        index = splitIndex;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return endIndex - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+
+    private long indexOfDelimiter(long i) {
+        for (; i < endIndex; i++) {
+            if (str.get(ValueLayout.JAVA_BYTE, i) == delimiter) {
+                return i;
+            }
+        }
+        return endIndex;
+    }
+
+    private double parse(long from, long to) {
+        long length = to - from;
+        if (length > Integer.MAX_VALUE - 8) {
+            throw new NumberFormatException(AbstractNumberParser.VALUE_EXCEEDS_LIMITS);
+        }
+        if (literal.length < length) {
+            literal = new byte[(int) Math.max(length, literal.length * 2L)];
+        }
+        MemorySegment.copy(str, ValueLayout.JAVA_BYTE, from, literal, 0, (int) length);
+        long bitPattern = PARSER.parseFloatingPointLiteral(literal, 0, (int) length);
+        if (bitPattern == SYNTAX_ERROR_BITS) throw new NumberFormatException(SYNTAX_ERROR);
+        return Double.longBitsToDouble(bitPattern);
+    }
+}
@@ -39,6 +39,7 @@ final class JavaFloatBitsFromByteArray extends AbstractJavaFloatingPointBitsFrom
                              long significand, int exponent, boolean isSignificandTruncated,
                              int exponentOfTruncatedSignificand) {
         float result = FastFloatMath.tryDecFloatToFloatTruncated(isNegative, significand, exponent, isSignificandTruncated, exponentOfTruncatedSignificand);
+        ParseMetrics.countConversion(ParseMetrics.JAVA_FLOAT, isSignificandTruncated, Float.isNaN(result));
         return Float.floatToRawIntBits(Float.isNaN(result) ? Float.parseFloat(
                 new String(str, startIndex, endIndex - startIndex, StandardCharsets.ISO_8859_1)) : result);
     }
@@ -48,6 +49,7 @@ final class JavaFloatBitsFromByteArray extends AbstractJavaFloatingPointBitsFrom
             byte[] str, int startIndex, int endIndex, boolean isNegative, long significand, int exponent,
             boolean isSignificandTruncated, int exponentOfTruncatedSignificand) {
         float d = FastFloatMath.tryHexFloatToFloatTruncated(isNegative, significand, exponent, isSignificandTruncated, exponentOfTruncatedSignificand);
+        ParseMetrics.countConversion(ParseMetrics.JAVA_FLOAT, isSignificandTruncated, Float.isNaN(d));
         return Float.floatToRawIntBits(Float.isNaN(d) ? Float.parseFloat(new String(str, startIndex, endIndex - startIndex, StandardCharsets.ISO_8859_1)) : d);
     }
 
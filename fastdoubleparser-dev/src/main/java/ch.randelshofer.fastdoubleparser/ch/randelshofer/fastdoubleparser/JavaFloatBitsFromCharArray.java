@@ -37,6 +37,7 @@ final class JavaFloatBitsFromCharArray extends AbstractJavaFloatingPointBitsFrom
                              long significand, int exponent, boolean isSignificandTruncated,
                              int exponentOfTruncatedSignificand) {
         float result = FastFloatMath.tryDecFloatToFloatTruncated(isNegative, significand, exponent, isSignificandTruncated, exponentOfTruncatedSignificand);
+        ParseMetrics.countConversion(ParseMetrics.JAVA_FLOAT, isSignificandTruncated, Float.isNaN(result));
         return Float.isNaN(result) ? (long) Float.floatToRawIntBits(Float.parseFloat(new String(str, startIndex, endIndex - startIndex))) : Float.floatToRawIntBits(result);
     }
 
@@ -45,6 +46,7 @@ final class JavaFloatBitsFromCharArray extends AbstractJavaFloatingPointBitsFrom
             char[] str, int startIndex, int endIndex, boolean isNegative, long significand, int exponent,
             boolean isSignificandTruncated, int exponentOfTruncatedSignificand) {
         float d = FastFloatMath.tryHexFloatToFloatTruncated(isNegative, significand, exponent, isSignificandTruncated, exponentOfTruncatedSignificand);
+        ParseMetrics.countConversion(ParseMetrics.JAVA_FLOAT, isSignificandTruncated, Float.isNaN(d));
         return Float.floatToRawIntBits(Float.isNaN(d) ? Float.parseFloat(new String(str, startIndex, endIndex - startIndex)) : d);
     }
 }
\ No newline at end of file
@@ -37,6 +37,7 @@ final class JavaFloatBitsFromCharSequence extends AbstractJavaFloatingPointBitsF
                              long significand, int exponent, boolean isSignificandTruncated,
                              int exponentOfTruncatedSignificand) {
         float d = FastFloatMath.tryDecFloatToFloatTruncated(isNegative, significand, exponent, isSignificandTruncated, exponentOfTruncatedSignificand);
+        ParseMetrics.countConversion(ParseMetrics.JAVA_FLOAT, isSignificandTruncated, Float.isNaN(d));
         return Float.floatToRawIntBits(Float.isNaN(d) ? Float.parseFloat(str.subSequence(startIndex, endIndex).toString()) : d);
     }
 
@@ -45,6 +46,7 @@ final class JavaFloatBitsFromCharSequence extends AbstractJavaFloatingPointBitsF
             CharSequence str, int startIndex, int endIndex, boolean isNegative, long significand, int exponent,
             boolean isSignificandTruncated, int exponentOfTruncatedSignificand) {
         float d = FastFloatMath.tryHexFloatToFloatTruncated(isNegative, significand, exponent, isSignificandTruncated, exponentOfTruncatedSignificand);
+        ParseMetrics.countConversion(ParseMetrics.JAVA_FLOAT, isSignificandTruncated, Float.isNaN(d));
         return Float.floatToRawIntBits(Float.isNaN(d) ? Float.parseFloat(str.subSequence(startIndex, endIndex).toString()) : d);
     }
 
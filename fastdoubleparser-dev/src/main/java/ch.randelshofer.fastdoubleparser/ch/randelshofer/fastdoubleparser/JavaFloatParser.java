@@ -4,7 +4,6 @@
  */
 package ch.randelshofer.fastdoubleparser;
 
-import static ch.randelshofer.fastdoubleparser.AbstractNumberParser.SYNTAX_ERROR;
 import static ch.randelshofer.fastdoubleparser.AbstractNumberParser.SYNTAX_ERROR_BITS;
 
 /**
@@ -30,11 +29,18 @@ import static ch.randelshofer.fastdoubleparser.AbstractNumberParser.SYNTAX_ERROR
  */
 public final class JavaFloatParser {
 
-    private static final JavaFloatBitsFromByteArray BYTE_ARRAY_PARSER = new JavaFloatBitsFromByteArray();
+    // Holder classes, see JavaDoubleParser.
+    private static final class ByteArrayParser {
+        static final JavaFloatBitsFromByteArray INSTANCE = new JavaFloatBitsFromByteArray();
+    }
 
-    private static final JavaFloatBitsFromCharArray CHAR_ARRAY_PARSER = new JavaFloatBitsFromCharArray();
+    private static final class CharArrayParser {
+        static final JavaFloatBitsFromCharArray INSTANCE = new JavaFloatBitsFromCharArray();
+    }
 
-    private static final JavaFloatBitsFromCharSequence CHAR_SEQUENCE_PARSER = new JavaFloatBitsFromCharSequence();
+    private static final class CharSequenceParser {
+        static final JavaFloatBitsFromCharSequence INSTANCE = new JavaFloatBitsFromCharSequence();
+    }
 
 
     /**
@@ -69,8 +75,16 @@ public final class JavaFloatParser {
      * @throws NumberFormatException    if the string can not be parsed successfully
      */
     public static float parseFloat(CharSequence str, int offset, int length) throws NumberFormatException {
-        long bitPattern = CHAR_SEQUENCE_PARSER.parseFloatingPointLiteral(str, offset, length);
-        if (bitPattern == SYNTAX_ERROR_BITS) throw new NumberFormatException(SYNTAX_ERROR);
+        char[] chars = CharSequenceAccess.toCharArray(str, offset, length);
+        if (chars != null) {
+            try {
+                return parseFloat(chars, CharSequenceAccess.arrayOffset(str, offset), length);
+            } finally {
+                CharSequenceAccess.release(str, chars);
+            }
+        }
+        long bitPattern = CharSequenceParser.INSTANCE.parseFloatingPointLiteral(str, offset, length);
+        if (bitPattern == SYNTAX_ERROR_BITS) throw ParseMetrics.syntaxError(ParseMetrics.JAVA_FLOAT);
         return Float.intBitsToFloat((int) bitPattern);
     }
 
@@ -102,8 +116,8 @@ public final class JavaFloatParser {
      * @throws NumberFormatException    if the string can not be parsed successfully
      */
     public static float parseFloat(byte[] str, int offset, int length) throws NumberFormatException {
-        long bitPattern = BYTE_ARRAY_PARSER.parseFloatingPointLiteral(str, offset, length);
-        if (bitPattern == SYNTAX_ERROR_BITS) throw new NumberFormatException(SYNTAX_ERROR);
+        long bitPattern = ByteArrayParser.INSTANCE.parseFloatingPointLiteral(str, offset, length);
+        if (bitPattern == SYNTAX_ERROR_BITS) throw ParseMetrics.syntaxError(ParseMetrics.JAVA_FLOAT);
         return Float.intBitsToFloat((int) bitPattern);
     }
 
@@ -134,8 +148,8 @@ public final class JavaFloatParser {
      * @throws NumberFormatException    if the string can not be parsed successfully
      */
     public static float parseFloat(char[] str, int offset, int length) throws NumberFormatException {
-        long bitPattern = CHAR_ARRAY_PARSER.parseFloatingPointLiteral(str, offset, length);
-        if (bitPattern == SYNTAX_ERROR_BITS) throw new NumberFormatException(SYNTAX_ERROR);
+        long bitPattern = CharArrayParser.INSTANCE.parseFloatingPointLiteral(str, offset, length);
+        if (bitPattern == SYNTAX_ERROR_BITS) throw ParseMetrics.syntaxError(ParseMetrics.JAVA_FLOAT);
         return Float.intBitsToFloat((int) bitPattern);
     }
 }
\ No newline at end of file
@@ -0,0 +1,92 @@
+/*
+ * @(#)JavaNumberClassFromByteArray.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+/**
+ * Classifies a {@code FloatingPointLiteral} in a {@code byte} array.
+ * <p>
+ * Runs only the grammar automaton of the superclass. The return value is a
+ * code of {@link NumberClassification} instead of a bit pattern, or {@code -1L}
+ * if the input is illegal.
+ */
+final class JavaNumberClassFromByteArray extends AbstractJavaFloatingPointBitsFromByteArray {
+
+    /**
+     * Creates a new instance.
+     */
+    public JavaNumberClassFromByteArray() {
+
+    }
+
+    /**
+     * Classifies a legal decimal literal by scanning it backwards from its
+     * end: trailing digits are skipped eight at a time, and the character
+     * before them tells whether the literal has an exponent or a decimal point.
+     *
+     * @param str        the string that contains the literal
+     * @param startIndex the start index (inclusive) of the literal
+     * @param endIndex   the end index (exclusive) of the literal
+     * @return the classification code
+     */
+    static long classifyDecimal(byte[] str, int startIndex, int endIndex) {
+        // Skip trailing whitespace and FloatTypeSuffix
+        int index = endIndex - 1;
+        while ((str[index] & 0xff) <= ' ') {
+            index--;
+        }
+        if ((str[index] | 0x22) == 'f') { // ~ "fFdD"
+            index--;
+        }
+
+        // Skip trailing digits
+        while (index - 7 >= startIndex && FastDoubleSwar.isEightDigits(str, index - 7)) {
+            index -= 8;
+        }
+        while (index >= startIndex && FastDoubleSwar.isDigit(str[index])) {
+            index--;
+        }
+        if (index < startIndex) {
+            return NumberClassification.INTEGER;
+        }
+
+        int ch = str[index];
+        if (ch == '.') {
+            return NumberClassification.DECIMAL;
+        }
+        if ((ch | 0x20) == 'e' || (ch == '-' || ch == '+') && index > startIndex && (str[index - 1] | 0x20) == 'e') {
+            return NumberClassification.EXPONENT;
+        }
+        return NumberClassification.INTEGER;
+    }
+
+    @Override
+    long nan() {
+        return NumberClassification.NAN;
+    }
+
+    @Override
+    long negativeInfinity() {
+        return NumberClassification.INFINITY;
+    }
+
+    @Override
+    long positiveInfinity() {
+        return NumberClassification.INFINITY;
+    }
+
+    @Override
+    long valueOfFloatLiteral(byte[] str, int startIndex, int endIndex, boolean isNegative,
+                             long significand, int exponent, boolean isSignificandTruncated,
+                             int exponentOfTruncatedSignificand) {
+        return classifyDecimal(str, startIndex, endIndex);
+    }
+
+    @Override
+    long valueOfHexLiteral(
+            byte[] str, int startIndex, int endIndex, boolean isNegative, long significand, int exponent,
+            boolean isSignificandTruncated, int exponentOfTruncatedSignificand) {
+        return NumberClassification.HEXADECIMAL;
+    }
+}
@@ -4,7 +4,6 @@
  */
 package ch.randelshofer.fastdoubleparser;
 
-import static ch.randelshofer.fastdoubleparser.AbstractNumberParser.SYNTAX_ERROR;
 import static ch.randelshofer.fastdoubleparser.AbstractNumberParser.SYNTAX_ERROR_BITS;
 
 /**
@@ -44,11 +43,30 @@ import static ch.randelshofer.fastdoubleparser.AbstractNumberParser.SYNTAX_ERROR
  */
 public final class JsonDoubleParser {
 
-    private static final JsonDoubleBitsFromByteArray BYTE_ARRAY_PARSER = new JsonDoubleBitsFromByteArray();
+    // Holder classes, see JavaDoubleParser.
+    private static final class ByteArrayParser {
+        static final JsonDoubleBitsFromByteArray INSTANCE = new JsonDoubleBitsFromByteArray();
+    }
 
-    private static final JsonDoubleBitsFromCharArray CHAR_ARRAY_PARSER = new JsonDoubleBitsFromCharArray();
+    private static final class CharArrayParser {
+        static final JsonDoubleBitsFromCharArray INSTANCE = new JsonDoubleBitsFromCharArray();
+    }
 
-    private static final JsonDoubleBitsFromCharSequence CHAR_SEQUENCE_PARSER = new JsonDoubleBitsFromCharSequence();
+    private static final class CharSequenceParser {
+        static final JsonDoubleBitsFromCharSequence INSTANCE = new JsonDoubleBitsFromCharSequence();
+    }
+
+    private static final class ByteArrayClassifier {
+        static final JsonNumberClassFromByteArray INSTANCE = new JsonNumberClassFromByteArray();
+    }
+
+    private static final class CharArrayClassifier {
+        static final JsonNumberClassFromCharArray INSTANCE = new JsonNumberClassFromCharArray();
+    }
+
+    private static final class CharSequenceClassifier {
+        static final JsonNumberClassFromCharSequence INSTANCE = new JsonNumberClassFromCharSequence();
+    }
 
 
     /**
@@ -83,8 +101,16 @@ public final class JsonDoubleParser {
      * @throws NumberFormatException    if the string can not be parsed successfully
      */
     public static double parseDouble(CharSequence str, int offset, int length) throws NumberFormatException {
-        long bitPattern = CHAR_SEQUENCE_PARSER.parseNumber(str, offset, length);
-        if (bitPattern == SYNTAX_ERROR_BITS) throw new NumberFormatException(SYNTAX_ERROR);
+        char[] chars = CharSequenceAccess.toCharArray(str, offset, length);
+        if (chars != null) {
+            try {
+                return parseDouble(chars, CharSequenceAccess.arrayOffset(str, offset), length);
+            } finally {
+                CharSequenceAccess.release(str, chars);
+            }
+        }
+        long bitPattern = CharSequenceParser.INSTANCE.parseNumber(str, offset, length);
+        if (bitPattern == SYNTAX_ERROR_BITS) throw ParseMetrics.syntaxError(ParseMetrics.JSON_DOUBLE);
         return Double.longBitsToDouble(bitPattern);
     }
 
@@ -117,8 +143,8 @@ public final class JsonDoubleParser {
      * @throws NumberFormatException    if the string can not be parsed successfully
      */
     public static double parseDouble(byte[] str, int offset, int length) throws NumberFormatException {
-        long bitPattern = BYTE_ARRAY_PARSER.parseNumber(str, offset, length);
-        if (bitPattern == SYNTAX_ERROR_BITS) throw new NumberFormatException(SYNTAX_ERROR);
+        long bitPattern = ByteArrayParser.INSTANCE.parseNumber(str, offset, length);
+        if (bitPattern == SYNTAX_ERROR_BITS) throw ParseMetrics.syntaxError(ParseMetrics.JSON_DOUBLE);
         return Double.longBitsToDouble(bitPattern);
     }
 
@@ -149,8 +175,144 @@ public final class JsonDoubleParser {
      * @throws NumberFormatException if the string can not be parsed successfully
      */
     public static double parseDouble(char[] str, int offset, int length) throws NumberFormatException {
-        long bitPattern = CHAR_ARRAY_PARSER.parseNumber(str, offset, length);
-        if (bitPattern == SYNTAX_ERROR_BITS) throw new NumberFormatException(SYNTAX_ERROR);
+        long bitPattern = CharArrayParser.INSTANCE.parseNumber(str, offset, length);
+        if (bitPattern == SYNTAX_ERROR_BITS) throw ParseMetrics.syntaxError(ParseMetrics.JSON_DOUBLE);
         return Double.longBitsToDouble(bitPattern);
     }
+
+    /**
+     * Convenience method for calling {@link #classify(CharSequence, int, int)}.
+     *
+     * @param str the string to be classified
+     * @return a classification code of {@link NumberClassification}
+     * @throws NullPointerException if the string is null
+     */
+    public static int classify(CharSequence str) {
+        return classify(str, 0, str.length());
+    }
+
+    /**
+     * Classifies a {@code number} in a {@link CharSequence} without
+     * computing its value.
+     * <p>
+     * Only the syntax is checked. This is faster than parsing, because the
+     * conversion of the significand and the exponent into a {@code double}
+     * is skipped.
+     *
+     * @param str    the string to be classified
+     * @param offset the start offset of the {@code number} in {@code str}
+     * @param length the length of {@code number} in {@code str}
+     * @return a classification code of {@link NumberClassification},
+     * {@link NumberClassification#INVALID} if the string can not be parsed successfully
+     * @throws NullPointerException     if the string is null
+     * @throws IllegalArgumentException if offset or length are illegal
+     */
+    public static int classify(CharSequence str, int offset, int length) {
+        char[] chars = CharSequenceAccess.toCharArray(str, offset, length);
+        if (chars != null) {
+            try {
+                return classify(chars, CharSequenceAccess.arrayOffset(str, offset), length);
+            } finally {
+                CharSequenceAccess.release(str, chars);
+            }
+        }
+        long classification = CharSequenceClassifier.INSTANCE.parseNumber(str, offset, length);
+        return classification == SYNTAX_ERROR_BITS ? NumberClassification.INVALID : (int) classification;
+    }
+
+    /**
+     * Classifies a {@code number} in a {@code byte}-Array without
+     * computing its value.
+     * <p>
+     * See {@link #classify(CharSequence, int, int)}.
+     *
+     * @param str    the string to be classified, a byte array with characters
+     *               in ISO-8859-1, ASCII or UTF-8 encoding
+     * @param offset The index of the first byte to classify
+     * @param length The number of bytes to classify
+     * @return a classification code of {@link NumberClassification},
+     * {@link NumberClassification#INVALID} if the string can not be parsed successfully
+     * @throws NullPointerException     if the string is null
+     * @throws IllegalArgumentException if offset or length are illegal
+     */
+    public static int classify(byte[] str, int offset, int length) {
+        long classification = ByteArrayClassifier.INSTANCE.parseNumber(str, offset, length);
+        return classification == SYNTAX_ERROR_BITS ? NumberClassification.INVALID : (int) classification;
+    }
+
+    /**
+     * Classifies a {@code number} in a {@code char}-Array without
+     * computing its value.
+     * <p>
+     * See {@link #classify(CharSequence, int, int)}.
+     *
+     * @param str    the string to be classified
+     * @param offset The index of the first character to classify
+     * @param length The number of characters to classify
+     * @return a classification code of {@link NumberClassification},
+     * {@link NumberClassification#INVALID} if the string can not be parsed successfully
+     * @throws NullPointerException     if the string is null
+     * @throws IllegalArgumentException if offset or length are illegal
+     */
+    public static int classify(char[] str, int offset, int length) {
+        long classification = CharArrayClassifier.INSTANCE.parseNumber(str, offset, length);
+        return classification == SYNTAX_ERROR_BITS ? NumberClassification.INVALID : (int) classification;
+    }
+
+    /**
+     * Convenience method for calling {@link #isValid(CharSequence, int, int)}.
+     *
+     * @param str the string to be checked
+     * @return true if the string can be parsed successfully
+     * @throws NullPointerException if the string is null
+     */
+    public static boolean isValid(CharSequence str) {
+        return isValid(str, 0, str.length());
+    }
+
+    /**
+     * Checks if a {@link CharSequence} contains a legal {@code number},
+     * without computing its value.
+     *
+     * @param str    the string to be checked
+     * @param offset the start offset of the {@code number} in {@code str}
+     * @param length the length of {@code number} in {@code str}
+     * @return true if the string can be parsed successfully
+     * @throws NullPointerException     if the string is null
+     * @throws IllegalArgumentException if offset or length are illegal
+     */
+    public static boolean isValid(CharSequence str, int offset, int length) {
+        return classify(str, offset, length) != NumberClassification.INVALID;
+    }
+
+    /**
+     * Checks if a {@code byte}-Array contains a legal {@code number},
+     * without computing its value.
+     *
+     * @param str    the string to be checked, a byte array with characters
+     *               in ISO-8859-1, ASCII or UTF-8 encoding
+     * @param offset The index of the first byte to check
+     * @param length The number of bytes to check
+     * @return true if the string can be parsed successfully
+     * @throws NullPointerException     if the string is null
+     * @throws IllegalArgumentException if offset or length are illegal
+     */
+    public static boolean isValid(byte[] str, int offset, int length) {
+        return classify(str, offset, length) != NumberClassification.INVALID;
+    }
+
+    /**
+     * Checks if a {@code char}-Array contains a legal {@code number},
+     * without computing its value.
+     *
+     * @param str    the string to be checked
+     * @param offset The index of the first character to check
+     * @param length The number of characters to check
+     * @return true if the string can be parsed successfully
+     * @throws NullPointerException     if the string is null
+     * @throws IllegalArgumentException if offset or length are illegal
+     */
+    public static boolean isValid(char[] str, int offset, int length) {
+        return classify(str, offset, length) != NumberClassification.INVALID;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,94 @@
+/*
+ * @(#)JsonNumberArrayFromCharArray.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+/**
+ * Parses a JSON {@code array} of {@code number}s from a {@code char} array
+ * into a {@code double} or {@code float} array.
+ * <p>
+ * See {@link JsonNumberArrayParser}.
+ */
+final class JsonNumberArrayFromCharArray extends AbstractNumberParser {
+    private static final JsonNumberScannerFromCharArray SCANNER = new JsonNumberScannerFromCharArray();
+
+    /**
+     * Creates a new instance.
+     */
+    public JsonNumberArrayFromCharArray() {
+
+    }
+
+    /**
+     * Parses an {@code array} of {@code number}s. Exactly one of
+     * {@code doubles} and {@code floats} must be non-null.
+     *
+     * @param str        a string
+     * @param offset     start offset of the {@code array} in {@code str}
+     * @param length     length of the {@code array} in {@code str}
+     * @param doubles    the destination for {@code double} values or null
+     * @param floats     the destination for {@code float} values or null
+     * @param destOffset the index of the first value in the destination
+     * @return the number of values
+     * @throws IllegalArgumentException if offset or length are illegal,
+     *                                  or if the destination is too small
+     * @throws NumberFormatException    if the string can not be parsed successfully
+     */
+    int parseArray(char[] str, int offset, int length, double[] doubles, float[] floats, int destOffset) {
+        final int endIndex = checkBounds(str.length, offset, length);
+        final int destEnd = doubles != null ? doubles.length : floats.length;
+        checkBounds(destEnd, destOffset, 0);
+
+        int index = skipWhitespace(str, offset, endIndex);
+        if (charAt(str, index, endIndex) != '[') {
+            throw new NumberFormatException(SYNTAX_ERROR);
+        }
+        index = skipWhitespace(str, index + 1, endIndex);
+        int destIndex = destOffset;
+        final Object dest = doubles != null ? doubles : floats;
+        if (charAt(str, index, endIndex) == ']') {
+            index++;
+        } else {
+            while (true) {
+                if (destIndex == destEnd) {
+                    throw new IllegalArgumentException("destination is too small");
+                }
+                index = SCANNER.scanElement(str, index, endIndex, dest, destIndex++);
+                if (index < 0) {
+                    throw new NumberFormatException(SYNTAX_ERROR);
+                }
+                index = skipWhitespace(str, index, endIndex);
+                char ch = charAt(str, index, endIndex);
+                index++;
+                if (ch == ']') {
+                    break;
+                }
+                if (ch != ',') {
+                    throw new NumberFormatException(SYNTAX_ERROR);
+                }
+                index = skipWhitespace(str, index, endIndex);
+            }
+        }
+        if (skipWhitespace(str, index, endIndex) != endIndex) {
+            throw new NumberFormatException(SYNTAX_ERROR);
+        }
+        return destIndex - destOffset;
+    }
+
+    /**
+     * Skips {@code ws} characters.
+     *
+     * @return the index of the first character that is not a {@code ws}
+     * character, or {@code endIndex}
+     */
+    private static int skipWhitespace(char[] str, int index, int endIndex) {
+        for (; index < endIndex; index++) {
+            char ch = str[index];
+            if (ch != ' ' && ch != '\n' && ch != '\r' && ch != '\t') {
+                break;
+            }
+        }
+        return index;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * @(#)JsonNumberArrayParser.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+/**
+ * Parses a JSON {@code array} of {@code number}s into a {@code double}
+ * or {@code float} array.
+ * <p>
+ * The array is scanned in a single pass: white space and value separators
+ * are skipped in the same loop that parses the numbers. No objects are
+ * allocated, unless a value needs the slow path of
+ * {@link Double#parseDouble(String)} or {@link Float#parseFloat(String)}.
+ * <p>
+ * <b>Syntax</b>
+ * <p>
+ * See {@link JsonDoubleParser} for the syntax of {@code number}.
+ * <pre>
+ * array-of-numbers = ws begin-array [ number *( value-separator number ) ] end-array ws
+ *
+ * begin-array     = ws %x5B ws         ; [
+ * end-array       = ws %x5D ws         ; ]
+ * value-separator = ws %x2C ws         ; ,
+ * ws              = *( %x20 / %x09 / %x0A / %x0D )
+ * </pre>
+ * References:
+ * <dl>
+ *     <dt>IETF RFC 8259. The JavaScript Object Notation (JSON) Data Interchange
+ *     Format, Chapter 2. JSON Grammar, Chapter 5. Arrays</dt>
+ *     <dd><a href="https://www.ietf.org/rfc/rfc8259.txt">www.ietf.org</a></dd>
+ * </dl>
+ */
+public final class JsonNumberArrayParser {
+
+    private static final JsonNumberArrayFromByteArray BYTE_ARRAY_PARSER = new JsonNumberArrayFromByteArray();
+
+    private static final JsonNumberArrayFromCharArray CHAR_ARRAY_PARSER = new JsonNumberArrayFromCharArray();
+
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private JsonNumberArrayParser() {
+
+    }
+
+    /**
+     * Parses an {@code array-of-numbers} from a {@code byte}-Array and stores
+     * the values in a {@code double} array.
+     *
+     * @param str        the string to be parsed, a byte array with characters
+     *                   in ISO-8859-1, ASCII or UTF-8 encoding
+     * @param offset     The index of the first byte to parse
+     * @param length     The number of bytes to parse
+     * @param dest       the destination array
+     * @param destOffset the index of the first value in the destination array
+     * @return the number of values
+     * @throws NullPointerException     if the string or the destination is null
+     * @throws IllegalArgumentException if offset, length or destOffset are illegal,
+     *                                  or if the destination array is too small
+     * @throws NumberFormatException    if the string can not be parsed successfully
+     */
+    public static int parseDoubleArray(byte[] str, int offset, int length, double[] dest, int destOffset) throws NumberFormatException {
+        return BYTE_ARRAY_PARSER.parseArray(str, offset, length, dest, null, destOffset);
+    }
+
+    /**
+     * Parses an {@code array-of-numbers} from a {@code char}-Array and stores
+     * the values in a {@code double} array.
+     *
+     * @param str        the string to be parsed
+     * @param offset     The index of the first character to parse
+     * @param length     The number of characters to parse
+     * @param dest       the destination array
+     * @param destOffset the index of the first value in the destination array
+     * @return the number of values
+     * @throws NullPointerException     if the string or the destination is null
+     * @throws IllegalArgumentException if offset, length or destOffset are illegal,
+     *                                  or if the destination array is too small
+     * @throws NumberFormatException    if the string can not be parsed successfully
+     */
+    public static int parseDoubleArray(char[] str, int offset, int length, double[] dest, int destOffset) throws NumberFormatException {
+        return CHAR_ARRAY_PARSER.parseArray(str, offset, length, dest, null, destOffset);
+    }
+
+    /**
+     * Parses an {@code array-of-numbers} from a {@code byte}-Array and stores
+     * the values in a {@code float} array.
+     * <p>
+     * Each value is rounded directly from its decimal representation to
+     * the nearest {@code float}.
+     *
+     * @param str        the string to be parsed, a byte array with characters
+     *                   in ISO-8859-1, ASCII or UTF-8 encoding
+     * @param offset     The index of the first byte to parse
+     * @param length     The number of bytes to parse
+     * @param dest       the destination array
+     * @param destOffset the index of the first value in the destination array
+     * @return the number of values
+     * @throws NullPointerException     if the string or the destination is null
+     * @throws IllegalArgumentException if offset, length or destOffset are illegal,
+     *                                  or if the destination array is too small
+     * @throws NumberFormatException    if the string can not be parsed successfully
+     */
+    public static int parseFloatArray(byte[] str, int offset, int length, float[] dest, int destOffset) throws NumberFormatException {
+        return BYTE_ARRAY_PARSER.parseArray(str, offset, length, null, dest, destOffset);
+    }
+
+    /**
+     * Parses an {@code array-of-numbers} from a {@code char}-Array and stores
+     * the values in a {@code float} array.
+     * <p>
+     * Each value is rounded directly from its decimal representation to
+     * the nearest {@code float}.
+     *
+     * @param str        the string to be parsed
+     * @param offset     The index of the first character to parse
+     * @param length     The number of characters to parse
+     * @param dest       the destination array
+     * @param destOffset the index of the first value in the destination array
+     * @return the number of values
+     * @throws NullPointerException     if the string or the destination is null
+     * @throws IllegalArgumentException if offset, length or destOffset are illegal,
+     *                                  or if the destination array is too small
+     * @throws NumberFormatException    if the string can not be parsed successfully
+     */
+    public static int parseFloatArray(char[] str, int offset, int length, float[] dest, int destOffset) throws NumberFormatException {
+        return CHAR_ARRAY_PARSER.parseArray(str, offset, length, null, dest, destOffset);
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * @(#)JsonNumberClassFromByteArray.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+/**
+ * Classifies a JSON {@code number} in a {@code byte} array.
+ * <p>
+ * Runs only the grammar automaton of the superclass. The return value is a
+ * code of {@link NumberClassification} instead of a bit pattern, or {@code -1L}
+ * if the input is illegal.
+ */
+final class JsonNumberClassFromByteArray extends AbstractJsonFloatingPointBitsFromByteArray {
+
+    /**
+     * Creates a new instance.
+     */
+    public JsonNumberClassFromByteArray() {
+
+    }
+
+    @Override
+    long valueOfFloatLiteral(byte[] str, int startIndex, int endIndex, boolean isNegative,
+                             long significand, int exponent, boolean isSignificandTruncated,
+                             int exponentOfTruncatedSignificand) {
+        return JavaNumberClassFromByteArray.classifyDecimal(str, startIndex, endIndex);
+    }
+}
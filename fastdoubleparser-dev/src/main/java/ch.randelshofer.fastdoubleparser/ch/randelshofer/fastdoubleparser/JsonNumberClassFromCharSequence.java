@@ -0,0 +1,29 @@
+/*
+ * @(#)JsonNumberClassFromCharSequence.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+/**
+ * Classifies a JSON {@code number} in a {@link CharSequence}.
+ * <p>
+ * Runs only the grammar automaton of the superclass. The return value is a
+ * code of {@link NumberClassification} instead of a bit pattern, or {@code -1L}
+ * if the input is illegal.
+ */
+final class JsonNumberClassFromCharSequence extends AbstractJsonFloatingPointBitsFromCharSequence {
+
+    /**
+     * Creates a new instance.
+     */
+    public JsonNumberClassFromCharSequence() {
+
+    }
+
+    @Override
+    long valueOfFloatLiteral(CharSequence str, int startIndex, int endIndex, boolean isNegative,
+                             long significand, int exponent, boolean isSignificandTruncated,
+                             int exponentOfTruncatedSignificand) {
+        return JavaNumberClassFromCharSequence.classifyDecimal(str, startIndex, endIndex);
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * @(#)JsonNumberScanner.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+/**
+ * Scans a {@code number} in the JSON format, and classifies it as
+ * a {@code long} value, a {@code double} value, or a value that needs
+ * a {@link java.math.BigDecimal} to be represented exactly.
+ * <p>
+ * An instance of this class is a mutable holder for the result of the
+ * last scan. It can be reused for any number of scans. A scan does
+ * not allocate objects.
+ * <p>
+ * A scan starts at the specified offset and stops at the first character
+ * that does not belong to the {@code number}. This allows to use the
+ * scanner inside a tokenizer.
+ * <p>
+ * See {@link JsonDoubleParser} for the grammar of {@code number}.
+ * <p>
+ * The kind of the number is one of:
+ * <dl>
+ *     <dt>{@link #INT64}</dt>
+ *     <dd>The number has no fraction and no exponent, and fits into
+ *     a {@code long}. {@link #getLongValue()} returns the value.</dd>
+ *     <dt>{@link #DOUBLE}</dt>
+ *     <dd>The number has a fraction or an exponent, and has at most
+ *     19 significant digits. {@link #getDoubleValue()} returns the value.</dd>
+ *     <dt>{@link #BIG_DECIMAL}</dt>
+ *     <dd>The number has more than 19 significant digits, or it is an
+ *     integer that does not fit into a {@code long}.
+ *     {@link #getDoubleValue()} returns the value rounded to the nearest
+ *     {@code double}. The exact value can be parsed with
+ *     {@link JavaBigDecimalParser} from the characters in the range
+ *     {@code [getStartIndex(), getEndIndex())}.</dd>
+ *     <dt>{@link #INVALID}</dt>
+ *     <dd>The characters at the offset are not a {@code number}.
+ *     {@link #getEndIndex()} returns the index of the offending character.</dd>
+ * </dl>
+ * <p>
+ * Usage:
+ * <pre>{@literal
+ * JsonNumberScanner scanner = new JsonNumberScanner();
+ * switch (scanner.scan(bytes, offset, length)) {
+ *     case JsonNumberScanner.INT64: handleLong(scanner.getLongValue()); break;
+ *     case JsonNumberScanner.DOUBLE: handleDouble(scanner.getDoubleValue()); break;
+ *     case JsonNumberScanner.BIG_DECIMAL: ...; break;
+ *     default: throw new NumberFormatException();
+ * }
+ * offset = scanner.getEndIndex();
+ * }</pre>
+ */
+public final class JsonNumberScanner {
+    /**
+     * Kind of an illegal number.
+     */
+    public static final int INVALID = 0;
+    /**
+     * Kind of a number that fits into a {@code long}.
+     */
+    public static final int INT64 = 1;
+    /**
+     * Kind of a number that fits into a {@code double}.
+     */
+    public static final int DOUBLE = 2;
+    /**
+     * Kind of a number that needs a {@link java.math.BigDecimal}.
+     */
+    public static final int BIG_DECIMAL = 3;
+
+    private static final JsonNumberScannerFromByteArray BYTE_ARRAY_SCANNER = new JsonNumberScannerFromByteArray();
+    private static final JsonNumberScannerFromCharArray CHAR_ARRAY_SCANNER = new JsonNumberScannerFromCharArray();
+
+    private int kind;
+    private long longValue;
+    private long doubleBits;
+    private int startIndex;
+    private int endIndex;
+
+    /**
+     * Creates a new instance.
+     */
+    public JsonNumberScanner() {
+    }
+
+    /**
+     * Scans a {@code number} from a {@code byte} array.
+     *
+     * @param str    a byte array with characters in ISO-8859-1, ASCII or
+     *               UTF-8 encoding
+     * @param offset the index of the first byte of the {@code number}
+     * @param length the maximal number of bytes to scan
+     * @return the kind of the number
+     * @throws NullPointerException     if the string is null
+     * @throws IllegalArgumentException if offset or length are illegal
+     */
+    public int scan(byte[] str, int offset, int length) {
+        return BYTE_ARRAY_SCANNER.scan(str, offset, length, this);
+    }
+
+    /**
+     * Scans a {@code number} from a {@code char} array.
+     *
+     * @param str    a char array
+     * @param offset the index of the first character of the {@code number}
+     * @param length the maximal number of characters to scan
+     * @return the kind of the number
+     * @throws NullPointerException     if the string is null
+     * @throws IllegalArgumentException if offset or length are illegal
+     */
+    public int scan(char[] str, int offset, int length) {
+        return CHAR_ARRAY_SCANNER.scan(str, offset, length, this);
+    }
+
+    /**
+     * Returns the kind of the last scanned number.
+     *
+     * @return {@link #INVALID}, {@link #INT64}, {@link #DOUBLE} or {@link #BIG_DECIMAL}
+     */
+    public int getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the {@code long} value of the last scanned number.
+     *
+     * @return the value, if the kind is {@link #INT64}; otherwise 0
+     */
+    public long getLongValue() {
+        return longValue;
+    }
+
+    /**
+     * Returns the bit pattern of the {@code double} value of the last
+     * scanned number.
+     *
+     * @return the bit pattern, if the kind is not {@link #INVALID};
+     * otherwise the bit pattern of a NaN
+     */
+    public long getDoubleBits() {
+        return doubleBits;
+    }
+
+    /**
+     * Returns the {@code double} value of the last scanned number.
+     *
+     * @return the value, if the kind is not {@link #INVALID};
+     * otherwise NaN
+     */
+    public double getDoubleValue() {
+        return Double.longBitsToDouble(doubleBits);
+    }
+
+    /**
+     * Returns the start index of the last scanned number.
+     *
+     * @return the start index (inclusive)
+     */
+    public int getStartIndex() {
+        return startIndex;
+    }
+
+    /**
+     * Returns the end index of the last scanned number.
+     *
+     * @return the end index (exclusive), or the index of the offending
+     * character if the kind is {@link #INVALID}
+     */
+    public int getEndIndex() {
+        return endIndex;
+    }
+
+    int set(int kind, long longValue, long doubleBits, int startIndex, int endIndex) {
+        this.kind = kind;
+        this.longValue = longValue;
+        this.doubleBits = doubleBits;
+        this.startIndex = startIndex;
+        this.endIndex = endIndex;
+        return kind;
+    }
+
+    int setInvalid(int startIndex, int errorIndex) {
+        return set(INVALID, 0, AbstractNumberParser.SYNTAX_ERROR_BITS, startIndex, errorIndex);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * @(#)JsonNumberScannerFromByteArray.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Scans a JSON {@code number} from a {@code byte} array.
+ * <p>
+ * Runs the grammar automaton of the superclass in its scanning mode, and
+ * classifies the number in the value hook. The hook stores the result in the
+ * target of the scan: a {@link JsonNumberScanner}, or an element of a
+ * {@code double} or {@code float} array.
+ * <p>
+ * See {@link JsonNumberScanner}.
+ */
+final class JsonNumberScannerFromByteArray extends AbstractJsonFloatingPointBitsFromByteArray {
+
+    /**
+     * Creates a new instance.
+     */
+    public JsonNumberScannerFromByteArray() {
+
+    }
+
+    /**
+     * Scans a {@code number} production, and stores the result in the
+     * specified holder.
+     *
+     * @param str    a string
+     * @param offset start offset of the {@code number} in {@code str}
+     * @param length maximal length of the {@code number} in {@code str}
+     * @param result the result holder
+     * @return the kind of the number
+     */
+    int scan(byte[] str, int offset, int length, JsonNumberScanner result) {
+        final int endIndex = checkBounds(str.length, offset, length);
+        scanNumber(str, offset, endIndex, result, 0);
+        return result.getKind();
+    }
+
+    /**
+     * Scans a {@code number} production in the range {@code [offset, endIndex)},
+     * and stores its value in an array element.
+     * <p>
+     * A {@code float} value is rounded directly from the decimal
+     * representation.
+     *
+     * @param str       a string
+     * @param offset    start offset of the {@code number} in {@code str}
+     * @param endIndex  end index (exclusive) of the characters that may be scanned
+     * @param dest      a {@code double} or {@code float} array
+     * @param destIndex the index of the element
+     * @return the end index of the number, if the input is legal;
+     * otherwise, the bitwise complement of the index of the offending character.
+     */
+    int scanElement(byte[] str, int offset, int endIndex, Object dest, int destIndex) {
+        return (int) scanNumber(str, offset, endIndex, dest, destIndex);
+    }
+
+    @Override
+    long valueOfFloatLiteral(byte[] str, int startIndex, int endIndex, boolean isNegative,
+                             long significand, int exponent, boolean isSignificandTruncated,
+                             int exponentOfTruncatedSignificand) {
+        double d = FastDoubleMath.tryDecFloatToDoubleTruncated(isNegative, significand, exponent, isSignificandTruncated,
+                exponentOfTruncatedSignificand);
+        return Double.doubleToRawLongBits(Double.isNaN(d) ? Double.parseDouble(new String(str, startIndex, endIndex - startIndex, StandardCharsets.ISO_8859_1)) : d);
+    }
+
+    /**
+     * Stores the number in the target, and returns its end index.
+     */
+    @Override
+    long valueOfNumber(byte[] str, int startIndex, int endIndex, boolean isNegative, boolean isInteger,
+                       long significand, int exponent, boolean isSignificandTruncated,
+                       int exponentOfTruncatedSignificand, Object target, int targetIndex) {
+        final boolean isFloat = target instanceof float[];
+        final int kind;
+        long value = 0;
+        double d;
+        if (isInteger && !isSignificandTruncated
+                && (significand >= 0 || isNegative && significand == Long.MIN_VALUE)) {
+            kind = JsonNumberScanner.INT64;
+            value = isNegative ? -significand : significand;
+            d = isNegative && value == 0 ? -0.0 : isFloat ? (float) value : (double) value;
+        } else if (isFloat) {
+            kind = isSignificandTruncated || isInteger ? JsonNumberScanner.BIG_DECIMAL : JsonNumberScanner.DOUBLE;
+            float f = FastFloatMath.tryDecFloatToFloatTruncated(isNegative, significand, exponent, isSignificandTruncated,
+                    exponentOfTruncatedSignificand);
+            d = Float.isNaN(f) ? Float.parseFloat(new String(str, startIndex, endIndex - startIndex, StandardCharsets.ISO_8859_1)) : f;
+        } else {
+            kind = isSignificandTruncated || isInteger ? JsonNumberScanner.BIG_DECIMAL : JsonNumberScanner.DOUBLE;
+            d = FastDoubleMath.tryDecFloatToDoubleTruncated(isNegative, significand, exponent, isSignificandTruncated,
+                    exponentOfTruncatedSignificand);
+            if (Double.isNaN(d)) {
+                d = Double.parseDouble(new String(str, startIndex, endIndex - startIndex, StandardCharsets.ISO_8859_1));
+            }
+        }
+
+        if (target instanceof double[]) {
+            ((double[]) target)[targetIndex] = d;
+        } else if (isFloat) {
+            ((float[]) target)[targetIndex] = (float) d;
+        } else {
+            ((JsonNumberScanner) target).set(kind, value, Double.doubleToRawLongBits(d), startIndex, endIndex);
+        }
+        return endIndex;
+    }
+
+    /**
+     * Stores the error in the target, if it is a {@link JsonNumberScanner},
+     * and returns the bitwise complement of the error index.
+     */
+    @Override
+    long syntaxError(Object target, int startIndex, int errorIndex) {
+        if (target instanceof JsonNumberScanner) {
+            ((JsonNumberScanner) target).setInvalid(startIndex, errorIndex);
+        }
+        return ~errorIndex;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * @(#)NumberClassification.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+/**
+ * Classification codes that are returned by the {@code classify} methods
+ * of {@link JavaDoubleParser} and {@link JsonDoubleParser}.
+ * <p>
+ * A number is classified by the form of its literal, not by its value:
+ * {@code 1e0} is an {@link #EXPONENT}, and {@code 1.0} is a {@link #DECIMAL}.
+ */
+public final class NumberClassification {
+    /**
+     * The input is not a legal number.
+     */
+    public static final int INVALID = 0;
+    /**
+     * A decimal number without a decimal point and without an exponent,
+     * for example {@code -123}.
+     */
+    public static final int INTEGER = 1;
+    /**
+     * A decimal number with a decimal point, but without an exponent,
+     * for example {@code 1.5}.
+     */
+    public static final int DECIMAL = 2;
+    /**
+     * A decimal number with an exponent, for example {@code 1.5e3}.
+     */
+    public static final int EXPONENT = 3;
+    /**
+     * A hexadecimal number, for example {@code 0x1.8p1}.
+     */
+    public static final int HEXADECIMAL = 4;
+    /**
+     * {@code NaN}.
+     */
+    public static final int NAN = 5;
+    /**
+     * {@code Infinity} with an optional sign.
+     */
+    public static final int INFINITY = 6;
+
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private NumberClassification() {
+
+    }
+}
@@ -0,0 +1,350 @@
+/*
+ * @(#)NumberExtractor.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+/**
+ * Extracts all numbers from arbitrary text, for example from the log line
+ * {@code "latency=12.5ms user=42 ratio=1e-3"}.
+ * <p>
+ * The extractor walks the text once. It skips text that does not contain
+ * digits eight bytes at a time with the 'SIMD within a register technique'
+ * (SWAR). Each number is reported with its start index, end index and
+ * value to a {@link NumberConsumer}. No objects are allocated.
+ * <p>
+ * A number starts at a digit. At each position, the extractor reports
+ * the longest sequence of characters that matches the grammar, like
+ * the {@code find} method of a regular expression does. Text between
+ * numbers is ignored.
+ * <p>
+ * <b>Syntax</b>
+ * <p>
+ * {@link #JSON} matches the {@code number} production of
+ * {@link JsonDoubleParser}.
+ * <p>
+ * {@link #JAVA} matches the decimal subset of the
+ * {@code FloatingPointLiteral} production of {@link JavaDoubleParser}.
+ * Hexadecimal literals, {@code NaN}, {@code Infinity} and the type
+ * suffixes {@code d}, {@code D}, {@code f}, {@code F} are not matched,
+ * because they occur too often in words.
+ * <pre>
+ * JavaNumber:
+ *     [Sign] Digits [. [Digits]] [ExponentPart]
+ *     [Sign] . Digits [ExponentPart]
+ *
+ * JsonNumber:
+ *     [-] (0 | NonZeroDigit [Digits]) [. Digits] [ExponentPart]
+ *
+ * ExponentPart:
+ *     (e | E) [Sign] Digits
+ * </pre>
+ */
+public final class NumberExtractor {
+    /**
+     * Receives the numbers that are found by a {@link NumberExtractor}.
+     */
+    public interface NumberConsumer {
+        /**
+         * Is called for each number.
+         *
+         * @param start the index of the first character of the number
+         * @param end   the index after the last character of the number
+         * @param value the value of the number
+         */
+        void accept(int start, int end, double value);
+    }
+
+    /**
+     * Extracts numbers with the Java syntax.
+     */
+    public static final NumberExtractor JAVA = new NumberExtractor(false);
+    /**
+     * Extracts numbers with the JSON syntax.
+     */
+    public static final NumberExtractor JSON = new NumberExtractor(true);
+
+    private static final JavaDoubleBitsFromByteArray BYTE_ARRAY_PARSER = new JavaDoubleBitsFromByteArray();
+    private static final JavaDoubleBitsFromCharArray CHAR_ARRAY_PARSER = new JavaDoubleBitsFromCharArray();
+    private static final JavaDoubleBitsFromCharSequence CHAR_SEQUENCE_PARSER = new JavaDoubleBitsFromCharSequence();
+
+    private final boolean json;
+
+    private NumberExtractor(boolean json) {
+        this.json = json;
+    }
+
+    /**
+     * Extracts all numbers from a {@code byte} array.
+     *
+     * @param str      a byte array with characters in ISO-8859-1, ASCII
+     *                 or UTF-8 encoding
+     * @param offset   the index of the first byte
+     * @param length   the number of bytes
+     * @param consumer receives the numbers
+     * @return the number of numbers
+     * @throws NullPointerException     if the string or the consumer is null
+     * @throws IllegalArgumentException if offset or length are illegal
+     */
+    public int extract(byte[] str, int offset, int length, NumberConsumer consumer) {
+        final int endIndex = AbstractNumberParser.checkBounds(str.length, offset, length);
+        int count = 0;
+        int lowerBound = offset;
+        for (int index = indexOfDigit(str, offset, endIndex); index < endIndex; index = indexOfDigit(str, index, endIndex)) {
+            char before = charBefore(str, index - 1, lowerBound);
+            int start = index - prefixLength(before, charBefore(str, index - 2, lowerBound));
+            index = json && str[index] == '0' ? index + 1 : skipDigits(str, index, endIndex);
+            if (json || before != '.') {
+                index = skipDigits(str, index, endIndex, fractionPrefixLength(
+                        charAt(str, index, endIndex), charAt(str, index + 1, endIndex)));
+            }
+            index = skipDigits(str, index, endIndex, exponentPrefixLength(charAt(str, index, endIndex),
+                    charAt(str, index + 1, endIndex), charAt(str, index + 2, endIndex)));
+
+            consumer.accept(start, index,
+                    Double.longBitsToDouble(BYTE_ARRAY_PARSER.parseFloatingPointLiteral(str, start, index - start)));
+            count++;
+            lowerBound = index;
+        }
+        return count;
+    }
+
+    /**
+     * Extracts all numbers from a {@code char} array.
+     *
+     * @param str      a char array
+     * @param offset   the index of the first character
+     * @param length   the number of characters
+     * @param consumer receives the numbers
+     * @return the number of numbers
+     * @throws NullPointerException     if the string or the consumer is null
+     * @throws IllegalArgumentException if offset or length are illegal
+     */
+    public int extract(char[] str, int offset, int length, NumberConsumer consumer) {
+        final int endIndex = AbstractNumberParser.checkBounds(str.length, offset, length);
+        int count = 0;
+        int lowerBound = offset;
+        for (int index = indexOfDigit(str, offset, endIndex); index < endIndex; index = indexOfDigit(str, index, endIndex)) {
+            char before = charBefore(str, index - 1, lowerBound);
+            int start = index - prefixLength(before, charBefore(str, index - 2, lowerBound));
+            index = json && str[index] == '0' ? index + 1 : skipDigits(str, index, endIndex);
+            if (json || before != '.') {
+                index = skipDigits(str, index, endIndex, fractionPrefixLength(
+                        charAt(str, index, endIndex), charAt(str, index + 1, endIndex)));
+            }
+            index = skipDigits(str, index, endIndex, exponentPrefixLength(charAt(str, index, endIndex),
+                    charAt(str, index + 1, endIndex), charAt(str, index + 2, endIndex)));
+
+            consumer.accept(start, index,
+                    Double.longBitsToDouble(CHAR_ARRAY_PARSER.parseFloatingPointLiteral(str, start, index - start)));
+            count++;
+            lowerBound = index;
+        }
+        return count;
+    }
+
+    /**
+     * Extracts all numbers from a {@link CharSequence}.
+     *
+     * @param str      a string
+     * @param offset   the index of the first character
+     * @param length   the number of characters
+     * @param consumer receives the numbers
+     * @return the number of numbers
+     * @throws NullPointerException     if the string or the consumer is null
+     * @throws IllegalArgumentException if offset or length are illegal
+     */
+    public int extract(CharSequence str, int offset, int length, NumberConsumer consumer) {
+        final int endIndex = AbstractNumberParser.checkBounds(str.length(), offset, length);
+        int count = 0;
+        int lowerBound = offset;
+        for (int index = indexOfDigit(str, offset, endIndex); index < endIndex; index = indexOfDigit(str, index, endIndex)) {
+            char before = charBefore(str, index - 1, lowerBound);
+            int start = index - prefixLength(before, charBefore(str, index - 2, lowerBound));
+            index = json && str.charAt(index) == '0' ? index + 1 : skipDigits(str, index, endIndex);
+            if (json || before != '.') {
+                index = skipDigits(str, index, endIndex, fractionPrefixLength(
+                        charAt(str, index, endIndex), charAt(str, index + 1, endIndex)));
+            }
+            index = skipDigits(str, index, endIndex, exponentPrefixLength(charAt(str, index, endIndex),
+                    charAt(str, index + 1, endIndex), charAt(str, index + 2, endIndex)));
+
+            consumer.accept(start, index,
+                    Double.longBitsToDouble(CHAR_SEQUENCE_PARSER.parseFloatingPointLiteral(str, start, index - start)));
+            count++;
+            lowerBound = index;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of characters in front of the first digit of a
+     * number, that belong to the number: a sign, and with the Java syntax
+     * also a decimal point.
+     *
+     * @param before       the character in front of the first digit, or 0
+     * @param beforeBefore the character in front of {@code before}, or 0
+     * @return the number of characters
+     */
+    private int prefixLength(char before, char beforeBefore) {
+        if (!json && before == '.') {
+            return isSign(beforeBefore) ? 2 : 1;
+        }
+        return isSign(before) ? 1 : 0;
+    }
+
+    private boolean isSign(char ch) {
+        return ch == '-' || !json && ch == '+';
+    }
+
+    /**
+     * Returns the number of characters after the digits of the integer part,
+     * that are in front of the digits of the fraction part.
+     *
+     * @param point the character after the integer part, or 0
+     * @param digit the character after {@code point}, or 0
+     * @return 1 if there is a fraction part, 0 otherwise
+     */
+    private int fractionPrefixLength(char point, char digit) {
+        return point == '.' && (!json || FastDoubleSwar.isDigit(digit)) ? 1 : 0;
+    }
+
+    /**
+     * Returns the number of characters after the significand, that are in
+     * front of the digits of the exponent.
+     *
+     * @param e     the character after the significand, or 0
+     * @param sign  the character after {@code e}, or 0
+     * @param digit the character after {@code sign}, or 0
+     * @return 1 or 2 if there is an exponent part, 0 otherwise
+     */
+    private static int exponentPrefixLength(char e, char sign, char digit) {
+        if ((e | 0x20) != 'e') {
+            return 0;
+        }
+        if (FastDoubleSwar.isDigit(sign)) {
+            return 1;
+        }
+        return (sign == '-' || sign == '+') && FastDoubleSwar.isDigit(digit) ? 2 : 0;
+    }
+
+    /**
+     * Returns a mask with the high bit set in each byte of the chunk that
+     * contains an ASCII digit.
+     * <p>
+     * Unlike {@code FastDoubleSwar.countUpToEightDigitsUtf8}, this
+     * computation has no carries between the bytes. Therefore, the mask
+     * is exact for all bytes of the chunk.
+     *
+     * @param chunk eight bytes in little-endian order
+     * @return the mask
+     */
+    static long digitMask(long chunk) {
+        long t = chunk & 0x7f7f7f7f7f7f7f7fL;
+        long greaterOrEqualZero = t + 0x5050505050505050L;// high bit is set if t >= '0'
+        long greaterThanNine = t + 0x4646464646464646L;// high bit is set if t > '9'
+        return greaterOrEqualZero & ~greaterThanNine & ~chunk & 0x8080808080808080L;
+    }
+
+    private static char charAt(byte[] str, int i, int endIndex) {
+        return i < endIndex ? (char) (str[i] & 0xff) : 0;
+    }
+
+    private static char charBefore(byte[] str, int i, int lowerBound) {
+        return i >= lowerBound ? (char) (str[i] & 0xff) : 0;
+    }
+
+    private static int skipDigits(byte[] str, int index, int endIndex, int prefixLength) {
+        return prefixLength == 0 ? index : skipDigits(str, index + prefixLength, endIndex);
+    }
+
+    private static int indexOfDigit(byte[] str, int index, int endIndex) {
+        for (; index < endIndex - 7; index += 8) {
+            long mask = digitMask(FastDoubleSwar.readLongLE(str, index));
+            if (mask != 0) {
+                return index + (Long.numberOfTrailingZeros(mask) >> 3);
+            }
+        }
+        for (; index < endIndex; index++) {
+            if (FastDoubleSwar.isDigit(str[index])) {
+                return index;
+            }
+        }
+        return endIndex;
+    }
+
+    private static int skipDigits(byte[] str, int index, int endIndex) {
+        for (; index < endIndex - 7; index += 8) {
+            long mask = ~digitMask(FastDoubleSwar.readLongLE(str, index)) & 0x8080808080808080L;
+            if (mask != 0) {
+                return index + (Long.numberOfTrailingZeros(mask) >> 3);
+            }
+        }
+        for (; index < endIndex; index++) {
+            if (!FastDoubleSwar.isDigit(str[index])) {
+                return index;
+            }
+        }
+        return endIndex;
+    }
+
+    private static char charAt(char[] str, int i, int endIndex) {
+        return i < endIndex ? str[i] : 0;
+    }
+
+    private static char charBefore(char[] str, int i, int lowerBound) {
+        return i >= lowerBound ? str[i] : 0;
+    }
+
+    private static int skipDigits(char[] str, int index, int endIndex, int prefixLength) {
+        return prefixLength == 0 ? index : skipDigits(str, index + prefixLength, endIndex);
+    }
+
+    private static int indexOfDigit(char[] str, int index, int endIndex) {
+        for (; index < endIndex; index++) {
+            if (FastDoubleSwar.isDigit(str[index])) {
+                return index;
+            }
+        }
+        return endIndex;
+    }
+
+    private static int skipDigits(char[] str, int index, int endIndex) {
+        for (; index < endIndex; index++) {
+            if (!FastDoubleSwar.isDigit(str[index])) {
+                return index;
+            }
+        }
+        return endIndex;
+    }
+
+    private static char charAt(CharSequence str, int i, int endIndex) {
+        return i < endIndex ? str.charAt(i) : 0;
+    }
+
+    private static char charBefore(CharSequence str, int i, int lowerBound) {
+        return i >= lowerBound ? str.charAt(i) : 0;
+    }
+
+    private static int skipDigits(CharSequence str, int index, int endIndex, int prefixLength) {
+        return prefixLength == 0 ? index : skipDigits(str, index + prefixLength, endIndex);
+    }
+
+    private static int indexOfDigit(CharSequence str, int index, int endIndex) {
+        for (; index < endIndex; index++) {
+            if (FastDoubleSwar.isDigit(str.charAt(index))) {
+                return index;
+            }
+        }
+        return endIndex;
+    }
+
+    private static int skipDigits(CharSequence str, int index, int endIndex) {
+        for (; index < endIndex; index++) {
+            if (!FastDoubleSwar.isDigit(str.charAt(index))) {
+                return index;
+            }
+        }
+        return endIndex;
+    }
+}
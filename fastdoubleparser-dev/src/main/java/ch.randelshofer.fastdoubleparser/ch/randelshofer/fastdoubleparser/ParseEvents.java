@@ -0,0 +1,41 @@
+/*
+ * @(#)ParseEvents.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+/**
+ * Guards the JDK Flight Recorder events {@link BigNumberParseEvent} and
+ * {@link FftMultiplyEvent}.
+ * <p>
+ * The module {@code jdk.jfr} is an optional dependency of this module
+ * ({@code requires static}). The event classes extend a class of that
+ * module, they can only be loaded if it is present. The parsers check
+ * {@link #AVAILABLE} before they use an event class.
+ * <p>
+ * If this module is on the module path, {@code jdk.jfr} is only present
+ * if another module requires it, or with the command line option
+ * {@code --add-modules jdk.jfr}. If this module is on the class path,
+ * {@code jdk.jfr} is present if the JDK contains it.
+ */
+final class ParseEvents {
+    /**
+     * True if the module {@code jdk.jfr} is present.
+     */
+    static final boolean AVAILABLE = isAvailable();
+
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private ParseEvents() {
+    }
+
+    private static boolean isAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event", false, ParseEvents.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * @(#)ParseMetrics.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import javax.management.JMException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Provides counters that show how often the parsers take their fast paths
+ * and their slow paths.
+ * <p>
+ * The counters are organized by parser family and event. For example,
+ * {@code get(JAVA_DOUBLE, SLOW_PATH_FALLBACKS)} is the number of
+ * {@code FloatingPointLiteral}s that {@link JavaDoubleParser} could not
+ * convert with the Clinger or the Eisel-Lemire algorithm.
+ * <p>
+ * Metrics are disabled by default. They can be enabled by setting the
+ * system property {@code ch.randelshofer.fastdoubleparser.metrics} to
+ * {@code true}. The property is read once, when this class is initialized.
+ * When metrics are disabled, the just-in-time compiler removes the
+ * counting code from the parsers, and all counters stay zero.
+ * <p>
+ * Each counter is a {@link LongAdder}, so that threads that parse
+ * concurrently do not contend on a single memory location. The counters
+ * are only created when they are used, because initializing
+ * {@link LongAdder} takes several milliseconds in a fresh JVM.
+ * <p>
+ * The counters can be read with {@link #snapshot()}, or over JMX after
+ * calling {@link #registerMBean()}.
+ * <p>
+ * Events of the families:
+ * <dl>
+ *     <dt>{@link #FAST_PATH_HITS}</dt>
+ *     <dd>the value was computed with the Clinger or the Eisel-Lemire algorithm</dd>
+ *     <dt>{@link #TRUNCATED_RETRIES}</dt>
+ *     <dd>the significand had more than 19 digits; the fast algorithm had to
+ *     be run for the truncated significand and for the truncated significand + 1</dd>
+ *     <dt>{@link #SLOW_PATH_FALLBACKS}</dt>
+ *     <dd>the value had to be computed with {@link Double#parseDouble(String)}
+ *     or with the slow path for arbitrary digits</dd>
+ *     <dt>{@link #SYNTAX_ERRORS}</dt>
+ *     <dd>the input could not be parsed</dd>
+ *     <dt>{@link #RECURSIVE_PARSES}</dt>
+ *     <dd>the digits of a big number were parsed with the recursive algorithm</dd>
+ *     <dt>{@link #FFT_MULTIPLIES}</dt>
+ *     <dd>a multiplication or a squaring was computed with the FFT algorithm</dd>
+ * </dl>
+ */
+public final class ParseMetrics {
+    /**
+     * The family of {@link JavaDoubleParser}.
+     */
+    public static final int JAVA_DOUBLE = 0;
+    /**
+     * The family of {@link JavaFloatParser}.
+     */
+    public static final int JAVA_FLOAT = 1;
+    /**
+     * The family of {@link JsonDoubleParser}.
+     */
+    public static final int JSON_DOUBLE = 2;
+    /**
+     * The family of {@link ConfigurableDoubleParser}.
+     */
+    public static final int CONFIGURABLE_DOUBLE = 3;
+    /**
+     * The family of {@link JavaBigDecimalParser}.
+     */
+    public static final int BIG_DECIMAL = 4;
+    /**
+     * The family of {@link JavaBigIntegerParser}.
+     */
+    public static final int BIG_INTEGER = 5;
+    /**
+     * The family of the multiplication algorithms, that are shared by
+     * the big number parsers. Only {@link #FFT_MULTIPLIES} is counted
+     * for this family.
+     */
+    public static final int MULTIPLIER = 6;
+    static final int FAMILY_COUNT = 7;
+
+    /**
+     * The number of values that were computed on the fast path.
+     */
+    public static final int FAST_PATH_HITS = 0;
+    /**
+     * The number of values with a truncated significand.
+     */
+    public static final int TRUNCATED_RETRIES = 1;
+    /**
+     * The number of values that were computed on the slow path.
+     */
+    public static final int SLOW_PATH_FALLBACKS = 2;
+    /**
+     * The number of inputs that could not be parsed.
+     */
+    public static final int SYNTAX_ERRORS = 3;
+    /**
+     * The number of digit sequences that were parsed recursively.
+     */
+    public static final int RECURSIVE_PARSES = 4;
+    /**
+     * The number of FFT multiplications and squarings.
+     */
+    public static final int FFT_MULTIPLIES = 5;
+    static final int EVENT_COUNT = 6;
+
+    private static final String[] FAMILY_NAMES = {
+            "javaDouble", "javaFloat", "jsonDouble", "configurableDouble", "bigDecimal", "bigInteger", "multiplier"
+    };
+    private static final String[] EVENT_NAMES = {
+            "fastPathHits", "truncatedRetries", "slowPathFallbacks", "syntaxErrors", "recursiveParses", "fftMultiplies"
+    };
+
+    /**
+     * True if metrics are enabled. This is a compile-time constant for the
+     * just-in-time compiler.
+     */
+    static final boolean ENABLED = Boolean.parseBoolean(getProperty("ch.randelshofer.fastdoubleparser.metrics", "false"));
+
+    /**
+     * Holds the counters, so that they are only created when they are used.
+     * <p>
+     * The parsers only touch this class if metrics are enabled. Creating
+     * the first {@link LongAdder} bootstraps its {@code VarHandle}s,
+     * which would otherwise slow down the first parse in a fresh JVM.
+     */
+    private static final class Counters {
+        private static final LongAdder[] COUNTERS = new LongAdder[FAMILY_COUNT * EVENT_COUNT];
+
+        static {
+            for (int i = 0; i < COUNTERS.length; i++) {
+                COUNTERS[i] = new LongAdder();
+            }
+        }
+    }
+
+    private final long[] counts;
+
+    private ParseMetrics(long[] counts) {
+        this.counts = counts;
+    }
+
+    /**
+     * Returns true if metrics are enabled.
+     *
+     * @return true if enabled
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Returns a snapshot of all counters.
+     * <p>
+     * The counters are read one after the other. If other threads are
+     * parsing at the same time, the snapshot is not atomic.
+     *
+     * @return a snapshot
+     */
+    public static ParseMetrics snapshot() {
+        long[] counts = new long[FAMILY_COUNT * EVENT_COUNT];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = Counters.COUNTERS[i].sum();
+        }
+        return new ParseMetrics(counts);
+    }
+
+    /**
+     * Resets all counters to zero.
+     */
+    public static void reset() {
+        for (LongAdder counter : Counters.COUNTERS) {
+            counter.reset();
+        }
+    }
+
+    /**
+     * Registers an MXBean for the counters with the platform MBean server,
+     * under the name {@code ch.randelshofer.fastdoubleparser:type=ParseMetrics}.
+     * <p>
+     * Does nothing if the MXBean is already registered.
+     * <p>
+     * This method requires the module {@code java.management}.
+     *
+     * @throws JMException if the MXBean can not be registered
+     */
+    public static void registerMBean() throws JMException {
+        ParseMetricsBean.register();
+    }
+
+    /**
+     * Returns the value of a counter in this snapshot.
+     *
+     * @param family the parser family, for example {@link #JAVA_DOUBLE}
+     * @param event  the event, for example {@link #FAST_PATH_HITS}
+     * @return the value of the counter
+     * @throws IllegalArgumentException if family or event are illegal
+     */
+    public long get(int family, int event) {
+        if (family < 0 || family >= FAMILY_COUNT || event < 0 || event >= EVENT_COUNT) {
+            throw new IllegalArgumentException("family=" + family + ", event=" + event);
+        }
+        return counts[family * EVENT_COUNT + event];
+    }
+
+    /**
+     * Returns the counters of this snapshot that are not zero, with keys
+     * of the form {@code family.event}, for example
+     * {@code javaDouble.fastPathHits}.
+     *
+     * @return a map from counter names to values
+     */
+    public Map<String, Long> toMap() {
+        Map<String, Long> map = new LinkedHashMap<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                map.put(FAMILY_NAMES[i / EVENT_COUNT] + "." + EVENT_NAMES[i % EVENT_COUNT], counts[i]);
+            }
+        }
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return "ParseMetrics" + toMap();
+    }
+
+    /**
+     * Counts an event.
+     *
+     * @param family the parser family
+     * @param event  the event
+     */
+    static void count(int family, int event) {
+        if (ENABLED) {
+            Counters.COUNTERS[family * EVENT_COUNT + event].increment();
+        }
+    }
+
+    /**
+     * Counts the conversion of a significand and an exponent into a
+     * floating point value.
+     *
+     * @param family                 the parser family
+     * @param isSignificandTruncated whether the significand was truncated
+     * @param isSlowPath             whether the fast path failed
+     */
+    static void countConversion(int family, boolean isSignificandTruncated, boolean isSlowPath) {
+        if (ENABLED) {
+            if (isSignificandTruncated) {
+                Counters.COUNTERS[family * EVENT_COUNT + TRUNCATED_RETRIES].increment();
+            }
+            Counters.COUNTERS[family * EVENT_COUNT + (isSlowPath ? SLOW_PATH_FALLBACKS : FAST_PATH_HITS)].increment();
+        }
+    }
+
+    /**
+     * Counts a syntax error and creates the exception for it.
+     *
+     * @param family the parser family
+     * @return a new exception
+     */
+    static NumberFormatException syntaxError(int family) {
+        count(family, SYNTAX_ERRORS);
+        return new NumberFormatException(AbstractNumberParser.SYNTAX_ERROR);
+    }
+
+    private static String getProperty(String key, String defaultValue) {
+        try {
+            return System.getProperty(key, defaultValue);
+        } catch (SecurityException e) {
+            return defaultValue;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * @(#)ParseMetricsBean.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+/**
+ * Implements {@link ParseMetricsMXBean}.
+ */
+final class ParseMetricsBean implements ParseMetricsMXBean {
+    /**
+     * Registers an instance of this class with the platform MBean server.
+     * This method is here and not in {@link ParseMetrics}, so that the
+     * parsers do not load the classes of {@code java.management}.
+     *
+     * @throws JMException if the MXBean can not be registered
+     */
+    static void register() throws JMException {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new ParseMetricsBean(),
+                    new ObjectName("ch.randelshofer.fastdoubleparser:type=ParseMetrics"));
+        } catch (InstanceAlreadyExistsException e) {
+            // The MXBean has already been registered
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return ParseMetrics.isEnabled();
+    }
+
+    @Override
+    public Map<String, Long> getCounters() {
+        return ParseMetrics.snapshot().toMap();
+    }
+
+    @Override
+    public void reset() {
+        ParseMetrics.reset();
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * @(#)ParseMetricsMXBean.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import java.util.Map;
+
+/**
+ * The management interface of {@link ParseMetrics}.
+ * <p>
+ * See {@link ParseMetrics#registerMBean()}.
+ */
+public interface ParseMetricsMXBean {
+    /**
+     * Returns true if metrics are enabled.
+     *
+     * @return true if enabled
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the counters that are not zero.
+     * <p>
+     * See {@link ParseMetrics#toMap()}.
+     *
+     * @return a map from counter names to values
+     */
+    Map<String, Long> getCounters();
+
+    /**
+     * Resets all counters to zero.
+     */
+    void reset();
+}
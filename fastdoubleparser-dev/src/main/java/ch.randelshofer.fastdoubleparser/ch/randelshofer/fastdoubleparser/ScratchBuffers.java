@@ -0,0 +1,243 @@
+/*
+ * @(#)ScratchBuffers.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Provides reusable per-thread scratch buffers for the working arrays of
+ * big-number parsing and column parsing, and counters for the allocations
+ * of these arrays.
+ * <p>
+ * Parsing a number with many digits allocates large short-lived arrays:
+ * the vectors of the FFT multiplication, and the significand of the
+ * iterative digit parser. Parsing a column with
+ * {@code VectorLaneDoubleParser} allocates small arrays for its lanes.
+ * When scratch buffers are enabled, each thread keeps these arrays and
+ * reuses them for the next number or column.
+ * <p>
+ * Scratch buffers are disabled by default, because each thread retains
+ * the largest arrays that it has used so far. They can be enabled by
+ * setting the system property
+ * {@code ch.randelshofer.fastdoubleparser.scratchBuffers} to {@code true}.
+ * Arrays that are larger than the value of the system property
+ * {@code ch.randelshofer.fastdoubleparser.scratchBuffers.maxBytes}
+ * (default 64 MiB) are never retained.
+ * <p>
+ * The counters are always maintained. They count each array that is
+ * handed out: either freshly allocated, or reused from a scratch buffer.
+ */
+public final class ScratchBuffers {
+    /**
+     * The number of FFT vectors that can be in use at the same time.
+     */
+    static final int NUM_DOUBLE_SLOTS = 2;
+    private static final boolean ENABLED = Boolean.parseBoolean(getProperty("ch.randelshofer.fastdoubleparser.scratchBuffers", "false"));
+    private static final long MAX_BYTES = Long.parseLong(getProperty("ch.randelshofer.fastdoubleparser.scratchBuffers.maxBytes", Long.toString(1L << 26)));
+    private static final ThreadLocal<ScratchBuffers> BUFFERS = new ThreadLocal<>();
+    private static final LongAdder allocationCount = new LongAdder();
+    private static final LongAdder allocatedBytes = new LongAdder();
+    private static final LongAdder reuseCount = new LongAdder();
+    private static final LongAdder reusedBytes = new LongAdder();
+
+    private final double[][] doubles = new double[NUM_DOUBLE_SLOTS][];
+    private byte[] bytes;
+    private int[] ints;
+    private long[] longs;
+
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private ScratchBuffers() {
+    }
+
+    /**
+     * Returns true if scratch buffers are enabled.
+     *
+     * @return true if enabled
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Returns the number of arrays that have been freshly allocated.
+     *
+     * @return the number of allocations
+     */
+    public static long getAllocationCount() {
+        return allocationCount.sum();
+    }
+
+    /**
+     * Returns the number of bytes that have been freshly allocated.
+     *
+     * @return the number of allocated bytes
+     */
+    public static long getAllocatedBytes() {
+        return allocatedBytes.sum();
+    }
+
+    /**
+     * Returns the number of arrays that have been reused from a scratch buffer.
+     *
+     * @return the number of reuses
+     */
+    public static long getReuseCount() {
+        return reuseCount.sum();
+    }
+
+    /**
+     * Returns the number of bytes that have been reused from a scratch buffer.
+     *
+     * @return the number of reused bytes
+     */
+    public static long getReusedBytes() {
+        return reusedBytes.sum();
+    }
+
+    /**
+     * Resets all counters to zero.
+     */
+    public static void resetCounters() {
+        allocationCount.reset();
+        allocatedBytes.reset();
+        reuseCount.reset();
+        reusedBytes.reset();
+    }
+
+    /**
+     * Releases the scratch buffers of the current thread.
+     */
+    public static void releaseThreadBuffers() {
+        BUFFERS.remove();
+    }
+
+    /**
+     * Returns a {@code double} array with at least the specified length.
+     * The first {@code length} elements are zero.
+     * <p>
+     * The array remains valid until the same slot is requested again
+     * by the same thread.
+     *
+     * @param slot   the slot in range {@literal [0, NUM_DOUBLE_SLOTS)}
+     * @param length the minimal length of the array
+     * @return the array
+     */
+    static double[] doubles(int slot, int length) {
+        long numBytes = (long) length << 3;
+        if (!ENABLED || numBytes > MAX_BYTES) {
+            return allocated(new double[length], numBytes);
+        }
+        ScratchBuffers b = get();
+        double[] a = b.doubles[slot];
+        if (a == null || a.length < length) {
+            return b.doubles[slot] = allocated(new double[length], numBytes);
+        }
+        Arrays.fill(a, 0, length, 0.0);
+        return reused(a, numBytes);
+    }
+
+    /**
+     * Returns a {@code byte} array with at least the specified length.
+     * The first {@code length} elements are zero.
+     * <p>
+     * The array remains valid until a {@code byte} array is requested
+     * again by the same thread.
+     *
+     * @param length the minimal length of the array
+     * @return the array
+     */
+    static byte[] bytes(int length) {
+        if (!ENABLED || length > MAX_BYTES) {
+            return allocated(new byte[length], length);
+        }
+        ScratchBuffers b = get();
+        byte[] a = b.bytes;
+        if (a == null || a.length < length) {
+            return b.bytes = allocated(new byte[length], length);
+        }
+        Arrays.fill(a, 0, length, (byte) 0);
+        return reused(a, length);
+    }
+
+    /**
+     * Returns an {@code int} array with at least the specified length.
+     * The first {@code length} elements are zero.
+     * <p>
+     * The array remains valid until an {@code int} array is requested
+     * again by the same thread.
+     *
+     * @param length the minimal length of the array
+     * @return the array
+     */
+    static int[] ints(int length) {
+        long numBytes = (long) length << 2;
+        if (!ENABLED || numBytes > MAX_BYTES) {
+            return allocated(new int[length], numBytes);
+        }
+        ScratchBuffers b = get();
+        int[] a = b.ints;
+        if (a == null || a.length < length) {
+            return b.ints = allocated(new int[length], numBytes);
+        }
+        Arrays.fill(a, 0, length, 0);
+        return reused(a, numBytes);
+    }
+
+    /**
+     * Returns a {@code long} array with at least the specified length.
+     * The first {@code length} elements are zero.
+     * <p>
+     * The array remains valid until a {@code long} array is requested
+     * again by the same thread.
+     *
+     * @param length the minimal length of the array
+     * @return the array
+     */
+    static long[] longs(int length) {
+        long numBytes = (long) length << 3;
+        if (!ENABLED || numBytes > MAX_BYTES) {
+            return allocated(new long[length], numBytes);
+        }
+        ScratchBuffers b = get();
+        long[] a = b.longs;
+        if (a == null || a.length < length) {
+            return b.longs = allocated(new long[length], numBytes);
+        }
+        Arrays.fill(a, 0, length, 0L);
+        return reused(a, numBytes);
+    }
+
+    private static ScratchBuffers get() {
+        ScratchBuffers b = BUFFERS.get();
+        if (b == null) {
+            b = new ScratchBuffers();
+            BUFFERS.set(b);
+        }
+        return b;
+    }
+
+    private static <T> T allocated(T array, long numBytes) {
+        allocationCount.increment();
+        allocatedBytes.add(numBytes);
+        return array;
+    }
+
+    private static <T> T reused(T array, long numBytes) {
+        reuseCount.increment();
+        reusedBytes.add(numBytes);
+        return array;
+    }
+
+    private static String getProperty(String key, String defaultValue) {
+        try {
+            return System.getProperty(key, defaultValue);
+        } catch (SecurityException e) {
+            return defaultValue;
+        }
+    }
+}
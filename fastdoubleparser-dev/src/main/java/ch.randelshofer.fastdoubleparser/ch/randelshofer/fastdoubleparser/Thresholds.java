@@ -0,0 +1,101 @@
+/*
+ * @(#)Thresholds.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Properties;
+
+/**
+ * Provides the thresholds for selecting algorithms.
+ * <p>
+ * The default values of the thresholds have been tuned on a single machine.
+ * The crossovers of the algorithms differ between machines. If the system
+ * property {@code ch.randelshofer.fastdoubleparser.thresholds} is set to
+ * the path of a properties file, the thresholds are read from that file
+ * when this class is initialized.
+ * <p>
+ * A properties file can be created with the calibration tool
+ * {@code ch.randelshofer.fastdoubleparserdemo.Calibrate} in the demo module.
+ * <p>
+ * The file may contain the following keys. Missing keys, values that
+ * can not be parsed, and values below the minimal value of a key are
+ * replaced by the default value.
+ * <dl>
+ *     <dt>{@value #BIG_INTEGER_RECURSION_THRESHOLD}</dt>
+ *     <dd>see {@link AbstractBigIntegerParser#RECURSION_THRESHOLD}, minimal value 18</dd>
+ *     <dt>{@value #BIG_DECIMAL_RECURSION_THRESHOLD}</dt>
+ *     <dd>see {@link AbstractBigDecimalParser#RECURSION_THRESHOLD}, minimal value 18</dd>
+ *     <dt>{@value #BIG_DECIMAL_MANY_DIGITS_THRESHOLD}</dt>
+ *     <dd>see {@link AbstractBigDecimalParser#MANY_DIGITS_THRESHOLD}, minimal value 0</dd>
+ *     <dt>{@value #FFT_THRESHOLD}</dt>
+ *     <dd>see {@link FftMultiplier#FFT_THRESHOLD}, minimal value 0,
+ *     values below {@value FftMultiplier#MIN_FFT_THRESHOLD} or below the
+ *     value of {@value #TOOM_COOK_THRESHOLD} are raised to the larger
+ *     of the two</dd>
+ *     <dt>{@value #TOOM_COOK_THRESHOLD}</dt>
+ *     <dd>see {@link FftMultiplier#TOOM_COOK_THRESHOLD}, minimal value 0</dd>
+ * </dl>
+ */
+final class Thresholds {
+    /**
+     * The system property that holds the path to the properties file.
+     */
+    static final String THRESHOLDS_PROPERTY = "ch.randelshofer.fastdoubleparser.thresholds";
+    static final String BIG_INTEGER_RECURSION_THRESHOLD = "bigIntegerRecursionThreshold";
+    static final String BIG_DECIMAL_RECURSION_THRESHOLD = "bigDecimalRecursionThreshold";
+    static final String BIG_DECIMAL_MANY_DIGITS_THRESHOLD = "bigDecimalManyDigitsThreshold";
+    static final String FFT_THRESHOLD = "fftThreshold";
+    static final String TOOM_COOK_THRESHOLD = "toomCookThreshold";
+
+    private static final Properties PROPERTIES = load();
+
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private Thresholds() {
+    }
+
+    /**
+     * Returns the value of the specified threshold.
+     *
+     * @param key          the key of the threshold
+     * @param defaultValue the default value
+     * @param minValue     the minimal value
+     * @return the value from the properties file if it is valid, otherwise
+     * the default value
+     */
+    static int get(String key, int defaultValue, int minValue) {
+        String value = PROPERTIES.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int intValue = Integer.parseInt(value.trim());
+            return intValue >= minValue ? intValue : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static Properties load() {
+        Properties properties = new Properties();
+        try {
+            String path = System.getProperty(THRESHOLDS_PROPERTY);
+            if (path != null) {
+                try (InputStream in = Files.newInputStream(Paths.get(path))) {
+                    properties.load(in);
+                }
+            }
+        } catch (IOException | SecurityException | IllegalArgumentException e) {
+            // We can not report the problem at class initialization,
+            // we fall back to the default values.
+            properties.clear();
+        }
+        return properties;
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * @(#)VectorLaneDoubleParser.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+
+import static ch.randelshofer.fastdoubleparser.AbstractNumberParser.SYNTAX_ERROR_BITS;
+import static jdk.incubator.vector.VectorOperators.ABS;
+import static jdk.incubator.vector.VectorOperators.AND;
+import static jdk.incubator.vector.VectorOperators.EQ;
+import static jdk.incubator.vector.VectorOperators.GT;
+import static jdk.incubator.vector.VectorOperators.LE;
+import static jdk.incubator.vector.VectorOperators.LSHR;
+import static jdk.incubator.vector.VectorOperators.MIN;
+import static jdk.incubator.vector.VectorOperators.NEG;
+import static jdk.incubator.vector.VectorOperators.UNSIGNED_LE;
+
+/**
+ * Experimental: parses eight short decimal literals at once, one literal
+ * per vector lane.
+ * <p>
+ * {@link FastDoubleVector} parses the digits of a single literal with one
+ * vector operation. This class uses a transposed layout instead: the
+ * first 16 bytes of eight literals are gathered into two
+ * {@link LongVector}s with eight lanes each. Then the byte at each
+ * position is processed for all eight literals at once: the lanes
+ * compute the significand, the position of the decimal point, the
+ * exponent and the sign of their literal.
+ * <p>
+ * A lane succeeds if its literal has the form
+ * {@code [Sign] Digits [. [Digits]] [ExponentPart]}
+ * or {@code [Sign] . Digits [ExponentPart]} with at most 15 digits in the
+ * significand, and if the power of ten, that is the exponent minus the
+ * number of fraction digits, is in the range [-22, 22]. Then the
+ * significand and the power of ten are exact in a {@code double}, and the
+ * value is computed with a single correctly rounded multiplication or
+ * division (Clinger's fast path). All other literals, for example literals
+ * with a larger power of ten, a type suffix, white space or more than 16
+ * bytes, are parsed with {@link JavaDoubleBitsFromByteArray}.
+ * <p>
+ * The input has the layout of
+ * {@link ColumnParser#parseDoubleColumn(byte[], int[], int, int, double[], int, long[])}.
+ * <p>
+ * References:
+ * <dl>
+ *     <dt>William D. Clinger, How to Read Floating Point Numbers Accurately,
+ *     PLDI 1990</dt>
+ *     <dd><a href="https://doi.org/10.1145/93542.93557">doi.org</a></dd>
+ * </dl>
+ */
+final class VectorLaneDoubleParser {
+    /**
+     * The number of literals that are parsed at once.
+     */
+    static final int LANES = 8;
+    /**
+     * Literals that are longer than this are parsed with the scalar parser.
+     */
+    static final int MAX_LANE_LENGTH = 16;
+    private static final int MAX_LANE_DIGITS = 15;
+    /**
+     * The largest power of ten that is exact in a {@code double}.
+     */
+    private static final int MAX_LANE_POWER = 22;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final JavaDoubleBitsFromByteArray SCALAR_PARSER = new JavaDoubleBitsFromByteArray();
+
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private VectorLaneDoubleParser() {
+
+    }
+
+    /**
+     * Parses rows of a column into a {@code double} array.
+     * <p>
+     * See {@link ColumnParser#parseDoubleColumn(byte[], int[], int, int, double[], int, long[])}.
+     *
+     * @param data       the bytes of the column
+     * @param offsets    the offsets of the rows in {@code data}
+     * @param startRow   the index of the first row
+     * @param rowCount   the number of rows
+     * @param dest       the destination array
+     * @param destOffset the index of the first value in the destination array,
+     *                   and of the first bit in the validity bitmap
+     * @param validity   the validity bitmap
+     * @return the number of valid values
+     */
+    static int parseDoubleColumn(byte[] data, int[] offsets, int startRow, int rowCount,
+                                 double[] dest, int destOffset, long[] validity) {
+        ColumnParser.checkBounds(offsets, startRow, rowCount, dest.length, destOffset, validity);
+        // The lanes hold the first eight bytes of the literals at [0, LANES), and the next
+        // eight bytes at [LANES, 2 * LANES). The ints hold the lengths and the fraction digits.
+        long[] lanes = ScratchBuffers.longs(2 * LANES);
+        int[] laneInts = ScratchBuffers.ints(2 * LANES);
+        int validCount = 0;
+        int i = 0;
+        for (; i <= rowCount - LANES; i += LANES) {
+            // Gather the literals into the lanes
+            int maxLength = 0;
+            int fallback = 0;
+            for (int lane = 0; lane < LANES; lane++) {
+                int row = startRow + i + lane;
+                int from = offsets[row];
+                int to = ColumnParser.checkOffsets(data.length, from, offsets[row + 1], row);
+                int length = to - from;
+                if (length > MAX_LANE_LENGTH) {
+                    fallback |= 1 << lane;
+                    length = 0;
+                }
+                laneInts[lane] = length;
+                maxLength = Math.max(maxLength, length);
+                lanes[lane] = readLongLE(data, from, length);
+                lanes[LANES + lane] = length > 8 ? readLongLE(data, from + 8, length - 8) : 0;
+            }
+
+            fallback |= (int) parseLanes(lanes, laneInts, maxLength, dest, destOffset + i);
+
+            // Parse the remaining literals with the scalar parser
+            for (int lane = 0; lane < LANES; lane++) {
+                int index = destOffset + i + lane;
+                if ((fallback & (1 << lane)) != 0 && !parseScalar(data, offsets, startRow + i + lane, dest, index)) {
+                    validity[index >>> 6] &= ~(1L << index);
+                } else {
+                    validity[index >>> 6] |= 1L << index;
+                    validCount++;
+                }
+            }
+        }
+        for (; i < rowCount; i++) {
+            int index = destOffset + i;
+            if (parseScalar(data, offsets, startRow + i, dest, index)) {
+                validity[index >>> 6] |= 1L << index;
+                validCount++;
+            } else {
+                validity[index >>> 6] &= ~(1L << index);
+            }
+        }
+        return validCount;
+    }
+
+    /**
+     * Parses the literals in the lanes and stores the values in the
+     * destination array.
+     *
+     * @return a bit mask of the lanes that must be parsed with the scalar parser
+     */
+    private static long parseLanes(long[] lanes, int[] laneInts, int maxLength, double[] dest, int destIndex) {
+        LongVector lowBytes = LongVector.fromArray(LongVector.SPECIES_512, lanes, 0);
+        LongVector highBytes = LongVector.fromArray(LongVector.SPECIES_512, lanes, LANES);
+        LongVector lengthVector = (LongVector) IntVector.fromArray(IntVector.SPECIES_256, laneInts, 0)
+                .castShape(LongVector.SPECIES_512, 0);
+
+        // Parse the significand. A lane stops at its exponent character.
+        LongVector significand = LongVector.zero(LongVector.SPECIES_512);
+        LongVector digitCount = LongVector.zero(LongVector.SPECIES_512);
+        LongVector fractionCount = LongVector.zero(LongVector.SPECIES_512);
+        LongVector exponentStart = LongVector.broadcast(LongVector.SPECIES_512, MAX_LANE_LENGTH);
+        VectorMask<Long> none = LongVector.SPECIES_512.maskAll(false);
+        VectorMask<Long> illegal = none;
+        VectorMask<Long> hasPoint = none;
+        VectorMask<Long> hasExponent = none;
+        VectorMask<Long> isNegative = none;
+        for (int j = 0; j < maxLength; j++) {
+            VectorMask<Long> active = lengthVector.compare(GT, j).andNot(hasExponent);
+            LongVector ch = (j < 8 ? lowBytes : highBytes).lanewise(LSHR, (j & 7) << 3).lanewise(AND, 0xff);
+            LongVector digit = ch.sub('0');
+            VectorMask<Long> isDigit = digit.compare(UNSIGNED_LE, 9).and(active);
+            VectorMask<Long> isPoint = ch.compare(EQ, '.').and(active);
+            VectorMask<Long> isExponentChar = ch.compare(EQ, 'e').or(ch.compare(EQ, 'E')).and(active);
+            VectorMask<Long> isSign = none;
+            if (j == 0) {
+                isNegative = ch.compare(EQ, '-').and(active);
+                isSign = isNegative.or(ch.compare(EQ, '+').and(active));
+            }
+            illegal = illegal.or(active.andNot(isDigit.or(isPoint).or(isSign).or(isExponentChar)))
+                    .or(isPoint.and(hasPoint));
+            hasPoint = hasPoint.or(isPoint);
+            hasExponent = hasExponent.or(isExponentChar);
+            exponentStart = exponentStart.blend(j + 1, isExponentChar);
+            significand = significand.blend(significand.mul(10).add(digit), isDigit);
+            digitCount = digitCount.add(1, isDigit);
+            fractionCount = fractionCount.add(1, isDigit.and(hasPoint));
+        }
+
+        // Parse the exponents, if a lane has one. The value is significand * 10^power.
+        LongVector power = fractionCount.neg();
+        if (hasExponent.anyTrue()) {
+            LongVector exponent = LongVector.zero(LongVector.SPECIES_512);
+            LongVector exponentDigitCount = LongVector.zero(LongVector.SPECIES_512);
+            VectorMask<Long> isNegativeExponent = none;
+            for (int j = (int) exponentStart.reduceLanes(MIN); j < maxLength; j++) {
+                VectorMask<Long> active = lengthVector.compare(GT, j).and(exponentStart.compare(LE, j));
+                LongVector ch = (j < 8 ? lowBytes : highBytes).lanewise(LSHR, (j & 7) << 3).lanewise(AND, 0xff);
+                LongVector digit = ch.sub('0');
+                VectorMask<Long> isDigit = digit.compare(UNSIGNED_LE, 9).and(active);
+                VectorMask<Long> isMinus = ch.compare(EQ, '-');
+                VectorMask<Long> isSign = isMinus.or(ch.compare(EQ, '+')).and(exponentStart.compare(EQ, j)).and(active);
+                isNegativeExponent = isNegativeExponent.or(isMinus.and(isSign));
+                illegal = illegal.or(active.andNot(isDigit.or(isSign)));
+                exponent = exponent.blend(exponent.mul(10).add(digit), isDigit);
+                exponentDigitCount = exponentDigitCount.add(1, isDigit);
+            }
+            illegal = illegal.or(hasExponent.and(exponentDigitCount.compare(EQ, 0)));
+            power = exponent.lanewise(NEG, isNegativeExponent).add(power);
+        }
+        LongVector absPower = power.lanewise(ABS);
+        illegal = illegal.or(digitCount.compare(EQ, 0)).or(digitCount.compare(GT, MAX_LANE_DIGITS))
+                .or(absPower.compare(GT, MAX_LANE_POWER));
+
+        // Illegal lanes may have any power, they must not index outside the table
+        ((IntVector) absPower.blend(0, illegal).castShape(IntVector.SPECIES_256, 0)).intoArray(laneInts, LANES);
+        DoubleVector powerOfTen = DoubleVector.fromArray(DoubleVector.SPECIES_512, POWERS_OF_TEN, 0, laneInts, LANES);
+        DoubleVector significandVector = (DoubleVector) significand.castShape(DoubleVector.SPECIES_512, 0);
+        DoubleVector value = significandVector.div(powerOfTen);
+        VectorMask<Long> isPositivePower = power.compare(GT, 0);
+        if (isPositivePower.anyTrue()) {
+            value = value.blend(significandVector.mul(powerOfTen), isPositivePower.cast(DoubleVector.SPECIES_512));
+        }
+        value.lanewise(NEG, isNegative.cast(DoubleVector.SPECIES_512)).intoArray(dest, destIndex);
+        return illegal.toLong();
+    }
+
+    private static boolean parseScalar(byte[] data, int[] offsets, int row, double[] dest, int index) {
+        int from = offsets[row];
+        long bitPattern = SCALAR_PARSER.parseFloatingPointLiteral(data, from, offsets[row + 1] - from);
+        if (bitPattern == SYNTAX_ERROR_BITS) {
+            dest[index] = Double.NaN;
+            return false;
+        }
+        dest[index] = Double.longBitsToDouble(bitPattern);
+        return true;
+    }
+
+    /**
+     * Reads up to eight bytes in little-endian order. The bytes after
+     * {@code length} are undefined.
+     */
+    private static long readLongLE(byte[] data, int offset, int length) {
+        if (offset <= data.length - 8) {
+            return FastDoubleSwar.readLongLE(data, offset);
+        }
+        long value = 0;
+        for (int i = Math.min(length, 8) - 1; i >= 0; i--) {
+            value = value << 8 | (data[offset + i] & 0xffL);
+        }
+        return value;
+    }
+}
@@ -9,5 +9,7 @@
  */
 module ch.randelshofer.fastdoubleparser {
     requires jdk.incubator.vector;
+    requires static java.management;
+    requires static jdk.jfr;
     exports ch.randelshofer.fastdoubleparser;
 }
\ No newline at end of file
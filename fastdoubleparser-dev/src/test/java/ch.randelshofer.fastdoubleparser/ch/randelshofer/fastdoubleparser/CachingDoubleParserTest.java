@@ -0,0 +1,121 @@
+/*
+ * @(#)CachingDoubleParserTest.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+public final class CachingDoubleParserTest {
+
+    @TestFactory
+    public List<DynamicTest> dynamicTestsLiterals() {
+        return Arrays.asList(
+                dynamicTest("0", () -> shouldParseRepeatedly("0")),
+                dynamicTest("-0", () -> shouldParseRepeatedly("-0")),
+                dynamicTest("1", () -> shouldParseRepeatedly("1")),
+                dynamicTest("0.0", () -> shouldParseRepeatedly("0.0")),
+                dynamicTest("100.00", () -> shouldParseRepeatedly("100.00")),
+                dynamicTest("NaN", () -> shouldParseRepeatedly("NaN")),
+                dynamicTest("-Infinity", () -> shouldParseRepeatedly("-Infinity")),
+                dynamicTest("1234567", () -> shouldParseRepeatedly("1234567")),
+                dynamicTest("12345678", () -> shouldParseRepeatedly("12345678")),
+                dynamicTest("123456789", () -> shouldParseRepeatedly("123456789")),
+                dynamicTest("1234567.89012345", () -> shouldParseRepeatedly("1234567.89012345")),
+                dynamicTest("1234567.890123456", () -> shouldParseRepeatedly("1234567.890123456")),
+                dynamicTest("0x1.8p1", () -> shouldParseRepeatedly("0x1.8p1")),
+                dynamicTest(" 1.5 ", () -> shouldParseRepeatedly(" 1.5 "))
+        );
+    }
+
+    @Test
+    public void shouldNotConfuseLiteralsWithDifferentLength() {
+        // The keys of "1" and "1\0" only differ in their length.
+        // "1\0" is legal, because the Java syntax allows trailing control characters.
+        CachingDoubleParser p = new CachingDoubleParser(1);
+        assertEquals(1.0, p.parseDouble("1"));
+        assertEquals(1.0, p.parseDouble("1\0"));
+        assertEquals(1.0, p.parseDouble(new byte[]{'1', 0}));
+        assertEquals(1.0, p.parseDouble(new char[]{'1', 0}));
+        assertThrows(NumberFormatException.class, () -> p.parseDouble("\0"));
+        assertThrows(NumberFormatException.class, () -> p.parseDouble(new byte[]{0, 0}));
+        assertEquals(1.0, p.parseDouble("1"));
+    }
+
+    @Test
+    public void shouldNotMemoizeIllegalLiterals() {
+        CachingDoubleParser p = new CachingDoubleParser();
+        for (int i = 0; i < 2; i++) {
+            assertThrows(NumberFormatException.class, () -> p.parseDouble("1.2.3"));
+            assertThrows(NumberFormatException.class, () -> p.parseDouble(""));
+        }
+    }
+
+    @Test
+    public void shouldParseWithManyCollisions() {
+        Random rng = new Random(0);
+        String[] strings = new String[1000];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = rng.nextInt(100) + "." + rng.nextInt(100);
+        }
+        CachingDoubleParser p = new CachingDoubleParser(16);
+        for (int j = 0; j < 3; j++) {
+            for (String s : strings) {
+                double expected = Double.parseDouble(s);
+                assertEquals(expected, p.parseDouble(s));
+                assertEquals(expected, p.parseDouble(s.toCharArray()));
+                assertEquals(expected, p.parseDouble(s.getBytes(StandardCharsets.ISO_8859_1)));
+            }
+        }
+    }
+
+    @Test
+    public void shouldParseSubstrings() {
+        String str = "xx1.5,2.25,1.5";
+        byte[] bytes = str.getBytes(StandardCharsets.ISO_8859_1);
+        CachingDoubleParser p = new CachingDoubleParser();
+        assertEquals(1.5, p.parseDouble(bytes, 2, 3));
+        assertEquals(2.25, p.parseDouble(bytes, 6, 4));
+        assertEquals(1.5, p.parseDouble(bytes, 11, 3));
+        assertEquals(1.5, p.parseDouble(str.toCharArray(), 11, 3));
+        assertEquals(2.25, p.parseDouble(str, 6, 4));
+    }
+
+    @Test
+    public void shouldRejectIllegalArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new CachingDoubleParser(0));
+        assertThrows(IllegalArgumentException.class, () -> new CachingDoubleParser((1 << 24) + 1));
+        assertEquals(1024, new CachingDoubleParser(1000).getCapacity());
+        CachingDoubleParser p = new CachingDoubleParser();
+        assertThrows(IllegalArgumentException.class, () -> p.parseDouble(new byte[4], 2, 3));
+        assertThrows(IllegalArgumentException.class, () -> p.parseDouble(new char[4], -1, 3));
+        assertThrows(IllegalArgumentException.class, () -> p.parseDouble("1234", 3, 2));
+    }
+
+    private static void shouldParseRepeatedly(String str) {
+        double expected = JavaDoubleParser.parseDouble(str);
+        // Parse the literal from a short array and from the start of a long
+        // array, so that both the byte-wise path and the SWAR path read the key.
+        String padded = str + "0123456789012345678";
+        CachingDoubleParser p = new CachingDoubleParser();
+        for (int i = 0; i < 3; i++) {
+            assertEquals(expected, p.parseDouble(str), "CharSequence");
+            assertEquals(expected, p.parseDouble(str.toCharArray()), "char[]");
+            assertEquals(expected, p.parseDouble(str.getBytes(StandardCharsets.ISO_8859_1)), "byte[]");
+            assertEquals(expected, p.parseDouble(padded.getBytes(StandardCharsets.ISO_8859_1), 0, str.length()), "byte[] padded");
+        }
+        p.clear();
+        assertEquals(expected, p.parseDouble(str), "after clear");
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * @(#)CharSequenceAccessTest.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import static ch.randelshofer.fastdoubleparser.Strings.repeat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+public final class CharSequenceAccessTest {
+
+    @TestFactory
+    public List<DynamicTest> dynamicTestsCharSequenceTypes() {
+        return Arrays.asList(
+                dynamicTest("String", () -> shouldParseAllTypes("xx-123.456e7yy")),
+                dynamicTest("StringBuilder", () -> shouldParseAllTypes(new StringBuilder("xx-123.456e7yy"))),
+                dynamicTest("StringBuffer", () -> shouldParseAllTypes(new StringBuffer("xx-123.456e7yy"))),
+                dynamicTest("CharBuffer.wrap", () -> shouldParseAllTypes(CharBuffer.wrap("xx-123.456e7yy".toCharArray()))),
+                dynamicTest("CharBuffer.wrap with position", () -> shouldParseAllTypes(
+                        (CharBuffer) ((Buffer) CharBuffer.wrap("..xx-123.456e7yy".toCharArray())).position(2))),
+                dynamicTest("CharBuffer.slice", () -> shouldParseAllTypes(
+                        ((CharBuffer) ((Buffer) CharBuffer.wrap("...xx-123.456e7yy".toCharArray())).position(3)).slice())),
+                dynamicTest("CharBuffer read-only", () -> shouldParseAllTypes(CharBuffer.wrap("xx-123.456e7yy".toCharArray()).asReadOnlyBuffer())),
+                dynamicTest("CharBuffer direct", () -> shouldParseAllTypes(
+                        (CharBuffer) ((Buffer) ByteBuffer.allocateDirect(64).asCharBuffer().put("xx-123.456e7yy")).flip())),
+                dynamicTest("VirtualCharSequence", () -> shouldParseAllTypes(
+                        new VirtualCharSequence("xx-123.456e7yy", 0, "", "", '0', 14))),
+                dynamicTest("StringBuilder longer than buffer", () -> shouldParseAllTypes(
+                        new StringBuilder("xx-1" + repeat('0', CharSequenceAccess.MAX_BUFFER_LENGTH) + ".456e7yy")))
+        );
+    }
+
+    @Test
+    public void shouldNotProvideArrayForStringAndUnknownTypes() {
+        assertNull(CharSequenceAccess.toCharArray("123", 0, 3));
+        assertNull(CharSequenceAccess.toCharArray(new VirtualCharSequence("123", 0, "", "", '0', 3), 0, 3));
+        assertNull(CharSequenceAccess.toCharArray(CharBuffer.wrap("123").asReadOnlyBuffer(), 0, 3));
+        assertNotNull(CharSequenceAccess.toCharArray(new StringBuilder("123"), 0, 3));
+        assertNotNull(CharSequenceAccess.toCharArray(CharBuffer.wrap("123".toCharArray()), 0, 3));
+    }
+
+    @Test
+    public void shouldNotHandOutBufferWhileInUse() {
+        StringBuilder str = new StringBuilder("123");
+        char[] first = CharSequenceAccess.toCharArray(str, 0, 3);
+        char[] second = CharSequenceAccess.toCharArray(str, 0, 3);
+        assertNotSame(first, second);
+        CharSequenceAccess.release(str, second);
+        CharSequenceAccess.release(str, first);
+        assertSame(first, CharSequenceAccess.toCharArray(str, 0, 3));
+        CharSequenceAccess.release(str, first);
+
+        char[] backingArray = new char[CharSequenceAccess.MAX_BUFFER_LENGTH];
+        CharBuffer buf = CharBuffer.wrap(backingArray);
+        CharSequenceAccess.release(buf, CharSequenceAccess.toCharArray(buf, 0, 3));
+        assertSame(first, CharSequenceAccess.toCharArray(str, 0, 3));
+        CharSequenceAccess.release(str, first);
+    }
+
+    @Test
+    public void shouldThrowIllegalArgumentExceptionForIllegalBounds() {
+        assertThrows(IllegalArgumentException.class, () -> JavaDoubleParser.parseDouble(new StringBuilder("123"), 1, 3));
+        assertThrows(IllegalArgumentException.class, () -> JavaDoubleParser.parseDouble(new StringBuffer("123"), -1, 2));
+        assertThrows(IllegalArgumentException.class, () -> JavaDoubleParser.parseDouble(
+                (CharBuffer) ((Buffer) CharBuffer.wrap("0123".toCharArray())).position(1), 1, 3));
+    }
+
+    private static void shouldParseAllTypes(CharSequence str) {
+        int offset = 2;
+        int length = str.length() - 4;
+        StringBuilder buf = new StringBuilder();
+        for (int i = offset; i < offset + length; i++) {
+            buf.append(str.charAt(i));
+        }
+        String expected = buf.toString();
+        assertEquals(Double.parseDouble(expected), JavaDoubleParser.parseDouble(str, offset, length), "JavaDoubleParser");
+        assertEquals(Float.parseFloat(expected), JavaFloatParser.parseFloat(str, offset, length), "JavaFloatParser");
+        assertEquals(Double.parseDouble(expected), JsonDoubleParser.parseDouble(str, offset, length), "JsonDoubleParser");
+        assertEquals(new BigDecimal(expected), JavaBigDecimalParser.parseBigDecimal(str, offset, length), "JavaBigDecimalParser");
+        assertEquals(Double.parseDouble(expected), new ConfigurableDoubleParser().parseDouble(str, offset, length), "ConfigurableDoubleParser");
+        int integerLength = expected.indexOf('.');
+        assertEquals(new BigInteger(expected.substring(0, integerLength)),
+                JavaBigIntegerParser.parseBigInteger(str, offset, integerLength), "JavaBigIntegerParser");
+    }
+}
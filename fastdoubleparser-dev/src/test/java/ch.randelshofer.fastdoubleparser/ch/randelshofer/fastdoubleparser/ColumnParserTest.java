@@ -0,0 +1,184 @@
+/*
+ * @(#)ColumnParserTest.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ColumnParserTest {
+    private static final String[] VALUES = {
+            "1.5", "", "-0", " 42 ", "x", "0x1p3", "NaN", "1e400", "9223372036854775807", "-9223372036854775808",
+            "9223372036854775808", "-9223372036854775809", "+7", "-", "00000000000000000000123", "12345678901234567",
+            "1.0", "1_000", "\t-12\n"
+    };
+
+    private static final class Column {
+        final byte[] data;
+        final int[] offsets;
+
+        Column(String... values) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            offsets = new int[values.length + 1];
+            for (int i = 0; i < values.length; i++) {
+                byte[] bytes = values[i].getBytes(StandardCharsets.UTF_8);
+                out.write(bytes, 0, bytes.length);
+                offsets[i + 1] = offsets[i] + bytes.length;
+            }
+            data = out.toByteArray();
+        }
+    }
+
+    @Test
+    public void shouldParseDoubleColumn() {
+        Column column = new Column(VALUES);
+        double[] dest = new double[VALUES.length];
+        long[] validity = {-1L};
+        int validCount = ColumnParser.parseDoubleColumn(column.data, column.offsets, 0, VALUES.length, dest, 0, validity);
+        int expectedValidCount = 0;
+        for (int i = 0; i < VALUES.length; i++) {
+            Double expected = null;
+            try {
+                expected = Double.parseDouble(VALUES[i]);
+            } catch (NumberFormatException e) {
+                // expected is null
+            }
+            assertEquals(expected != null, (validity[0] & (1L << i)) != 0, VALUES[i]);
+            assertEquals(expected == null ? Double.NaN : expected, dest[i], VALUES[i]);
+            expectedValidCount += expected == null ? 0 : 1;
+        }
+        assertEquals(expectedValidCount, validCount);
+    }
+
+    @Test
+    public void shouldParseFloatColumn() {
+        Column column = new Column(VALUES);
+        float[] dest = new float[VALUES.length];
+        long[] validity = new long[1];
+        ColumnParser.parseFloatColumn(column.data, column.offsets, 0, VALUES.length, dest, 0, validity);
+        for (int i = 0; i < VALUES.length; i++) {
+            Float expected = null;
+            try {
+                expected = Float.parseFloat(VALUES[i]);
+            } catch (NumberFormatException e) {
+                // expected is null
+            }
+            assertEquals(expected != null, (validity[0] & (1L << i)) != 0, VALUES[i]);
+            assertEquals(expected == null ? Float.NaN : expected, dest[i], VALUES[i]);
+        }
+    }
+
+    @Test
+    public void shouldParseLongColumn() {
+        Column column = new Column(VALUES);
+        long[] dest = new long[VALUES.length];
+        long[] validity = new long[1];
+        ColumnParser.parseLongColumn(column.data, column.offsets, 0, VALUES.length, dest, 0, validity);
+        for (int i = 0; i < VALUES.length; i++) {
+            Long expected = null;
+            try {
+                expected = Long.parseLong(VALUES[i].trim());
+            } catch (NumberFormatException e) {
+                // expected is null
+            }
+            assertEquals(expected != null, (validity[0] & (1L << i)) != 0, VALUES[i]);
+            assertEquals(expected == null ? 0L : expected, dest[i], VALUES[i]);
+        }
+    }
+
+    @Test
+    public void shouldParseRandomLongs() {
+        Random rng = new Random(0);
+        String[] values = new String[1000];
+        long[] expected = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            expected[i] = rng.nextLong() >> rng.nextInt(64);
+            values[i] = Long.toString(expected[i]);
+        }
+        Column column = new Column(values);
+        long[] dest = new long[values.length];
+        long[] validity = new long[(values.length + 63) >>> 6];
+        assertEquals(values.length, ColumnParser.parseLongColumn(column.data, column.offsets, 0, values.length, dest, 0, validity));
+        assertArrayEquals(expected, dest);
+    }
+
+    @Test
+    public void shouldParseByteBuffersLikeByteArrays() {
+        String[] values = new String[VALUES.length + 40];
+        System.arraycopy(VALUES, 0, values, 0, VALUES.length);
+        Random rng = new Random(0);
+        for (int i = VALUES.length; i < values.length; i++) {
+            values[i] = i % 2 == 0 ? Long.toString(rng.nextLong()) : Double.toString(rng.nextDouble() * 1e10);
+        }
+        Column column = new Column(values);
+        int n = values.length;
+        double[] expectedDoubles = new double[n];
+        float[] expectedFloats = new float[n];
+        long[] expectedLongs = new long[n];
+        long[] expectedValidity = new long[(n + 63) >>> 6];
+        ColumnParser.parseDoubleColumn(column.data, column.offsets, 0, n, expectedDoubles, 0, expectedValidity);
+        ColumnParser.parseFloatColumn(column.data, column.offsets, 0, n, expectedFloats, 0, new long[expectedValidity.length]);
+        long[] expectedLongValidity = new long[expectedValidity.length];
+        int expectedLongCount = ColumnParser.parseLongColumn(column.data, column.offsets, 0, n, expectedLongs, 0, expectedLongValidity);
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(column.data.length);
+        direct.put(column.data);
+        byte[] padded = new byte[column.data.length + 3];
+        System.arraycopy(column.data, 0, padded, 3, column.data.length);
+        ByteBuffer slice = ByteBuffer.wrap(padded, 3, column.data.length).slice();
+        for (ByteBuffer buffer : new ByteBuffer[]{direct, slice, slice.asReadOnlyBuffer()}) {
+            String name = buffer.isDirect() ? "direct" : buffer.hasArray() ? "heap" : "read-only";
+            double[] doubles = new double[n];
+            long[] validity = new long[expectedValidity.length];
+            ColumnParser.parseDoubleColumn(buffer, column.offsets, 0, n, doubles, 0, validity);
+            assertArrayEquals(expectedDoubles, doubles, name);
+            assertArrayEquals(expectedValidity, validity, name);
+
+            float[] floats = new float[n];
+            ColumnParser.parseFloatColumn(buffer, column.offsets, 0, n, floats, 0, new long[expectedValidity.length]);
+            assertArrayEquals(expectedFloats, floats, name);
+
+            long[] longs = new long[n];
+            validity = new long[expectedValidity.length];
+            assertEquals(expectedLongCount, ColumnParser.parseLongColumn(buffer, column.offsets, 0, n, longs, 0, validity), name);
+            assertArrayEquals(expectedLongs, longs, name);
+            assertArrayEquals(expectedLongValidity, validity, name);
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(2);
+        assertThrows(IllegalArgumentException.class, () -> ColumnParser.parseLongColumn(buffer, new int[]{0, 3}, 0, 1, new long[1], 0, new long[1]));
+    }
+
+    @Test
+    public void shouldParseSubrangeIntoDestinationOffset() {
+        Column column = new Column("1", "2", "x", "4", "5");
+        double[] dest = new double[70];
+        long[] validity = new long[2];
+        assertEquals(2, ColumnParser.parseDoubleColumn(column.data, column.offsets, 1, 3, dest, 63, validity));
+        assertArrayEquals(new double[]{2, Double.NaN, 4}, Arrays.copyOfRange(dest, 63, 66));
+        assertArrayEquals(new long[]{1L << 63, 0b10}, validity);
+    }
+
+    @Test
+    public void shouldRejectIllegalArguments() {
+        Column column = new Column("1", "2");
+        double[] dest = new double[2];
+        long[] validity = new long[1];
+        assertThrows(IllegalArgumentException.class, () -> ColumnParser.parseDoubleColumn(column.data, column.offsets, 1, 2, dest, 0, validity));
+        assertThrows(IllegalArgumentException.class, () -> ColumnParser.parseDoubleColumn(column.data, column.offsets, 0, 2, dest, 1, validity));
+        assertThrows(IllegalArgumentException.class, () -> ColumnParser.parseDoubleColumn(column.data, column.offsets, 0, 2, dest, 0, new long[0]));
+        assertThrows(IllegalArgumentException.class, () -> ColumnParser.parseDoubleColumn(column.data, new int[]{0, 3}, 0, 1, dest, 0, validity));
+        assertThrows(IllegalArgumentException.class, () -> ColumnParser.parseDoubleColumn(column.data, new int[]{1, 0}, 0, 1, dest, 0, validity));
+        assertThrows(IllegalArgumentException.class, () -> ColumnParser.parseDoubleColumn(column.data, new int[0], 0, 0, dest, 0, validity));
+        assertEquals(0, ColumnParser.parseDoubleColumn(column.data, column.offsets, 2, 0, dest, 2, new long[0]));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * @(#)EarlyAccessJavaDoubleSegmentParserTest.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class EarlyAccessJavaDoubleSegmentParserTest {
+    @Test
+    public void shouldParseLikeByteArray() {
+        String[] inputs = {"", "1.5", "1,2.5,-3e2", "1,2,", " 1 ,\t2\n", "NaN,-Infinity,0x1p3,4d"};
+        try (Arena arena = Arena.ofConfined()) {
+            for (String str : inputs) {
+                byte[] bytes = str.getBytes(StandardCharsets.ISO_8859_1);
+                double[] expected = JavaDoubleParser.parseDoubleStream(bytes, 0, bytes.length, ',').toArray();
+                assertArrayEquals(expected, JavaDoubleSegmentParser.parseDoubleStream(MemorySegment.ofArray(bytes), 0, bytes.length, ',').toArray(), str);
+                MemorySegment direct = arena.allocate(bytes.length + 1);
+                MemorySegment.copy(MemorySegment.ofArray(bytes), 0, direct, 0, bytes.length);
+                assertArrayEquals(expected, JavaDoubleSegmentParser.parseDoubleStream(direct, 0, bytes.length, ',').toArray(), str);
+            }
+        }
+    }
+
+    @Test
+    public void shouldNotParseIllegalInput() {
+        for (String str : new String[]{",", "1,,2", "1,,", "1,x,2"}) {
+            MemorySegment segment = MemorySegment.ofArray(str.getBytes(StandardCharsets.ISO_8859_1));
+            assertThrows(NumberFormatException.class, () -> JavaDoubleSegmentParser.parseDoubleStream(segment, 0, segment.byteSize(), ',').toArray(), str);
+        }
+    }
+
+    @Test
+    public void shouldParseSubrangeAndRejectIllegalArguments() {
+        MemorySegment segment = MemorySegment.ofArray("x1,2y".getBytes(StandardCharsets.ISO_8859_1));
+        assertArrayEquals(new double[]{1, 2}, JavaDoubleSegmentParser.parseDoubleStream(segment, 1, 3, ',').toArray());
+        assertThrows(IllegalArgumentException.class, () -> JavaDoubleSegmentParser.parseDoubleStream(segment, 3, 3, ','));
+        assertThrows(IllegalArgumentException.class, () -> JavaDoubleSegmentParser.parseDoubleStream(segment, -1, 1, ','));
+        assertThrows(IllegalArgumentException.class, () -> JavaDoubleSegmentParser.parseDoubleStream(segment, 0, 0, 'ä'));
+    }
+
+    @Test
+    public void shouldParseLongLiteralsAndSplit() {
+        Random rng = new Random(0);
+        StringBuilder buf = new StringBuilder();
+        double[] expected = new double[10_000];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = rng.nextInt(1_000_000) / 100.0;
+            buf.append(expected[i]).append(',');
+        }
+        buf.append("0.").append("0".repeat(200)).append('1');
+        byte[] bytes = buf.toString().getBytes(StandardCharsets.ISO_8859_1);
+        MemorySegment segment = MemorySegment.ofArray(bytes);
+        double[] actual = JavaDoubleSegmentParser.parseDoubleStream(segment, 0, bytes.length, ',').parallel().toArray();
+        assertEquals(expected.length + 1, actual.length);
+        assertArrayEquals(expected, Arrays.copyOf(actual, expected.length));
+        assertEquals(1e-201, actual[expected.length]);
+
+        List<Double> collected = new ArrayList<>();
+        collect(new JavaDoubleSpliteratorFromMemorySegment(segment, 0, bytes.length, (byte) ','), collected);
+        assertEquals(expected.length + 1, collected.size());
+    }
+
+    private static void collect(Spliterator.OfDouble s, List<Double> list) {
+        Spliterator.OfDouble prefix = s.trySplit();
+        if (prefix != null) {
+            collect(prefix, list);
+            collect(s, list);
+        } else {
+            s.forEachRemaining((double d) -> list.add(d));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * @(#)EarlyAccessVectorLaneDoubleParserTest.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public final class EarlyAccessVectorLaneDoubleParserTest {
+    @Test
+    public void shouldParseLikeColumnParser() {
+        shouldParseLikeColumnParser(
+                "1", "-1", "+1", "0", "-0", "1.", ".5", "-.5", "1.5", "123456789012345", "1234567890.12345",
+                "1234567890123456", ".123456789012345", "0.000000000000001", "999999999999999",
+                "", ".", "-", "+", "--1", "1-", "1..2", "1.2.3", "1e3", "1d", " 1", "1 ", "x", "ä", "NaN",
+                "12345678901234567", "0.1", "0.3", "2.2250738585072014", "9007199254740993");
+    }
+
+    @Test
+    public void shouldParseExponentsLikeColumnParser() {
+        shouldParseLikeColumnParser(
+                "1E3", "1e-3", "1e+3", "-1.5e-7", "+2.5E+2", "1.e5", ".5e1", "-.5E-1", "0e0", "-0e5", "1e0",
+                "1e22", "1e23", "1e-22", "1e-23", "1.5e22", "15e-23", "123456789012345e7", "123456789012345e8",
+                "12345.678e-17", "12345.678e-20", "1.5e0022", "9e-0", "1e00000000000001",
+                "1e", "1e+", "1e-", "e5", ".e5", "-e5", "1e5.", "1e5e5", "1e+-5", "1e5-", "1e 5", "1e5d", "1f");
+    }
+
+    @Test
+    public void shouldParseRandomLiterals() {
+        Random rng = new Random(0);
+        String alphabet = "0123456789.-+eE ";
+        String[] literals = new String[10_000];
+        for (int i = 0; i < literals.length; i++) {
+            switch (rng.nextInt(3)) {
+                case 0:
+                    literals[i] = Double.toString(rng.nextInt(1_000_000) / 100.0);
+                    break;
+                case 1:
+                    literals[i] = Double.toString(rng.nextDouble());
+                    break;
+                default: {
+                    StringBuilder buf = new StringBuilder();
+                    for (int j = rng.nextInt(20); j > 0; j--) {
+                        buf.append(alphabet.charAt(rng.nextInt(alphabet.length())));
+                    }
+                    literals[i] = buf.toString();
+                    break;
+                }
+            }
+        }
+        shouldParseLikeColumnParser(literals);
+    }
+
+    private static void shouldParseLikeColumnParser(String... literals) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int[] offsets = new int[literals.length + 1];
+        for (int i = 0; i < literals.length; i++) {
+            byte[] bytes = literals[i].getBytes(StandardCharsets.UTF_8);
+            out.write(bytes, 0, bytes.length);
+            offsets[i + 1] = offsets[i] + bytes.length;
+        }
+        byte[] data = out.toByteArray();
+
+        // Parse at different offsets, so that every literal lands in every lane
+        for (int start = 0; start < VectorLaneDoubleParser.LANES && start < literals.length; start++) {
+            int rowCount = literals.length - start;
+            double[] expected = new double[rowCount + 3];
+            long[] expectedValidity = new long[(rowCount + 3 + 63) >>> 6];
+            double[] actual = new double[rowCount + 3];
+            long[] actualValidity = new long[(rowCount + 3 + 63) >>> 6];
+            assertEquals(
+                    ColumnParser.parseDoubleColumn(data, offsets, start, rowCount, expected, 3, expectedValidity),
+                    VectorLaneDoubleParser.parseDoubleColumn(data, offsets, start, rowCount, actual, 3, actualValidity));
+            assertArrayEquals(expected, actual);
+            assertArrayEquals(expectedValidity, actualValidity);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * @(#)FastBigDecimalFormatterTest.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+public final class FastBigDecimalFormatterTest {
+    @TestFactory
+    public List<DynamicTest> dynamicTestsFormatBigInteger() {
+        List<DynamicTest> list = new ArrayList<>(Arrays.asList(
+                dynamicTest("0", () -> shouldFormatBigInteger(BigInteger.ZERO)),
+                dynamicTest("-1", () -> shouldFormatBigInteger(BigInteger.ONE.negate())),
+                dynamicTest("Long.MAX_VALUE", () -> shouldFormatBigInteger(BigInteger.valueOf(Long.MAX_VALUE))),
+                dynamicTest("Long.MIN_VALUE", () -> shouldFormatBigInteger(BigInteger.valueOf(Long.MIN_VALUE))),
+                dynamicTest("10^100_000", () -> shouldFormatBigInteger(BigInteger.TEN.pow(100_000))),
+                dynamicTest("10^100_000-1", () -> shouldFormatBigInteger(BigInteger.TEN.pow(100_000).subtract(BigInteger.ONE))),
+                dynamicTest("-10^5_000-1", () -> shouldFormatBigInteger(BigInteger.TEN.pow(5_000).add(BigInteger.ONE).negate()))
+        ));
+        Random rng = new Random(0);
+        for (int bits : new int[]{63, 64, 1_000, 10_000, 100_000, 200_000}) {
+            BigInteger value = new BigInteger(bits, rng);
+            list.add(dynamicTest("random " + bits + " bits", () -> shouldFormatBigInteger(value)));
+        }
+        return list;
+    }
+
+    @TestFactory
+    public List<DynamicTest> dynamicTestsFormatBigDecimal() {
+        BigInteger big = new BigInteger(100_000, new Random(0));
+        return Arrays.asList(
+                dynamicTest("0", () -> shouldFormatBigDecimal(BigDecimal.ZERO)),
+                dynamicTest("0E+3", () -> shouldFormatBigDecimal(new BigDecimal("0E+3"))),
+                dynamicTest("0E-3", () -> shouldFormatBigDecimal(new BigDecimal("0E-3"))),
+                dynamicTest("123E+3", () -> shouldFormatBigDecimal(new BigDecimal("123E+3"))),
+                dynamicTest("-123E-1", () -> shouldFormatBigDecimal(new BigDecimal("-123E-1"))),
+                dynamicTest("123E-3", () -> shouldFormatBigDecimal(new BigDecimal("123E-3"))),
+                dynamicTest("-123E-5", () -> shouldFormatBigDecimal(new BigDecimal("-123E-5"))),
+                dynamicTest("big, scale=-10", () -> shouldFormatBigDecimal(new BigDecimal(big, -10))),
+                dynamicTest("big, scale=15_000", () -> shouldFormatBigDecimal(new BigDecimal(big, 15_000))),
+                dynamicTest("-big, scale=50_000", () -> shouldFormatBigDecimal(new BigDecimal(big.negate(), 50_000)))
+        );
+    }
+
+    private void shouldFormatBigInteger(BigInteger value) {
+        String expected = value.toString();
+        assertEquals(expected, new String(FastBigDecimalFormatter.toByteArray(value), StandardCharsets.ISO_8859_1));
+        assertEquals(expected, new String(FastBigDecimalFormatter.toCharArray(value)));
+    }
+
+    private void shouldFormatBigDecimal(BigDecimal value) {
+        String expected = value.toPlainString();
+        assertEquals(expected, new String(FastBigDecimalFormatter.toPlainByteArray(value), StandardCharsets.ISO_8859_1));
+        assertEquals(expected, new String(FastBigDecimalFormatter.toPlainCharArray(value)));
+    }
+}
@@ -12,8 +12,8 @@ import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.List;
 
-import static ch.randelshofer.fastdoubleparser.FastDoubleMath.MANTISSA_128;
 import static ch.randelshofer.fastdoubleparser.FastDoubleMath.MANTISSA_64;
+import static ch.randelshofer.fastdoubleparser.Mantissa128.MANTISSA_128;
 import static java.lang.Long.toUnsignedString;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -66,7 +66,7 @@ public final class FastDoubleMathTest {
 
     /**
      * Tests if the values in {@link FastDoubleMath#MANTISSA_64} and
-     * {@link FastDoubleMath#MANTISSA_128} are correct in the range
+     * {@link Mantissa128#MANTISSA_128} are correct in the range
      * [{@value FastDoubleMath#DOUBLE_MIN_EXPONENT_POWER_OF_TEN},0].
      */
     @Test
@@ -111,7 +111,7 @@ public final class FastDoubleMathTest {
 
     /**
      * Tests if the values in {@link FastDoubleMath#MANTISSA_64} and
-     * {@link FastDoubleMath#MANTISSA_128} are correct in the range
+     * {@link Mantissa128#MANTISSA_128} are correct in the range
      * [0,{@value FastDoubleMath#DOUBLE_MAX_EXPONENT_POWER_OF_TEN}].
      */
     @Test
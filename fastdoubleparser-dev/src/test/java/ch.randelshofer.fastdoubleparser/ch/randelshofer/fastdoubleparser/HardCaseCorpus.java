@@ -0,0 +1,146 @@
+/*
+ * @(#)HardCaseCorpus.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Random;
+
+/**
+ * Generates literals that defeat the fast paths of the double and float
+ * parsers.
+ * <dl>
+ *     <dt>{@code average}</dt><dd>random values in [0,1) in their shortest
+ *     representation, for comparison</dd>
+ *     <dt>{@code halfway}</dt><dd>the exact midpoint between two adjacent
+ *     values, near the smallest normal value. The parser must look at all
+ *     digits to round correctly; for doubles these are up to
+ *     {@link FastDoubleMath#MAX_REQUIRED_DIGITS} digits</dd>
+ *     <dt>{@code subnormal}</dt><dd>random subnormal values</dd>
+ *     <dt>{@code nearOverflow}</dt><dd>values just below the largest finite
+ *     value, and midpoints between the largest finite value and the
+ *     overflow threshold</dd>
+ *     <dt>{@code truncated}</dt><dd>significands with 20 to 25 digits, which
+ *     the fast path must truncate and try twice</dd>
+ *     <dt>{@code hexSubnormal}</dt><dd>random subnormal values in hexadecimal
+ *     notation</dd>
+ *     <dt>{@code hexManyDigits}</dt><dd>hexadecimal significands with 20 to
+ *     24 hex digits</dd>
+ * </dl>
+ */
+final class HardCaseCorpus {
+    static final String[] CASES = {
+            "average", "halfway", "subnormal", "nearOverflow", "truncated", "hexSubnormal", "hexManyDigits"
+    };
+
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private HardCaseCorpus() {
+
+    }
+
+    /**
+     * Generates double literals.
+     *
+     * @param hardCase one of {@link #CASES}
+     * @param size     the number of literals
+     * @param seed     the seed of the random number generator
+     * @return the literals
+     */
+    static String[] doubles(String hardCase, int size, long seed) {
+        Random rng = new Random(seed);
+        String[] literals = new String[size];
+        for (int i = 0; i < size; i++) {
+            switch (hardCase) {
+                case "average":
+                    literals[i] = Double.toString(rng.nextDouble());
+                    break;
+                case "halfway": {
+                    double d = Double.longBitsToDouble(Double.doubleToRawLongBits(Double.MIN_NORMAL) + rng.nextInt(1 << 20));
+                    literals[i] = midpoint(new BigDecimal(d), new BigDecimal(Math.nextUp(d)));
+                    break;
+                }
+                case "subnormal":
+                    literals[i] = Double.toString(Double.longBitsToDouble(1 + (rng.nextLong() & 0x000f_ffff_ffff_fffeL)));
+                    break;
+                case "nearOverflow":
+                    literals[i] = i % 4 == 0
+                            ? midpoint(new BigDecimal(Double.MAX_VALUE), new BigDecimal(Double.MAX_VALUE).add(new BigDecimal(Math.ulp(Double.MAX_VALUE))))
+                            : Double.toString(Double.longBitsToDouble(Double.doubleToRawLongBits(Double.MAX_VALUE) - rng.nextInt(1 << 20)));
+                    break;
+                case "truncated":
+                    literals[i] = truncate(new BigDecimal(rng.nextDouble() * Math.pow(10, rng.nextInt(41) - 20)), rng);
+                    break;
+                case "hexSubnormal":
+                    literals[i] = Double.toHexString(Double.longBitsToDouble(1 + (rng.nextLong() & 0x000f_ffff_ffff_fffeL)));
+                    break;
+                default:
+                    literals[i] = hexWithManyDigits(rng, 2000);
+                    break;
+            }
+        }
+        return literals;
+    }
+
+    /**
+     * Generates float literals.
+     *
+     * @param hardCase one of {@link #CASES}
+     * @param size     the number of literals
+     * @param seed     the seed of the random number generator
+     * @return the literals
+     */
+    static String[] floats(String hardCase, int size, long seed) {
+        Random rng = new Random(seed);
+        String[] literals = new String[size];
+        for (int i = 0; i < size; i++) {
+            switch (hardCase) {
+                case "average":
+                    literals[i] = Float.toString(rng.nextFloat());
+                    break;
+                case "halfway": {
+                    float f = Float.intBitsToFloat(Float.floatToRawIntBits(Float.MIN_NORMAL) + rng.nextInt(1 << 16));
+                    literals[i] = midpoint(new BigDecimal(f), new BigDecimal(Math.nextUp(f)));
+                    break;
+                }
+                case "subnormal":
+                    literals[i] = Float.toString(Float.intBitsToFloat(1 + (rng.nextInt() & 0x007f_fffe)));
+                    break;
+                case "nearOverflow":
+                    literals[i] = i % 4 == 0
+                            ? midpoint(new BigDecimal(Float.MAX_VALUE), new BigDecimal(Float.MAX_VALUE).add(new BigDecimal(Math.ulp(Float.MAX_VALUE))))
+                            : Float.toString(Float.intBitsToFloat(Float.floatToRawIntBits(Float.MAX_VALUE) - rng.nextInt(1 << 16)));
+                    break;
+                case "truncated":
+                    literals[i] = truncate(new BigDecimal(rng.nextFloat() * Math.pow(10, rng.nextInt(21) - 10)), rng);
+                    break;
+                case "hexSubnormal":
+                    literals[i] = Float.toHexString(Float.intBitsToFloat(1 + (rng.nextInt() & 0x007f_fffe)));
+                    break;
+                default:
+                    literals[i] = hexWithManyDigits(rng, 240);
+                    break;
+            }
+        }
+        return literals;
+    }
+
+    private static String midpoint(BigDecimal a, BigDecimal b) {
+        return a.add(b).divide(BigDecimal.valueOf(2)).toString();
+    }
+
+    private static String truncate(BigDecimal exact, Random rng) {
+        return exact.round(new MathContext(20 + rng.nextInt(6))).toString();
+    }
+
+    private static String hexWithManyDigits(Random rng, int exponentRange) {
+        StringBuilder buf = new StringBuilder("0x1.");
+        for (int j = 19 + rng.nextInt(5); j > 0; j--) {
+            buf.append(Character.forDigit(rng.nextInt(16), 16));
+        }
+        return buf.append('p').append(rng.nextInt(exponentRange) - exponentRange / 2).toString();
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * @(#)HardCaseCorpusTest.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class HardCaseCorpusTest {
+    private static final int SIZE = 256;
+
+    @Test
+    public void shouldParseHardDoublesLikeDoubleParseDouble() {
+        for (String hardCase : HardCaseCorpus.CASES) {
+            for (String literal : HardCaseCorpus.doubles(hardCase, SIZE, 0)) {
+                double expected = Double.parseDouble(literal);
+                assertEquals(expected, JavaDoubleParser.parseDouble(literal), hardCase + ": " + literal);
+                assertEquals(expected, JavaDoubleParser.parseDouble(literal.toCharArray()), hardCase + ": " + literal);
+            }
+        }
+    }
+
+    @Test
+    public void shouldParseHardFloatsLikeFloatParseFloat() {
+        for (String hardCase : HardCaseCorpus.CASES) {
+            for (String literal : HardCaseCorpus.floats(hardCase, SIZE, 0)) {
+                float expected = Float.parseFloat(literal);
+                assertEquals(expected, JavaFloatParser.parseFloat(literal), hardCase + ": " + literal);
+                assertEquals(expected, JavaFloatParser.parseFloat(literal.toCharArray()), hardCase + ": " + literal);
+            }
+        }
+    }
+
+    @Test
+    public void shouldGenerateHalfwayDoublesWithAllRequiredDigits() {
+        int maxDigits = 0;
+        for (String literal : HardCaseCorpus.doubles("halfway", SIZE, 0)) {
+            maxDigits = Math.max(maxDigits, literal.indexOf('E') - 1);
+        }
+        assertTrue(maxDigits > FastDoubleMath.MAX_REQUIRED_DIGITS - 10, "maxDigits=" + maxDigits);
+        assertTrue(maxDigits <= FastDoubleMath.MAX_REQUIRED_DIGITS, "maxDigits=" + maxDigits);
+    }
+}
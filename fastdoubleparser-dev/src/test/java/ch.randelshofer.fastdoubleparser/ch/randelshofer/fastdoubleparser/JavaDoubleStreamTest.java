@@ -0,0 +1,137 @@
+/*
+ * @(#)JavaDoubleStreamTest.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.function.Function;
+import java.util.stream.DoubleStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+public final class JavaDoubleStreamTest {
+    private static final List<Function<String, DoubleStream>> STREAMS = Arrays.asList(
+            str -> JavaDoubleParser.parseDoubleStream(str, 0, str.length(), ','),
+            str -> JavaDoubleParser.parseDoubleStream(str.toCharArray(), 0, str.length(), ','),
+            str -> JavaDoubleParser.parseDoubleStream(str.getBytes(StandardCharsets.ISO_8859_1), 0, str.length(), ',')
+    );
+
+    @TestFactory
+    public List<DynamicTest> dynamicTestsParseDoubleStream() {
+        return Arrays.asList(
+                dynamicTest("<empty>", () -> shouldParse("")),
+                dynamicTest("one value", () -> shouldParse("1.5", 1.5)),
+                dynamicTest("values", () -> shouldParse("1,2.5,-3e2", 1, 2.5, -300)),
+                dynamicTest("trailing delimiter", () -> shouldParse("1,2,", 1, 2)),
+                dynamicTest("whitespace", () -> shouldParse(" 1 ,\t2\n", 1, 2)),
+                dynamicTest("java syntax", () -> shouldParse("NaN,-Infinity,0x1p3,4d", Double.NaN, Double.NEGATIVE_INFINITY, 8, 4))
+        );
+    }
+
+    @TestFactory
+    public List<DynamicTest> dynamicTestsParseDoubleStreamIllegalInput() {
+        return Arrays.asList(
+                dynamicTest("only delimiter", () -> shouldNotParse(",")),
+                dynamicTest("empty value", () -> shouldNotParse("1,,2")),
+                dynamicTest("two delimiters at end", () -> shouldNotParse("1,,")),
+                dynamicTest("illegal value", () -> shouldNotParse("1,x,2"))
+        );
+    }
+
+    @Test
+    public void shouldParseLazily() {
+        for (Function<String, DoubleStream> f : STREAMS) {
+            assertEquals(2.0, f.apply("1,2,x").filter(d -> d > 1).findFirst().getAsDouble());
+        }
+    }
+
+    @Test
+    public void shouldParseInParallel() {
+        Random rng = new Random(0);
+        StringBuilder buf = new StringBuilder();
+        double[] expected = new double[10_000];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = rng.nextInt(1_000_000) / 100.0;
+            buf.append(expected[i]).append(',');
+        }
+        String str = buf.toString();
+        for (Function<String, DoubleStream> f : STREAMS) {
+            assertArrayEquals(expected, f.apply(str).parallel().toArray());
+            assertEquals(f.apply(str).sum(), f.apply(str).parallel().sum(), 1e-6);
+        }
+    }
+
+    @Test
+    public void shouldSplitAtDelimiters() {
+        StringBuilder buf = new StringBuilder();
+        List<Double> expected = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            buf.append(i).append(',');
+            expected.add((double) i);
+        }
+        String str = buf.toString();
+        List<Double> actual = new ArrayList<>();
+        collect(new JavaDoubleSpliteratorFromCharSequence(str, 0, str.length(), ','), actual);
+        assertEquals(expected, actual);
+        actual.clear();
+        collect(new JavaDoubleSpliteratorFromByteArray(str.getBytes(StandardCharsets.ISO_8859_1), 0, str.length(), (byte) ','), actual);
+        assertEquals(expected, actual);
+        Spliterator.OfDouble small = new JavaDoubleSpliteratorFromCharArray("1,2".toCharArray(), 0, 3, ',');
+        assertNull(small.trySplit());
+    }
+
+    @Test
+    public void shouldParseSubrange() {
+        String str = "x1,2y";
+        assertArrayEquals(new double[]{1, 2}, JavaDoubleParser.parseDoubleStream(str, 1, 3, ',').toArray());
+        assertArrayEquals(new double[]{1, 2}, JavaDoubleParser.parseDoubleStream(str.toCharArray(), 1, 3, ',').toArray());
+        assertArrayEquals(new double[]{1, 2}, JavaDoubleParser.parseDoubleStream(str.getBytes(StandardCharsets.ISO_8859_1), 1, 3, ',').toArray());
+        assertThrows(IllegalArgumentException.class, () -> JavaDoubleParser.parseDoubleStream(str, 3, 3, ','));
+    }
+
+    @Test
+    public void shouldRejectNonAsciiDelimiterForByteArray() {
+        assertThrows(IllegalArgumentException.class, () -> JavaDoubleParser.parseDoubleStream(new byte[0], 0, 0, 'ä'));
+    }
+
+    private static void collect(Spliterator.OfDouble s, List<Double> list) {
+        Spliterator.OfDouble prefix = s.trySplit();
+        if (prefix != null) {
+            collect(prefix, list);
+            collect(s, list);
+        } else {
+            s.forEachRemaining((double d) -> list.add(d));
+        }
+    }
+
+    private static void shouldParse(String str, double... expected) {
+        for (Function<String, DoubleStream> f : STREAMS) {
+            assertArrayEquals(expected, f.apply(str).toArray());
+            List<Double> actual = new ArrayList<>();
+            Spliterator.OfDouble s = f.apply(str).spliterator();
+            while (s.tryAdvance((double d) -> actual.add(d))) {
+            }
+            assertEquals(expected.length, actual.size());
+        }
+    }
+
+    private static void shouldNotParse(String str) {
+        for (Function<String, DoubleStream> f : STREAMS) {
+            assertThrows(NumberFormatException.class, () -> f.apply(str).toArray());
+        }
+    }
+}
@@ -0,0 +1,334 @@
+/*
+ * @(#)JmhAllocationBudget.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks that the public entry points do not allocate more bytes per
+ * operation than their budget in {@link #BUDGETS}.
+ * <p>
+ * Run this class with its {@link #main} method. It runs the benchmarks with
+ * the {@link GCProfiler}, and exits with status 1 if the metric
+ * {@code gc.alloc.rate.norm} of a benchmark exceeds its budget.
+ * The metric is rounded to whole bytes, because it is not exactly zero
+ * for benchmarks that do not allocate.
+ * <p>
+ * The fast paths of the double and float parsers must not allocate.
+ * The big number parsers may only allocate the result and its magnitude;
+ * their budgets are the measured values, with some headroom for the
+ * BigDecimal with many digits.
+ * <pre>
+ * # JMH version: 1.37
+ * # VM version: JDK 21.0.1, OpenJDK 64-Bit Server VM, 21.0.1+12-LTS
+ * # Intel(R) Xeon(R) Processor
+ *
+ * Benchmark                                      B/op  budget
+ * bigDecimalFromByteArray                      40.000      40
+ * bigDecimalFromCharArray                      40.000      40
+ * bigDecimalFromCharSequence                   40.000      40
+ * bigDecimalFromCharSequenceWithManyDigits   5896.015    6000
+ * bigIntegerFromByteArray                      64.000      64
+ * bigIntegerFromCharArray                      64.000      64
+ * bigIntegerFromCharSequence                   64.000      64
+ * cachingDoubleFromByteArray                   ≈ 10⁻⁵       0
+ * configurableDoubleFromCharArray              ≈ 10⁻⁵       0
+ * configurableDoubleFromCharSequence           ≈ 10⁻⁵       0
+ * configurableDoubleFromUtf8                   ≈ 10⁻⁵       0
+ * javaDoubleClassify                           ≈ 10⁻⁴       0
+ * javaDoubleFromByteArray                      ≈ 10⁻⁵       0
+ * javaDoubleFromByteArrayWithManyDigits        ≈ 10⁻⁴       0
+ * javaDoubleFromCharArray                      ≈ 10⁻⁵       0
+ * javaDoubleFromCharArrayWithManyDigits        ≈ 10⁻⁴       0
+ * javaDoubleFromCharSequence                   ≈ 10⁻⁵       0
+ * javaDoubleFromStringBuilder                  ≈ 10⁻⁵       0
+ * javaFloatFromByteArray                       ≈ 10⁻⁵       0
+ * javaFloatFromCharArray                       ≈ 10⁻⁵       0
+ * javaFloatFromCharSequence                    ≈ 10⁻⁵       0
+ * jsonDoubleFromByteArray                      ≈ 10⁻⁵       0
+ * jsonDoubleFromCharArray                      ≈ 10⁻⁵       0
+ * jsonDoubleFromCharSequence                   ≈ 10⁻⁵       0
+ * jsonNumberArrayFromByteArray                 ≈ 10⁻⁴       0
+ * jsonNumberScannerFromByteArray               ≈ 10⁻⁵       0
+ * numberExtractorFromByteArray                 ≈ 10⁻⁴       0
+ * </pre>
+ */
+@Fork(value = 1, jvmArgsAppend = {
+        "-XX:+UnlockExperimentalVMOptions", "--add-modules", "jdk.incubator.vector"
+        , "--enable-preview"
+})
+@Measurement(iterations = 3)
+@Warmup(iterations = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Benchmark)
+public class JmhAllocationBudget {
+    /**
+     * Maximal number of bytes that a benchmark may allocate per operation.
+     */
+    static final Map<String, Long> BUDGETS = new LinkedHashMap<>();
+
+    static {
+        BUDGETS.put("javaDoubleFromCharSequence", 0L);
+        BUDGETS.put("javaDoubleFromStringBuilder", 0L);
+        BUDGETS.put("javaDoubleFromCharArray", 0L);
+        BUDGETS.put("javaDoubleFromCharArrayWithManyDigits", 0L);
+        BUDGETS.put("javaDoubleFromByteArray", 0L);
+        BUDGETS.put("javaDoubleFromByteArrayWithManyDigits", 0L);
+        BUDGETS.put("javaDoubleClassify", 0L);
+        BUDGETS.put("javaFloatFromCharSequence", 0L);
+        BUDGETS.put("javaFloatFromCharArray", 0L);
+        BUDGETS.put("javaFloatFromByteArray", 0L);
+        BUDGETS.put("jsonDoubleFromCharSequence", 0L);
+        BUDGETS.put("jsonDoubleFromCharArray", 0L);
+        BUDGETS.put("jsonDoubleFromByteArray", 0L);
+        BUDGETS.put("jsonNumberScannerFromByteArray", 0L);
+        BUDGETS.put("jsonNumberArrayFromByteArray", 0L);
+        BUDGETS.put("configurableDoubleFromCharSequence", 0L);
+        BUDGETS.put("configurableDoubleFromCharArray", 0L);
+        BUDGETS.put("configurableDoubleFromUtf8", 0L);
+        BUDGETS.put("cachingDoubleFromByteArray", 0L);
+        BUDGETS.put("numberExtractorFromByteArray", 0L);
+        BUDGETS.put("bigIntegerFromCharSequence", 64L);
+        BUDGETS.put("bigIntegerFromCharArray", 64L);
+        BUDGETS.put("bigIntegerFromByteArray", 64L);
+        BUDGETS.put("bigDecimalFromCharSequence", 40L);
+        BUDGETS.put("bigDecimalFromCharArray", 40L);
+        BUDGETS.put("bigDecimalFromByteArray", 40L);
+        BUDGETS.put("bigDecimalFromCharSequenceWithManyDigits", 6000L);
+    }
+
+    private static final ConfigurableDoubleParser CONFIGURABLE_PARSER = new ConfigurableDoubleParser();
+    private static final ConfigurableDoubleParser FRENCH_PARSER =
+            new ConfigurableDoubleParser(DecimalFormatSymbols.getInstance(Locale.FRANCE));
+
+    private final String shortStr = "-3.1415927";
+    private final char[] shortChars = shortStr.toCharArray();
+    private final byte[] shortBytes = shortStr.getBytes(StandardCharsets.ISO_8859_1);
+    private final StringBuilder shortStringBuilder = new StringBuilder(shortStr);
+    private final String manyDigitsStr = "3.14159265358979323846264338327950288";
+    private final char[] manyDigitsChars = manyDigitsStr.toCharArray();
+    private final byte[] manyDigitsBytes = manyDigitsStr.getBytes(StandardCharsets.ISO_8859_1);
+    private final String integerStr = "123456789012345678";
+    private final char[] integerChars = integerStr.toCharArray();
+    private final byte[] integerBytes = integerStr.getBytes(StandardCharsets.ISO_8859_1);
+    private final String decimalStr = "-1234567.891";
+    private final char[] decimalChars = decimalStr.toCharArray();
+    private final byte[] decimalBytes = decimalStr.getBytes(StandardCharsets.ISO_8859_1);
+    private final byte[] jsonArrayBytes = "[-3.1415927, 1e3, 42, 0.5]".getBytes(StandardCharsets.ISO_8859_1);
+    private final double[] jsonArrayDest = new double[4];
+    private final JsonNumberScanner jsonNumberScanner = new JsonNumberScanner();
+    private final CachingDoubleParser cachingParser = new CachingDoubleParser();
+    private double extractedSum;
+    private final NumberExtractor.NumberConsumer numberConsumer = (start, end, value) -> extractedSum += value;
+    private byte[] frenchUtf8;
+    private String manyDigitsDecimalStr;
+
+    @Setup
+    public void prepare() {
+        char groupingSeparator = DecimalFormatSymbols.getInstance(Locale.FRANCE).getGroupingSeparator();
+        frenchUtf8 = ("-1" + groupingSeparator + "234" + groupingSeparator + "567,891").getBytes(StandardCharsets.UTF_8);
+        manyDigitsDecimalStr = new BigDecimal(new BigInteger(3322, new Random(0)), 500).toString();
+    }
+
+    @Benchmark
+    public double javaDoubleFromCharSequence() {
+        return JavaDoubleParser.parseDouble(shortStr);
+    }
+
+    @Benchmark
+    public double javaDoubleFromStringBuilder() {
+        return JavaDoubleParser.parseDouble(shortStringBuilder);
+    }
+
+    @Benchmark
+    public double javaDoubleFromCharArray() {
+        return JavaDoubleParser.parseDouble(shortChars);
+    }
+
+    @Benchmark
+    public double javaDoubleFromCharArrayWithManyDigits() {
+        return JavaDoubleParser.parseDouble(manyDigitsChars);
+    }
+
+    @Benchmark
+    public double javaDoubleFromByteArray() {
+        return JavaDoubleParser.parseDouble(shortBytes);
+    }
+
+    @Benchmark
+    public double javaDoubleFromByteArrayWithManyDigits() {
+        return JavaDoubleParser.parseDouble(manyDigitsBytes);
+    }
+
+    @Benchmark
+    public int javaDoubleClassify() {
+        return JavaDoubleParser.classify(shortStr);
+    }
+
+    @Benchmark
+    public float javaFloatFromCharSequence() {
+        return JavaFloatParser.parseFloat(shortStr);
+    }
+
+    @Benchmark
+    public float javaFloatFromCharArray() {
+        return JavaFloatParser.parseFloat(shortChars);
+    }
+
+    @Benchmark
+    public float javaFloatFromByteArray() {
+        return JavaFloatParser.parseFloat(shortBytes);
+    }
+
+    @Benchmark
+    public double jsonDoubleFromCharSequence() {
+        return JsonDoubleParser.parseDouble(shortStr);
+    }
+
+    @Benchmark
+    public double jsonDoubleFromCharArray() {
+        return JsonDoubleParser.parseDouble(shortChars);
+    }
+
+    @Benchmark
+    public double jsonDoubleFromByteArray() {
+        return JsonDoubleParser.parseDouble(shortBytes);
+    }
+
+    @Benchmark
+    public long jsonNumberScannerFromByteArray() {
+        jsonNumberScanner.scan(shortBytes, 0, shortBytes.length);
+        return jsonNumberScanner.getDoubleBits();
+    }
+
+    @Benchmark
+    public int jsonNumberArrayFromByteArray() {
+        return JsonNumberArrayParser.parseDoubleArray(jsonArrayBytes, 0, jsonArrayBytes.length, jsonArrayDest, 0);
+    }
+
+    @Benchmark
+    public double configurableDoubleFromCharSequence() {
+        return CONFIGURABLE_PARSER.parseDouble(shortStr);
+    }
+
+    @Benchmark
+    public double configurableDoubleFromCharArray() {
+        return CONFIGURABLE_PARSER.parseDouble(shortChars);
+    }
+
+    @Benchmark
+    public double configurableDoubleFromUtf8() {
+        return FRENCH_PARSER.parseDouble(frenchUtf8);
+    }
+
+    @Benchmark
+    public double cachingDoubleFromByteArray() {
+        return cachingParser.parseDouble(shortBytes);
+    }
+
+    @Benchmark
+    public double numberExtractorFromByteArray() {
+        extractedSum = 0;
+        NumberExtractor.JAVA.extract(jsonArrayBytes, 0, jsonArrayBytes.length, numberConsumer);
+        return extractedSum;
+    }
+
+    @Benchmark
+    public BigInteger bigIntegerFromCharSequence() {
+        return JavaBigIntegerParser.parseBigInteger(integerStr);
+    }
+
+    @Benchmark
+    public BigInteger bigIntegerFromCharArray() {
+        return JavaBigIntegerParser.parseBigInteger(integerChars);
+    }
+
+    @Benchmark
+    public BigInteger bigIntegerFromByteArray() {
+        return JavaBigIntegerParser.parseBigInteger(integerBytes);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalFromCharSequence() {
+        return JavaBigDecimalParser.parseBigDecimal(decimalStr);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalFromCharArray() {
+        return JavaBigDecimalParser.parseBigDecimal(decimalChars);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalFromByteArray() {
+        return JavaBigDecimalParser.parseBigDecimal(decimalBytes);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalFromCharSequenceWithManyDigits() {
+        return JavaBigDecimalParser.parseBigDecimal(manyDigitsDecimalStr);
+    }
+
+    /**
+     * Runs the benchmarks and checks the budgets.
+     *
+     * @param args not used
+     * @throws RunnerException if JMH fails
+     */
+    public static void main(String... args) throws RunnerException {
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .include(JmhAllocationBudget.class.getName() + "\\.")
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+
+        List<String> violations = new ArrayList<>();
+        for (RunResult result : results) {
+            String label = result.getPrimaryResult().getLabel();
+            Result<?> allocation = result.getSecondaryResults().get("gc.alloc.rate.norm");
+            Long budget = BUDGETS.get(label);
+            if (allocation == null || budget == null) {
+                violations.add(label + ": no budget or no gc.alloc.rate.norm result");
+            } else if (Math.round(allocation.getScore()) > budget) {
+                violations.add(String.format("%s: %.1f B/op, budget %d B/op", label, allocation.getScore(), budget));
+            }
+        }
+        if (!violations.isEmpty()) {
+            System.err.println("Allocation budgets exceeded:");
+            for (String violation : violations) {
+                System.err.println("  " + violation);
+            }
+            System.exit(1);
+        }
+        System.out.println("All " + results.size() + " allocation budgets are met.");
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * @(#)JmhBigDecimalFormatterScalability.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import static ch.randelshofer.fastdoubleparser.Strings.repeat;
+
+/**
+ * Benchmarks for formatting big decimals with many digits.
+ * <p>
+ * Half of the digits are in the fraction.
+ */
+
+@Fork(value = 1, jvmArgsAppend = {
+        "-Xmx24g"
+})
+@Measurement(iterations = 2)
+@Warmup(iterations = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Benchmark)
+public class JmhBigDecimalFormatterScalability {
+
+
+    @Param({
+            "1",
+            "10",
+            "100",
+            "1000",
+            "10000",
+            "100000",
+            "1000000",
+            "10000000",
+            "100000000",
+            "646391315"
+    })
+    public int digits;
+    private BigDecimal value;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String str = repeat('7', digits);
+        int point = digits / 2;
+        value = JavaBigDecimalParser.parseBigDecimal(str.substring(0, point) + "." + str.substring(point));
+    }
+
+    @Benchmark
+    public String m() {
+        return value.toPlainString();
+    }
+
+    @Benchmark
+    public byte[] fastToPlainByteArray() {
+        return FastBigDecimalFormatter.toPlainByteArray(value);
+    }
+
+    @Benchmark
+    public char[] fastToPlainCharArray() {
+        return FastBigDecimalFormatter.toPlainCharArray(value);
+    }
+}
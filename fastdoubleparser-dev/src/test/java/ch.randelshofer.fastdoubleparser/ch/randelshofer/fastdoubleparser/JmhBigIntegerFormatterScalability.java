@@ -0,0 +1,86 @@
+/*
+ * @(#)JmhBigIntegerFormatterScalability.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+import static ch.randelshofer.fastdoubleparser.Strings.repeat;
+
+/**
+ * Benchmarks for formatting big integers with many digits.
+ * <pre>
+ * # VM version: JDK 21.0.1, OpenJDK 64-Bit Server VM, 21.0.1+12-LTS
+ *
+ * Single shot measurements of random values with the given number of bits:
+ *
+ *        bits    toString    toByteArray
+ *       16384     0.43 ms        0.46 ms
+ *       65536     3.35 ms        4.93 ms
+ *      262144    22.50 ms       33.22 ms
+ *     1048576   186.43 ms      144.54 ms
+ *     4194304  1605.72 ms      809.96 ms
+ * </pre>
+ */
+
+@Fork(value = 1, jvmArgsAppend = {
+        "-Xmx24g"
+})
+@Measurement(iterations = 2)
+@Warmup(iterations = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Benchmark)
+public class JmhBigIntegerFormatterScalability {
+
+
+    @Param({
+            "1",
+            "10",
+            "100",
+            "1000",
+            "10000",
+            "100000",
+            "1000000",
+            "10000000",
+            "100000000",
+            "646391315"
+    })
+    public int digits;
+    private BigInteger value;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        value = JavaBigIntegerParser.parseBigInteger(repeat("8808065258", (digits + 9) / 10).substring(0, digits));
+    }
+
+    @Benchmark
+    public String m() {
+        return value.toString();
+    }
+
+    @Benchmark
+    public byte[] fastToByteArray() {
+        return FastBigDecimalFormatter.toByteArray(value);
+    }
+
+    @Benchmark
+    public char[] fastToCharArray() {
+        return FastBigDecimalFormatter.toCharArray(value);
+    }
+}
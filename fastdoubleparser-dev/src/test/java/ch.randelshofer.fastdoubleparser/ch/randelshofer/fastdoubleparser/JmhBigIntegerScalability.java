@@ -15,9 +15,11 @@ import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Warmup;
 
 import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 
 import static ch.randelshofer.fastdoubleparser.Strings.repeat;
@@ -62,17 +64,33 @@ public class JmhBigIntegerScalability {
             "646391315"
     })
     public int digits;
+    @Param({
+            "false",
+            "true"
+    })
+    public boolean parallelMultiply;
     private String str;
 
     @Setup(Level.Trial)
     public void setUp() {
         str = repeat("8808065258", (digits + 9) / 10).substring(0, digits);
+        ParallelMultiply.setPool(parallelMultiply ? ForkJoinPool.commonPool() : null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ParallelMultiply.setPool(null);
     }
 
     @Benchmark
     public BigInteger m() {
         return new BigInteger(str);
     }
+
+    @Benchmark
+    public BigInteger fast() {
+        return JavaBigIntegerParser.parseBigInteger(str);
+    }
 }
 
 
@@ -0,0 +1,117 @@
+/*
+ * @(#)JmhCachingDoubleParser.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link CachingDoubleParser} on columns with skewed
+ * distributions of literals.
+ * <dl>
+ *     <dt>few</dt><dd>5 distinct literals, like "0", "0.0", "1", "100.00", "NaN"</dd>
+ *     <dt>zipf</dt><dd>1000 distinct prices with a Zipf distribution (s=1)</dd>
+ *     <dt>unique</dt><dd>random values, every literal is distinct</dd>
+ * </dl>
+ * <pre>
+ * # JMH version: 1.37
+ * # VM version: JDK 21.0.1, OpenJDK 64-Bit Server VM, 21.0.1+12-LTS
+ * # Intel(R) Xeon(R) Processor
+ *
+ * Benchmark  (distribution)  Mode  Cnt   Score    Error  Units
+ * cached                few  avgt    5  10.751 ±  4.321  ns/op
+ * cached               zipf  avgt    5  20.920 ±  2.148  ns/op
+ * cached             unique  avgt    5  39.347 ±  6.429  ns/op
+ * uncached              few  avgt    5  25.985 ± 12.882  ns/op
+ * uncached             zipf  avgt    5  27.826 ± 10.225  ns/op
+ * uncached           unique  avgt    5  43.034 ± 26.911  ns/op
+ * </pre>
+ */
+@Fork(value = 1, jvmArgsAppend = {
+        "-XX:+UnlockExperimentalVMOptions", "--add-modules", "jdk.incubator.vector"
+        , "--enable-preview"
+})
+@Measurement(iterations = 5)
+@Warmup(iterations = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Benchmark)
+public class JmhCachingDoubleParser {
+    private static final int SIZE = 4096;
+
+    @Param({"few", "zipf", "unique"})
+    public String distribution;
+    private byte[][] literals;
+    private CachingDoubleParser cachingParser;
+
+    @Setup
+    public void prepare() {
+        Random rng = new Random(0);
+        literals = new byte[SIZE][];
+        String[] few = {"0", "0.0", "1", "100.00", "NaN"};
+        double[] zipfCdf = new double[1000];
+        double sum = 0;
+        for (int i = 0; i < zipfCdf.length; i++) {
+            sum += 1.0 / (i + 1);
+            zipfCdf[i] = sum;
+        }
+        for (int i = 0; i < SIZE; i++) {
+            String str;
+            switch (distribution) {
+                case "few":
+                    str = few[rng.nextInt(few.length)];
+                    break;
+                case "zipf": {
+                    double u = rng.nextDouble() * sum;
+                    int rank = 0;
+                    while (zipfCdf[rank] < u) {
+                        rank++;
+                    }
+                    str = String.format("%d.%02d", rank / 4, (rank * 25) % 100);
+                    break;
+                }
+                default:
+                    str = Double.toString(rng.nextDouble());
+                    break;
+            }
+            literals[i] = str.getBytes(StandardCharsets.ISO_8859_1);
+        }
+        cachingParser = new CachingDoubleParser();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double cached() {
+        double sum = 0;
+        for (byte[] literal : literals) {
+            sum += cachingParser.parseDouble(literal);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double uncached() {
+        double sum = 0;
+        for (byte[] literal : literals) {
+            sum += JavaDoubleParser.parseDouble(literal);
+        }
+        return sum;
+    }
+}
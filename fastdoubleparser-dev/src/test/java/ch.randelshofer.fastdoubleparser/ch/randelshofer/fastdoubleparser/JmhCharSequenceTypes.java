@@ -0,0 +1,94 @@
+/*
+ * @(#)JmhCharSequenceTypes.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.CharBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for parsing different {@link CharSequence} implementations,
+ * after the {@code charAt} call sites in the {@link CharSequence} parser
+ * have become megamorphic.
+ * <p>
+ * {@code charSequenceParser} always uses the {@link CharSequence} parser.
+ * {@code javaDoubleParser} uses {@link CharSequenceAccess} to parse
+ * {@link StringBuilder} and {@link CharBuffer} with the {@code char} array parser.
+ * <pre>
+ * # JMH version: 1.37
+ * # VM version: JDK 21.0.1, OpenJDK 64-Bit Server VM, 21.0.1+12-LTS
+ * # Intel(R) Xeon(R) Processor
+ *
+ * Benchmark                   (type)  Mode  Cnt    Score     Error  Units
+ * charSequenceParser          String  avgt    5  149.660 ±  80.870  ns/op
+ * charSequenceParser   StringBuilder  avgt    5  164.569 ± 151.750  ns/op
+ * charSequenceParser      CharBuffer  avgt    5  202.587 ± 119.882  ns/op
+ * javaDoubleParser            String  avgt    5  170.517 ± 106.498  ns/op
+ * javaDoubleParser     StringBuilder  avgt    5   55.356 ±  19.864  ns/op
+ * javaDoubleParser        CharBuffer  avgt    5   54.255 ±  21.024  ns/op
+ * </pre>
+ */
+@Fork(value = 1, jvmArgsAppend = {
+        "-XX:+UnlockExperimentalVMOptions", "--add-modules", "jdk.incubator.vector"
+        , "--enable-preview"
+})
+@Measurement(iterations = 5)
+@Warmup(iterations = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Benchmark)
+public class JmhCharSequenceTypes {
+    private static final String STR = "-0.29235596393453456";
+    private static final JavaDoubleBitsFromCharSequence CHAR_SEQUENCE_PARSER = new JavaDoubleBitsFromCharSequence();
+
+    @Param({"String", "StringBuilder", "CharBuffer"})
+    public String type;
+    private CharSequence charSequence;
+
+    @Setup
+    public void prepare() {
+        CharSequence[] all = {STR, new StringBuilder(STR), CharBuffer.wrap(STR.toCharArray()),
+                new VirtualCharSequence(STR, 0, "", "", '0', STR.length())};
+        // Make the call sites megamorphic
+        for (int i = 0; i < 100_000; i++) {
+            for (CharSequence cs : all) {
+                CHAR_SEQUENCE_PARSER.parseFloatingPointLiteral(cs, 0, cs.length());
+                JavaDoubleParser.parseDouble(cs);
+            }
+        }
+        switch (type) {
+            case "String":
+                charSequence = all[0];
+                break;
+            case "StringBuilder":
+                charSequence = all[1];
+                break;
+            default:
+                charSequence = all[2];
+                break;
+        }
+    }
+
+    @Benchmark
+    public long charSequenceParser() {
+        return CHAR_SEQUENCE_PARSER.parseFloatingPointLiteral(charSequence, 0, charSequence.length());
+    }
+
+    @Benchmark
+    public double javaDoubleParser() {
+        return JavaDoubleParser.parseDouble(charSequence);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * @(#)JmhColumnParser.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for parsing a column of 4096 values that is stored in a
+ * {@code byte} array with an {@code int} array of offsets.
+ * <p>
+ * {@code perRow} calls {@link JavaDoubleParser#parseDouble(byte[], int, int)}
+ * and {@link Long#parseLong(String)} for each row.
+ * <pre>
+ * # JMH version: 1.37
+ * # VM version: JDK 21.0.1, OpenJDK 64-Bit Server VM, 21.0.1+12-LTS
+ * # Intel(R) Xeon(R) Processor
+ *
+ * Benchmark     Mode  Cnt   Score    Error  Units
+ * doubleColumn  avgt    5  40.687 ± 11.506  ns/op
+ * doublePerRow  avgt    5  40.825 ± 10.011  ns/op
+ * longColumn    avgt    5  19.230 ±  5.852  ns/op
+ * longPerRow    avgt    5  42.127 ±  4.812  ns/op
+ * </pre>
+ */
+@Fork(value = 1, jvmArgsAppend = {
+        "-XX:+UnlockExperimentalVMOptions", "--add-modules", "jdk.incubator.vector"
+        , "--enable-preview"
+})
+@Measurement(iterations = 5)
+@Warmup(iterations = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Benchmark)
+public class JmhColumnParser {
+    private static final int SIZE = 4096;
+    private byte[] doubleData;
+    private int[] doubleOffsets;
+    private byte[] longData;
+    private int[] longOffsets;
+    private final double[] doubles = new double[SIZE];
+    private final long[] longs = new long[SIZE];
+    private final long[] validity = new long[SIZE >>> 6];
+
+    @Setup
+    public void prepare() {
+        Random rng = new Random(0);
+        ByteArrayOutputStream doubleOut = new ByteArrayOutputStream();
+        ByteArrayOutputStream longOut = new ByteArrayOutputStream();
+        doubleOffsets = new int[SIZE + 1];
+        longOffsets = new int[SIZE + 1];
+        for (int i = 0; i < SIZE; i++) {
+            byte[] d = Double.toString(rng.nextDouble() * 1000).getBytes(StandardCharsets.ISO_8859_1);
+            byte[] l = Long.toString(rng.nextInt(10_000_000)).getBytes(StandardCharsets.ISO_8859_1);
+            doubleOut.write(d, 0, d.length);
+            longOut.write(l, 0, l.length);
+            doubleOffsets[i + 1] = doubleOffsets[i] + d.length;
+            longOffsets[i + 1] = longOffsets[i] + l.length;
+        }
+        doubleData = doubleOut.toByteArray();
+        longData = longOut.toByteArray();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int doubleColumn() {
+        return ColumnParser.parseDoubleColumn(doubleData, doubleOffsets, 0, SIZE, doubles, 0, validity);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int doublePerRow() {
+        int validCount = 0;
+        for (int i = 0; i < SIZE; i++) {
+            int from = doubleOffsets[i];
+            try {
+                doubles[i] = JavaDoubleParser.parseDouble(doubleData, from, doubleOffsets[i + 1] - from);
+                validity[i >>> 6] |= 1L << i;
+                validCount++;
+            } catch (NumberFormatException e) {
+                doubles[i] = Double.NaN;
+                validity[i >>> 6] &= ~(1L << i);
+            }
+        }
+        return validCount;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int longColumn() {
+        return ColumnParser.parseLongColumn(longData, longOffsets, 0, SIZE, longs, 0, validity);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int longPerRow() {
+        int validCount = 0;
+        for (int i = 0; i < SIZE; i++) {
+            int from = longOffsets[i];
+            try {
+                longs[i] = Long.parseLong(new String(longData, from, longOffsets[i + 1] - from, StandardCharsets.ISO_8859_1));
+                validity[i >>> 6] |= 1L << i;
+                validCount++;
+            } catch (NumberFormatException e) {
+                longs[i] = 0;
+                validity[i >>> 6] &= ~(1L << i);
+            }
+        }
+        return validCount;
+    }
+}
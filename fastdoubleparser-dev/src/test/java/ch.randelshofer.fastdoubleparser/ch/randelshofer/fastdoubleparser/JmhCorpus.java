@@ -0,0 +1,254 @@
+/*
+ * @(#)JmhCorpus.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.text.ParsePosition;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the parsers on corpora with the shapes of the number parsing
+ * corpora that are commonly used for benchmarking, instead of on uniformly
+ * random doubles.
+ * <p>
+ * The corpora are generated with a fixed seed, so that every run parses
+ * the same {@value #SIZE} lines.
+ * <dl>
+ *     <dt>canada</dt><dd>coordinates like in canada.json, for example
+ *     {@code -65.61361699999994}</dd>
+ *     <dt>mesh</dt><dd>short floats with 1 to 4 decimals like in mesh.txt,
+ *     for example {@code -0.1427}</dd>
+ *     <dt>prices</dt><dd>financial prices with 2 to 4 decimals, for example
+ *     {@code 1234.5675}</dd>
+ *     <dt>roundTrip</dt><dd>17 significant digits, as written by
+ *     {@code printf("%.16e")}, for example {@code 8.3104211665797580e-07}</dd>
+ *     <dt>integers</dt><dd>integers up to 2<sup>53</sup> stored as doubles,
+ *     for example {@code 6012437918093217}</dd>
+ * </dl>
+ * The locale benchmarks parse numbers that are formatted like in
+ * {@code GenerateNumberFormatNumbers} of the demo: gamma-corrected values
+ * up to 10<sup>9</sup>, half of them in scientific notation, formatted
+ * with the {@link NumberFormat} of the locale.
+ * <pre>
+ * # JMH version: 1.37
+ * # VM version: JDK 21.0.1, OpenJDK 64-Bit Server VM, 21.0.1+12-LTS
+ * # Intel(R) Xeon(R) Processor
+ *
+ * Benchmark                           (dataset)  (locale)  Mode  Cnt    Score     Error  Units
+ * JmhCorpus.bigDecimal                   canada       N/A  avgt    5   43.350 ±  38.931  ns/op
+ * JmhCorpus.bigDecimal                     mesh       N/A  avgt    5   26.209 ±  22.210  ns/op
+ * JmhCorpus.bigDecimal                   prices       N/A  avgt    5   32.483 ±   9.466  ns/op
+ * JmhCorpus.bigDecimal                roundTrip       N/A  avgt    5   38.726 ±   7.079  ns/op
+ * JmhCorpus.bigDecimal                 integers       N/A  avgt    5   32.197 ±   3.206  ns/op
+ * JmhCorpus.configurableDouble           canada       N/A  avgt    5   46.601 ±  13.358  ns/op
+ * JmhCorpus.configurableDouble             mesh       N/A  avgt    5   36.172 ±   5.786  ns/op
+ * JmhCorpus.configurableDouble           prices       N/A  avgt    5   47.262 ±  46.015  ns/op
+ * JmhCorpus.configurableDouble        roundTrip       N/A  avgt    5   66.566 ±  15.896  ns/op
+ * JmhCorpus.configurableDouble         integers       N/A  avgt    5   38.349 ±  20.626  ns/op
+ * JmhCorpus.doubleParseDouble            canada       N/A  avgt    5  333.973 ± 280.981  ns/op
+ * JmhCorpus.doubleParseDouble              mesh       N/A  avgt    5   34.193 ±  20.368  ns/op
+ * JmhCorpus.doubleParseDouble            prices       N/A  avgt    5   38.271 ±  33.319  ns/op
+ * JmhCorpus.doubleParseDouble         roundTrip       N/A  avgt    5  302.587 ± 175.364  ns/op
+ * JmhCorpus.doubleParseDouble          integers       N/A  avgt    5  117.362 ±   4.745  ns/op
+ * JmhCorpus.javaDouble                   canada       N/A  avgt    5   39.356 ±   8.925  ns/op
+ * JmhCorpus.javaDouble                     mesh       N/A  avgt    5   22.716 ±   6.502  ns/op
+ * JmhCorpus.javaDouble                   prices       N/A  avgt    5   28.769 ±  34.059  ns/op
+ * JmhCorpus.javaDouble                roundTrip       N/A  avgt    5   56.526 ±  25.855  ns/op
+ * JmhCorpus.javaDouble                 integers       N/A  avgt    5   36.996 ±  14.916  ns/op
+ * JmhCorpus.javaFloat                    canada       N/A  avgt    5   53.120 ±  16.172  ns/op
+ * JmhCorpus.javaFloat                      mesh       N/A  avgt    5   20.971 ±  20.836  ns/op
+ * JmhCorpus.javaFloat                    prices       N/A  avgt    5   23.810 ±   3.911  ns/op
+ * JmhCorpus.javaFloat                 roundTrip       N/A  avgt    5   68.297 ±   4.137  ns/op
+ * JmhCorpus.javaFloat                  integers       N/A  avgt    5   38.271 ±   4.464  ns/op
+ * JmhCorpus.jsonDouble                   canada       N/A  avgt    5   46.918 ±   7.882  ns/op
+ * JmhCorpus.jsonDouble                     mesh       N/A  avgt    5   18.966 ±   6.410  ns/op
+ * JmhCorpus.jsonDouble                   prices       N/A  avgt    5   28.571 ±  20.359  ns/op
+ * JmhCorpus.jsonDouble                roundTrip       N/A  avgt    5   73.294 ±   4.263  ns/op
+ * JmhCorpus.jsonDouble                 integers       N/A  avgt    5   33.036 ±  16.206  ns/op
+ * JmhCorpus.localeConfigurableDouble        N/A     de-DE  avgt    5  122.700 ± 119.772  ns/op
+ * JmhCorpus.localeConfigurableDouble        N/A     fr-FR  avgt    5   74.793 ±   2.635  ns/op
+ * JmhCorpus.localeConfigurableDouble        N/A     de-CH  avgt    5   59.905 ±  45.597  ns/op
+ * JmhCorpus.localeConfigurableDouble        N/A     ar-EG  avgt    5   74.917 ±  19.472  ns/op
+ * JmhCorpus.localeNumberFormat              N/A     de-DE  avgt    5  417.123 ± 377.961  ns/op
+ * JmhCorpus.localeNumberFormat              N/A     fr-FR  avgt    5  329.211 ±  76.136  ns/op
+ * JmhCorpus.localeNumberFormat              N/A     de-CH  avgt    5  322.879 ± 205.607  ns/op
+ * JmhCorpus.localeNumberFormat              N/A     ar-EG  avgt    5  324.209 ± 237.023  ns/op
+ * </pre>
+ */
+@Fork(value = 1, jvmArgsAppend = {
+        "-XX:+UnlockExperimentalVMOptions", "--add-modules", "jdk.incubator.vector"
+        , "--enable-preview"
+})
+@Measurement(iterations = 5)
+@Warmup(iterations = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class JmhCorpus {
+    private static final int SIZE = 1024;
+
+    @State(Scope.Benchmark)
+    public static class Corpus {
+        @Param({"canada", "mesh", "prices", "roundTrip", "integers"})
+        public String dataset;
+        String[] lines;
+        final ConfigurableDoubleParser configurableParser = new ConfigurableDoubleParser();
+
+        @Setup
+        public void prepare() {
+            Random rng = new Random(0);
+            lines = new String[SIZE];
+            for (int i = 0; i < SIZE; i++) {
+                switch (dataset) {
+                    case "canada":
+                        lines[i] = Double.toString(i % 2 == 0
+                                ? -141 + 89 * rng.nextDouble()
+                                : 41 + 42 * rng.nextDouble());
+                        break;
+                    case "mesh":
+                        lines[i] = BigDecimal.valueOf(rng.nextInt(200_000) - 100_000, 1 + rng.nextInt(4))
+                                .stripTrailingZeros().toPlainString();
+                        break;
+                    case "prices":
+                        lines[i] = BigDecimal.valueOf(rng.nextInt(100_000_000), 2 + rng.nextInt(3)).toPlainString();
+                        break;
+                    case "roundTrip":
+                        lines[i] = String.format(Locale.ROOT, "%.16e", rng.nextDouble() * Math.pow(10, rng.nextInt(41) - 20));
+                        break;
+                    default:
+                        lines[i] = Long.toString((long) (rng.nextDouble() * (1L << 53)));
+                        break;
+                }
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class LocaleCorpus {
+        @Param({"de-DE", "fr-FR", "de-CH", "ar-EG"})
+        public String locale;
+        String[] lines;
+        ConfigurableDoubleParser configurableParser;
+        NumberFormat numberFormat;
+
+        @Setup
+        public void prepare() {
+            Locale l = Locale.forLanguageTag(locale);
+            DecimalFormat f = (DecimalFormat) NumberFormat.getNumberInstance(l);
+            DecimalFormat fsc = (DecimalFormat) NumberFormat.getNumberInstance(l);
+            fsc.applyPattern("####,##0.0######E0##");
+            Random rng = new Random(0);
+            lines = new String[SIZE];
+            for (int i = 0; i < SIZE; i++) {
+                double v = Math.pow(rng.nextDouble(), 1 / 0.2) * 1e9;
+                if (rng.nextBoolean()) {
+                    v = -v;
+                }
+                lines[i] = rng.nextBoolean() ? f.format(v) : fsc.format(v);
+            }
+            configurableParser = new ConfigurableDoubleParser(DecimalFormatSymbols.getInstance(l));
+            numberFormat = f;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double doubleParseDouble(Corpus corpus) {
+        double sum = 0;
+        for (String line : corpus.lines) {
+            sum += Double.parseDouble(line);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double javaDouble(Corpus corpus) {
+        double sum = 0;
+        for (String line : corpus.lines) {
+            sum += JavaDoubleParser.parseDouble(line);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double jsonDouble(Corpus corpus) {
+        double sum = 0;
+        for (String line : corpus.lines) {
+            sum += JsonDoubleParser.parseDouble(line);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public float javaFloat(Corpus corpus) {
+        float sum = 0;
+        for (String line : corpus.lines) {
+            sum += JavaFloatParser.parseFloat(line);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double configurableDouble(Corpus corpus) {
+        double sum = 0;
+        for (String line : corpus.lines) {
+            sum += corpus.configurableParser.parseDouble(line);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int bigDecimal(Corpus corpus) {
+        int sum = 0;
+        for (String line : corpus.lines) {
+            sum += JavaBigDecimalParser.parseBigDecimal(line).scale();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double localeNumberFormat(LocaleCorpus corpus) {
+        double sum = 0;
+        ParsePosition pos = new ParsePosition(0);
+        for (String line : corpus.lines) {
+            pos.setIndex(0);
+            sum += corpus.numberFormat.parse(line, pos).doubleValue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double localeConfigurableDouble(LocaleCorpus corpus) {
+        double sum = 0;
+        for (String line : corpus.lines) {
+            sum += corpus.configurableParser.parseDouble(line);
+        }
+        return sum;
+    }
+}
@@ -56,6 +56,36 @@ import java.util.concurrent.TimeUnit;
  * fftSquare   1000000  avgt    4    18107402.389 ±   1516129.734  ns/op
  * fftSquare  10000000  avgt    4   305210971.932 ±   5031926.669  ns/op
  * </pre>
+ * <pre>
+ * NTT versus FFT multiplication of random operands with the given number of bits.
+ *
+ * # VM version: JDK 21.0.1, OpenJDK 64-Bit Server VM, 21.0.1+12-LTS
+ *
+ *      bits        fftMul         nttMul
+ *     32768       0.49 ms        0.48 ms
+ *    131072       1.55 ms        1.83 ms
+ *    524288       4.84 ms        9.64 ms
+ *   2097152      19.9  ms       40.9  ms
+ *   8388608     133    ms      296    ms
+ *  33554432     579    ms     2098    ms
+ * </pre>
+ * <pre>
+ * Near the top of the supported range, the best of two calls after a
+ * warm-up call, on a machine with one processor and 5 GB of memory.
+ *
+ * # VM version: JDK 21.0.1, OpenJDK 64-Bit Server VM, 21.0.1+12-LTS
+ *
+ *      bits        fftMul         nttMul
+ *  33554432     919    ms     3135    ms
+ *  67108864    1872    ms     6210    ms
+ * 134217728    4267    ms    14921    ms
+ * 268435456   10225    ms    36678    ms
+ * </pre>
+ * The NTT is slower than the FFT at every measured size, and the ratio
+ * grows from 1.0 to 3.6. Operands with {@code 2^29} bits and more did not
+ * fit into the memory of the machine. Therefore,
+ * {@link FftMultiplier#multiply} and {@link FftMultiplier#square} do not
+ * use the NTT, and {@link NttMultiplier} is only in the test sources.
  */
 @Fork(value = 1, jvmArgsAppend = {
         "-XX:+UnlockExperimentalVMOptions", "--add-modules", "jdk.incubator.vector"
@@ -131,6 +161,16 @@ public class JmhFftMultiplier {
     public BigInteger fftSquare() {
         return FftMultiplier.squareFft(a);
     }
+
+    @Benchmark
+    public BigInteger nttMul() {
+        return NttMultiplier.multiplyNtt(a, b);
+    }
+
+    @Benchmark
+    public BigInteger nttSquare() {
+        return NttMultiplier.squareNtt(a);
+    }
 }
 
 
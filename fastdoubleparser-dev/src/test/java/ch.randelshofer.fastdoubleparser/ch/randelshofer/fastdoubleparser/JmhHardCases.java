@@ -0,0 +1,127 @@
+/*
+ * @(#)JmhHardCases.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the double and float parsers on the inputs of
+ * {@link HardCaseCorpus}, which defeat their fast paths.
+ * <p>
+ * The {@code average} rows are the baseline: the slowdown of a hard case
+ * is its score divided by the score of the {@code average} row of the same
+ * benchmark.
+ * <pre>
+ * # JMH version: 1.37
+ * # VM version: JDK 21.0.1, OpenJDK 64-Bit Server VM, 21.0.1+12-LTS
+ * # Intel(R) Xeon(R) Processor
+ *
+ * Benchmark                          (hardCase)  Mode  Cnt      Score       Error  Units
+ * JmhHardCases.doubleParseDouble        average  avgt    5    301.679 ±     7.647  ns/op
+ * JmhHardCases.doubleParseDouble        halfway  avgt    5  28661.010 ± 17670.199  ns/op
+ * JmhHardCases.doubleParseDouble      subnormal  avgt    5    428.338 ±   124.102  ns/op
+ * JmhHardCases.doubleParseDouble   nearOverflow  avgt    5    987.818 ±   587.854  ns/op
+ * JmhHardCases.doubleParseDouble      truncated  avgt    5    296.955 ±   340.588  ns/op
+ * JmhHardCases.doubleParseDouble   hexSubnormal  avgt    5    471.037 ±   310.418  ns/op
+ * JmhHardCases.doubleParseDouble  hexManyDigits  avgt    5    480.425 ±   490.667  ns/op
+ * JmhHardCases.floatParseFloat          average  avgt    5     71.773 ±    32.385  ns/op
+ * JmhHardCases.floatParseFloat          halfway  avgt    5    612.788 ±   192.970  ns/op
+ * JmhHardCases.floatParseFloat        subnormal  avgt    5    121.661 ±    25.869  ns/op
+ * JmhHardCases.floatParseFloat     nearOverflow  avgt    5    164.550 ±    17.716  ns/op
+ * JmhHardCases.floatParseFloat        truncated  avgt    5    184.260 ±    57.336  ns/op
+ * JmhHardCases.floatParseFloat     hexSubnormal  avgt    5    548.688 ±   509.449  ns/op
+ * JmhHardCases.floatParseFloat    hexManyDigits  avgt    5    490.266 ±   402.864  ns/op
+ * JmhHardCases.javaDouble               average  avgt    5     39.914 ±     3.087  ns/op
+ * JmhHardCases.javaDouble               halfway  avgt    5  23091.614 ±  5920.738  ns/op
+ * JmhHardCases.javaDouble             subnormal  avgt    5    510.048 ±   444.163  ns/op
+ * JmhHardCases.javaDouble          nearOverflow  avgt    5    907.060 ±   369.037  ns/op
+ * JmhHardCases.javaDouble             truncated  avgt    5    250.165 ±   114.127  ns/op
+ * JmhHardCases.javaDouble          hexSubnormal  avgt    5    740.509 ±   364.236  ns/op
+ * JmhHardCases.javaDouble         hexManyDigits  avgt    5    194.897 ±    28.065  ns/op
+ * JmhHardCases.javaFloat                average  avgt    5     31.230 ±    25.161  ns/op
+ * JmhHardCases.javaFloat                halfway  avgt    5   1178.896 ±   811.975  ns/op
+ * JmhHardCases.javaFloat              subnormal  avgt    5    185.362 ±   117.841  ns/op
+ * JmhHardCases.javaFloat           nearOverflow  avgt    5    111.882 ±    36.282  ns/op
+ * JmhHardCases.javaFloat              truncated  avgt    5    214.508 ±    66.103  ns/op
+ * JmhHardCases.javaFloat           hexSubnormal  avgt    5    457.928 ±   101.480  ns/op
+ * JmhHardCases.javaFloat          hexManyDigits  avgt    5    343.543 ±   168.272  ns/op
+ * </pre>
+ */
+@Fork(value = 1, jvmArgsAppend = {
+        "-XX:+UnlockExperimentalVMOptions", "--add-modules", "jdk.incubator.vector"
+        , "--enable-preview"
+})
+@Measurement(iterations = 5)
+@Warmup(iterations = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Benchmark)
+public class JmhHardCases {
+    private static final int SIZE = 256;
+
+    @Param({"average", "halfway", "subnormal", "nearOverflow", "truncated", "hexSubnormal", "hexManyDigits"})
+    public String hardCase;
+    private String[] doubles;
+    private String[] floats;
+
+    @Setup
+    public void prepare() {
+        doubles = HardCaseCorpus.doubles(hardCase, SIZE, 0);
+        floats = HardCaseCorpus.floats(hardCase, SIZE, 0);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double doubleParseDouble() {
+        double sum = 0;
+        for (String literal : doubles) {
+            sum += Double.parseDouble(literal);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double javaDouble() {
+        double sum = 0;
+        for (String literal : doubles) {
+            sum += JavaDoubleParser.parseDouble(literal);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public float floatParseFloat() {
+        float sum = 0;
+        for (String literal : floats) {
+            sum += Float.parseFloat(literal);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public float javaFloat() {
+        float sum = 0;
+        for (String literal : floats) {
+            sum += JavaFloatParser.parseFloat(literal);
+        }
+        return sum;
+    }
+}
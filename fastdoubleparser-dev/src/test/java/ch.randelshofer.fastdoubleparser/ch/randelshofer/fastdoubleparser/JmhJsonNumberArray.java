@@ -0,0 +1,101 @@
+/*
+ * @(#)JmhJsonNumberArray.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for parsing a JSON array of numbers into a {@code double}
+ * array.
+ * <p>
+ * {@code perElement} finds the bounds of each element and parses it with
+ * {@link JsonDoubleParser}; this is what a caller does, who uses a general
+ * JSON tokenizer. {@code array} scans the array once with
+ * {@link JsonNumberArrayParser}.
+ * <pre>
+ * # JMH version: 1.37
+ * # VM version: JDK 21.0.1, OpenJDK 64-Bit Server VM, 21.0.1+12-LTS
+ * # Intel(R) Xeon(R) Processor
+ *
+ * Benchmark   (size)  Mode  Cnt       Score        Error  Units
+ * array           16  avgt    5     411.142 ±    187.978  ns/op
+ * array         1024  avgt    5   26567.891 ±  11037.655  ns/op
+ * array         4096  avgt    5  150365.416 ±  32659.507  ns/op
+ * perElement      16  avgt    5     481.319 ±     89.024  ns/op
+ * perElement    1024  avgt    5   30833.997 ±  13702.510  ns/op
+ * perElement    4096  avgt    5  217252.913 ± 180147.974  ns/op
+ * </pre>
+ */
+@Fork(value = 1, jvmArgsAppend = {
+        "-XX:+UnlockExperimentalVMOptions", "--add-modules", "jdk.incubator.vector"
+        , "--enable-preview"
+})
+@Measurement(iterations = 5)
+@Warmup(iterations = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Benchmark)
+public class JmhJsonNumberArray {
+    @Param({"16", "1024", "4096"})
+    public int size;
+    private byte[] byteArray;
+    private double[] dest;
+
+    @Setup
+    public void prepare() {
+        Random rng = new Random(0);
+        StringBuilder buf = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                buf.append(", ");
+            }
+            buf.append((float) rng.nextGaussian());
+        }
+        buf.append(']');
+        byteArray = buf.toString().replace('E', 'e').getBytes(StandardCharsets.ISO_8859_1);
+        dest = new double[size];
+    }
+
+    @Benchmark
+    public int array() {
+        return JsonNumberArrayParser.parseDoubleArray(byteArray, 0, byteArray.length, dest, 0);
+    }
+
+    @Benchmark
+    public int perElement() {
+        byte[] str = byteArray;
+        int count = 0;
+        int index = 1;
+        int end = str.length - 1;
+        while (index < end) {
+            while (str[index] == ' ') {
+                index++;
+            }
+            int start = index;
+            while (index < end && str[index] != ',' && str[index] != ' ') {
+                index++;
+            }
+            dest[count++] = JsonDoubleParser.parseDouble(str, start, index - start);
+            while (index < end && (str[index] == ',' || str[index] == ' ')) {
+                index++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * @(#)JmhNumberClassification.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link JavaDoubleParser#classify(CharSequence)} against
+ * {@link JavaDoubleParser#parseDouble(CharSequence)}.
+ * <p>
+ * For legal literals that are converted on the fast path, {@code classify}
+ * is not faster than {@code parse}, because it must scan back over the
+ * trailing digits to find the kind of the literal. {@code classify} is
+ * faster for literals that need the slow path, and for illegal input,
+ * because it does not throw an exception.
+ * <pre>
+ * # JMH version: 1.37
+ * # VM version: JDK 21.0.1, OpenJDK 64-Bit Server VM, 21.0.1+12-LTS
+ * # Intel(R) Xeon(R) Processor
+ *
+ * Benchmark                                                 (str)  Mode  Cnt     Score      Error  Units
+ * classify                                                  12345  avgt    5    16.113 ±    0.924  ns/op
+ * classify                                              1234.5678  avgt    5    31.577 ±   25.183  ns/op
+ * classify    3.1415926535897932384626433832795028841971693993751  avgt    5   205.592 ±  117.828  ns/op
+ * classify                                2.2250738585072012e-308  avgt    5    62.921 ±   24.220  ns/op
+ * classify                                               12.34.56  avgt    5    24.082 ±   10.669  ns/op
+ * parse                                                     12345  avgt    5    17.350 ±   11.515  ns/op
+ * parse                                                 1234.5678  avgt    5    24.818 ±   14.382  ns/op
+ * parse       3.1415926535897932384626433832795028841971693993751  avgt    5   143.495 ±   11.476  ns/op
+ * parse                                   2.2250738585072012e-308  avgt    5   507.525 ±  279.990  ns/op
+ * parse                                                  12.34.56  avgt    5  1965.633 ± 1151.250  ns/op
+ * </pre>
+ */
+@Fork(value = 1, jvmArgsAppend = {
+        "-XX:+UnlockExperimentalVMOptions", "--add-modules", "jdk.incubator.vector"
+        , "--enable-preview"
+})
+@Measurement(iterations = 5)
+@Warmup(iterations = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Benchmark)
+public class JmhNumberClassification {
+    @Param({
+            "12345"
+            , "1234.5678"
+            , "3.1415926535897932384626433832795028841971693993751"
+            , "2.2250738585072012e-308"
+            , "12.34.56"
+    })
+    public String str;
+
+    @Benchmark
+    public int classify() {
+        return JavaDoubleParser.classify(str);
+    }
+
+    @Benchmark
+    public double parse() {
+        try {
+            return JavaDoubleParser.parseDouble(str);
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+}
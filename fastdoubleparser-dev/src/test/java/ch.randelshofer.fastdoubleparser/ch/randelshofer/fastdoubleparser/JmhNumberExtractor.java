@@ -0,0 +1,104 @@
+/*
+ * @(#)JmhNumberExtractor.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Benchmarks for extracting all numbers from 1000 log lines like
+ * {@code "2024-05-17 INFO request=/api/items latency=12.5ms user=42 ratio=1e-3"}.
+ * <p>
+ * {@code regex} finds the numbers with a regular expression and parses
+ * each match with {@link JavaDoubleParser}.
+ * <pre>
+ * # JMH version: 1.37
+ * # VM version: JDK 21.0.1, OpenJDK 64-Bit Server VM, 21.0.1+12-LTS
+ * # Intel(R) Xeon(R) Processor
+ *
+ * Benchmark      Mode  Cnt     Score     Error  Units
+ * byteArray      avgt    5   171.514 ±  87.567  us/op
+ * charArray      avgt    5   184.945 ±  93.787  us/op
+ * charSequence   avgt    5   227.491 ± 161.927  us/op
+ * regex          avgt    5  1983.381 ± 838.754  us/op
+ * </pre>
+ */
+@Fork(value = 1, jvmArgsAppend = {
+        "-XX:+UnlockExperimentalVMOptions", "--add-modules", "jdk.incubator.vector"
+        , "--enable-preview"
+})
+@Measurement(iterations = 5)
+@Warmup(iterations = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Benchmark)
+public class JmhNumberExtractor {
+    private static final Pattern PATTERN = Pattern.compile("[-+]?(?:\\d+(?:\\.\\d*)?|\\.\\d+)(?:[eE][-+]?\\d+)?");
+    private String string;
+    private byte[] byteArray;
+    private char[] charArray;
+    private double sum;
+
+    @Setup
+    public void prepare() {
+        Random rng = new Random(0);
+        StringBuilder buf = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            buf.append("2024-05-17 INFO request=/api/items latency=")
+                    .append(rng.nextInt(10_000) / 10.0)
+                    .append("ms user=").append(rng.nextInt(100_000))
+                    .append(" ratio=").append(rng.nextInt(10)).append("e-").append(rng.nextInt(10))
+                    .append('\n');
+        }
+        string = buf.toString();
+        byteArray = string.getBytes(StandardCharsets.ISO_8859_1);
+        charArray = string.toCharArray();
+    }
+
+    @Benchmark
+    public double regex() {
+        double sum = 0;
+        Matcher m = PATTERN.matcher(string);
+        while (m.find()) {
+            sum += JavaDoubleParser.parseDouble(string, m.start(), m.end() - m.start());
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double byteArray() {
+        sum = 0;
+        NumberExtractor.JAVA.extract(byteArray, 0, byteArray.length, (start, end, value) -> sum += value);
+        return sum;
+    }
+
+    @Benchmark
+    public double charArray() {
+        sum = 0;
+        NumberExtractor.JAVA.extract(charArray, 0, charArray.length, (start, end, value) -> sum += value);
+        return sum;
+    }
+
+    @Benchmark
+    public double charSequence() {
+        sum = 0;
+        NumberExtractor.JAVA.extract(string, 0, string.length(), (start, end, value) -> sum += value);
+        return sum;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * @(#)JmhStartup.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to the first parse in a fresh JVM.
+ * <p>
+ * Each fork runs a single invocation of the benchmark, so the score
+ * includes loading and initializing the classes of the parser.
+ * Run with {@code -prof cl} to see how many classes are loaded
+ * ({@code class.load.norm}).
+ * <p>
+ * {@code doubleParseDouble} is the baseline: its classes are mostly
+ * loaded by the JVM before the benchmark runs.
+ * <pre>
+ * # JMH version: 1.37
+ * # VM version: JDK 21.0.1, OpenJDK 64-Bit Server VM, 21.0.1+12-LTS
+ * # Intel(R) Xeon(R) Processor
+ *
+ * Benchmark                                             Mode  Cnt      Score      Error        Units
+ * JmhStartup.configurableDouble                           ss   20  11398.677 ± 3768.919        us/op
+ * JmhStartup.configurableDouble:class.load.norm           ss   20     55.900 ±    2.550   classes/op
+ * JmhStartup.doubleParseDouble                            ss   20     54.470 ±   19.265        us/op
+ * JmhStartup.doubleParseDouble:class.load.norm            ss   20     34.800 ±    2.138   classes/op
+ * JmhStartup.javaDouble                                   ss   20   7289.713 ± 3198.305        us/op
+ * JmhStartup.javaDouble:class.load.norm                   ss   20     44.800 ±    2.138   classes/op
+ * JmhStartup.javaDoubleFromByteArray                      ss   20  16709.224 ± 2979.312        us/op
+ * JmhStartup.javaDoubleFromByteArray:class.load.norm      ss   20     75.900 ±    2.550   classes/op
+ * JmhStartup.javaDoubleManyDigits                         ss   20   9511.823 ± 3588.104        us/op
+ * JmhStartup.javaDoubleManyDigits:class.load.norm         ss   20     46.800 ±    2.138   classes/op
+ * JmhStartup.javaFloat                                    ss   20  10470.161 ± 3994.030        us/op
+ * JmhStartup.javaFloat:class.load.norm                    ss   20     47.650 ±    2.151   classes/op
+ * JmhStartup.jsonDouble                                   ss   20   6267.142 ± 2166.179        us/op
+ * JmhStartup.jsonDouble:class.load.norm                   ss   20     44.950 ±    1.941   classes/op
+ * </pre>
+ */
+@Fork(value = 20, jvmArgsAppend = {
+        "-XX:+UnlockExperimentalVMOptions", "--add-modules", "jdk.incubator.vector"
+        , "--enable-preview"
+})
+@Measurement(iterations = 1)
+@Warmup(iterations = 0)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.SingleShotTime)
+public class JmhStartup {
+
+    @Benchmark
+    public double doubleParseDouble() {
+        return Double.parseDouble("-3.1415927");
+    }
+
+    @Benchmark
+    public double javaDouble() {
+        return JavaDoubleParser.parseDouble("-3.1415927");
+    }
+
+    @Benchmark
+    public double javaDoubleFromByteArray() {
+        return JavaDoubleParser.parseDouble(new byte[]{'-', '3', '.', '1', '4', '1', '5', '9', '2', '7'});
+    }
+
+    @Benchmark
+    public float javaFloat() {
+        return JavaFloatParser.parseFloat("-3.1415927");
+    }
+
+    @Benchmark
+    public double jsonDouble() {
+        return JsonDoubleParser.parseDouble("-3.1415927");
+    }
+
+    @Benchmark
+    public double configurableDouble() {
+        return new ConfigurableDoubleParser().parseDouble("-3.1415927");
+    }
+
+    @Benchmark
+    public double javaDoubleManyDigits() {
+        return JavaDoubleParser.parseDouble("3.14159265358979323846264338327950288");
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * @(#)JmhThreadScaling.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the parsers with 1, 4, 16 and 64 threads, to make
+ * contention on shared static state visible.
+ * <p>
+ * All parsers share static state: the parser singletons in the facades,
+ * {@code CHAR_TO_HEX_MAP}, and the volatile {@code ROOTS2_CACHE} and
+ * {@code ROOTS3_CACHE} in {@link FftMultiplier}.
+ * <p>
+ * The benchmarks measure the throughput of all threads together. If a
+ * parser scales perfectly, the score grows linearly with the number of
+ * threads, up to the number of available processors. The score of
+ * {@code T1} is the single-threaded baseline.
+ * <p>
+ * To compare the runs, divide the score by the number of threads. The
+ * per-thread throughput stays at the score of {@code T1} if a parser
+ * scales perfectly, and drops if the threads contend for shared state.
+ * For the groups, JMH reports the score of the group and the score of each
+ * method; divide the score of a method by its number of threads in
+ * {@link GroupThreads}.
+ * <dl>
+ *     <dt>javaDouble, javaFloat, configurableDouble</dt>
+ *     <dd>random doubles like {@code 0.8487305991992138}</dd>
+ *     <dt>bigDecimal</dt><dd>random BigDecimals with 1000 digits</dd>
+ *     <dt>bigInteger</dt><dd>random BigIntegers with 60206 digits, which are
+ *     multiplied with the FFT algorithm</dd>
+ *     <dt>mixed, mixed16, mixed64</dt><dd>groups of 4, 16 and 64 threads,
+ *     one thread parses BigIntegers and the others parse doubles. The
+ *     groups show if a thread that is busy in {@link FftMultiplier} slows
+ *     down the threads that parse doubles.</dd>
+ * </dl>
+ * Contention only becomes visible on a machine with at least as many
+ * processors as threads. With fewer processors, the threads take turns,
+ * and the score stays flat from {@code T1} to {@code T64}.
+ */
+@Fork(value = 1, jvmArgsAppend = {
+        "-XX:+UnlockExperimentalVMOptions", "--add-modules", "jdk.incubator.vector"
+        , "--enable-preview"
+})
+@Measurement(iterations = 5)
+@Warmup(iterations = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.Throughput)
+public class JmhThreadScaling {
+    private static final int SIZE = 1024;
+    private static final ConfigurableDoubleParser CONFIGURABLE_PARSER = new ConfigurableDoubleParser();
+
+    /**
+     * The literals are shared by all threads, like in a server that parses
+     * the same kind of input in all request threads.
+     */
+    @State(Scope.Benchmark)
+    public static class Literals {
+        String[] doubles;
+        String[] bigDecimals;
+        String[] bigIntegers;
+
+        @Setup
+        public void prepare() {
+            Random rng = new Random(0);
+            doubles = new String[SIZE];
+            bigDecimals = new String[SIZE];
+            for (int i = 0; i < SIZE; i++) {
+                doubles[i] = Double.toString(rng.nextDouble());
+                bigDecimals[i] = new BigDecimal(new BigInteger(3322, rng), 500).toString();
+            }
+            bigIntegers = new String[4];
+            for (int i = 0; i < bigIntegers.length; i++) {
+                bigIntegers[i] = new BigInteger(200_000, rng).toString();
+            }
+        }
+    }
+
+    /**
+     * Each thread walks through the literals on its own.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int index;
+
+        int next(int length) {
+            index = index + 1 < length ? index + 1 : 0;
+            return index;
+        }
+    }
+
+    /**
+     * The benchmarks for each parser. The subclasses run them with
+     * different numbers of threads. Nested classes do not inherit the
+     * annotations of the enclosing class, so they are repeated here.
+     */
+    @Fork(value = 1, jvmArgsAppend = {
+            "-XX:+UnlockExperimentalVMOptions", "--add-modules", "jdk.incubator.vector"
+            , "--enable-preview"
+    })
+    @Measurement(iterations = 5)
+    @Warmup(iterations = 2)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @BenchmarkMode(Mode.Throughput)
+    public abstract static class Parsers {
+        @Benchmark
+        public double javaDouble(Literals literals, Cursor cursor) {
+            return JavaDoubleParser.parseDouble(literals.doubles[cursor.next(SIZE)]);
+        }
+
+        @Benchmark
+        public float javaFloat(Literals literals, Cursor cursor) {
+            return JavaFloatParser.parseFloat(literals.doubles[cursor.next(SIZE)]);
+        }
+
+        @Benchmark
+        public double configurableDouble(Literals literals, Cursor cursor) {
+            return CONFIGURABLE_PARSER.parseDouble(literals.doubles[cursor.next(SIZE)]);
+        }
+
+        @Benchmark
+        public BigDecimal bigDecimal(Literals literals, Cursor cursor) {
+            return JavaBigDecimalParser.parseBigDecimal(literals.bigDecimals[cursor.next(SIZE)]);
+        }
+
+        @Benchmark
+        public BigInteger bigInteger(Literals literals, Cursor cursor) {
+            return JavaBigIntegerParser.parseBigInteger(literals.bigIntegers[cursor.next(literals.bigIntegers.length)]);
+        }
+    }
+
+    /**
+     * Single-threaded baseline.
+     */
+    @Threads(1)
+    public static class T1 extends Parsers {
+    }
+
+    @Threads(4)
+    public static class T4 extends Parsers {
+    }
+
+    @Threads(16)
+    public static class T16 extends Parsers {
+    }
+
+    @Threads(64)
+    public static class T64 extends Parsers {
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(3)
+    public double mixedDouble(Literals literals, Cursor cursor) {
+        return JavaDoubleParser.parseDouble(literals.doubles[cursor.next(SIZE)]);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public BigInteger mixedBigInteger(Literals literals, Cursor cursor) {
+        return JavaBigIntegerParser.parseBigInteger(literals.bigIntegers[cursor.next(literals.bigIntegers.length)]);
+    }
+
+    @Benchmark
+    @Group("mixed16")
+    @GroupThreads(15)
+    public double mixed16Double(Literals literals, Cursor cursor) {
+        return JavaDoubleParser.parseDouble(literals.doubles[cursor.next(SIZE)]);
+    }
+
+    @Benchmark
+    @Group("mixed16")
+    @GroupThreads(1)
+    public BigInteger mixed16BigInteger(Literals literals, Cursor cursor) {
+        return JavaBigIntegerParser.parseBigInteger(literals.bigIntegers[cursor.next(literals.bigIntegers.length)]);
+    }
+
+    @Benchmark
+    @Group("mixed64")
+    @GroupThreads(63)
+    public double mixed64Double(Literals literals, Cursor cursor) {
+        return JavaDoubleParser.parseDouble(literals.doubles[cursor.next(SIZE)]);
+    }
+
+    @Benchmark
+    @Group("mixed64")
+    @GroupThreads(1)
+    public BigInteger mixed64BigInteger(Literals literals, Cursor cursor) {
+        return JavaBigIntegerParser.parseBigInteger(literals.bigIntegers[cursor.next(literals.bigIntegers.length)]);
+    }
+}
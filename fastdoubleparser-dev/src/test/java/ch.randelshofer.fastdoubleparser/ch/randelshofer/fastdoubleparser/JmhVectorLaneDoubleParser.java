@@ -0,0 +1,105 @@
+/*
+ * @(#)JmhVectorLaneDoubleParser.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link VectorLaneDoubleParser} against the scalar loop
+ * of {@link ColumnParser} on columns of 4096 literals.
+ * <dl>
+ *     <dt>prices</dt><dd>prices like {@code 1234.56}, 4 to 7 characters</dd>
+ *     <dt>readings</dt><dd>sensor readings like {@code -12.375}, 5 to 10 characters</dd>
+ *     <dt>mixed</dt><dd>like readings, but every 8th literal has an exponent,
+ *     like {@code 8.487e-01}</dd>
+ * </dl>
+ * <pre>
+ * # JMH version: 1.37
+ * # VM version: JDK 21.0.1, OpenJDK 64-Bit Server VM, 21.0.1+12-LTS
+ * # Intel(R) Xeon(R) Processor
+ *
+ * Benchmark  (dataset)  Mode  Cnt   Score    Error  Units
+ * lanes         prices  avgt    5  19.520 ±  2.265  ns/op
+ * lanes       readings  avgt    5  26.057 ±  6.771  ns/op
+ * lanes          mixed  avgt    5  29.648 ±  6.647  ns/op
+ * scalar        prices  avgt    5  30.710 ± 10.825  ns/op
+ * scalar      readings  avgt    5  39.340 ± 12.558  ns/op
+ * scalar         mixed  avgt    5  47.034 ± 26.582  ns/op
+ * </pre>
+ */
+@Fork(value = 1, jvmArgsAppend = {
+        "-XX:+UnlockExperimentalVMOptions", "--add-modules", "jdk.incubator.vector"
+        , "--enable-preview"
+})
+@Measurement(iterations = 5)
+@Warmup(iterations = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Benchmark)
+public class JmhVectorLaneDoubleParser {
+    private static final int SIZE = 4096;
+
+    @Param({"prices", "readings", "mixed"})
+    public String dataset;
+    private byte[] data;
+    private int[] offsets;
+    private final double[] dest = new double[SIZE];
+    private final long[] validity = new long[SIZE >>> 6];
+
+    @Setup
+    public void prepare() {
+        Random rng = new Random(0);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        offsets = new int[SIZE + 1];
+        for (int i = 0; i < SIZE; i++) {
+            String str;
+            switch (dataset) {
+                case "prices":
+                    str = String.format("%d.%02d", rng.nextInt(10_000), rng.nextInt(100));
+                    break;
+                case "readings":
+                    str = String.format("%.3f", (rng.nextDouble() - 0.5) * Math.pow(10, rng.nextInt(6)));
+                    break;
+                default:
+                    str = i % 8 == 7
+                            ? String.format("%.3e", rng.nextDouble())
+                            : String.format("%.3f", (rng.nextDouble() - 0.5) * Math.pow(10, rng.nextInt(6)));
+                    break;
+            }
+            byte[] bytes = str.getBytes(StandardCharsets.ISO_8859_1);
+            out.write(bytes, 0, bytes.length);
+            offsets[i + 1] = offsets[i] + bytes.length;
+        }
+        data = out.toByteArray();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int scalar() {
+        return ColumnParser.parseDoubleColumn(data, offsets, 0, SIZE, dest, 0, validity);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int lanes() {
+        return VectorLaneDoubleParser.parseDoubleColumn(data, offsets, 0, SIZE, dest, 0, validity);
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * @(#)JsonNumberArrayParserTest.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static ch.randelshofer.fastdoubleparser.Strings.repeat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+public final class JsonNumberArrayParserTest {
+
+    @TestFactory
+    public List<DynamicTest> dynamicTestsLegalInput() {
+        return Arrays.asList(
+                dynamicTest("[]", () -> shouldParse("[]")),
+                dynamicTest(" [ ] ", () -> shouldParse(" [ ] ")),
+                dynamicTest("[0]", () -> shouldParse("[0]", "0")),
+                dynamicTest("[-0]", () -> shouldParse("[-0]", "-0")),
+                dynamicTest("[1,2,3]", () -> shouldParse("[1,2,3]", "1", "2", "3")),
+                dynamicTest("\\t[ 0.123 ,\\r\\n-0.456 ]\\n", () -> shouldParse("\t[ 0.123 ,\r\n-0.456 ]\n", "0.123", "-0.456")),
+                dynamicTest("[1e10,2.5E-3,-7e+2]", () -> shouldParse("[1e10,2.5E-3,-7e+2]", "1e10", "2.5E-3", "-7e+2")),
+                dynamicTest("[1e400,1e-400]", () -> shouldParse("[1e400,1e-400]", "1e400", "1e-400")),
+                dynamicTest("[3.4028235677973366e38]", () -> shouldParse("[3.4028235677973366e38]", "3.4028235677973366e38")),
+                dynamicTest("['1'**40,0.'1'**40]", () -> shouldParse("[" + repeat('1', 40) + ",0." + repeat('1', 40) + "]",
+                        repeat('1', 40), "0." + repeat('1', 40))),
+                dynamicTest("[2.22507385850720138309023271733240406421921598046233e-308]",
+                        () -> shouldParse("[2.22507385850720138309023271733240406421921598046233e-308]",
+                                "2.22507385850720138309023271733240406421921598046233e-308"))
+        );
+    }
+
+    @TestFactory
+    public List<DynamicTest> dynamicTestsIllegalInput() {
+        return Arrays.asList(
+                dynamicTest("<empty>", () -> shouldNotParse("")),
+                dynamicTest("1", () -> shouldNotParse("1")),
+                dynamicTest("[", () -> shouldNotParse("[")),
+                dynamicTest("[1", () -> shouldNotParse("[1")),
+                dynamicTest("[1,", () -> shouldNotParse("[1,")),
+                dynamicTest("[,]", () -> shouldNotParse("[,]")),
+                dynamicTest("[1,]", () -> shouldNotParse("[1,]")),
+                dynamicTest("[1 2]", () -> shouldNotParse("[1 2]")),
+                dynamicTest("[01]", () -> shouldNotParse("[01]")),
+                dynamicTest("[1.]", () -> shouldNotParse("[1.]")),
+                dynamicTest("[.5]", () -> shouldNotParse("[.5]")),
+                dynamicTest("[1e]", () -> shouldNotParse("[1e]")),
+                dynamicTest("[+1]", () -> shouldNotParse("[+1]")),
+                dynamicTest("[-]", () -> shouldNotParse("[-]")),
+                dynamicTest("[NaN]", () -> shouldNotParse("[NaN]")),
+                dynamicTest("[\"1\"]", () -> shouldNotParse("[\"1\"]")),
+                dynamicTest("[1]x", () -> shouldNotParse("[1]x")),
+                dynamicTest("[1]]", () -> shouldNotParse("[1]]"))
+        );
+    }
+
+    @Test
+    public void shouldParseRandomVector() {
+        Random rng = new Random(0);
+        String[] values = new String[4096];
+        StringBuilder buf = new StringBuilder("{\"vector\":[");
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Double.toString(rng.nextGaussian()).replace("E", "e");
+            if (i > 0) {
+                buf.append(rng.nextBoolean() ? "," : " , ");
+            }
+            buf.append(values[i]);
+        }
+        buf.append("]}");
+        String str = buf.toString();
+        int offset = str.indexOf('[');
+        int length = str.lastIndexOf(']') + 1 - offset;
+
+        double[] doubles = new double[values.length + 2];
+        assertEquals(values.length, JsonNumberArrayParser.parseDoubleArray(str.getBytes(StandardCharsets.ISO_8859_1), offset, length, doubles, 2));
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(Double.parseDouble(values[i]), doubles[i + 2]);
+        }
+        float[] floats = new float[values.length];
+        assertEquals(values.length, JsonNumberArrayParser.parseFloatArray(str.toCharArray(), offset, length, floats, 0));
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(Float.parseFloat(values[i]), floats[i]);
+        }
+    }
+
+    @Test
+    public void shouldThrowIllegalArgumentExceptionIfDestinationIsTooSmall() {
+        byte[] bytes = "[1,2,3]".getBytes(StandardCharsets.ISO_8859_1);
+        char[] chars = "[1,2,3]".toCharArray();
+        assertThrows(IllegalArgumentException.class, () -> JsonNumberArrayParser.parseDoubleArray(bytes, 0, bytes.length, new double[2], 0));
+        assertThrows(IllegalArgumentException.class, () -> JsonNumberArrayParser.parseDoubleArray(chars, 0, chars.length, new double[3], 1));
+        assertThrows(IllegalArgumentException.class, () -> JsonNumberArrayParser.parseFloatArray(bytes, 0, bytes.length, new float[3], 4));
+        assertThrows(IllegalArgumentException.class, () -> JsonNumberArrayParser.parseFloatArray(chars, 0, chars.length + 1, new float[3], 0));
+    }
+
+    @Test
+    public void shouldNotAllocate() throws Exception {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Method getThreadAllocatedBytes;
+        try {
+            getThreadAllocatedBytes = Class.forName("com.sun.management.ThreadMXBean").getMethod("getThreadAllocatedBytes", long.class);
+        } catch (ClassNotFoundException e) {
+            getThreadAllocatedBytes = null;
+        }
+        assumeTrue(getThreadAllocatedBytes != null && getThreadAllocatedBytes.getDeclaringClass().isInstance(bean));
+
+        byte[] bytes = "[1,-2.5,3e2,0.125]".getBytes(StandardCharsets.ISO_8859_1);
+        char[] chars = "[1,-2.5,3e2,0.125]".toCharArray();
+        double[] doubles = new double[4];
+        float[] floats = new float[4];
+        long threadId = Thread.currentThread().getId();
+        JsonNumberArrayParser.parseDoubleArray(bytes, 0, bytes.length, doubles, 0);
+        JsonNumberArrayParser.parseFloatArray(chars, 0, chars.length, floats, 0);
+        long before = (Long) getThreadAllocatedBytes.invoke(bean, threadId);
+        assumeTrue(before >= 0, "thread allocated memory is not supported");
+        for (int i = 0; i < 1000; i++) {
+            JsonNumberArrayParser.parseDoubleArray(bytes, 0, bytes.length, doubles, 0);
+            JsonNumberArrayParser.parseFloatArray(chars, 0, chars.length, floats, 0);
+        }
+        long allocated = (Long) getThreadAllocatedBytes.invoke(bean, threadId) - before;
+        // 2000 calls: one object per call would be at least 32000 bytes
+        assertTrue(allocated < 1024, "allocated bytes: " + allocated);
+    }
+
+    @Test
+    public void shouldRoundHardFloatsOnce() {
+        for (String hardCase : new String[]{"average", "halfway", "subnormal", "nearOverflow", "truncated"}) {
+            String[] literals = HardCaseCorpus.floats(hardCase, 256, 0);
+            shouldParse("[" + String.join(",", literals) + "]", literals);
+        }
+    }
+
+    private static void shouldParse(String str, String... expected) {
+        double[] expectedDoubles = new double[expected.length];
+        float[] expectedFloats = new float[expected.length];
+        for (int i = 0; i < expected.length; i++) {
+            expectedDoubles[i] = Double.parseDouble(expected[i]);
+            expectedFloats[i] = Float.parseFloat(expected[i]);
+        }
+        byte[] bytes = str.getBytes(StandardCharsets.ISO_8859_1);
+        char[] chars = str.toCharArray();
+
+        double[] doubles = new double[expected.length];
+        assertEquals(expected.length, JsonNumberArrayParser.parseDoubleArray(bytes, 0, bytes.length, doubles, 0), "byte[] -> double[]");
+        assertArrayEquals(expectedDoubles, doubles, "byte[] -> double[]");
+        doubles = new double[expected.length];
+        assertEquals(expected.length, JsonNumberArrayParser.parseDoubleArray(chars, 0, chars.length, doubles, 0), "char[] -> double[]");
+        assertArrayEquals(expectedDoubles, doubles, "char[] -> double[]");
+
+        float[] floats = new float[expected.length];
+        assertEquals(expected.length, JsonNumberArrayParser.parseFloatArray(bytes, 0, bytes.length, floats, 0), "byte[] -> float[]");
+        assertArrayEquals(expectedFloats, floats, "byte[] -> float[]");
+        floats = new float[expected.length];
+        assertEquals(expected.length, JsonNumberArrayParser.parseFloatArray(chars, 0, chars.length, floats, 0), "char[] -> float[]");
+        assertArrayEquals(expectedFloats, floats, "char[] -> float[]");
+    }
+
+    private static void shouldNotParse(String str) {
+        byte[] bytes = str.getBytes(StandardCharsets.ISO_8859_1);
+        char[] chars = str.toCharArray();
+        assertThrows(NumberFormatException.class, () -> JsonNumberArrayParser.parseDoubleArray(bytes, 0, bytes.length, new double[4], 0), "byte[]");
+        assertThrows(NumberFormatException.class, () -> JsonNumberArrayParser.parseDoubleArray(chars, 0, chars.length, new double[4], 0), "char[]");
+        assertThrows(NumberFormatException.class, () -> JsonNumberArrayParser.parseFloatArray(bytes, 0, bytes.length, new float[4], 0), "byte[]");
+        assertThrows(NumberFormatException.class, () -> JsonNumberArrayParser.parseFloatArray(chars, 0, chars.length, new float[4], 0), "char[]");
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * @(#)JsonNumberScannerTest.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static ch.randelshofer.fastdoubleparser.JsonNumberScanner.BIG_DECIMAL;
+import static ch.randelshofer.fastdoubleparser.JsonNumberScanner.DOUBLE;
+import static ch.randelshofer.fastdoubleparser.JsonNumberScanner.INT64;
+import static ch.randelshofer.fastdoubleparser.JsonNumberScanner.INVALID;
+import static ch.randelshofer.fastdoubleparser.Strings.repeat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+public final class JsonNumberScannerTest {
+
+    @TestFactory
+    public List<DynamicTest> dynamicTestsInt64() {
+        return Arrays.asList(
+                dynamicTest("0", () -> shouldScanInt64("0", 0L)),
+                dynamicTest("-0", () -> shouldScanInt64("-0", 0L)),
+                dynamicTest("7", () -> shouldScanInt64("7", 7L)),
+                dynamicTest("-123", () -> shouldScanInt64("-123", -123L)),
+                dynamicTest("1234567890123456789", () -> shouldScanInt64("1234567890123456789", 1234567890123456789L)),
+                dynamicTest("Long.MAX_VALUE", () -> shouldScanInt64(Long.toString(Long.MAX_VALUE), Long.MAX_VALUE)),
+                dynamicTest("Long.MIN_VALUE", () -> shouldScanInt64(Long.toString(Long.MIN_VALUE), Long.MIN_VALUE))
+        );
+    }
+
+    @TestFactory
+    public List<DynamicTest> dynamicTestsDouble() {
+        return Arrays.asList(
+                dynamicTest("0.0", () -> shouldScan("0.0", DOUBLE)),
+                dynamicTest("-0.0", () -> shouldScan("-0.0", DOUBLE)),
+                dynamicTest("1.5", () -> shouldScan("1.5", DOUBLE)),
+                dynamicTest("-3.14159", () -> shouldScan("-3.14159", DOUBLE)),
+                dynamicTest("0.1234567890123", () -> shouldScan("0.1234567890123", DOUBLE)),
+                dynamicTest("1e10", () -> shouldScan("1e10", DOUBLE)),
+                dynamicTest("1E+10", () -> shouldScan("1E+10", DOUBLE)),
+                dynamicTest("2.5e-3", () -> shouldScan("2.5e-3", DOUBLE)),
+                dynamicTest("1e400", () -> shouldScan("1e400", DOUBLE)),
+                dynamicTest("1e-400", () -> shouldScan("1e-400", DOUBLE)),
+                dynamicTest("1e99999999999", () -> shouldScan("1e99999999999", DOUBLE)),
+                dynamicTest("0.0000000000000000000001", () -> shouldScan("0.0000000000000000000001", DOUBLE)),
+                dynamicTest("Double.MIN_VALUE", () -> shouldScan(Double.toString(Double.MIN_VALUE).replace("E", "e"), DOUBLE)),
+                dynamicTest("Double.MAX_VALUE", () -> shouldScan(Double.toString(Double.MAX_VALUE).replace("E", "e"), DOUBLE))
+        );
+    }
+
+    @TestFactory
+    public List<DynamicTest> dynamicTestsBigDecimal() {
+        return Arrays.asList(
+                dynamicTest("Long.MAX_VALUE+1", () -> shouldScan("9223372036854775808", BIG_DECIMAL)),
+                dynamicTest("Long.MIN_VALUE-1", () -> shouldScan("-9223372036854775809", BIG_DECIMAL)),
+                dynamicTest("18446744073709551616", () -> shouldScan("18446744073709551616", BIG_DECIMAL)),
+                dynamicTest("'1'**40", () -> shouldScan(repeat('1', 40), BIG_DECIMAL)),
+                dynamicTest("0.'1'**40", () -> shouldScan("0." + repeat('1', 40), BIG_DECIMAL)),
+                dynamicTest("'9'**30e-5", () -> shouldScan(repeat('9', 30) + "e-5", BIG_DECIMAL)),
+                dynamicTest("2.22507385850720138309023271733240406421921598046233e-308",
+                        () -> shouldScan("2.22507385850720138309023271733240406421921598046233e-308", BIG_DECIMAL))
+        );
+    }
+
+    @TestFactory
+    public List<DynamicTest> dynamicTestsInvalid() {
+        return Arrays.asList(
+                dynamicTest("<empty>", () -> shouldScanInvalid("", 0)),
+                dynamicTest("-", () -> shouldScanInvalid("-", 1)),
+                dynamicTest("+1", () -> shouldScanInvalid("+1", 0)),
+                dynamicTest("01", () -> shouldScanInvalid("01", 1)),
+                dynamicTest("-01", () -> shouldScanInvalid("-01", 2)),
+                dynamicTest(".5", () -> shouldScanInvalid(".5", 0)),
+                dynamicTest("1.", () -> shouldScanInvalid("1.", 2)),
+                dynamicTest("00", () -> shouldScanInvalid("00", 1)),
+                dynamicTest("-0.", () -> shouldScanInvalid("-0.", 3)),
+                dynamicTest("1.e5", () -> shouldScanInvalid("1.e5", 2)),
+                dynamicTest("1e", () -> shouldScanInvalid("1e", 2)),
+                dynamicTest("1e+", () -> shouldScanInvalid("1e+", 3)),
+                dynamicTest("1ex", () -> shouldScanInvalid("1ex", 2)),
+                dynamicTest("NaN", () -> shouldScanInvalid("NaN", 0)),
+                dynamicTest("Infinity", () -> shouldScanInvalid("Infinity", 0))
+        );
+    }
+
+    @TestFactory
+    public List<DynamicTest> dynamicTestsStopAtDelimiter() {
+        return Arrays.asList(
+                dynamicTest("[12,", () -> shouldStopAt("[12,", 1, 3, INT64)),
+                dynamicTest("{\"a\":-1.5}", () -> shouldStopAt("{\"a\":-1.5}", 5, 9, DOUBLE)),
+                dynamicTest("1e3 ", () -> shouldStopAt("1e3 ", 0, 3, DOUBLE)),
+                dynamicTest("0x", () -> shouldStopAt("0x", 0, 1, INT64)),
+                dynamicTest("1.2.3", () -> shouldStopAt("1.2.3", 0, 3, DOUBLE)),
+                dynamicTest("-0.5-", () -> shouldStopAt("-0.5-", 0, 4, DOUBLE)),
+                dynamicTest("12345678.12345678]", () -> shouldStopAt("12345678.12345678]", 0, 17, DOUBLE))
+        );
+    }
+
+    @Test
+    public void shouldReuseScannerForManyNumbers() {
+        String str = "[1,-2.5,3e2," + repeat('9', 25) + ",-0]";
+        byte[] bytes = str.getBytes(StandardCharsets.ISO_8859_1);
+        JsonNumberScanner scanner = new JsonNumberScanner();
+        int[] expectedKinds = {INT64, DOUBLE, DOUBLE, BIG_DECIMAL, INT64};
+        double[] expectedValues = {1, -2.5, 300, 1e25, -0.0};
+        int offset = 1;
+        for (int i = 0; i < expectedKinds.length; i++) {
+            assertEquals(expectedKinds[i], scanner.scan(bytes, offset, bytes.length - offset));
+            assertEquals(Double.doubleToRawLongBits(expectedValues[i]), scanner.getDoubleBits());
+            offset = scanner.getEndIndex() + 1;
+        }
+        assertEquals(bytes.length, offset);
+    }
+
+    @Test
+    public void shouldThrowIllegalArgumentExceptionForIllegalBounds() {
+        JsonNumberScanner scanner = new JsonNumberScanner();
+        assertThrows(IllegalArgumentException.class, () -> scanner.scan(new byte[3], 2, 2));
+        assertThrows(IllegalArgumentException.class, () -> scanner.scan(new char[3], -1, 2));
+    }
+
+    private static void shouldScanInt64(String str, long expected) {
+        shouldScan(str, INT64);
+        JsonNumberScanner scanner = new JsonNumberScanner();
+        scanner.scan(str.toCharArray(), 0, str.length());
+        assertEquals(expected, scanner.getLongValue());
+        scanner.scan(str.getBytes(StandardCharsets.ISO_8859_1), 0, str.length());
+        assertEquals(expected, scanner.getLongValue());
+    }
+
+    private static void shouldScan(String str, int expectedKind) {
+        shouldStopAt(str, 0, str.length(), expectedKind);
+    }
+
+    private static void shouldStopAt(String str, int offset, int expectedEndIndex, int expectedKind) {
+        long expectedBits = Double.doubleToRawLongBits(Double.parseDouble(str.substring(offset, expectedEndIndex)));
+        JsonNumberScanner scanner = new JsonNumberScanner();
+
+        assertEquals(expectedKind, scanner.scan(str.getBytes(StandardCharsets.ISO_8859_1), offset, str.length() - offset), "byte[]");
+        assertEquals(expectedBits, scanner.getDoubleBits(), "byte[] doubleBits");
+        assertEquals(offset, scanner.getStartIndex(), "byte[] startIndex");
+        assertEquals(expectedEndIndex, scanner.getEndIndex(), "byte[] endIndex");
+
+        assertEquals(expectedKind, scanner.scan(str.toCharArray(), offset, str.length() - offset), "char[]");
+        assertEquals(expectedBits, scanner.getDoubleBits(), "char[] doubleBits");
+        assertEquals(offset, scanner.getStartIndex(), "char[] startIndex");
+        assertEquals(expectedEndIndex, scanner.getEndIndex(), "char[] endIndex");
+    }
+
+    private static void shouldScanInvalid(String str, int expectedErrorIndex) {
+        JsonNumberScanner scanner = new JsonNumberScanner();
+        assertEquals(INVALID, scanner.scan(str.getBytes(StandardCharsets.ISO_8859_1), 0, str.length()), "byte[]");
+        assertEquals(expectedErrorIndex, scanner.getEndIndex(), "byte[] errorIndex");
+        assertEquals(INVALID, scanner.scan(str.toCharArray(), 0, str.length()), "char[]");
+        assertEquals(expectedErrorIndex, scanner.getEndIndex(), "char[] errorIndex");
+    }
+}
@@ -0,0 +1,463 @@
+/*
+ * @(#)NttMultiplier.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import java.math.BigInteger;
+
+/**
+ * Provides methods for multiplying two {@link BigInteger}s using the
+ * {@code number-theoretic transform (NTT)}.
+ * <p>
+ * The multiplication is performed exactly with integer arithmetic modulo
+ * three primes. The convolution is then reconstructed with the Chinese
+ * Remainder Theorem (CRT). Since there is no rounding error, each point of
+ * the transform can hold a full 32-bit word of the input, whereas
+ * {@link FftMultiplier} has to reduce the number of bits per point as the
+ * inputs grow.
+ * <p>
+ * All three primes have the form {@code c * 2^26 + 1} and are smaller
+ * than {@code 2^31}. This supports transforms of length up to {@code 2^26},
+ * which covers every product that fits into a {@link BigInteger}.
+ * The product of the primes is greater than {@code 2^90}, which is greater
+ * than the largest coefficient of a convolution of {@code 2^25} words
+ * with 32 bits each.
+ * <p>
+ * {@link FftMultiplier#multiply} and {@link FftMultiplier#square} do not
+ * use this class, because it is slower than the FFT at every size that
+ * has been measured with {@code JmhFftMultiplier}, up to operands with
+ * {@code 2^28} bits. Therefore, this class is in the test sources, where
+ * it serves as a reference for the benchmark.
+ * <p>
+ * References:
+ * <dl>
+ *     <dt>Modern Computer Arithmetic, Richard P. Brent and Paul Zimmermann,
+ *     Chapter 2.3 The Fast Fourier Transform, Chapter 2.7 Chinese Remainder Theorem</dt>
+ *     <dd><a href="https://members.loria.fr/PZimmermann/mca/mca-cup-0.5.9.pdf">mca-cup-0.5.9.pdf</a></dd>
+ *
+ *     <dt>Modular Multiplication Without Trial Division, Peter L. Montgomery</dt>
+ *     <dd><a href="https://www.ams.org/journals/mcom/1985-44-170/S0025-5718-1985-0777282-X/S0025-5718-1985-0777282-X.pdf">ams.org</a></dd>
+ * </dl>
+ */
+final class NttMultiplier {
+    /**
+     * The maximal supported length of a transform.
+     */
+    static final int MAX_NTT_LENGTH = 1 << 26;
+    /**
+     * The primes. Each prime has the form {@code c * 2^26 + 1}.
+     */
+    private static final int P0 = 7 * (1 << 26) + 1;// 469_762_049
+    private static final int P1 = 27 * (1 << 26) + 1;// 1_811_939_329
+    private static final int P2 = 15 * (1 << 27) + 1;// 2_013_265_921
+    /**
+     * A primitive root for each prime.
+     */
+    private static final int G0 = 3;
+    private static final int G1 = 13;
+    private static final int G2 = 31;
+    private static final long P0_TIMES_P1 = (long) P0 * P1;
+    /**
+     * Montgomery representations of {@code P0^-1 mod P1},
+     * {@code P0^-1 mod P2} and {@code P1^-1 mod P2}.
+     */
+    private static final int INV_P0_MOD_P1;
+    private static final int INV_P0_MOD_P2;
+    private static final int INV_P1_MOD_P2;
+
+    static {
+        INV_P0_MOD_P1 = toMontgomery(modPow(P0 % P1, P1 - 2, P1), P1);
+        INV_P0_MOD_P2 = toMontgomery(modPow(P0 % P2, P2 - 2, P2), P2);
+        INV_P1_MOD_P2 = toMontgomery(modPow(P1 % P2, P2 - 2, P2), P2);
+    }
+
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private NttMultiplier() {
+    }
+
+    /**
+     * Returns true if the product of two numbers with the specified
+     * bit lengths can be computed with {@link #multiplyNtt}.
+     *
+     * @param xlen bit length of the first factor
+     * @param ylen bit length of the second factor
+     * @return true if the transform length is supported
+     */
+    static boolean isSupported(int xlen, int ylen) {
+        return numWords(xlen) + (long) numWords(ylen) - 1 <= MAX_NTT_LENGTH;
+    }
+
+    /**
+     * Multiplies two BigIntegers using the number-theoretic transform.
+     *
+     * @param a value a
+     * @param b value b
+     * @return a*b
+     * @throws ArithmeticException if the product does not fit into the
+     *                             supported transform length
+     */
+    static BigInteger multiplyNtt(BigInteger a, BigInteger b) {
+        int signum = a.signum() * b.signum();
+        if (signum == 0) {
+            return BigInteger.ZERO;
+        }
+        BigInteger absA = a.abs();
+        BigInteger absB = b.abs();
+        int aLen = numWords(absA.bitLength());
+        int bLen = numWords(absB.bitLength());
+        int resultLen = aLen + bLen;
+        int n = transformLength(resultLen - 1);
+        int[] aWords = toWords(absA, aLen);
+        int[] bWords = toWords(absB, bLen);
+
+        int[] r0 = convolve(aWords, bWords, n, P0, G0);
+        int[] r1 = convolve(aWords, bWords, n, P1, G1);
+        int[] r2 = convolve(aWords, bWords, n, P2, G2);
+        return fromResidues(r0, r1, r2, resultLen, signum);
+    }
+
+    /**
+     * Squares a BigInteger using the number-theoretic transform.
+     *
+     * @param a value a
+     * @return a*a
+     * @throws ArithmeticException if the product does not fit into the
+     *                             supported transform length
+     */
+    static BigInteger squareNtt(BigInteger a) {
+        if (a.signum() == 0) {
+            return BigInteger.ZERO;
+        }
+        BigInteger absA = a.abs();
+        int aLen = numWords(absA.bitLength());
+        int resultLen = aLen + aLen;
+        int n = transformLength(resultLen - 1);
+        int[] aWords = toWords(absA, aLen);
+
+        int[] r0 = convolve(aWords, null, n, P0, G0);
+        int[] r1 = convolve(aWords, null, n, P1, G1);
+        int[] r2 = convolve(aWords, null, n, P2, G2);
+        return fromResidues(r0, r1, r2, resultLen, 1);
+    }
+
+    /**
+     * Computes the cyclic convolution of {@code a} and {@code b} modulo
+     * {@code p}.
+     *
+     * @param a the words of the first factor
+     * @param b the words of the second factor, or null for squaring
+     * @param n the transform length, must be a power of two
+     * @param p the prime
+     * @param g a primitive root of the prime
+     * @return the convolution, the array has length n
+     */
+    private static int[] convolve(int[] a, int[] b, int n, int p, int g) {
+        int pNegInv = negInverse(p);
+        int[] roots = new int[Math.max(1, n >>> 1)];
+        int[] rootQuotients = new int[roots.length];
+        computeRoots(modPow(g, (p - 1) / n, p), roots, rootQuotients, p);
+
+        int[] va = toResidues(a, n, p);
+        ntt(va, roots, rootQuotients, p);
+        if (b == null) {
+            for (int i = 0; i < n; i++) {
+                va[i] = montgomeryMultiply(va[i], va[i], p, pNegInv);
+            }
+        } else {
+            int[] vb = toResidues(b, n, p);
+            ntt(vb, roots, rootQuotients, p);
+            for (int i = 0; i < n; i++) {
+                va[i] = montgomeryMultiply(va[i], vb[i], p, pNegInv);
+            }
+        }
+        invertRoots(roots, rootQuotients, p);
+        inverseNtt(va, roots, rootQuotients, p);
+
+        // The pointwise Montgomery multiplication has multiplied all values
+        // by 2^-32, the inverse transform has multiplied them by n.
+        int scale = (int) ((1L << 32) % p * modPow(n, p - 2, p) % p);
+        int scaleQuotient = quotient(scale, p);
+        for (int i = 0; i < n; i++) {
+            va[i] = shoupMultiply(va[i], scale, scaleQuotient, p);
+        }
+        return va;
+    }
+
+    /**
+     * Computes the powers {@code w^0, w^1, ..., w^(roots.length-1)} and their
+     * quotients for {@link #shoupMultiply}.
+     *
+     * @param w             a root of unity
+     * @param roots         on output: the powers of {@code w}
+     * @param rootQuotients on output: the quotients of the powers of {@code w}
+     * @param p             the prime
+     */
+    private static void computeRoots(int w, int[] roots, int[] rootQuotients, int p) {
+        int wQuotient = quotient(w, p);
+        int wk = 1;
+        for (int k = 0; k < roots.length; k++) {
+            roots[k] = wk;
+            rootQuotients[k] = quotient(wk, p);
+            wk = shoupMultiply(wk, w, wQuotient, p);
+        }
+    }
+
+    /**
+     * Replaces the powers {@code w^k} by {@code w^-k} in place.
+     * <p>
+     * We have {@code w^(n/2) = -1}, and thus {@code w^-k = p - w^(n/2-k)}.
+     * The quotient of {@code p - x} is the bitwise complement of the quotient of {@code x}.
+     *
+     * @param roots         the powers of {@code w}
+     * @param rootQuotients the quotients of the powers of {@code w}
+     * @param p             the prime
+     */
+    private static void invertRoots(int[] roots, int[] rootQuotients, int p) {
+        for (int k = 1, j = roots.length - 1; k <= j; k++, j--) {
+            int rk = roots[k];
+            int qk = rootQuotients[k];
+            roots[k] = p - roots[j];
+            rootQuotients[k] = ~rootQuotients[j];
+            roots[j] = p - rk;
+            rootQuotients[j] = ~qk;
+        }
+    }
+
+    /**
+     * Performs a forward transform in place.
+     * This is a decimation-in-frequency implementation, which produces
+     * the output in bit-reversed order.
+     *
+     * @param a             input and output, must be a power of two in size
+     * @param roots         the powers of the root of unity
+     * @param rootQuotients the quotients of the powers of the root of unity
+     * @param p             the prime
+     */
+    private static void ntt(int[] a, int[] roots, int[] rootQuotients, int p) {
+        int n = a.length;
+        for (int half = n >>> 1, stride = 1; half >= 1; half >>>= 1, stride <<= 1) {
+            for (int i = 0; i < n; i += half << 1) {
+                for (int j = i, k = 0, end = i + half; j < end; j++, k += stride) {
+                    int u = a[j];
+                    int v = a[j + half];
+                    int sum = u + v - p;
+                    a[j] = sum + (p & (sum >> 31));
+                    int diff = u - v;
+                    a[j + half] = shoupMultiply(diff + (p & (diff >> 31)), roots[k], rootQuotients[k], p);
+                }
+            }
+        }
+    }
+
+    /**
+     * Performs an inverse transform in place without scaling.
+     * This is a decimation-in-time implementation, which consumes
+     * the input in bit-reversed order.
+     *
+     * @param a             input and output, must be a power of two in size
+     * @param roots         the powers of the inverse root of unity
+     * @param rootQuotients the quotients of the powers of the inverse root of unity
+     * @param p             the prime
+     */
+    private static void inverseNtt(int[] a, int[] roots, int[] rootQuotients, int p) {
+        int n = a.length;
+        for (int half = 1, stride = n >>> 1; half < n; half <<= 1, stride >>>= 1) {
+            for (int i = 0; i < n; i += half << 1) {
+                for (int j = i, k = 0, end = i + half; j < end; j++, k += stride) {
+                    int u = a[j];
+                    int v = shoupMultiply(a[j + half], roots[k], rootQuotients[k], p);
+                    int sum = u + v - p;
+                    a[j] = sum + (p & (sum >> 31));
+                    int diff = u - v;
+                    a[j + half] = diff + (p & (diff >> 31));
+                }
+            }
+        }
+    }
+
+    /**
+     * Reconstructs the product from the residues of the convolution with
+     * Garner's algorithm and propagates the carries.
+     */
+    private static BigInteger fromResidues(int[] r0, int[] r1, int[] r2, int resultLen, int signum) {
+        int p1NegInv = negInverse(P1);
+        int p2NegInv = negInverse(P2);
+        byte[] mag = new byte[resultLen << 2];
+        long carryLow = 0, carryHigh = 0;
+        for (int i = 0, n = Math.min(r0.length, resultLen); i < resultLen; i++) {
+            long low, high;
+            if (i < n) {
+                // x = t0 + t1 * P0 + t2 * P0 * P1
+                int t0 = r0[i];
+                int d1 = r1[i] - t0;
+                int t1 = montgomeryMultiply(d1 + (P1 & (d1 >> 31)), INV_P0_MOD_P1, P1, p1NegInv);
+                int d2 = r2[i] - t0;
+                int x2 = montgomeryMultiply(d2 + (P2 & (d2 >> 31)), INV_P0_MOD_P2, P2, p2NegInv);
+                d2 = x2 - t1;
+                int t2 = montgomeryMultiply(d2 + (P2 & (d2 >> 31)), INV_P1_MOD_P2, P2, p2NegInv);
+
+                long t01 = t0 + (long) t1 * P0;
+                low = t2 * P0_TIMES_P1;
+                high = FastIntegerMath.unsignedMultiplyHigh(t2, P0_TIMES_P1);
+                low += t01;
+                if (Long.compareUnsigned(low, t01) < 0) {
+                    high++;
+                }
+            } else {
+                low = 0;
+                high = 0;
+            }
+            low += carryLow;
+            if (Long.compareUnsigned(low, carryLow) < 0) {
+                high++;
+            }
+            high += carryHigh;
+            FastDoubleSwar.writeIntBE(mag, (resultLen - 1 - i) << 2, (int) low);
+            carryLow = (low >>> 32) | (high << 32);
+            carryHigh = high >>> 32;
+        }
+        return new BigInteger(signum, mag);
+    }
+
+    /**
+     * Computes {@code a * b * 2^-32 mod p} (Montgomery's method).
+     *
+     * @param a       a value in the range {@code [0, p)}
+     * @param b       a value in the range {@code [0, p)}
+     * @param p       the prime, must be smaller than {@code 2^31}
+     * @param pNegInv {@code -p^-1 mod 2^32}
+     * @return the product in the range {@code [0, p)}
+     */
+    private static int montgomeryMultiply(int a, int b, int p, int pNegInv) {
+        long t = (long) a * b;
+        long m = ((int) t * pNegInv) & 0xffffffffL;
+        int r = (int) ((t + m * p) >>> 32) - p;// r is in the range [-p, p)
+        return r + (p & (r >> 31));
+    }
+
+    /**
+     * Computes {@code x * w mod p} with a precomputed quotient
+     * (Shoup's method).
+     *
+     * @param x         a value in the range {@code [0, 2^32)}, interpreted as unsigned
+     * @param w         a value in the range {@code [0, p)}
+     * @param wQuotient the quotient of w, see {@link #quotient(int, int)}
+     * @param p         the prime, must be smaller than {@code 2^31}
+     * @return the product in the range {@code [0, p)}
+     */
+    private static int shoupMultiply(int x, int w, int wQuotient, int p) {
+        int q = (int) (((x & 0xffffffffL) * (wQuotient & 0xffffffffL)) >>> 32);
+        int r = x * w - q * p - p;// r is in the range [-p, p)
+        return r + (p & (r >> 31));
+    }
+
+    /**
+     * Computes {@code floor(w * 2^32 / p)} without a division.
+     *
+     * @param w a value in the range {@code [0, p)}
+     * @param p the prime, must be smaller than {@code 2^31}
+     * @return the quotient, interpreted as unsigned
+     */
+    private static int quotient(int w, int p) {
+        long dividend = (long) w << 32;
+        long q = (long) (dividend * (1.0 / p));
+        long r = dividend - q * p;
+        if (r < 0) {
+            q--;
+        } else if (r >= p) {
+            q++;
+        }
+        return (int) q;
+    }
+
+    /**
+     * Computes {@code -p^-1 mod 2^32} with Newton's iteration.
+     */
+    private static int negInverse(int p) {
+        int inv = p;// correct to 3 bits, because p is odd
+        for (int i = 0; i < 4; i++) {
+            inv *= 2 - p * inv;
+        }
+        return -inv;
+    }
+
+    /**
+     * Computes {@code a * 2^32 mod p}.
+     */
+    private static int toMontgomery(int a, int p) {
+        return (int) (((long) a << 32) % p);
+    }
+
+    /**
+     * Computes {@code base^exp mod p}.
+     */
+    private static int modPow(int base, int exp, int p) {
+        long result = 1;
+        long b = base % p;
+        for (int e = exp; e != 0; e >>>= 1) {
+            if ((e & 1) != 0) {
+                result = result * b % p;
+            }
+            b = b * b % p;
+        }
+        return (int) result;
+    }
+
+    /**
+     * Returns the number of 32-bit words that are needed for the specified
+     * number of bits.
+     */
+    private static int numWords(int bitLength) {
+        return (int) (((long) bitLength + 31) >>> 5);
+    }
+
+    /**
+     * Returns the smallest power of two that is greater or equal
+     * {@code length}.
+     *
+     * @throws ArithmeticException if the length is not supported
+     */
+    private static int transformLength(int length) {
+        if (length > MAX_NTT_LENGTH) {
+            throw new ArithmeticException("BigInteger would overflow supported range");
+        }
+        return length <= 1 ? 1 : Integer.highestOneBit(length - 1) << 1;
+    }
+
+    /**
+     * Converts the magnitude of a non-negative BigInteger into an array of
+     * 32-bit words, least significant word first.
+     */
+    private static int[] toWords(BigInteger a, int numWords) {
+        byte[] bytes = a.toByteArray();
+        int[] words = new int[numWords];
+        int i = 0;
+        for (int idx = bytes.length - 4; idx >= 0 && i < numWords; idx -= 4) {
+            words[i++] = FastDoubleSwar.readIntBE(bytes, idx);
+        }
+        if (i < numWords) {
+            int word = 0;
+            for (int idx = 0, end = bytes.length & 3; idx < end; idx++) {
+                word = (word << 8) | (bytes[idx] & 0xff);
+            }
+            words[i] = word;
+        }
+        return words;
+    }
+
+    /**
+     * Reduces the words modulo {@code p} and pads them with zeroes to
+     * length {@code n}.
+     */
+    private static int[] toResidues(int[] words, int n, int p) {
+        int[] residues = new int[n];
+        int oneQuotient = quotient(1, p);
+        for (int i = 0; i < words.length; i++) {
+            residues[i] = shoupMultiply(words[i], 1, oneQuotient, p);
+        }
+        return residues;
+    }
+}
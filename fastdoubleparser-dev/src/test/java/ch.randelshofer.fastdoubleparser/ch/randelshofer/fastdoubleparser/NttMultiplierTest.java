@@ -0,0 +1,82 @@
+/*
+ * @(#)NttMultiplierTest.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static ch.randelshofer.fastdoubleparser.Strings.repeat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+public final class NttMultiplierTest {
+
+    @TestFactory
+    public List<DynamicTest> dynamicTestsMultiply() {
+        return Arrays.asList(
+                dynamicTest("3 * 4", () -> shouldMultiplyNtt(
+                        new BigInteger("3"),
+                        new BigInteger("4"))),
+                dynamicTest("0xFEDCBA9876543210 * 0xEDCBA9876543210", () -> shouldMultiplyNtt(
+                        new BigInteger("FEDCBA9876543210", 16),
+                        new BigInteger("EDCBA9876543210", 16))),
+                dynamicTest("'-','3','0'**84 * '4','0'**84", () -> shouldMultiplyNtt(
+                        new BigInteger("-3" + repeat('0', 84)),
+                        new BigInteger("4" + repeat('0', 84)))),
+                dynamicTest("'-','3','0'**84 * '-','4','0'**84", () -> shouldMultiplyNtt(
+                        new BigInteger("-3" + repeat('0', 84)),
+                        new BigInteger("-4" + repeat('0', 84)))),
+                dynamicTest("'3','0'**100_000 * '4','0'**10_000", () -> shouldMultiplyNtt(
+                        new BigInteger("3" + repeat('0', 100_000)),
+                        new BigInteger("4" + repeat('0', 10_000)))),
+                dynamicTest("(1<<100_000)-1 * (1<<100_000)-1", () -> shouldMultiplyNtt(
+                        BigInteger.ONE.shiftLeft(100_000).subtract(BigInteger.ONE),
+                        BigInteger.ONE.shiftLeft(100_000).subtract(BigInteger.ONE))),
+                dynamicTest("random 200_000 bits * random 150_000 bits", () -> shouldMultiplyNtt(
+                        new BigInteger(200_000, new Random(0)),
+                        new BigInteger(150_000, new Random(1))))
+        );
+    }
+
+    @TestFactory
+    public List<DynamicTest> dynamicTestsSquare() {
+        return Arrays.asList(
+                dynamicTest("'-','3','0'**84", () -> shouldSquareNtt(
+                        new BigInteger("-3" + repeat('0', 84)))),
+                dynamicTest("(1<<100_000)-1", () -> shouldSquareNtt(
+                        BigInteger.ONE.shiftLeft(100_000).subtract(BigInteger.ONE))),
+                dynamicTest("random 200_000 bits", () -> shouldSquareNtt(
+                        new BigInteger(200_000, new Random(0))))
+        );
+    }
+
+    @TestFactory
+    public List<DynamicTest> dynamicTestsIsSupported() {
+        return Arrays.asList(
+                dynamicTest("1 * 1", () -> assertTrue(NttMultiplier.isSupported(1, 1))),
+                dynamicTest("MAX/2 * MAX/2", () -> assertTrue(NttMultiplier.isSupported(Integer.MAX_VALUE / 2, Integer.MAX_VALUE / 2))),
+                dynamicTest("MAX * MAX", () -> assertFalse(NttMultiplier.isSupported(Integer.MAX_VALUE, Integer.MAX_VALUE)))
+        );
+    }
+
+    private void shouldMultiplyNtt(BigInteger a, BigInteger b) {
+        BigInteger expected = a.multiply(b);
+        BigInteger actual = NttMultiplier.multiplyNtt(a, b);
+        assertEquals(expected, actual);
+    }
+
+    private void shouldSquareNtt(BigInteger a) {
+        BigInteger expected = a.multiply(a);
+        BigInteger actual = NttMultiplier.squareNtt(a);
+        assertEquals(expected, actual);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * @(#)NumberClassificationTest.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static ch.randelshofer.fastdoubleparser.NumberClassification.DECIMAL;
+import static ch.randelshofer.fastdoubleparser.NumberClassification.EXPONENT;
+import static ch.randelshofer.fastdoubleparser.NumberClassification.HEXADECIMAL;
+import static ch.randelshofer.fastdoubleparser.NumberClassification.INFINITY;
+import static ch.randelshofer.fastdoubleparser.NumberClassification.INTEGER;
+import static ch.randelshofer.fastdoubleparser.NumberClassification.INVALID;
+import static ch.randelshofer.fastdoubleparser.NumberClassification.NAN;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+public final class NumberClassificationTest {
+    @TestFactory
+    public List<DynamicTest> dynamicTestsClassifyJava() {
+        return Arrays.asList(
+                dynamicTest("integer", () -> shouldClassifyJava(INTEGER, "-123")),
+                dynamicTest("integer with suffix", () -> shouldClassifyJava(INTEGER, "12d")),
+                dynamicTest("integer with whitespace", () -> shouldClassifyJava(INTEGER, " \t12\n")),
+                dynamicTest("decimal", () -> shouldClassifyJava(DECIMAL, "1.5")),
+                dynamicTest("decimal without integer digits", () -> shouldClassifyJava(DECIMAL, ".5f")),
+                dynamicTest("decimal without fraction digits", () -> shouldClassifyJava(DECIMAL, "+1.")),
+                dynamicTest("long decimal", () -> shouldClassifyJava(DECIMAL, "3.14159265358979323846264338327950288")),
+                dynamicTest("exponent", () -> shouldClassifyJava(EXPONENT, "1e5")),
+                dynamicTest("decimal with exponent", () -> shouldClassifyJava(EXPONENT, "-1.5E-5D")),
+                dynamicTest("hexadecimal", () -> shouldClassifyJava(HEXADECIMAL, "0x1.8p1")),
+                dynamicTest("NaN", () -> shouldClassifyJava(NAN, "NaN")),
+                dynamicTest("Infinity", () -> shouldClassifyJava(INFINITY, "Infinity")),
+                dynamicTest("-Infinity", () -> shouldClassifyJava(INFINITY, " -Infinity ")),
+                dynamicTest("<empty>", () -> shouldClassifyJava(INVALID, "")),
+                dynamicTest("sign only", () -> shouldClassifyJava(INVALID, "-")),
+                dynamicTest("point only", () -> shouldClassifyJava(INVALID, ".")),
+                dynamicTest("two points", () -> shouldClassifyJava(INVALID, "1.2.3")),
+                dynamicTest("exponent without digits", () -> shouldClassifyJava(INVALID, "1e")),
+                dynamicTest("hexadecimal without exponent", () -> shouldClassifyJava(INVALID, "0x1.8")),
+                dynamicTest("nan", () -> shouldClassifyJava(INVALID, "nan")),
+                dynamicTest("trailing garbage", () -> shouldClassifyJava(INVALID, "1x"))
+        );
+    }
+
+    @TestFactory
+    public List<DynamicTest> dynamicTestsClassifyJson() {
+        return Arrays.asList(
+                dynamicTest("integer", () -> shouldClassifyJson(INTEGER, "-123")),
+                dynamicTest("zero", () -> shouldClassifyJson(INTEGER, "0")),
+                dynamicTest("decimal", () -> shouldClassifyJson(DECIMAL, "0.5")),
+                dynamicTest("exponent", () -> shouldClassifyJson(EXPONENT, "1E+5")),
+                dynamicTest("decimal with exponent", () -> shouldClassifyJson(EXPONENT, "-1.5e-5")),
+                dynamicTest("plus sign", () -> shouldClassifyJson(INVALID, "+1")),
+                dynamicTest("<empty>", () -> shouldClassifyJson(INVALID, "")),
+                dynamicTest("minus only", () -> shouldClassifyJson(INVALID, "-")),
+                dynamicTest("exponent without digits", () -> shouldClassifyJson(INVALID, "1e")),
+                dynamicTest("suffix", () -> shouldClassifyJson(INVALID, "1d")),
+                dynamicTest("whitespace", () -> shouldClassifyJson(INVALID, " 1")),
+                dynamicTest("hexadecimal", () -> shouldClassifyJson(INVALID, "0x1p1")),
+                dynamicTest("NaN", () -> shouldClassifyJson(INVALID, "NaN")),
+                dynamicTest("Infinity", () -> shouldClassifyJson(INVALID, "Infinity"))
+        );
+    }
+
+    @Test
+    public void shouldBeValidIfParseSucceeds() {
+        Random rng = new Random(0);
+        String alphabet = "0123456789.-+eExpNaInfity d";
+        for (int i = 0; i < 10_000; i++) {
+            StringBuilder buf = new StringBuilder();
+            for (int j = rng.nextInt(12); j > 0; j--) {
+                buf.append(alphabet.charAt(rng.nextInt(alphabet.length())));
+            }
+            String str = buf.toString();
+            assertEquals(canParse(() -> JavaDoubleParser.parseDouble(str)), JavaDoubleParser.isValid(str), str);
+            assertEquals(canParse(() -> JsonDoubleParser.parseDouble(str)), JsonDoubleParser.isValid(str), str);
+        }
+    }
+
+    @Test
+    public void shouldClassifyInsideOfString() {
+        String str = "[1.5e3]";
+        assertEquals(EXPONENT, JavaDoubleParser.classify(str, 1, 5));
+        assertEquals(DECIMAL, JavaDoubleParser.classify(str.toCharArray(), 1, 3));
+        assertEquals(INTEGER, JsonDoubleParser.classify(str.getBytes(StandardCharsets.ISO_8859_1), 1, 1));
+        assertEquals(INVALID, JsonDoubleParser.classify(new StringBuilder(str), 0, 5));
+    }
+
+    @Test
+    public void shouldThrowOnIllegalBounds() {
+        assertThrows(IllegalArgumentException.class, () -> JavaDoubleParser.classify("1", 0, 2));
+        assertThrows(IllegalArgumentException.class, () -> JavaDoubleParser.isValid(new byte[1], -1, 1));
+        assertThrows(IllegalArgumentException.class, () -> JsonDoubleParser.isValid(new char[1], 1, 1));
+    }
+
+    private static void shouldClassifyJava(int expected, String str) {
+        assertEquals(expected, JavaDoubleParser.classify(str));
+        assertEquals(expected, JavaDoubleParser.classify(new StringBuilder(str), 0, str.length()));
+        assertEquals(expected, JavaDoubleParser.classify(str.toCharArray(), 0, str.length()));
+        assertEquals(expected, JavaDoubleParser.classify(str.getBytes(StandardCharsets.ISO_8859_1), 0, str.length()));
+        assertEquals(expected != INVALID, JavaDoubleParser.isValid(str));
+    }
+
+    private static void shouldClassifyJson(int expected, String str) {
+        assertEquals(expected, JsonDoubleParser.classify(str));
+        assertEquals(expected, JsonDoubleParser.classify(new StringBuilder(str), 0, str.length()));
+        assertEquals(expected, JsonDoubleParser.classify(str.toCharArray(), 0, str.length()));
+        assertEquals(expected, JsonDoubleParser.classify(str.getBytes(StandardCharsets.ISO_8859_1), 0, str.length()));
+        assertEquals(expected != INVALID, JsonDoubleParser.isValid(str));
+    }
+
+    private static boolean canParse(Runnable parse) {
+        try {
+            parse.run();
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
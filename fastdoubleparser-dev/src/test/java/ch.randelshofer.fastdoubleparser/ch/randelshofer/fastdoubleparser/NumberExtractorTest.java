@@ -0,0 +1,130 @@
+/*
+ * @(#)NumberExtractorTest.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static ch.randelshofer.fastdoubleparser.Strings.repeat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+public final class NumberExtractorTest {
+    private static final Pattern JAVA_PATTERN = Pattern.compile("[-+]?(?:\\d+(?:\\.\\d*)?|\\.\\d+)(?:[eE][-+]?\\d+)?");
+    private static final Pattern JSON_PATTERN = Pattern.compile("-?(?:0|[1-9]\\d*)(?:\\.\\d+)?(?:[eE][-+]?\\d+)?");
+
+    @TestFactory
+    public List<DynamicTest> dynamicTestsJava() {
+        return Arrays.asList(
+                dynamicTest("<empty>", () -> shouldExtract(NumberExtractor.JAVA, "")),
+                dynamicTest("no numbers", () -> shouldExtract(NumberExtractor.JAVA, "no numbers in this text")),
+                dynamicTest("log line", () -> shouldExtract(NumberExtractor.JAVA, "latency=12.5ms user=42 ratio=1e-3",
+                        "12.5", "42", "1e-3")),
+                dynamicTest("signs", () -> shouldExtract(NumberExtractor.JAVA, "a-5 b+6 c--7 8-9", "-5", "+6", "-7", "8", "-9")),
+                dynamicTest("fractions", () -> shouldExtract(NumberExtractor.JAVA, ".5 -.25 5. 1.2.3", ".5", "-.25", "5.", "1.2", ".3")),
+                dynamicTest("exponents", () -> shouldExtract(NumberExtractor.JAVA, "1e 2e+ 3E-4x 5e+06", "1", "2", "3E-4", "5e+06")),
+                dynamicTest("leading zeros", () -> shouldExtract(NumberExtractor.JAVA, "007", "007")),
+                dynamicTest("words", () -> shouldExtract(NumberExtractor.JAVA, "NaN Infinity 0x1p3 2d 3f", "0", "1", "3", "2", "3")),
+                dynamicTest("long digit runs", () -> shouldExtract(NumberExtractor.JAVA,
+                        "abcdefghijklmnop" + repeat('1', 40) + "ponmlkjihgfedcba." + repeat('9', 17),
+                        repeat('1', 40), "." + repeat('9', 17))),
+                dynamicTest("non-ascii", () -> shouldExtract(NumberExtractor.JAVA, "äöü12ßé34", "12", "34"))
+        );
+    }
+
+    @TestFactory
+    public List<DynamicTest> dynamicTestsJson() {
+        return Arrays.asList(
+                dynamicTest("log line", () -> shouldExtract(NumberExtractor.JSON, "latency=12.5ms user=42 ratio=1e-3",
+                        "12.5", "42", "1e-3")),
+                dynamicTest("signs", () -> shouldExtract(NumberExtractor.JSON, "a-5 b+6", "-5", "6")),
+                dynamicTest("fractions", () -> shouldExtract(NumberExtractor.JSON, ".5 -.25 5. 1.2.3", "5", "25", "5", "1.2", "3")),
+                dynamicTest("leading zeros", () -> shouldExtract(NumberExtractor.JSON, "007 -0.5", "0", "0", "7", "-0.5")),
+                dynamicTest("json", () -> shouldExtract(NumberExtractor.JSON, "{\"a\":[1,-2.5e3,0.125]}", "1", "-2.5e3", "0.125"))
+        );
+    }
+
+    @Test
+    public void shouldMatchRegularExpressionOnRandomText() {
+        Random rng = new Random(0);
+        String alphabet = "0123456789.-+eE xyzä";
+        for (int n = 0; n < 200; n++) {
+            StringBuilder buf = new StringBuilder();
+            int length = rng.nextInt(80);
+            for (int i = 0; i < length; i++) {
+                buf.append(alphabet.charAt(rng.nextInt(alphabet.length())));
+            }
+            String str = buf.toString();
+            shouldExtract(NumberExtractor.JAVA, str, find(JAVA_PATTERN, str));
+            shouldExtract(NumberExtractor.JSON, str, find(JSON_PATTERN, str));
+        }
+    }
+
+    @Test
+    public void shouldComputeDigitMask() {
+        for (int b = 0; b < 256; b++) {
+            for (int pos = 0; pos < 8; pos++) {
+                // Surround the byte with bytes that would cause borrows
+                long chunk = 0x2f002f002f002f00L & ~(0xffL << (pos << 3)) | ((long) b << (pos << 3));
+                long expected = (b >= '0' && b <= '9') ? 0x80L << (pos << 3) : 0;
+                assertEquals(expected, NumberExtractor.digitMask(chunk) & (0xffL << (pos << 3)), "b=" + b + " pos=" + pos);
+            }
+        }
+    }
+
+    @Test
+    public void shouldExtractFromSubrange() {
+        String str = "1 2 3 4";
+        List<String> actual = new ArrayList<>();
+        assertEquals(2, NumberExtractor.JAVA.extract(str.getBytes(StandardCharsets.ISO_8859_1), 2, 3,
+                (start, end, value) -> actual.add(start + ":" + end + "=" + value)));
+        assertEquals(Arrays.asList("2:3=2.0", "4:5=3.0"), actual);
+        assertThrows(IllegalArgumentException.class, () -> NumberExtractor.JAVA.extract(str, 4, 4, (start, end, value) -> {
+        }));
+    }
+
+    private static String[] find(Pattern pattern, String str) {
+        List<String> list = new ArrayList<>();
+        Matcher m = pattern.matcher(str);
+        while (m.find()) {
+            list.add(m.group());
+        }
+        return list.toArray(new String[0]);
+    }
+
+    private static void shouldExtract(NumberExtractor extractor, String str, String... expected) {
+        List<String> expectedList = new ArrayList<>();
+        for (String s : expected) {
+            expectedList.add(s + "=" + Double.parseDouble(s));
+        }
+
+        List<String> actual = new ArrayList<>();
+        assertEquals(expected.length, extractor.extract(str, 0, str.length(),
+                (start, end, value) -> actual.add(str.substring(start, end) + "=" + value)), "CharSequence");
+        assertEquals(expectedList, actual, "CharSequence");
+
+        actual.clear();
+        char[] chars = str.toCharArray();
+        assertEquals(expected.length, extractor.extract(chars, 0, chars.length,
+                (start, end, value) -> actual.add(str.substring(start, end) + "=" + value)), "char[]");
+        assertEquals(expectedList, actual, "char[]");
+
+        actual.clear();
+        byte[] bytes = str.getBytes(StandardCharsets.ISO_8859_1);
+        assertEquals(expected.length, extractor.extract(bytes, 0, bytes.length,
+                (start, end, value) -> actual.add(str.substring(start, end) + "=" + value)), "byte[]");
+        assertEquals(expectedList, actual, "byte[]");
+    }
+}
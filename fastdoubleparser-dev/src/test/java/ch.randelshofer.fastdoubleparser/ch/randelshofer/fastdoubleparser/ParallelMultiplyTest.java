@@ -0,0 +1,52 @@
+/*
+ * @(#)ParallelMultiplyTest.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for {@link ParallelMultiply}.
+ */
+public final class ParallelMultiplyTest {
+    @Test
+    public void shouldMultiplyInToomCookRange() {
+        BigInteger a = new BigInteger(30_000, new Random(0));
+        BigInteger b = new BigInteger(20_000, new Random(1));
+        BigInteger expectedProduct = a.multiply(b);
+        BigInteger expectedSquare = a.multiply(a);
+        ForkJoinPool pool = new ForkJoinPool(2);
+        ForkJoinPool oldPool = ParallelMultiply.getPool();
+        try {
+            ParallelMultiply.setPool(pool);
+            assertEquals(expectedProduct, ParallelMultiply.multiply(a, b));
+            assertEquals(expectedSquare, ParallelMultiply.multiply(a, a));
+            assertEquals(expectedProduct, pool.submit(() -> ParallelMultiply.multiply(a, b)).join());
+        } finally {
+            ParallelMultiply.setPool(oldPool);
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldParseBigIntegerWithPool() {
+        String str = Strings.repeat("8808065258", 2_000);
+        BigInteger expected = new BigInteger(str);
+        ForkJoinPool pool = new ForkJoinPool(2);
+        ForkJoinPool oldPool = ParallelMultiply.getPool();
+        try {
+            ParallelMultiply.setPool(pool);
+            assertEquals(expected, JavaBigIntegerParser.parseBigInteger(str));
+        } finally {
+            ParallelMultiply.setPool(oldPool);
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * @(#)ParseEventsTest.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests {@link BigNumberParseEvent} and {@link FftMultiplyEvent}.
+ * <p>
+ * This test is not copied into the Java 8 module, because the events
+ * are no-op stubs there.
+ */
+public final class ParseEventsTest {
+    private static final String BIG_NUMBER_PARSE = "ch.randelshofer.fastdoubleparser.BigNumberParse";
+    private static final String FFT_MULTIPLY = "ch.randelshofer.fastdoubleparser.FftMultiply";
+
+    @Test
+    public void shouldRecordBigNumberParsesAndFftMultiplies() throws Exception {
+        String digits = new BigInteger(200_000, new Random(0)).toString();
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(BIG_NUMBER_PARSE).withThreshold(Duration.ZERO);
+            recording.enable(FFT_MULTIPLY).withThreshold(Duration.ZERO);
+            recording.start();
+            assertEquals(new BigInteger(digits), JavaBigIntegerParser.parseBigInteger(digits));
+            assertEquals(new BigDecimal(digits), JavaBigDecimalParser.parseBigDecimal(digits));
+            JavaBigIntegerParser.parseBigInteger("12345");
+            recording.stop();
+            Path file = Files.createTempFile("fastdoubleparser", ".jfr");
+            try {
+                recording.dump(file);
+                events = RecordingFile.readAllEvents(file);
+            } finally {
+                Files.delete(file);
+            }
+        }
+
+        int bigIntegerParses = 0, bigDecimalParses = 0, fftMultiplies = 0;
+        for (RecordedEvent event : events) {
+            switch (event.getEventType().getName()) {
+                case BIG_NUMBER_PARSE:
+                    assertEquals(digits.length(), event.getInt("digitCount"));
+                    assertEquals(10, event.getInt("radix"));
+                    assertTrue(event.getInt("recursionDepth") > 0);
+                    if ("BigInteger".equals(event.getString("numberType"))) {
+                        bigIntegerParses++;
+                    } else {
+                        bigDecimalParses++;
+                    }
+                    break;
+                case FFT_MULTIPLY:
+                    assertTrue(event.getInt("aBitLength") > 0);
+                    assertTrue(event.getInt("bBitLength") > 0);
+                    fftMultiplies++;
+                    break;
+            }
+        }
+        assertEquals(1, bigIntegerParses);
+        assertEquals(1, bigDecimalParses);
+        assertTrue(fftMultiplies > 0);
+    }
+}
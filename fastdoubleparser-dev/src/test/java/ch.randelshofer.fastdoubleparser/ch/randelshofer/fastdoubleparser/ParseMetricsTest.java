@@ -0,0 +1,125 @@
+/*
+ * @(#)ParseMetricsTest.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import org.junit.jupiter.api.Test;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.Random;
+
+import static ch.randelshofer.fastdoubleparser.ParseMetrics.BIG_INTEGER;
+import static ch.randelshofer.fastdoubleparser.ParseMetrics.CONFIGURABLE_DOUBLE;
+import static ch.randelshofer.fastdoubleparser.ParseMetrics.FAST_PATH_HITS;
+import static ch.randelshofer.fastdoubleparser.ParseMetrics.FFT_MULTIPLIES;
+import static ch.randelshofer.fastdoubleparser.ParseMetrics.JAVA_DOUBLE;
+import static ch.randelshofer.fastdoubleparser.ParseMetrics.JAVA_FLOAT;
+import static ch.randelshofer.fastdoubleparser.ParseMetrics.JSON_DOUBLE;
+import static ch.randelshofer.fastdoubleparser.ParseMetrics.MULTIPLIER;
+import static ch.randelshofer.fastdoubleparser.ParseMetrics.RECURSIVE_PARSES;
+import static ch.randelshofer.fastdoubleparser.ParseMetrics.SLOW_PATH_FALLBACKS;
+import static ch.randelshofer.fastdoubleparser.ParseMetrics.SYNTAX_ERRORS;
+import static ch.randelshofer.fastdoubleparser.ParseMetrics.TRUNCATED_RETRIES;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests {@link ParseMetrics}.
+ * <p>
+ * The counters are only maintained if the system property
+ * {@code ch.randelshofer.fastdoubleparser.metrics} is {@code true}.
+ * Otherwise, this test checks that all counters stay zero.
+ * <p>
+ * The surefire execution {@code metrics} runs this test with metrics
+ * enabled.
+ */
+public final class ParseMetricsTest {
+    private static final long ONE = ParseMetrics.isEnabled() ? 1 : 0;
+
+    @Test
+    public void shouldBeEnabledBySystemProperty() {
+        assertEquals(Boolean.getBoolean("ch.randelshofer.fastdoubleparser.metrics"), ParseMetrics.isEnabled());
+    }
+
+    @Test
+    public void shouldCountFastPathAndSlowPath() {
+        ParseMetrics before = ParseMetrics.snapshot();
+        JavaDoubleParser.parseDouble("1.5");
+        JavaDoubleParser.parseDouble("2.2250738585072012e-308");
+        JavaDoubleParser.parseDouble("3.14159265358979323846264338327950288");
+        ParseMetrics after = ParseMetrics.snapshot();
+        assertTrue(2 * ONE <= delta(before, after, JAVA_DOUBLE, FAST_PATH_HITS));
+        assertTrue(ONE <= delta(before, after, JAVA_DOUBLE, SLOW_PATH_FALLBACKS));
+        assertTrue(ONE <= delta(before, after, JAVA_DOUBLE, TRUNCATED_RETRIES));
+    }
+
+    @Test
+    public void shouldCountPerFamily() {
+        ParseMetrics before = ParseMetrics.snapshot();
+        JavaFloatParser.parseFloat("1.5");
+        JsonDoubleParser.parseDouble("1.5");
+        new ConfigurableDoubleParser().parseDouble("1.5");
+        ParseMetrics after = ParseMetrics.snapshot();
+        assertTrue(ONE <= delta(before, after, JAVA_FLOAT, FAST_PATH_HITS));
+        assertTrue(ONE <= delta(before, after, JSON_DOUBLE, FAST_PATH_HITS));
+        assertTrue(ONE <= delta(before, after, CONFIGURABLE_DOUBLE, FAST_PATH_HITS));
+    }
+
+    @Test
+    public void shouldCountSyntaxErrors() {
+        ParseMetrics before = ParseMetrics.snapshot();
+        assertThrows(NumberFormatException.class, () -> JavaDoubleParser.parseDouble("x"));
+        assertThrows(NumberFormatException.class, () -> JavaBigIntegerParser.parseBigInteger("x"));
+        ParseMetrics after = ParseMetrics.snapshot();
+        assertTrue(ONE <= delta(before, after, JAVA_DOUBLE, SYNTAX_ERRORS));
+        assertTrue(ONE <= delta(before, after, BIG_INTEGER, SYNTAX_ERRORS));
+    }
+
+    @Test
+    public void shouldCountRecursiveParsesAndFftMultiplies() {
+        String digits = new BigInteger(200_000, new Random(0)).toString();
+        ParseMetrics before = ParseMetrics.snapshot();
+        assertEquals(new BigInteger(digits), JavaBigIntegerParser.parseBigInteger(digits));
+        ParseMetrics after = ParseMetrics.snapshot();
+        assertTrue(ONE <= delta(before, after, BIG_INTEGER, RECURSIVE_PARSES));
+        assertTrue(ONE <= delta(before, after, MULTIPLIER, FFT_MULTIPLIES));
+    }
+
+    @Test
+    public void shouldRejectIllegalFamilyOrEvent() {
+        ParseMetrics metrics = ParseMetrics.snapshot();
+        assertThrows(IllegalArgumentException.class, () -> metrics.get(-1, FAST_PATH_HITS));
+        assertThrows(IllegalArgumentException.class, () -> metrics.get(JAVA_DOUBLE, 6));
+    }
+
+    @Test
+    public void shouldMapNonZeroCounters() {
+        ParseMetrics metrics = ParseMetrics.snapshot();
+        Map<String, Long> map = metrics.toMap();
+        assertEquals(metrics.get(JAVA_DOUBLE, FAST_PATH_HITS), (long) map.getOrDefault("javaDouble.fastPathHits", 0L));
+        for (long value : map.values()) {
+            assertTrue(value != 0);
+        }
+    }
+
+    @Test
+    public void shouldRegisterMBean() throws Exception {
+        ParseMetrics.registerMBean();
+        ParseMetrics.registerMBean();
+        ObjectName name = new ObjectName("ch.randelshofer.fastdoubleparser:type=ParseMetrics");
+        assertEquals(ParseMetrics.isEnabled(), ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Enabled"));
+    }
+
+    private static long delta(ParseMetrics before, ParseMetrics after, int family, int event) {
+        long delta = after.get(family, event) - before.get(family, event);
+        if (!ParseMetrics.isEnabled()) {
+            assertEquals(0, after.get(family, event));
+        }
+        return delta;
+    }
+}
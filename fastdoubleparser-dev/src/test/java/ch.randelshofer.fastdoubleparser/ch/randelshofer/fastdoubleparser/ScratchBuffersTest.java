@@ -0,0 +1,88 @@
+/*
+ * @(#)ScratchBuffersTest.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link ScratchBuffers}.
+ * <p>
+ * The surefire execution {@code scratch-buffers} runs this test with
+ * scratch buffers enabled.
+ */
+public final class ScratchBuffersTest {
+    @Test
+    public void shouldBeEnabledBySystemProperty() {
+        assertEquals(Boolean.getBoolean("ch.randelshofer.fastdoubleparser.scratchBuffers"), ScratchBuffers.isEnabled());
+    }
+
+    @Test
+    public void shouldReturnZeroedArrays() {
+        double[] d = ScratchBuffers.doubles(0, 16);
+        d[3] = 1.0;
+        d = ScratchBuffers.doubles(0, 8);
+        assertTrue(d.length >= 8);
+        for (int i = 0; i < 8; i++) {
+            assertEquals(0.0, d[i]);
+        }
+
+        byte[] b = ScratchBuffers.bytes(16);
+        b[3] = 1;
+        b = ScratchBuffers.bytes(8);
+        assertTrue(b.length >= 8);
+        for (int i = 0; i < 8; i++) {
+            assertEquals(0, b[i]);
+        }
+
+        int[] n = ScratchBuffers.ints(16);
+        n[3] = 1;
+        n = ScratchBuffers.ints(8);
+        assertTrue(n.length >= 8);
+        for (int i = 0; i < 8; i++) {
+            assertEquals(0, n[i]);
+        }
+
+        long[] l = ScratchBuffers.longs(16);
+        l[3] = 1;
+        l = ScratchBuffers.longs(8);
+        assertTrue(l.length >= 8);
+        for (int i = 0; i < 8; i++) {
+            assertEquals(0, l[i]);
+        }
+    }
+
+    @Test
+    public void shouldCountArraysOfRepeatedFftMultiplications() {
+        BigInteger a = new BigInteger(100_000, new Random(0));
+        BigInteger b = new BigInteger(100_000, new Random(1));
+        BigInteger expected = a.multiply(b);
+        long before = ScratchBuffers.getAllocationCount() + ScratchBuffers.getReuseCount();
+        for (int i = 0; i < 3; i++) {
+            assertEquals(expected, FftMultiplier.multiplyFft(a, b));
+        }
+        long after = ScratchBuffers.getAllocationCount() + ScratchBuffers.getReuseCount();
+        assertTrue(after - before >= 6);
+        if (ScratchBuffers.isEnabled()) {
+            assertTrue(ScratchBuffers.getReuseCount() >= 4);
+        }
+    }
+
+    @Test
+    public void shouldParseRepeatedBigIntegers() {
+        String str = Strings.repeat('7', 2_000);
+        BigInteger expected = new BigInteger(str);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(expected, JavaBigIntegerParser.parseBigInteger(str));
+        }
+        ScratchBuffers.releaseThreadBuffers();
+        assertEquals(expected, JavaBigIntegerParser.parseBigInteger(str));
+    }
+}
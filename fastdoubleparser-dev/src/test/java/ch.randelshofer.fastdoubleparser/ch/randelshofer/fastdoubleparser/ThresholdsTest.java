@@ -0,0 +1,87 @@
+/*
+ * @(#)ThresholdsTest.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link Thresholds}.
+ * <p>
+ * The surefire execution {@code low-thresholds} runs this test with the
+ * thresholds from {@code low-thresholds.properties}.
+ */
+public final class ThresholdsTest {
+    @Test
+    public void shouldReturnDefaultValueForMissingKey() {
+        assertEquals(400, Thresholds.get("noSuchThreshold", 400, 18));
+    }
+
+    @Test
+    public void shouldHaveValidThresholds() {
+        assertTrue(AbstractBigIntegerParser.RECURSION_THRESHOLD >= 18);
+        assertTrue(AbstractBigDecimalParser.RECURSION_THRESHOLD >= 18);
+        assertTrue(AbstractBigDecimalParser.MANY_DIGITS_THRESHOLD >= 0);
+        assertTrue(FftMultiplier.FFT_THRESHOLD >= FftMultiplier.MIN_FFT_THRESHOLD);
+    }
+
+    @Test
+    public void shouldUseLowThresholdsFromFile() {
+        String path = System.getProperty(Thresholds.THRESHOLDS_PROPERTY);
+        if (path != null && path.endsWith("low-thresholds.properties")) {
+            assertEquals(18, AbstractBigIntegerParser.RECURSION_THRESHOLD);
+            assertEquals(18, AbstractBigDecimalParser.RECURSION_THRESHOLD);
+            assertEquals(0, AbstractBigDecimalParser.MANY_DIGITS_THRESHOLD);
+            assertEquals(FftMultiplier.MIN_FFT_THRESHOLD, FftMultiplier.FFT_THRESHOLD);
+        }
+    }
+
+    @Test
+    public void shouldMultiplyLikeBigInteger() {
+        Random rng = new Random(0);
+        int[] bitLengths = {1, 63, 64, 65, 183, 184, 255, 256, 257, 1_000,
+                FftMultiplier.FFT_THRESHOLD - 1, FftMultiplier.FFT_THRESHOLD, FftMultiplier.FFT_THRESHOLD + 1,
+                2 * FftMultiplier.FFT_THRESHOLD};
+        for (int bitLength : bitLengths) {
+            BigInteger a = new BigInteger(bitLength, rng).setBit(bitLength - 1);
+            BigInteger b = new BigInteger(bitLength, rng).setBit(bitLength - 1);
+            BigInteger c = BigInteger.valueOf(rng.nextLong());
+            assertEquals(a.multiply(b), FftMultiplier.multiply(a, b), "bitLength=" + bitLength);
+            assertEquals(a.multiply(c), FftMultiplier.multiply(a, c), "bitLength=" + bitLength);
+            assertEquals(a.multiply(a), FftMultiplier.square(a), "bitLength=" + bitLength);
+        }
+    }
+
+    @Test
+    public void shouldParseLikeBigIntegerAndBigDecimal() {
+        Random rng = new Random(0);
+        int[] digitCounts = {1, 18, 19, 20, 31, 32, 33, 64, 100, 400, 401, 1_000, 5_000, 20_000};
+        for (int digitCount : digitCounts) {
+            StringBuilder buf = new StringBuilder();
+            buf.append((char) ('1' + rng.nextInt(9)));
+            for (int i = 1; i < digitCount; i++) {
+                buf.append((char) ('0' + rng.nextInt(10)));
+            }
+            String integer = buf.toString();
+            BigInteger expectedInteger = new BigInteger(integer);
+            assertEquals(expectedInteger, JavaBigIntegerParser.parseBigInteger(integer));
+            assertEquals(expectedInteger, JavaBigIntegerParser.parseBigInteger(integer.toCharArray()));
+            assertEquals(expectedInteger, JavaBigIntegerParser.parseBigInteger(integer.getBytes(StandardCharsets.ISO_8859_1)));
+
+            String decimal = "-" + integer.substring(0, digitCount / 2) + "." + integer.substring(digitCount / 2) + "e-17";
+            BigDecimal expectedDecimal = new BigDecimal(decimal);
+            assertEquals(expectedDecimal, JavaBigDecimalParser.parseBigDecimal(decimal));
+            assertEquals(expectedDecimal, JavaBigDecimalParser.parseBigDecimal(decimal.toCharArray()));
+            assertEquals(expectedDecimal, JavaBigDecimalParser.parseBigDecimal(decimal.getBytes(StandardCharsets.ISO_8859_1)));
+        }
+    }
+}
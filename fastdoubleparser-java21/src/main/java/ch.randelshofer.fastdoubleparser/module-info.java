@@ -8,5 +8,7 @@
  * and JSON {@code number}s.
  */
 module ch.randelshofer.fastdoubleparser {
+    requires static java.management;
+    requires static jdk.jfr;
     exports ch.randelshofer.fastdoubleparser;
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+/*
+ * @(#)BigNumberParseEvent.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+/**
+ * Placeholder for the JDK Flight Recorder event for parsing a big number.
+ * <p>
+ * The {@code jdk.jfr} API is not available in Java 8. Therefore this
+ * event is never enabled.
+ */
+final class BigNumberParseEvent {
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private BigNumberParseEvent() {
+    }
+
+    /**
+     * Returns null, because the event is never enabled.
+     *
+     * @return null
+     */
+    static BigNumberParseEvent start() {
+        return null;
+    }
+
+    /**
+     * Does nothing.
+     *
+     * @param numberType         the type of the number
+     * @param digitCount         the number of characters of the number
+     * @param radix              the radix
+     * @param recursionThreshold the recursion threshold of the digit parser
+     */
+    void finish(String numberType, int digitCount, int radix, int recursionThreshold) {
+    }
+}
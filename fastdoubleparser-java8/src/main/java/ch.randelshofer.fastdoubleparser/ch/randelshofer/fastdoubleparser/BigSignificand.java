@@ -23,7 +23,7 @@ final class BigSignificand {
         }
         int numLongs = (int) ((numBits + 63) >>> 6) + 1;
         numInts = numLongs << 1;
-        x = new int[numInts];
+        x = ScratchBuffers.ints(numInts);
         firstNonZeroInt = numInts;
     }
 
@@ -71,9 +71,9 @@ final class BigSignificand {
     }
 
     public BigInteger toBigInteger() {
-        byte[] bytes = new byte[x.length << 2];
+        byte[] bytes = new byte[numInts << 2];
         IntBuffer buf = ByteBuffer.wrap(bytes).asIntBuffer();
-        for (int i = 0; i < x.length; i++) {
+        for (int i = 0; i < numInts; i++) {
             buf.put(i, x[i]);
         }
         return new BigInteger(bytes);
@@ -0,0 +1,39 @@
+/*
+ * @(#)FftMultiplyEvent.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import java.math.BigInteger;
+
+/**
+ * Placeholder for the JDK Flight Recorder event for an FFT multiplication.
+ * <p>
+ * The {@code jdk.jfr} API is not available in Java 8. Therefore this
+ * event is never enabled.
+ */
+final class FftMultiplyEvent {
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private FftMultiplyEvent() {
+    }
+
+    /**
+     * Returns null, because the event is never enabled.
+     *
+     * @return null
+     */
+    static FftMultiplyEvent start() {
+        return null;
+    }
+
+    /**
+     * Does nothing.
+     *
+     * @param a factor a
+     * @param b factor b
+     */
+    void finish(BigInteger a, BigInteger b) {
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * @(#)ParallelMultiply.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparser;
+
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Configures the parallel multiplication of big integers in the
+ * Toom-Cook range.
+ * <p>
+ * When parsing numbers with many digits, the parsers multiply big integers.
+ * Below the FFT threshold, these multiplications are performed with
+ * {@link BigInteger#multiply}, which is single-threaded.
+ * When a {@link ForkJoinPool} is set, these multiplications are
+ * performed with {@code BigInteger.parallelMultiply} in that pool
+ * instead.
+ * <p>
+ * Parallel multiplication is disabled by default. It can be enabled
+ * with {@link #setPool(ForkJoinPool)}, or by setting the system property
+ * {@code ch.randelshofer.fastdoubleparser.parallelMultiply} to {@code true},
+ * which uses the {@linkplain ForkJoinPool#commonPool() common pool}.
+ * <p>
+ * {@code BigInteger.parallelMultiply} is available since Java 19.
+ * On older Java versions, the pool is ignored.
+ */
+public final class ParallelMultiply {
+    private static volatile ForkJoinPool pool = Boolean.parseBoolean(getProperty("ch.randelshofer.fastdoubleparser.parallelMultiply"))
+            ? ForkJoinPool.commonPool() : null;
+
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private ParallelMultiply() {
+    }
+
+    /**
+     * Returns true if parallel multiplication is supported by this
+     * Java version.
+     *
+     * @return true if supported
+     */
+    public static boolean isSupported() {
+        return false;
+    }
+
+    /**
+     * Returns the pool that is used for parallel multiplication.
+     *
+     * @return the pool, null if parallel multiplication is disabled
+     */
+    public static ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Sets the pool that is used for parallel multiplication.
+     *
+     * @param pool the pool, null disables parallel multiplication
+     */
+    public static void setPool(ForkJoinPool pool) {
+        ParallelMultiply.pool = pool;
+    }
+
+    /**
+     * Returns {@code a * b}.
+     * <p>
+     * This Java version does not support {@code BigInteger.parallelMultiply},
+     * therefore the pool is ignored.
+     *
+     * @param a value a
+     * @param b value b, can be the same instance as {@code a}
+     * @return a*b
+     */
+    static BigInteger multiply(BigInteger a, BigInteger b) {
+        return a.multiply(b);
+    }
+
+    private static String getProperty(String key) {
+        try {
+            return System.getProperty(key);
+        } catch (SecurityException e) {
+            return null;
+        }
+    }
+}
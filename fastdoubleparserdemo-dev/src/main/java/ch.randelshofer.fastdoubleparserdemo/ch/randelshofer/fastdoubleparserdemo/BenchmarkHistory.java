@@ -0,0 +1,352 @@
+/*
+ * @(#)BenchmarkHistory.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparserdemo;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Stores the JSON result files of JMH, and compares two runs.
+ * <p>
+ * Usage:
+ * <pre>
+ * BenchmarkHistory store &lt;history-dir&gt; &lt;jmh-result.json&gt; [--revision &lt;rev&gt;]
+ * BenchmarkHistory list &lt;history-dir&gt;
+ * BenchmarkHistory compare &lt;base&gt; &lt;candidate&gt;
+ * </pre>
+ * {@code store} copies a result file into a directory of the history that
+ * is named after the git revision, the JDK and the CPU. The git revision is
+ * taken from {@code git rev-parse --short HEAD} unless it is specified.
+ * The JDK is taken from the result file, the CPU from {@link SystemInfo}.
+ * A run that is stored again with the same key replaces the previous one.
+ * <p>
+ * {@code compare} takes two stored runs or two result files. It prints the
+ * score of each benchmark in both runs, and flags a benchmark as a
+ * regression if the confidence intervals that JMH has computed for the
+ * two scores do not overlap, and the candidate is worse. Benchmarks with
+ * overlapping intervals are considered unchanged. The command exits with
+ * status 1 if it has found a regression.
+ * <p>
+ * Runs on different JDKs or CPUs can be compared, but the command prints
+ * a warning, because the differences are then not caused by the code alone.
+ */
+public final class BenchmarkHistory {
+    private static final String RESULT_FILE = "jmh-result.json";
+    private static final String RUN_FILE = "run.properties";
+
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private BenchmarkHistory() {
+    }
+
+    public static void main(String... args) throws IOException {
+        if (args.length < 2) {
+            printUsage();
+            return;
+        }
+        switch (args[0]) {
+            case "store": {
+                if (args.length != 3 && !(args.length == 5 && args[3].equals("--revision"))) {
+                    printUsage();
+                    return;
+                }
+                Path dir = store(Paths.get(args[1]), Paths.get(args[2]), args.length == 5 ? args[4] : getGitRevision());
+                System.out.println("Stored run " + dir.getFileName());
+                break;
+            }
+            case "list":
+                list(Paths.get(args[1]));
+                break;
+            case "compare":
+                if (args.length != 3) {
+                    printUsage();
+                    return;
+                }
+                if (compare(Paths.get(args[1]), Paths.get(args[2])) > 0) {
+                    System.exit(1);
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("this command is not supported: " + args[0]);
+        }
+    }
+
+    private static void printUsage() {
+        System.out.println("Usage:\n"
+                + "  BenchmarkHistory store <history-dir> <jmh-result.json> [--revision <rev>]\n"
+                + "  BenchmarkHistory list <history-dir>\n"
+                + "  BenchmarkHistory compare <base> <candidate>\n"
+                + "<base> and <candidate> are stored runs or JMH result files.");
+    }
+
+    /**
+     * Stores a result file in the history.
+     *
+     * @param history    the history directory
+     * @param resultFile the JSON result file of JMH
+     * @param revision   the git revision of the benchmarked code
+     * @return the directory of the stored run
+     * @throws IOException if the result file can not be read, or the run
+     *                     can not be stored
+     */
+    static Path store(Path history, Path resultFile, String revision) throws IOException {
+        List<Object> results = readResults(resultFile);
+        Map<?, ?> first = results.isEmpty() ? new LinkedHashMap<>() : (Map<?, ?>) results.get(0);
+        Properties run = new Properties();
+        run.setProperty("revision", revision);
+        run.setProperty("jdk", String.valueOf(first.containsKey("jdkVersion") ? first.get("jdkVersion") : System.getProperty("java.version")));
+        run.setProperty("vm", String.valueOf(first.containsKey("vmName") ? first.get("vmName") + " " + first.get("vmVersion") : SystemInfo.getRtInfo()));
+        run.setProperty("cpu", SystemInfo.getCpuInfo());
+        run.setProperty("os", SystemInfo.getOsInfo());
+        run.setProperty("stored", Instant.now().toString());
+
+        Path dir = history.resolve(slug(revision) + "_" + slug(run.getProperty("jdk")) + "_" + slug(run.getProperty("cpu")));
+        Files.createDirectories(dir);
+        Files.copy(resultFile, dir.resolve(RESULT_FILE), StandardCopyOption.REPLACE_EXISTING);
+        try (Writer w = Files.newBufferedWriter(dir.resolve(RUN_FILE), StandardCharsets.UTF_8)) {
+            run.store(w, "JMH run");
+        }
+        return dir;
+    }
+
+    /**
+     * Prints the stored runs of the history.
+     *
+     * @param history the history directory
+     * @throws IOException if the history can not be read
+     */
+    static void list(Path history) throws IOException {
+        Map<String, Properties> runs = new TreeMap<>();
+        try (DirectoryStream<Path> dirs = Files.newDirectoryStream(history, Files::isDirectory)) {
+            for (Path dir : dirs) {
+                if (Files.exists(dir.resolve(RESULT_FILE))) {
+                    runs.put(dir.getFileName().toString(), readRun(dir));
+                }
+            }
+        }
+        for (Map.Entry<String, Properties> entry : runs.entrySet()) {
+            Properties run = entry.getValue();
+            System.out.println(entry.getKey() + "\n    stored " + run.getProperty("stored", "?")
+                    + ", " + run.getProperty("vm", "?") + ", " + run.getProperty("cpu", "?"));
+        }
+    }
+
+    /**
+     * Prints a comparison of two runs.
+     *
+     * @param base      the base run or result file
+     * @param candidate the candidate run or result file
+     * @return the number of regressions
+     * @throws IOException if a run can not be read
+     */
+    static int compare(Path base, Path candidate) throws IOException {
+        Properties baseRun = readRun(base);
+        Properties candidateRun = readRun(candidate);
+        for (String key : new String[]{"jdk", "cpu"}) {
+            String b = baseRun.getProperty(key);
+            String c = candidateRun.getProperty(key);
+            if (b != null && c != null && !b.equals(c)) {
+                System.out.println("Warning: the runs have different " + key + ": " + b + " / " + c);
+            }
+        }
+
+        Map<String, Map<?, ?>> baseScores = indexResults(readResults(resultFileOf(base)));
+        Map<String, Map<?, ?>> candidateScores = indexResults(readResults(resultFileOf(candidate)));
+        int width = "Benchmark".length();
+        for (String name : baseScores.keySet()) {
+            width = Math.max(width, name.length());
+        }
+        for (String name : candidateScores.keySet()) {
+            width = Math.max(width, name.length());
+        }
+
+        String format = "%-" + width + "s %-7s %12s %10s %12s %10s %8s  %s%n";
+        System.out.printf(format, "Benchmark", "Unit", "Base", "Error", "Candidate", "Error", "Change", "");
+        int regressions = 0;
+        for (Map.Entry<String, Map<?, ?>> entry : baseScores.entrySet()) {
+            Map<?, ?> b = entry.getValue();
+            Map<?, ?> c = candidateScores.get(entry.getKey());
+            Map<?, ?> bm = (Map<?, ?>) b.get("primaryMetric");
+            if (c == null) {
+                System.out.printf(format, entry.getKey(), bm.get("scoreUnit"),
+                        formatScore(toDouble(bm.get("score"))), formatScore(toDouble(bm.get("scoreError"))),
+                        "", "", "", "missing in candidate");
+                continue;
+            }
+            Map<?, ?> cm = (Map<?, ?>) c.get("primaryMetric");
+            double bScore = toDouble(bm.get("score"));
+            double cScore = toDouble(cm.get("score"));
+            String verdict = verdict(String.valueOf(b.get("mode")), confidence(bm), confidence(cm));
+            if (verdict.equals("REGRESSION")) {
+                regressions++;
+            }
+            System.out.printf(format, entry.getKey(), bm.get("scoreUnit"),
+                    formatScore(bScore), formatScore(toDouble(bm.get("scoreError"))),
+                    formatScore(cScore), formatScore(toDouble(cm.get("scoreError"))),
+                    String.format("%+.1f%%", (cScore - bScore) * 100 / bScore), verdict);
+        }
+        for (Map.Entry<String, Map<?, ?>> entry : candidateScores.entrySet()) {
+            if (!baseScores.containsKey(entry.getKey())) {
+                Map<?, ?> cm = (Map<?, ?>) entry.getValue().get("primaryMetric");
+                System.out.printf(format, entry.getKey(), cm.get("scoreUnit"), "", "",
+                        formatScore(toDouble(cm.get("score"))), formatScore(toDouble(cm.get("scoreError"))),
+                        "", "missing in base");
+            }
+        }
+        System.out.println(regressions + " regressions");
+        return regressions;
+    }
+
+    /**
+     * Compares the confidence intervals of two scores.
+     *
+     * @param mode      the JMH mode, higher scores are better only in
+     *                  mode {@code thrpt}
+     * @param base      the confidence interval of the base score
+     * @param candidate the confidence interval of the candidate score
+     * @return "REGRESSION", "improvement", "~" if the intervals overlap, or
+     * "?" if an interval is unknown
+     */
+    static String verdict(String mode, double[] base, double[] candidate) {
+        if (Double.isNaN(base[0]) || Double.isNaN(base[1])
+                || Double.isNaN(candidate[0]) || Double.isNaN(candidate[1])) {
+            return "?";
+        }
+        boolean higherIsBetter = mode.equals("thrpt");
+        if (candidate[0] > base[1]) {
+            return higherIsBetter ? "improvement" : "REGRESSION";
+        }
+        if (candidate[1] < base[0]) {
+            return higherIsBetter ? "REGRESSION" : "improvement";
+        }
+        return "~";
+    }
+
+    private static double[] confidence(Map<?, ?> metric) {
+        Object interval = metric.get("scoreConfidence");
+        if (interval instanceof List && ((List<?>) interval).size() == 2) {
+            List<?> list = (List<?>) interval;
+            return new double[]{toDouble(list.get(0)), toDouble(list.get(1))};
+        }
+        return new double[]{Double.NaN, Double.NaN};
+    }
+
+    /**
+     * Indexes results by benchmark name, parameters, mode, and number of
+     * threads.
+     *
+     * @param results the results of a JMH result file
+     * @return the results by key
+     */
+    static Map<String, Map<?, ?>> indexResults(List<Object> results) {
+        Map<String, Map<?, ?>> map = new TreeMap<>();
+        for (Object o : results) {
+            Map<?, ?> result = (Map<?, ?>) o;
+            String benchmark = String.valueOf(result.get("benchmark"));
+            StringBuilder key = new StringBuilder(benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1));
+            Object params = result.get("params");
+            if (params instanceof Map) {
+                key.append(new TreeMap<>((Map<?, ?>) params));
+            }
+            Object mode = result.get("mode");
+            if (mode != null) {
+                key.append(' ').append(mode);
+            }
+            Object threads = result.get("threads");
+            if (threads != null && toDouble(threads) != 1) {
+                key.append(" t=").append((int) toDouble(threads));
+            }
+            map.put(key.toString(), result);
+        }
+        return map;
+    }
+
+    private static List<Object> readResults(Path resultFile) throws IOException {
+        StringBuilder buf = new StringBuilder();
+        try (Reader r = Files.newBufferedReader(resultFile, StandardCharsets.UTF_8)) {
+            char[] chars = new char[8192];
+            for (int count = r.read(chars); count != -1; count = r.read(chars)) {
+                buf.append(chars, 0, count);
+            }
+        }
+        Object json = JsonReader.read(buf);
+        if (!(json instanceof List)) {
+            throw new IOException("not a JMH result file: " + resultFile);
+        }
+        @SuppressWarnings("unchecked")
+        List<Object> results = (List<Object>) json;
+        return results;
+    }
+
+    private static Path resultFileOf(Path run) {
+        return Files.isDirectory(run) ? run.resolve(RESULT_FILE) : run;
+    }
+
+    private static Properties readRun(Path run) throws IOException {
+        Properties properties = new Properties();
+        if (Files.isDirectory(run) && Files.exists(run.resolve(RUN_FILE))) {
+            try (Reader r = Files.newBufferedReader(run.resolve(RUN_FILE), StandardCharsets.UTF_8)) {
+                properties.load(r);
+            }
+        }
+        return properties;
+    }
+
+    private static String getGitRevision() {
+        try {
+            Process process = new ProcessBuilder("git", "rev-parse", "--short", "HEAD").start();
+            try (BufferedReader in = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line = in.readLine();
+                if (process.waitFor() == 0 && line != null) {
+                    return line.trim();
+                }
+            }
+        } catch (IOException e) {
+            // fall through
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "unknown";
+    }
+
+    private static double toDouble(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        // JMH writes "NaN" and "Infinity" as strings
+        try {
+            return Double.parseDouble(String.valueOf(value));
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    private static String formatScore(double value) {
+        return Double.isNaN(value) ? "NaN" : String.format("%.3f", value);
+    }
+
+    private static String slug(String str) {
+        String slug = str.replaceAll("\\(R\\)|\\(TM\\)|CPU|Processor", "")
+                .replaceAll("[^A-Za-z0-9.]+", "-")
+                .replaceAll("^-+|-+$", "");
+        return slug.isEmpty() ? "unknown" : slug;
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * @(#)Calibrate.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparserdemo;
+
+import ch.randelshofer.fastdoubleparser.JavaBigDecimalParser;
+import ch.randelshofer.fastdoubleparser.JavaBigIntegerParser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+
+/**
+ * Measures the crossovers of the algorithms in {@code fastdoubleparser}
+ * on this machine, and writes them into a properties file.
+ * <p>
+ * The library reads the thresholds when its classes are initialized,
+ * if the system property {@code ch.randelshofer.fastdoubleparser.thresholds}
+ * is set to the path of the properties file.
+ * <p>
+ * Since the thresholds are constants, each candidate value is measured
+ * in a new JVM.
+ * <p>
+ * Usage:
+ * <pre>
+ * java ch.randelshofer.fastdoubleparserdemo.Calibrate [--millis N] [output file]
+ * </pre>
+ * The default output file is {@value DEFAULT_OUTPUT_FILE}.
+ */
+public final class Calibrate {
+    private static final String THRESHOLDS_PROPERTY = "ch.randelshofer.fastdoubleparser.thresholds";
+    private static final String DEFAULT_OUTPUT_FILE = "fastdoubleparser-thresholds.properties";
+    private static final String MEASURE_OPTION = "--measure";
+    private static final String MODULE_NAME = "ch.randelshofer.fastdoubleparserdemo";
+
+    /**
+     * Describes how a threshold is calibrated.
+     */
+    private static final class Calibration {
+        final String key;
+        final String workload;
+        final int digits;
+        final int[] candidates;
+
+        Calibration(String key, String workload, int digits, int... candidates) {
+            this.key = key;
+            this.workload = workload;
+            this.digits = digits;
+            this.candidates = candidates;
+        }
+    }
+
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private Calibrate() {
+    }
+
+    public static void main(String... args) throws Exception {
+        if (args.length > 0 && args[0].equals(MEASURE_OPTION)) {
+            System.out.println(measure(args[1], Integer.parseInt(args[2]), Long.parseLong(args[3])));
+            return;
+        }
+
+        long millis = 1000;
+        Path output = Paths.get(DEFAULT_OUTPUT_FILE);
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--millis":
+                    millis = Long.parseLong(args[++i]);
+                    break;
+                default:
+                    if (args[i].startsWith("-")) {
+                        throw new IllegalArgumentException("this option is not supported: " + args[i]);
+                    }
+                    output = Paths.get(args[i]);
+                    break;
+            }
+        }
+
+        System.out.println(SystemInfo.getSystemSummary());
+        List<Calibration> calibrations = Arrays.asList(
+                new Calibration("bigIntegerRecursionThreshold", "bigInteger", 20_000,
+                        50, 100, 200, 400, 800, 1600, 3200),
+                new Calibration("bigDecimalRecursionThreshold", "bigDecimal", 20_000,
+                        50, 100, 200, 400, 800, 1600, 3200),
+                new Calibration("bigDecimalManyDigitsThreshold", "bigDecimalShort", 64,
+                        16, 20, 24, 28, 32, 40, 48, 64),
+                new Calibration("fftThreshold", "bigInteger", 200_000,
+                        8192, 16384, 33220, 65536, 131072, 262144),
+                new Calibration("toomCookThreshold", "bigDecimalAsymmetric", 200_000,
+                        960, 1920, 3840, 7680, 15360)
+        );
+
+        // Each threshold is calibrated with the thresholds that have been
+        // calibrated before it.
+        Properties thresholds = new Properties();
+        Path tmp = Files.createTempFile("fastdoubleparser-thresholds", ".properties");
+        try {
+            for (Calibration c : calibrations) {
+                int best = c.candidates[0];
+                double bestTime = Double.POSITIVE_INFINITY;
+                for (int candidate : c.candidates) {
+                    thresholds.setProperty(c.key, Integer.toString(candidate));
+                    store(thresholds, tmp, null);
+                    double time = runWorker(tmp, c.workload, c.digits, millis);
+                    System.out.printf("%s=%d: %.1f ns/op%n", c.key, candidate, time);
+                    if (time < bestTime) {
+                        bestTime = time;
+                        best = candidate;
+                    }
+                }
+                thresholds.setProperty(c.key, Integer.toString(best));
+                System.out.println("=> " + c.key + "=" + best);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+
+        store(thresholds, output, "Calibrated thresholds for fastdoubleparser\n" + SystemInfo.getSystemSummary());
+        System.out.println("Wrote " + output.toAbsolutePath());
+        System.out.println("Use it with -D" + THRESHOLDS_PROPERTY + "=" + output.toAbsolutePath());
+    }
+
+    private static void store(Properties properties, Path file, String comments) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            properties.store(out, comments);
+        }
+    }
+
+    /**
+     * Runs the specified workload in a new JVM that reads the thresholds
+     * from the specified file.
+     *
+     * @return the measured time in nanoseconds per operation
+     */
+    private static double runWorker(Path thresholds, String workload, int digits, long millis) throws IOException, InterruptedException {
+        List<String> cmd = new ArrayList<>();
+        cmd.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        for (String arg : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+            if (arg.startsWith("-X") || arg.startsWith("--add-modules") || arg.equals("--enable-preview")) {
+                cmd.add(arg);
+            }
+        }
+        cmd.add("-D" + THRESHOLDS_PROPERTY + "=" + thresholds.toAbsolutePath());
+        String modulePath = System.getProperty("jdk.module.path");
+        if (modulePath != null) {
+            cmd.add("-p");
+            cmd.add(modulePath);
+            cmd.add("-m");
+            cmd.add(MODULE_NAME + "/" + Calibrate.class.getName());
+        } else {
+            cmd.add("-cp");
+            cmd.add(System.getProperty("java.class.path"));
+            cmd.add(Calibrate.class.getName());
+        }
+        cmd.add(MEASURE_OPTION);
+        cmd.add(workload);
+        cmd.add(Integer.toString(digits));
+        cmd.add(Long.toString(millis));
+
+        Process process = new ProcessBuilder(cmd).redirectErrorStream(true).start();
+        String lastLine = null;
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            for (String line = in.readLine(); line != null; line = in.readLine()) {
+                lastLine = line;
+            }
+        }
+        int exitValue = process.waitFor();
+        if (exitValue != 0 || lastLine == null) {
+            throw new IOException("worker failed with exit value " + exitValue + ": " + lastLine);
+        }
+        return Double.parseDouble(lastLine);
+    }
+
+    /**
+     * Measures the specified workload in this JVM.
+     * <p>
+     * Warms up for the specified time, and then measures batches for
+     * the specified time.
+     *
+     * @return the shortest time in nanoseconds per operation of all batches
+     */
+    private static double measure(String workload, int digits, long millis) {
+        List<String> inputs = createInputs(workload, digits);
+        boolean bigInteger = workload.equals("bigInteger");
+        long warmupEnd = System.nanoTime() + millis * 1_000_000L;
+        long sum = 0;
+        while (System.nanoTime() < warmupEnd) {
+            sum += parseAll(inputs, bigInteger);
+        }
+        double best = Double.POSITIVE_INFINITY;
+        long measureEnd = System.nanoTime() + millis * 1_000_000L;
+        do {
+            long start = System.nanoTime();
+            sum += parseAll(inputs, bigInteger);
+            long end = System.nanoTime();
+            best = Math.min(best, (double) (end - start) / inputs.size());
+        } while (System.nanoTime() < measureEnd);
+        if (sum == 42) {
+            // prevent dead code elimination
+            System.out.println();
+        }
+        return best;
+    }
+
+    private static long parseAll(List<String> inputs, boolean bigInteger) {
+        long sum = 0;
+        for (String input : inputs) {
+            sum += bigInteger
+                    ? JavaBigIntegerParser.parseBigInteger(input).bitLength()
+                    : JavaBigDecimalParser.parseBigDecimal(input).scale();
+        }
+        return sum;
+    }
+
+    private static List<String> createInputs(String workload, int digits) {
+        Random rng = new Random(0);
+        List<String> inputs = new ArrayList<>();
+        switch (workload) {
+            case "bigInteger":
+                inputs.add(randomDigits(rng, digits));
+                break;
+            case "bigDecimal":
+                inputs.add(randomDigits(rng, digits / 2) + "." + randomDigits(rng, digits - digits / 2));
+                break;
+            case "bigDecimalAsymmetric":
+                inputs.add(randomDigits(rng, digits / 100) + "." + randomDigits(rng, digits - digits / 100));
+                break;
+            case "bigDecimalShort":
+                for (int i = 0; i < 1000; i++) {
+                    int length = 1 + rng.nextInt(digits);
+                    int point = rng.nextInt(length);
+                    inputs.add(randomDigits(rng, point) + "." + randomDigits(rng, length - point)
+                            + (rng.nextBoolean() ? "" : "e" + (rng.nextInt(600) - 300)));
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("unsupported workload: " + workload);
+        }
+        return inputs;
+    }
+
+    private static String randomDigits(Random rng, int length) {
+        if (length == 0) {
+            return "";
+        }
+        StringBuilder buf = new StringBuilder(length);
+        buf.append((char) ('1' + rng.nextInt(9)));
+        for (int i = 1; i < length; i++) {
+            buf.append((char) ('0' + rng.nextInt(10)));
+        }
+        return buf.toString();
+    }
+}
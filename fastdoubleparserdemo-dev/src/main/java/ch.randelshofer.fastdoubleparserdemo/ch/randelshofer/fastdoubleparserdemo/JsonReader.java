@@ -0,0 +1,202 @@
+/*
+ * @(#)JsonReader.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparserdemo;
+
+import ch.randelshofer.fastdoubleparser.JsonDoubleParser;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A minimal JSON reader for the result files of JMH.
+ * <p>
+ * Objects are read into a {@link LinkedHashMap}, arrays into a
+ * {@link List}, numbers into a {@link Double}, and {@code true},
+ * {@code false}, {@code null} into a {@link Boolean} or {@code null}.
+ * Numbers are parsed with {@link JsonDoubleParser}.
+ */
+final class JsonReader {
+    private final CharSequence str;
+    private int pos;
+
+    private JsonReader(CharSequence str) {
+        this.str = str;
+    }
+
+    /**
+     * Reads a JSON value.
+     *
+     * @param str the JSON text
+     * @return the value
+     * @throws IllegalArgumentException if the text is not valid JSON
+     */
+    static Object read(CharSequence str) {
+        JsonReader reader = new JsonReader(str);
+        Object value = reader.readValue();
+        reader.skipWhitespace();
+        if (reader.pos != str.length()) {
+            throw reader.error("end of input expected");
+        }
+        return value;
+    }
+
+    private Object readValue() {
+        skipWhitespace();
+        if (pos == str.length()) {
+            throw error("value expected");
+        }
+        char ch = str.charAt(pos);
+        switch (ch) {
+            case '{':
+                return readObject();
+            case '[':
+                return readArray();
+            case '"':
+                return readString();
+            case 't':
+                expect("true");
+                return Boolean.TRUE;
+            case 'f':
+                expect("false");
+                return Boolean.FALSE;
+            case 'n':
+                expect("null");
+                return null;
+            default:
+                return readNumber();
+        }
+    }
+
+    private Map<String, Object> readObject() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        pos++;
+        skipWhitespace();
+        if (peek() == '}') {
+            pos++;
+            return map;
+        }
+        do {
+            skipWhitespace();
+            if (peek() != '"') {
+                throw error("member name expected");
+            }
+            String name = readString();
+            skipWhitespace();
+            expect(":");
+            map.put(name, readValue());
+            skipWhitespace();
+        } while (consume(','));
+        expect("}");
+        return map;
+    }
+
+    private List<Object> readArray() {
+        List<Object> list = new ArrayList<>();
+        pos++;
+        skipWhitespace();
+        if (peek() == ']') {
+            pos++;
+            return list;
+        }
+        do {
+            list.add(readValue());
+            skipWhitespace();
+        } while (consume(','));
+        expect("]");
+        return list;
+    }
+
+    private String readString() {
+        StringBuilder buf = new StringBuilder();
+        pos++;
+        while (pos < str.length()) {
+            char ch = str.charAt(pos++);
+            if (ch == '"') {
+                return buf.toString();
+            }
+            if (ch == '\\') {
+                if (pos == str.length()) {
+                    break;
+                }
+                char escaped = str.charAt(pos++);
+                switch (escaped) {
+                    case 'b':
+                        buf.append('\b');
+                        break;
+                    case 'f':
+                        buf.append('\f');
+                        break;
+                    case 'n':
+                        buf.append('\n');
+                        break;
+                    case 'r':
+                        buf.append('\r');
+                        break;
+                    case 't':
+                        buf.append('\t');
+                        break;
+                    case 'u':
+                        if (pos + 4 > str.length()) {
+                            throw error("unicode escape expected");
+                        }
+                        buf.append((char) Integer.parseInt(str.subSequence(pos, pos + 4).toString(), 16));
+                        pos += 4;
+                        break;
+                    default:
+                        buf.append(escaped);
+                        break;
+                }
+            } else {
+                buf.append(ch);
+            }
+        }
+        throw error("unterminated string");
+    }
+
+    private Double readNumber() {
+        int start = pos;
+        while (pos < str.length() && "+-0123456789.eE".indexOf(str.charAt(pos)) >= 0) {
+            pos++;
+        }
+        try {
+            return JsonDoubleParser.parseDouble(str, start, pos - start);
+        } catch (NumberFormatException e) {
+            throw error("number expected");
+        }
+    }
+
+    private void expect(String token) {
+        for (int i = 0; i < token.length(); i++) {
+            if (peek() != token.charAt(i)) {
+                throw error("'" + token + "' expected");
+            }
+            pos++;
+        }
+    }
+
+    private boolean consume(char ch) {
+        if (peek() == ch) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    private int peek() {
+        return pos < str.length() ? str.charAt(pos) : -1;
+    }
+
+    private void skipWhitespace() {
+        while (pos < str.length() && Character.isWhitespace(str.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at position " + pos);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * @(#)LatencyHistogram.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparserdemo;
+
+/**
+ * A histogram of latencies in nanoseconds with a fixed number of buckets.
+ * <p>
+ * Values below {@value #LINEAR_LIMIT} are counted exactly. Larger values
+ * are counted in buckets whose width is 1/{@value #SUB_BUCKETS} of the
+ * power of two below the value, so that percentiles have a relative error
+ * of at most about 3 %. Recording a value does not allocate.
+ * <p>
+ * The histogram covers values up to 2<sup>{@value #MAX_EXPONENT}</sup> ns.
+ * Larger values are counted in the last bucket.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = 2 * SUB_BUCKETS;
+    private static final int LINEAR_EXPONENT = SUB_BUCKET_BITS + 1;
+    private static final int MAX_EXPONENT = 48;
+    private final long[] counts = new long[LINEAR_LIMIT + (MAX_EXPONENT - LINEAR_EXPONENT) * SUB_BUCKETS];
+    private long count;
+    private long max;
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos the latency in nanoseconds, negative values are recorded as 0
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts[Math.min(indexOf(value), counts.length - 1)]++;
+        count++;
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the largest recorded value.
+     *
+     * @return the maximum in nanoseconds
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the smallest value, so that the specified fraction of the
+     * recorded values is smaller or equal to it. The value is the upper
+     * bound of the bucket that contains the percentile, or the maximum if
+     * the percentile is in the last bucket.
+     *
+     * @param fraction the fraction, for example 0.99 for the p99
+     * @return the percentile in nanoseconds, 0 if no value was recorded
+     */
+    public long getPercentile(double fraction) {
+        long rank = Math.max(1, (long) Math.ceil(fraction * count));
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= rank) {
+                return i == counts.length - 1 ? max : Math.min(upperBoundOf(i), max);
+            }
+        }
+        return max;
+    }
+
+    private static int indexOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR_LIMIT + (exponent - LINEAR_EXPONENT) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long upperBoundOf(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int exponent = (index - LINEAR_LIMIT) / SUB_BUCKETS + LINEAR_EXPONENT;
+        int subBucket = (index - LINEAR_LIMIT) % SUB_BUCKETS;
+        long lowerBound = (long) (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+        return lowerBound + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
@@ -33,6 +33,10 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -52,6 +56,25 @@ import java.util.stream.Stream;
  * <p>
  * It then prints the average times, standard deviations and confidence intervals.
  * <p>
+ * With the option {@code --threads N}, the lines are partitioned into N
+ * parts, which are parsed by N threads at the same time. The throughput in
+ * MB/s and in values per second is then the aggregate throughput of all
+ * threads.
+ * <p>
+ * With the option {@code --mmap}, the file is mapped into memory, and the
+ * parsers parse the lines straight out of the mapped buffer, without
+ * creating an array or a string for each line. Only the parsers for
+ * {@code double} and {@code float} are measured in this mode.
+ * <p>
+ * With the option {@code --latency}, the lines are split into batches of
+ * {@code --batch-size} lines (default {@value #DEFAULT_LATENCY_BATCH_SIZE}).
+ * The time of each batch, divided by the number of lines in the batch, is
+ * recorded in a {@link LatencyHistogram}. The results then also show the
+ * p50, p90, p99, p999 and max of these batch means. A batch mean hides
+ * the variation inside its batch; the percentiles are only latencies of
+ * single calls with {@code --batch-size 1}, but note that the resolution
+ * of {@link System#nanoTime()} is then in the same order as the latency.
+ * <p>
  * References:
  * <dl>
  *     <dt>Daniel Lemire, fast_float number parsing library: 4x faster than strtod.
@@ -103,9 +126,15 @@ public final class Main {
      * Must be large enough, so that Java hits the C2 compiler.
      */
     private static final int WARMUP_MIN_TRIALS = 256;
-    List<String> stringLines;
-    List<byte[]> byteArrayLines;
-    List<char[]> charArrayLines;
+    /**
+     * Number of passes over all batches, before latencies are recorded.
+     */
+    private static final int LATENCY_WARMUP_PASSES = 10;
+    /**
+     * Number of passes over all batches, in which latencies are recorded.
+     */
+    private static final int LATENCY_MEASUREMENT_PASSES = 32;
+    private static final int DEFAULT_LATENCY_BATCH_SIZE = 16;
     private String filename = null;
     private boolean markdown = false;
     private boolean sleep = false;
@@ -116,6 +145,12 @@ public final class Main {
     private String infinity = null;
     private String nan = null;
     private boolean printConfidence = false;
+    private int threads = 1;
+    private boolean mmap = false;
+    private ExecutorService executor;
+    private boolean latency = false;
+    private int batchSize = DEFAULT_LATENCY_BATCH_SIZE;
+    private final Map<String, LatencyHistogram> latencies = new LinkedHashMap<>();
 
     private static double computeSpeedup(String name, VarianceStatistics stats, Map<String, BenchmarkFunction> functions, Map<String, VarianceStatistics> results) {
         double speedup;
@@ -162,6 +197,24 @@ public final class Main {
                 case "--nan":
                     benchmark.nan = args[++i];
                     break;
+                case "--threads":
+                    benchmark.threads = Integer.parseInt(args[++i]);
+                    if (benchmark.threads < 1) {
+                        throw new IllegalArgumentException("--threads must be at least 1: " + benchmark.threads);
+                    }
+                    break;
+                case "--mmap":
+                    benchmark.mmap = true;
+                    break;
+                case "--latency":
+                    benchmark.latency = true;
+                    break;
+                case "--batch-size":
+                    benchmark.batchSize = Integer.parseInt(args[++i]);
+                    if (benchmark.batchSize < 1) {
+                        throw new IllegalArgumentException("--batch-size must be at least 1: " + benchmark.batchSize);
+                    }
+                    break;
                 default:
                     if (args[i].startsWith("-")) {
                         throw new IllegalArgumentException("this option is not supported: " + args[i]);
@@ -171,19 +224,34 @@ public final class Main {
             }
         }
 
+        if (benchmark.latency && benchmark.threads > 1) {
+            throw new IllegalArgumentException("--latency can not be combined with --threads");
+        }
+
         if (benchmark.filename == null) {
             benchmark.demo(100_000);
             System.out.println("You can also provide a filename: it should contain one "
                     + "string per line corresponding to a number.");
+        } else if (benchmark.mmap) {
+            benchmark.loadMappedFile(benchmark.filename);
         } else {
             benchmark.loadFile(benchmark.filename);
         }
     }
 
     private Map<String, BenchmarkFunction> createBenchmarkFunctions(List<String> lines) {
-        stringLines = lines;
-        byteArrayLines = lines.stream().map(l -> l.getBytes(StandardCharsets.UTF_8)).collect(Collectors.toList());
-        charArrayLines = lines.stream().map(String::toCharArray).collect(Collectors.toList());
+        List<Map<String, BenchmarkFunction>> partitions = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            partitions.add(createBenchmarkFunctionsForPartition(
+                    lines.subList((int) ((long) i * lines.size() / threads), (int) ((long) (i + 1) * lines.size() / threads)),
+                    new Parsers()));
+        }
+        return parallelize(partitions);
+    }
+
+    private Map<String, BenchmarkFunction> createBenchmarkFunctionsForPartition(List<String> lines, Parsers parsers) {
+        List<byte[]> byteArrayLines = lines.stream().map(l -> l.getBytes(StandardCharsets.UTF_8)).collect(Collectors.toList());
+        List<char[]> charArrayLines = lines.stream().map(String::toCharArray).collect(Collectors.toList());
 
 
         Map<String, BenchmarkFunction> functions = new LinkedHashMap<>();
@@ -191,8 +259,8 @@ public final class Main {
                 new BenchmarkFunction("java.lang.Double", "java.lang.Double", () -> sumJavaLangDouble(lines)),
                 new BenchmarkFunction("java.lang.Float", "java.lang.Float", () -> sumJavaLangFloat(lines)),
                 new BenchmarkFunction("java.math.BigDecimal", "java.math.BigDecimal", () -> sumJavaLangBigDecimal(lines)),
-                new BenchmarkFunction("java.text.NumberFormat", "java.text.NumberFormat", () -> sumJavaTextNumberFormat(lines)),
-                new BenchmarkFunction("com.ibm.icu.text.NumberFormat", "com.ibm.icu.text.NumberFormat", () -> sumIcuNumberFormat(lines)),
+                new BenchmarkFunction("java.text.NumberFormat", "java.text.NumberFormat", () -> sumJavaTextNumberFormat(lines, parsers.javaTextFormat)),
+                new BenchmarkFunction("com.ibm.icu.text.NumberFormat", "com.ibm.icu.text.NumberFormat", () -> sumIcuNumberFormat(lines, parsers.icuFormat)),
 
                 new BenchmarkFunction("JavaDoubleParser CharSequence", "java.lang.Double", () -> sumFastDoubleFromCharSequence(lines)),
                 new BenchmarkFunction("JavaDoubleParser char[]", "java.lang.Double", () -> sumFastDoubleParserFromCharArray(charArrayLines)),
@@ -210,12 +278,12 @@ public final class Main {
                 new BenchmarkFunction("JavaBigDecimalParser char[]", "java.math.BigDecimal", () -> sumFastBigDecimalFromCharArray(charArrayLines)),
                 new BenchmarkFunction("JavaBigDecimalParser byte[]", "java.math.BigDecimal", () -> sumFastBigDecimalFromByteArray(byteArrayLines)),
 
-                new BenchmarkFunction("ConfigurableDoubleParser CharSequence", "java.text.NumberFormat", () -> sumConfigurableDoubleFromCharSequence(lines)),
-                new BenchmarkFunction("ConfigurableDoubleParser char[]", "java.text.NumberFormat", () -> sumConfigurableDoubleFromCharArray(charArrayLines)),
-                new BenchmarkFunction("ConfigurableDoubleParser byte[]", "java.text.NumberFormat", () -> sumConfigurableDoubleFromByteArray(byteArrayLines)),
-                new BenchmarkFunction("ConfigurableDoubleParserCI CharSequence", "java.text.NumberFormat", () -> sumConfigurableDoubleFromCharSequenceCI(lines)),
-                new BenchmarkFunction("ConfigurableDoubleParserCI char[]", "java.text.NumberFormat", () -> sumConfigurableDoubleFromCharArrayCI(charArrayLines)),
-                new BenchmarkFunction("ConfigurableDoubleParserCI byte[]", "java.text.NumberFormat", () -> sumConfigurableDoubleFromByteArrayCI(byteArrayLines))
+                new BenchmarkFunction("ConfigurableDoubleParser CharSequence", "java.text.NumberFormat", () -> sumConfigurableDoubleFromCharSequence(lines, parsers.configurable)),
+                new BenchmarkFunction("ConfigurableDoubleParser char[]", "java.text.NumberFormat", () -> sumConfigurableDoubleFromCharArray(charArrayLines, parsers.configurable)),
+                new BenchmarkFunction("ConfigurableDoubleParser byte[]", "java.text.NumberFormat", () -> sumConfigurableDoubleFromByteArray(byteArrayLines, parsers.configurable)),
+                new BenchmarkFunction("ConfigurableDoubleParserCI CharSequence", "java.text.NumberFormat", () -> sumConfigurableDoubleFromCharSequence(lines, parsers.configurableCI)),
+                new BenchmarkFunction("ConfigurableDoubleParserCI char[]", "java.text.NumberFormat", () -> sumConfigurableDoubleFromCharArray(charArrayLines, parsers.configurableCI)),
+                new BenchmarkFunction("ConfigurableDoubleParserCI byte[]", "java.text.NumberFormat", () -> sumConfigurableDoubleFromByteArray(byteArrayLines, parsers.configurableCI))
         );
         for (BenchmarkFunction b : benchmarkFunctions) {
             functions.put(b.title, b);
@@ -224,12 +292,165 @@ public final class Main {
         return functions;
     }
 
+    private Map<String, BenchmarkFunction> createMappedBenchmarkFunctions(MappedFile file) {
+        List<Map<String, BenchmarkFunction>> partitions = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            partitions.add(createMappedBenchmarkFunctionsForPartition(file,
+                    (int) ((long) i * file.getLineCount() / threads), (int) ((long) (i + 1) * file.getLineCount() / threads)));
+        }
+        return parallelize(partitions);
+    }
+
+    private Map<String, BenchmarkFunction> createMappedBenchmarkFunctionsForPartition(MappedFile file, int from, int to) {
+        Map<String, BenchmarkFunction> functions = new LinkedHashMap<>();
+        List<BenchmarkFunction> benchmarkFunctions = Arrays.asList(
+                new BenchmarkFunction("java.lang.Double", "java.lang.Double", () -> sumJavaLangDoubleFromMappedFile(file, from, to)),
+                new BenchmarkFunction("java.lang.Float", "java.lang.Float", () -> sumJavaLangFloatFromMappedFile(file, from, to)),
+                new BenchmarkFunction("JavaDoubleParser mapped", "java.lang.Double", () -> sumFastDoubleFromMappedFile(file, from, to)),
+                new BenchmarkFunction("JsonDoubleParser mapped", "java.lang.Double", () -> sumJsonDoubleFromMappedFile(file, from, to)),
+                new BenchmarkFunction("JavaFloatParser  mapped", "java.lang.Float", () -> sumFastFloatFromMappedFile(file, from, to))
+        );
+        for (BenchmarkFunction b : benchmarkFunctions) {
+            functions.put(b.title, b);
+        }
+        return functions;
+    }
+
+    /**
+     * Creates the benchmark functions for each batch of lines, so that
+     * the latency of each batch can be measured.
+     */
+    private Map<String, List<BenchmarkFunction>> createBatches(List<String> lines) {
+        List<Map<String, BenchmarkFunction>> batches = new ArrayList<>();
+        Parsers parsers = new Parsers();
+        for (int from = 0; from < lines.size(); from += batchSize) {
+            batches.add(createBenchmarkFunctionsForPartition(lines.subList(from, Math.min(from + batchSize, lines.size())), parsers));
+        }
+        return transpose(batches);
+    }
+
+    private Map<String, List<BenchmarkFunction>> createMappedBatches(MappedFile file) {
+        List<Map<String, BenchmarkFunction>> batches = new ArrayList<>();
+        for (int from = 0; from < file.getLineCount(); from += batchSize) {
+            batches.add(createMappedBenchmarkFunctionsForPartition(file, from, Math.min(from + batchSize, file.getLineCount())));
+        }
+        return transpose(batches);
+    }
+
+    private static Map<String, List<BenchmarkFunction>> transpose(List<Map<String, BenchmarkFunction>> batches) {
+        Map<String, List<BenchmarkFunction>> map = new LinkedHashMap<>();
+        for (Map<String, BenchmarkFunction> batch : batches) {
+            for (BenchmarkFunction function : batch.values()) {
+                map.computeIfAbsent(function.title, k -> new ArrayList<>()).add(function);
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Combines the benchmark functions of the partitions. If there is more
+     * than one partition, the combined function runs the functions of all
+     * partitions in parallel, and returns the sum of their results.
+     */
+    private Map<String, BenchmarkFunction> parallelize(List<Map<String, BenchmarkFunction>> partitions) {
+        if (partitions.size() == 1) {
+            return partitions.get(0);
+        }
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(threads, r -> {
+                Thread t = new Thread(r);
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        Map<String, BenchmarkFunction> functions = new LinkedHashMap<>();
+        for (BenchmarkFunction first : partitions.get(0).values()) {
+            List<Supplier<? extends Number>> suppliers = new ArrayList<>();
+            for (Map<String, BenchmarkFunction> partition : partitions) {
+                suppliers.add(partition.get(first.title).supplier);
+            }
+            functions.put(first.title, new BenchmarkFunction(first.title, first.reference, () -> sumInParallel(suppliers)));
+        }
+        return functions;
+    }
+
+    private double sumInParallel(List<Supplier<? extends Number>> suppliers) {
+        List<Future<? extends Number>> futures = new ArrayList<>();
+        for (Supplier<? extends Number> supplier : suppliers) {
+            futures.add(executor.submit(supplier::get));
+        }
+        double answer = 0;
+        try {
+            for (Future<? extends Number> future : futures) {
+                answer += future.get().doubleValue();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        return answer;
+    }
+
     public void demo(int howMany) {
         System.out.println("Parsing random doubles in the range [0,1).");
         List<String> lines = new Random().doubles(howMany).mapToObj(Double::toString)
                 .collect(Collectors.toList());
-        Map<String, BenchmarkFunction> validated = validate(lines);
-        process(lines, validated);
+        Map<String, BenchmarkFunction> validated = validate(createBenchmarkFunctions(lines));
+        process(lines.size(), lines.stream().mapToInt(String::length).sum() / (1024. * 1024.), validated,
+                latency ? createBatches(lines) : null);
+    }
+
+    /**
+     * Holds the parsers and the formats that are configured with the
+     * command line options. The benchmark functions get them from here,
+     * so that they are not created in the measured region. The formats
+     * are not thread-safe, each thread needs its own instance.
+     */
+    private final class Parsers {
+        private final ConfigurableDoubleParser configurable;
+        private final ConfigurableDoubleParser configurableCI;
+        private final NumberFormat javaTextFormat;
+        private final com.ibm.icu.text.NumberFormat icuFormat;
+
+        Parsers() {
+            NumberFormatSymbols symbols = getNumberFormatSymbols();
+            configurable = new ConfigurableDoubleParser(symbols);
+            configurableCI = new ConfigurableDoubleParser(symbols, true);
+            javaTextFormat = NumberFormat.getNumberInstance(locale);
+            icuFormat = createIcuNumberFormat();
+        }
+    }
+
+    private com.ibm.icu.text.NumberFormat createIcuNumberFormat() {
+        com.ibm.icu.text.DecimalFormat fmt = (com.ibm.icu.text.DecimalFormat) com.ibm.icu.text.NumberFormat.getNumberInstance(locale);
+
+        if (digits != null) {
+            DecimalFormatSymbols symbols = fmt.getDecimalFormatSymbols();
+            List<String> list = new ArrayList<>();
+            for (char ch : digits.toCharArray()) {
+                list.add("" + ch);
+            }
+            symbols.setDigitStrings(list.toArray(new String[0]));
+            fmt.setDecimalFormatSymbols(symbols);
+        }
+
+        if (infinity != null) {
+            DecimalFormatSymbols symbols = fmt.getDecimalFormatSymbols();
+            symbols.setInfinity(infinity);
+            fmt.setDecimalFormatSymbols(symbols);
+        }
+
+        if (nan != null) {
+            DecimalFormatSymbols symbols = fmt.getDecimalFormatSymbols();
+            symbols.setNaN(nan);
+            fmt.setDecimalFormatSymbols(symbols);
+        }
+        return fmt;
     }
 
     private NumberFormatSymbols getNumberFormatSymbols() {
@@ -252,11 +473,22 @@ public final class Main {
         try (Stream<String> stream = Files.lines(path)) {
             List<String> lines = stream.collect(Collectors.toList());
             System.out.printf("Read %d lines\n", lines.size());
-            Map<String, BenchmarkFunction> validated = validate(lines);
-            process(lines, validated);
+            Map<String, BenchmarkFunction> validated = validate(createBenchmarkFunctions(lines));
+            process(lines.size(), lines.stream().mapToInt(String::length).sum() / (1024. * 1024.), validated,
+                    latency ? createBatches(lines) : null);
         }
     }
 
+    public void loadMappedFile(String filename) throws IOException {
+        Path path = FileSystems.getDefault().getPath(filename).toAbsolutePath();
+        System.out.printf("Parsing numbers in mapped file %s\n", path);
+        MappedFile file = MappedFile.map(path);
+        System.out.printf("Mapped %d lines\n", file.getLineCount());
+        Map<String, BenchmarkFunction> validated = validate(createMappedBenchmarkFunctions(file));
+        process(file.getLineCount(), file.getCharacterCount() / (1024. * 1024.), validated,
+                latency ? createMappedBatches(file) : null);
+    }
+
     private VarianceStatistics measure(Supplier<? extends Number> func, int numberOfTrials,
                                        double confidenceLevel, double confidenceIntervalWidth, int minTrials, String name
     ) {
@@ -289,7 +521,42 @@ public final class Main {
         return stats;
     }
 
-    private void printResults(String title, List<String> lines, double volumeMB, Map<String, VarianceStatistics> results, double confidenceLevel, Map<String, BenchmarkFunction> functions) {
+    /**
+     * Measures the latency of each batch, and records the mean latency per
+     * line of the batch in the histogram.
+     *
+     * @return the statistics of the total time of each pass over all batches
+     */
+    private VarianceStatistics measureLatency(List<BenchmarkFunction> batches, int lineCount,
+                                              LatencyHistogram histogram, String name) {
+        VarianceStatistics stats = new VarianceStatistics();
+
+        System.out.printf("%-41s", name);
+        for (int pass = 0; pass < LATENCY_WARMUP_PASSES; pass++) {
+            for (BenchmarkFunction batch : batches) {
+                batch.supplier.get();
+            }
+        }
+        for (int pass = 0; pass < LATENCY_MEASUREMENT_PASSES; pass++) {
+            if (pass % 10 == 0) {
+                System.out.print(".");
+            }
+            long total = 0;
+            for (int i = 0; i < batches.size(); i++) {
+                long t1 = System.nanoTime();
+                batches.get(i).supplier.get();
+                long t2 = System.nanoTime();
+                total += t2 - t1;
+                histogram.record((t2 - t1) / Math.min(batchSize, lineCount - i * batchSize));
+            }
+            stats.accept(total);
+        }
+
+        System.out.println();
+        return stats;
+    }
+
+    private void printResults(String title, int lineCount, double volumeMB, Map<String, VarianceStatistics> results, double confidenceLevel, Map<String, BenchmarkFunction> functions) {
         System.out.println();
         System.out.println(title);
         if (markdown) {
@@ -305,14 +572,14 @@ public final class Main {
             String name = entry.getKey();
             VarianceStatistics stats = entry.getValue();
             if (markdown) {
-                printStatsMarkdown(lines, volumeMB, name, stats, functions, results, baselines);
+                printStatsMarkdown(lineCount, volumeMB, name, stats, functions, results, baselines);
             } else {
-                printStatsAscii(lines, volumeMB, name, stats, confidenceLevel, functions, results, baselines);
+                printStatsAscii(lineCount, volumeMB, name, stats, confidenceLevel, functions, results, baselines);
             }
         }
     }
 
-    private void printStatsAscii(List<String> lines, double volumeMB, String name, VarianceStatistics stats, double confidenceLevel, Map<String, BenchmarkFunction> functions, Map<String, VarianceStatistics> results, Map<String, Character> baselines) {
+    private void printStatsAscii(int lineCount, double volumeMB, String name, VarianceStatistics stats, double confidenceLevel, Map<String, BenchmarkFunction> functions, Map<String, VarianceStatistics> results, Map<String, Character> baselines) {
         double speedup = computeSpeedup(name, stats, functions, results);
         String reference = functions.get(name).reference;
         boolean isBaseline = reference.equals(name);
@@ -326,52 +593,72 @@ public final class Main {
                     stats.getSampleStandardDeviation() * 100 / stats.getAverage(),
                     100 * confidenceWidth,
                     stats.getCount(),
-                    lines.size() * (1e9 / 1_000_000) / stats.getAverage(),
-                    stats.getAverage() / lines.size(),
+                    lineCount * (1e9 / 1_000_000) / stats.getAverage(),
+                    stats.getAverage() / lineCount,
                     speedup,
                     speedupOrBaseline,
                     baselines.get(reference)
             );
         } else {
-            System.out.printf("%-41s :  %7.2f MB/s (+/-%4.1f %%)  %7.2f Mfloat/s  %9.2f ns/f  %7.2f %s %s\n",
+            System.out.printf("%-41s :  %7.2f MB/s (+/-%4.1f %%)  %7.2f Mfloat/s  %9.2f ns/f  %7.2f %s %s%s\n",
                     name,
                     volumeMB * 1e9 / stats.getAverage(),
                     stats.getSampleStandardDeviation() * 100 / stats.getAverage(),
-                    lines.size() * (1e9 / 1_000_000) / stats.getAverage(),
-                    stats.getAverage() / lines.size(),
+                    lineCount * (1e9 / 1_000_000) / stats.getAverage(),
+                    stats.getAverage() / lineCount,
                     speedup,
                     speedupOrBaseline,
-                    baselines.get(reference)
+                    baselines.get(reference),
+                    formatLatencies(name, "  batch mean p50 %d  p90 %d  p99 %d  p999 %d  max %d ns/f")
             );
         }
     }
 
     private void printStatsHeaderMarkdown() {
-        System.out.println("|Method                                   | MB/s  |stdev|Mfloats/s| ns/f   | speedup | JDK    |");
-        System.out.println("|-----------------------------------------|------:|-----:|------:|--------:|--------:|--------|");
+        if (latencies.isEmpty()) {
+            System.out.println("|Method                                   | MB/s  |stdev|Mfloats/s| ns/f   | speedup | JDK    |");
+            System.out.println("|-----------------------------------------|------:|-----:|------:|--------:|--------:|--------|");
+        } else {
+            System.out.println("|Method                                   | MB/s  |stdev|Mfloats/s| ns/f   | speedup | JDK    |batch mean p50 ns/f|p90 ns/f|p99 ns/f|p999 ns/f|max ns/f|");
+            System.out.println("|-----------------------------------------|------:|-----:|------:|--------:|--------:|--------|------------------:|-------:|-------:|--------:|-------:|");
+        }
+    }
+
+    private String formatLatencies(String name, String format) {
+        LatencyHistogram histogram = latencies.get(name);
+        if (histogram == null) {
+            return "";
+        }
+        return String.format(format,
+                histogram.getPercentile(0.5),
+                histogram.getPercentile(0.9),
+                histogram.getPercentile(0.99),
+                histogram.getPercentile(0.999),
+                histogram.getMax());
     }
 
-    private void printStatsMarkdown(List<String> lines, double volumeMB, String name, VarianceStatistics stats, Map<String, BenchmarkFunction> functions, Map<String, VarianceStatistics> results, Map<String, Character> baselines) {
+    private void printStatsMarkdown(int lineCount, double volumeMB, String name, VarianceStatistics stats, Map<String, BenchmarkFunction> functions, Map<String, VarianceStatistics> results, Map<String, Character> baselines) {
         double speedup = computeSpeedup(name, stats, functions, results);
         String reference = functions.get(name).reference;
         boolean isBaseline = reference.equals(name);
         String speedupOrBaseline = isBaseline ? "=" : "*";
         Character first = baselines.isEmpty() ? null : baselines.values().iterator().next();
-        System.out.printf("|%-41s|%7.2f|%4.1f %%|%7.2f|%9.2f|%7.2f%s%s|%-8s|\n",
+        System.out.printf("|%-41s|%7.2f|%4.1f %%|%7.2f|%9.2f|%7.2f%s%s|%-8s|%s\n",
                 name,
                 volumeMB * 1e9 / stats.getAverage(),
                 stats.getSampleStandardDeviation() * 100 / stats.getAverage(),
-                lines.size() * (1e9 / 1_000_000) / stats.getAverage(),
-                stats.getAverage() / lines.size(),
+                lineCount * (1e9 / 1_000_000) / stats.getAverage(),
+                stats.getAverage() / lineCount,
                 speedup,
                 speedupOrBaseline,
                 baselines.getOrDefault(reference, first),
-                System.getProperty("java.version")
+                System.getProperty("java.version"),
+                formatLatencies(name, "%19d|%8d|%8d|%9d|%8d|")
         );
     }
 
-    private void process(List<String> lines, Map<String, BenchmarkFunction> functions) {
-        double volumeMB = lines.stream().mapToInt(String::length).sum() / (1024. * 1024.);
+    private void process(int lineCount, double volumeMB, Map<String, BenchmarkFunction> functions,
+                         Map<String, List<BenchmarkFunction>> batches) {
         List<Map.Entry<String, BenchmarkFunction>> entries = new ArrayList<>(functions.entrySet());
         // Put entries in results, so that we have them in the original sequence
         Map<String, VarianceStatistics> results = new LinkedHashMap<>();
@@ -392,7 +679,7 @@ public final class Main {
             results.put(entry.getKey(), warmup);
         }
         // Print results
-        printResults("Warmup results:", lines, volumeMB, results, WARMUP_CONFIDENCE_LEVEL, functions);
+        printResults("Warmup results:", lineCount, volumeMB, results, WARMUP_CONFIDENCE_LEVEL, functions);
         System.out.println();
         */
 
@@ -400,18 +687,31 @@ public final class Main {
 
         System.out.printf("Measuring: Trying to reach a confidence level of %,.1f %% which only deviates by %,.0f %% from the average measured duration.\n",
                 100 * MEASUREMENT_CONFIDENCE_LEVEL, 100 * MEASUREMENT_CONFIDENCE_INTERVAL_WIDTH);
+        if (threads > 1) {
+            System.out.printf("Parsing with %d threads. MB/s and Mfloat/s are the aggregate throughput of all threads.\n", threads);
+        }
+        if (batches != null) {
+            System.out.printf("Recording the mean latency per line of batches of %d lines in %d passes.\n", batchSize, LATENCY_MEASUREMENT_PASSES);
+        }
         Collections.shuffle(entries);// randomize to counteract bias caused by JIT
         for (Map.Entry<String, BenchmarkFunction> entry : entries) {
             System.out.print(".");
             System.out.flush();
 
-            VarianceStatistics stats = measure(entry.getValue().supplier, MEASUREMENT_NUMBER_OF_TRIALS, MEASUREMENT_CONFIDENCE_LEVEL, MEASUREMENT_CONFIDENCE_INTERVAL_WIDTH, 1, entry.getKey());
+            VarianceStatistics stats;
+            if (batches != null) {
+                LatencyHistogram histogram = new LatencyHistogram();
+                stats = measureLatency(batches.get(entry.getKey()), lineCount, histogram, entry.getKey());
+                latencies.put(entry.getKey(), histogram);
+            } else {
+                stats = measure(entry.getValue().supplier, MEASUREMENT_NUMBER_OF_TRIALS, MEASUREMENT_CONFIDENCE_LEVEL, MEASUREMENT_CONFIDENCE_INTERVAL_WIDTH, 1, entry.getKey());
+            }
             results.put(entry.getKey(), stats);
         }
         System.out.println();
 
         // Print results
-        printResults("Measurement results:", lines, volumeMB, results, MEASUREMENT_CONFIDENCE_LEVEL, functions);
+        printResults("Measurement results:", lineCount, volumeMB, results, MEASUREMENT_CONFIDENCE_LEVEL, functions);
         System.out.println();
 
     }
@@ -429,10 +729,8 @@ public final class Main {
         }
     }
 
-    private double sumConfigurableDoubleFromByteArray(List<byte[]> s) {
+    private double sumConfigurableDoubleFromByteArray(List<byte[]> s, ConfigurableDoubleParser p) {
         double answer = 0;
-        NumberFormatSymbols symbols = getNumberFormatSymbols();
-        ConfigurableDoubleParser p = new ConfigurableDoubleParser(symbols);
         for (byte[] st : s) {
             double x = p.parseDouble(st);
             answer += x;
@@ -440,32 +738,8 @@ public final class Main {
         return answer;
     }
 
-    private double sumConfigurableDoubleFromByteArrayCI(List<byte[]> s) {
+    private double sumConfigurableDoubleFromCharArray(List<char[]> s, ConfigurableDoubleParser p) {
         double answer = 0;
-        NumberFormatSymbols symbols = getNumberFormatSymbols();
-        ConfigurableDoubleParser p = new ConfigurableDoubleParser(symbols, true);
-        for (byte[] st : s) {
-            double x = p.parseDouble(st);
-            answer += x;
-        }
-        return answer;
-    }
-
-    private double sumConfigurableDoubleFromCharArray(List<char[]> s) {
-        double answer = 0;
-        NumberFormatSymbols symbols = getNumberFormatSymbols();
-        ConfigurableDoubleParser p = new ConfigurableDoubleParser(symbols);
-        for (char[] st : s) {
-            double x = p.parseDouble(st);
-            answer += x;
-        }
-        return answer;
-    }
-
-    private double sumConfigurableDoubleFromCharArrayCI(List<char[]> s) {
-        double answer = 0;
-        NumberFormatSymbols symbols = getNumberFormatSymbols();
-        ConfigurableDoubleParser p = new ConfigurableDoubleParser(symbols, true);
         for (char[] st : s) {
             double x = p.parseDouble(st);
             answer += x;
@@ -473,21 +747,8 @@ public final class Main {
         return answer;
     }
 
-    private double sumConfigurableDoubleFromCharSequence(List<String> s) {
-        double answer = 0;
-        NumberFormatSymbols symbols = getNumberFormatSymbols();
-        ConfigurableDoubleParser p = new ConfigurableDoubleParser(symbols);
-        for (String st : s) {
-            double x = p.parseDouble((CharSequence) st);
-            answer += x;
-        }
-        return answer;
-    }
-
-    private double sumConfigurableDoubleFromCharSequenceCI(List<String> s) {
+    private double sumConfigurableDoubleFromCharSequence(List<String> s, ConfigurableDoubleParser p) {
         double answer = 0;
-        NumberFormatSymbols symbols = getNumberFormatSymbols();
-        ConfigurableDoubleParser p = new ConfigurableDoubleParser(symbols, true);
         for (String st : s) {
             double x = p.parseDouble((CharSequence) st);
             answer += x;
@@ -576,32 +837,26 @@ public final class Main {
         return answer;
     }
 
-    private double sumIcuNumberFormat(List<String> s) {
+    private double sumFastDoubleFromMappedFile(MappedFile file, int from, int to) {
         double answer = 0;
-        com.ibm.icu.text.DecimalFormat fmt = (com.ibm.icu.text.DecimalFormat) com.ibm.icu.text.NumberFormat.getNumberInstance(locale);
-
-        if (digits != null) {
-            DecimalFormatSymbols symbols = fmt.getDecimalFormatSymbols();
-            List<String> list = new ArrayList<>();
-            for (char ch : digits.toCharArray()) {
-                list.add("" + ch);
-            }
-            symbols.setDigitStrings(list.toArray(new String[0]));
-            fmt.setDecimalFormatSymbols(symbols);
-        }
-
-        if (infinity != null) {
-            DecimalFormatSymbols symbols = fmt.getDecimalFormatSymbols();
-            symbols.setInfinity(infinity);
-            fmt.setDecimalFormatSymbols(symbols);
+        for (int i = from; i < to; i++) {
+            double x = JavaDoubleParser.parseDouble(file, file.getLineStart(i), file.getLineLength(i));
+            answer += x;
         }
+        return answer;
+    }
 
-        if (nan != null) {
-            DecimalFormatSymbols symbols = fmt.getDecimalFormatSymbols();
-            symbols.setNaN(nan);
-            fmt.setDecimalFormatSymbols(symbols);
+    private float sumFastFloatFromMappedFile(MappedFile file, int from, int to) {
+        float answer = 0;
+        for (int i = from; i < to; i++) {
+            float x = JavaFloatParser.parseFloat(file, file.getLineStart(i), file.getLineLength(i));
+            answer += x;
         }
+        return answer;
+    }
 
+    private double sumIcuNumberFormat(List<String> s, com.ibm.icu.text.NumberFormat fmt) {
+        double answer = 0;
         ParsePosition pos = new ParsePosition(0);
         for (String st : s) {
             pos.setIndex(0);
@@ -639,9 +894,28 @@ public final class Main {
         return answer;
     }
 
-    private double sumJavaTextNumberFormat(List<String> s) {
+    private double sumJavaLangDoubleFromMappedFile(MappedFile file, int from, int to) {
+        double answer = 0;
+        for (int i = from; i < to; i++) {
+            int start = file.getLineStart(i);
+            double x = Double.parseDouble(file.subSequence(start, start + file.getLineLength(i)).toString());
+            answer += x;
+        }
+        return answer;
+    }
+
+    private float sumJavaLangFloatFromMappedFile(MappedFile file, int from, int to) {
+        float answer = 0;
+        for (int i = from; i < to; i++) {
+            int start = file.getLineStart(i);
+            float x = Float.parseFloat(file.subSequence(start, start + file.getLineLength(i)).toString());
+            answer += x;
+        }
+        return answer;
+    }
+
+    private double sumJavaTextNumberFormat(List<String> s, NumberFormat fmt) {
         double answer = 0;
-        NumberFormat fmt = NumberFormat.getNumberInstance(locale);
         ParsePosition pos = new ParsePosition(0);
         for (String st : s) {
             pos.setIndex(0);
@@ -661,6 +935,15 @@ public final class Main {
         return answer;
     }
 
+    private double sumJsonDoubleFromMappedFile(MappedFile file, int from, int to) {
+        double answer = 0;
+        for (int i = from; i < to; i++) {
+            double x = JsonDoubleParser.parseDouble(file, file.getLineStart(i), file.getLineLength(i));
+            answer += x;
+        }
+        return answer;
+    }
+
     private double sumJsonDoubleParserFromByteArray(List<byte[]> s) {
         double answer = 0;
         for (byte[] st : s) {
@@ -691,9 +974,7 @@ public final class Main {
         return set;
     }
 
-    private Map<String, BenchmarkFunction> validate(List<String> lines) {
-        Map<String, BenchmarkFunction> map = createBenchmarkFunctions(lines);
-
+    private Map<String, BenchmarkFunction> validate(Map<String, BenchmarkFunction> map) {
         Map<String, Number> results = new LinkedHashMap<>();
 
         for (Iterator<Map.Entry<String, BenchmarkFunction>> iterator = map.entrySet().iterator(); iterator.hasNext(); ) {
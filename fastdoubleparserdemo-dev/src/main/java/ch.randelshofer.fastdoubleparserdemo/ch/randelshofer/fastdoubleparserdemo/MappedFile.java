@@ -0,0 +1,145 @@
+/*
+ * @(#)MappedFile.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparserdemo;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * A file that is mapped into memory, and that can be read as a
+ * {@link CharSequence} of ISO-8859-1 characters.
+ * <p>
+ * The parsers can parse the lines of the file with
+ * {@code parseDouble(CharSequence str, int offset, int length)}
+ * straight out of the mapped buffer, without creating an array or a
+ * string for each line.
+ * <p>
+ * The file must not be larger than 2 GiB.
+ */
+final class MappedFile implements CharSequence {
+    private final ByteBuffer buffer;
+    private final int[] lineStarts;
+    private final int[] lineEnds;
+    private final int lineCount;
+    private final long characterCount;
+
+    private MappedFile(ByteBuffer buffer) {
+        this.buffer = buffer;
+        int limit = buffer.limit();
+        int[] starts = new int[1024];
+        int[] ends = new int[1024];
+        int count = 0;
+        long chars = 0;
+        for (int start = 0; start < limit; ) {
+            int end = start;
+            while (end < limit && buffer.get(end) != '\n') {
+                end++;
+            }
+            int next = end + 1;
+            if (end > start && buffer.get(end - 1) == '\r') {
+                end--;
+            }
+            if (end > start) {
+                if (count == starts.length) {
+                    starts = Arrays.copyOf(starts, count * 2);
+                    ends = Arrays.copyOf(ends, count * 2);
+                }
+                starts[count] = start;
+                ends[count] = end;
+                chars += end - start;
+                count++;
+            }
+            start = next;
+        }
+        this.lineStarts = starts;
+        this.lineEnds = ends;
+        this.lineCount = count;
+        this.characterCount = chars;
+    }
+
+    /**
+     * Maps the specified file into memory and finds its non-empty lines.
+     *
+     * @param path the path to the file
+     * @return the mapped file
+     * @throws IOException if the file can not be mapped
+     */
+    static MappedFile map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("file is too large to be mapped: " + size + " bytes");
+            }
+            return new MappedFile(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
+    }
+
+    /**
+     * Returns the number of non-empty lines.
+     *
+     * @return the number of lines
+     */
+    int getLineCount() {
+        return lineCount;
+    }
+
+    /**
+     * Returns the number of characters in all lines, without the line
+     * terminators.
+     *
+     * @return the number of characters
+     */
+    long getCharacterCount() {
+        return characterCount;
+    }
+
+    /**
+     * Returns the index of the first character of a line.
+     *
+     * @param line the line number
+     * @return the index of the first character
+     */
+    int getLineStart(int line) {
+        return lineStarts[line];
+    }
+
+    /**
+     * Returns the length of a line, without the line terminator.
+     *
+     * @param line the line number
+     * @return the length of the line
+     */
+    int getLineLength(int line) {
+        return lineEnds[line] - lineStarts[line];
+    }
+
+    @Override
+    public int length() {
+        return buffer.limit();
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) (buffer.get(index) & 0xff);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        char[] chars = new char[end - start];
+        for (int i = start; i < end; i++) {
+            chars[i - start] = charAt(i);
+        }
+        return new String(chars);
+    }
+
+    @Override
+    public String toString() {
+        return subSequence(0, length()).toString();
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * @(#)BenchmarkHistoryTest.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparserdemo;
+
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+public final class BenchmarkHistoryTest {
+
+    @TestFactory
+    public List<DynamicTest> dynamicTestsVerdict() {
+        return Arrays.asList(
+                dynamicTest("avgt overlapping", () -> shouldCompare("avgt", 10, 12, 11, 13, "~")),
+                dynamicTest("avgt touching", () -> shouldCompare("avgt", 10, 12, 12, 14, "~")),
+                dynamicTest("avgt contained", () -> shouldCompare("avgt", 10, 14, 11, 12, "~")),
+                dynamicTest("avgt slower", () -> shouldCompare("avgt", 10, 12, 13, 14, "REGRESSION")),
+                dynamicTest("avgt faster", () -> shouldCompare("avgt", 10, 12, 8, 9, "improvement")),
+                dynamicTest("sample slower", () -> shouldCompare("sample", 10, 12, 13, 14, "REGRESSION")),
+                dynamicTest("ss slower", () -> shouldCompare("ss", 10, 12, 13, 14, "REGRESSION")),
+                dynamicTest("thrpt overlapping", () -> shouldCompare("thrpt", 10, 12, 11, 13, "~")),
+                dynamicTest("thrpt touching", () -> shouldCompare("thrpt", 10, 12, 8, 10, "~")),
+                dynamicTest("thrpt higher", () -> shouldCompare("thrpt", 10, 12, 13, 14, "improvement")),
+                dynamicTest("thrpt lower", () -> shouldCompare("thrpt", 10, 12, 8, 9, "REGRESSION")),
+                dynamicTest("NaN base", () -> shouldCompare("avgt", Double.NaN, Double.NaN, 8, 9, "?")),
+                dynamicTest("NaN candidate", () -> shouldCompare("thrpt", 10, 12, 8, Double.NaN, "?"))
+        );
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldIndexResultsByNameParamsModeAndThreads() {
+        List<Object> results = (List<Object>) JsonReader.read("["
+                + "{\"benchmark\":\"a.b.JmhX.parse\",\"mode\":\"thrpt\",\"threads\":1},"
+                + "{\"benchmark\":\"a.b.JmhX.parse\",\"mode\":\"avgt\",\"threads\":1},"
+                + "{\"benchmark\":\"a.b.JmhX.parse\",\"mode\":\"avgt\",\"threads\":4},"
+                + "{\"benchmark\":\"a.b.JmhX.parse\",\"mode\":\"avgt\",\"threads\":1,\"params\":{\"size\":\"10\"}}"
+                + "]");
+        Map<String, Map<?, ?>> index = BenchmarkHistory.indexResults(results);
+        assertEquals(Arrays.asList(
+                "JmhX.parse avgt",
+                "JmhX.parse avgt t=4",
+                "JmhX.parse thrpt",
+                "JmhX.parse{size=10} avgt"), Arrays.asList(index.keySet().toArray()));
+        assertEquals("thrpt", index.get("JmhX.parse thrpt").get("mode"));
+    }
+
+    private static void shouldCompare(String mode, double baseLow, double baseHigh,
+                                      double candidateLow, double candidateHigh, String expected) {
+        assertEquals(expected, BenchmarkHistory.verdict(mode,
+                new double[]{baseLow, baseHigh}, new double[]{candidateLow, candidateHigh}));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * @(#)JsonReaderTest.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparserdemo;
+
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+public final class JsonReaderTest {
+
+    @TestFactory
+    public List<DynamicTest> dynamicTestsValues() {
+        return Arrays.asList(
+                dynamicTest("number", () -> shouldRead(" -1.5e3 ", -1500.0)),
+                dynamicTest("integer", () -> shouldRead("42", 42.0)),
+                dynamicTest("true", () -> shouldRead("true", Boolean.TRUE)),
+                dynamicTest("false", () -> shouldRead("false", Boolean.FALSE)),
+                dynamicTest("null", () -> shouldRead("null", null)),
+                dynamicTest("empty array", () -> shouldRead("[ ]", Collections.emptyList())),
+                dynamicTest("empty object", () -> shouldRead("{ }", Collections.emptyMap())),
+                dynamicTest("array", () -> shouldRead("[1, \"a\", [2]]", Arrays.asList(1.0, "a", Collections.singletonList(2.0)))),
+                dynamicTest("NaN string", () -> shouldRead("\"NaN\"", "NaN")),
+                dynamicTest("Infinity string", () -> shouldRead("\"-Infinity\"", "-Infinity")),
+                dynamicTest("quote and backslash", () -> shouldRead("\"a\\\"b\\\\c\"", "a\"b\\c")),
+                dynamicTest("solidus", () -> shouldRead("\"a\\/b\"", "a/b")),
+                dynamicTest("control escapes", () -> shouldRead("\"\\b\\f\\n\\r\\t\"", "\b\f\n\r\t")),
+                dynamicTest("unicode escape", () -> shouldRead("\"\\u00e9\\u20AC\"", "\u00e9\u20ac"))
+        );
+    }
+
+    @TestFactory
+    public List<DynamicTest> dynamicTestsIllegalInput() {
+        return Arrays.asList(
+                dynamicTest("<empty>", () -> shouldNotRead("")),
+                dynamicTest("bare NaN", () -> shouldNotRead("NaN")),
+                dynamicTest("bare Infinity", () -> shouldNotRead("[Infinity]")),
+                dynamicTest("unterminated string", () -> shouldNotRead("\"abc")),
+                dynamicTest("unterminated escape", () -> shouldNotRead("\"abc\\")),
+                dynamicTest("short unicode escape", () -> shouldNotRead("\"\\u00\"")),
+                dynamicTest("missing comma", () -> shouldNotRead("[1 2]")),
+                dynamicTest("trailing characters", () -> shouldNotRead("1 x"))
+        );
+    }
+
+    @Test
+    public void shouldReadJmhResult() {
+        Map<String, Object> metric = new LinkedHashMap<>();
+        metric.put("score", "NaN");
+        metric.put("scoreError", "NaN");
+        metric.put("scoreConfidence", Arrays.asList("NaN", "NaN"));
+        metric.put("scoreUnit", "ns/op");
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("benchmark", "a.b.JmhX.parse");
+        result.put("mode", "avgt");
+        result.put("threads", 1.0);
+        result.put("primaryMetric", metric);
+
+        shouldRead("[{\"benchmark\" : \"a.b.JmhX.parse\", \"mode\" : \"avgt\", \"threads\" : 1,\n"
+                + "  \"primaryMetric\" : {\"score\" : \"NaN\", \"scoreError\" : \"NaN\",\n"
+                + "    \"scoreConfidence\" : [\"NaN\", \"NaN\"], \"scoreUnit\" : \"ns/op\"}}]",
+                Collections.singletonList(result));
+    }
+
+    private static void shouldRead(String json, Object expected) {
+        assertEquals(expected, JsonReader.read(json));
+    }
+
+    private static void shouldNotRead(String json) {
+        assertThrows(IllegalArgumentException.class, () -> JsonReader.read(json));
+    }
+}
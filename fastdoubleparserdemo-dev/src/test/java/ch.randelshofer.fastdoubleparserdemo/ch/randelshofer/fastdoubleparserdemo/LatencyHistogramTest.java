@@ -0,0 +1,101 @@
+/*
+ * @(#)LatencyHistogramTest.java
+ * Copyright © 2024 Werner Randelshofer, Switzerland. MIT License.
+ */
+package ch.randelshofer.fastdoubleparserdemo;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class LatencyHistogramTest {
+
+    @Test
+    public void shouldBeEmpty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getPercentile(0.99));
+    }
+
+    @Test
+    public void shouldCountSmallValuesExactly() {
+        for (long value = 0; value < 64; value++) {
+            assertEquals(value, percentileOf(value));
+        }
+    }
+
+    @Test
+    public void shouldRecordNegativeValuesAsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getPercentile(1.0));
+    }
+
+    @Test
+    public void shouldReturnUpperBoundOfBucket() {
+        // 64 and 65 share a bucket of width 2; 66 starts the next bucket
+        assertEquals(65, percentileOf(64));
+        assertEquals(65, percentileOf(65));
+        assertEquals(67, percentileOf(66));
+        // the buckets from 128 to 255 have a width of 4, from 256 to 511 of 8
+        assertEquals(131, percentileOf(128));
+        assertEquals(255, percentileOf(252));
+        assertEquals(263, percentileOf(256));
+    }
+
+    @Test
+    public void shouldHaveSmallRelativeError() {
+        for (int exponent = 6; exponent < 47; exponent++) {
+            for (long value : new long[]{1L << exponent, (1L << exponent) + 1, (3L << exponent) / 2, (2L << exponent) - 1}) {
+                long percentile = percentileOf(value);
+                assertTrue(percentile >= value && percentile <= value + value / 32,
+                        "value " + value + " percentile " + percentile);
+            }
+        }
+    }
+
+    @Test
+    public void shouldNotExceedMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(64);
+        assertEquals(64, histogram.getPercentile(1.0));
+    }
+
+    @Test
+    public void shouldReturnMaxForValuesBeyondTheLastBucket() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1L << 50);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(2, histogram.getCount());
+        assertEquals(Long.MAX_VALUE, histogram.getMax());
+        assertEquals(Long.MAX_VALUE, histogram.getPercentile(0.5));
+        assertEquals(Long.MAX_VALUE, histogram.getPercentile(1.0));
+    }
+
+    @Test
+    public void shouldComputePercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+        assertEquals(50, histogram.getPercentile(0.5));
+        assertEquals(1, histogram.getPercentile(0.0));
+        assertEquals(100, histogram.getPercentile(1.0));
+        long p99 = histogram.getPercentile(0.99);
+        assertTrue(p99 >= 99 && p99 <= 100, "p99 " + p99);
+    }
+
+    /**
+     * Records the value and a much larger value, so that the percentile
+     * of the value is not capped by the maximum.
+     */
+    private static long percentileOf(long value) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(value);
+        histogram.record(Long.MAX_VALUE / 2);
+        return histogram.getPercentile(0.5);
+    }
+}